@@ -0,0 +1,146 @@
+package com.agriprocurement.benchmarks.domain;
+
+import com.agriprocurement.common.domain.valueobject.Money;
+import com.agriprocurement.common.domain.valueobject.Quantity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Value object arithmetic as used when pricing bids and order lines.
+ * <p>
+ * The {@code bigDecimal*} benchmarks repeat the work the value objects did before they kept
+ * amounts as {@code long}s (a {@code setScale} per result, {@code compareTo} on the amounts) and
+ * are the baseline for the {@code money*} ones. Run with {@code -prof gc} to see the allocation
+ * rate next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyQuantityBenchmark {
+
+    private static final int LINE_ITEMS = 16;
+
+    private Money price;
+    private Money fee;
+    private Money[] lineTotals;
+    private Money priceCopy;
+    private BigDecimal priceAmount;
+    private BigDecimal feeAmount;
+    private BigDecimal[] lineTotalAmounts;
+    private BigDecimal rate;
+    private BigDecimal parts;
+    private Quantity stock;
+    private Quantity delivery;
+
+    @Setup
+    public void setUp() {
+        price = Money.of(new BigDecimal("1234.56"), "USD");
+        fee = Money.of(new BigDecimal("12.34"), "USD");
+        lineTotals = new Money[LINE_ITEMS];
+        for (int i = 0; i < LINE_ITEMS; i++) {
+            lineTotals[i] = Money.of(BigDecimal.valueOf(1_000 + i * 37L, 2), "USD");
+        }
+        priceCopy = Money.of(new BigDecimal("1234.56"), "USD");
+        priceAmount = price.amount();
+        feeAmount = fee.amount();
+        lineTotalAmounts = new BigDecimal[LINE_ITEMS];
+        for (int i = 0; i < LINE_ITEMS; i++) {
+            lineTotalAmounts[i] = lineTotals[i].amount();
+        }
+        rate = new BigDecimal("1.075");
+        parts = BigDecimal.valueOf(3);
+        stock = Quantity.of(new BigDecimal("2500.000"), Quantity.Unit.KG);
+        delivery = Quantity.of(new BigDecimal("125.500"), Quantity.Unit.KG);
+    }
+
+    @Benchmark
+    public Money moneyOf() {
+        return Money.of(1234.56, "USD");
+    }
+
+    @Benchmark
+    public Money moneyAdd() {
+        return price.add(fee);
+    }
+
+    @Benchmark
+    public Money moneyMultiply() {
+        return price.multiply(rate);
+    }
+
+    @Benchmark
+    public Money moneyDivide() {
+        return price.divide(parts);
+    }
+
+    @Benchmark
+    public boolean moneyCompare() {
+        return price.isLessThan(fee);
+    }
+
+    /**
+     * Order total over a typical number of line items.
+     */
+    @Benchmark
+    public Money moneySum() {
+        Money total = Money.zero("USD");
+        for (Money lineTotal : lineTotals) {
+            total = total.add(lineTotal);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public boolean moneyEquals() {
+        return price.equals(priceCopy);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalAdd() {
+        return priceAmount.add(feeAmount).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public boolean bigDecimalCompare() {
+        return priceAmount.compareTo(feeAmount) < 0;
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalSum() {
+        BigDecimal total = BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
+        for (BigDecimal lineTotal : lineTotalAmounts) {
+            total = total.add(lineTotal).setScale(2, RoundingMode.HALF_UP);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Quantity quantityAdd() {
+        return stock.add(delivery);
+    }
+
+    @Benchmark
+    public Quantity quantitySubtract() {
+        return stock.subtract(delivery);
+    }
+
+    @Benchmark
+    public boolean quantityCompare() {
+        return stock.isGreaterThan(delivery);
+    }
+}
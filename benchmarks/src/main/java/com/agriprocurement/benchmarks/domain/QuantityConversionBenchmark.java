@@ -0,0 +1,101 @@
+package com.agriprocurement.benchmarks.domain;
+
+import com.agriprocurement.common.domain.valueobject.Quantity;
+import com.agriprocurement.common.domain.valueobject.QuantityBatch;
+import com.agriprocurement.common.domain.valueobject.UnitConversions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregating mass quantities entered in mixed units: one {@link Quantity} at a time versus the
+ * normalized {@link QuantityBatch} layout.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuantityConversionBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private List<Quantity> quantities;
+    private QuantityBatch batch;
+    private Quantity minimum;
+    private long[] tons;
+    private long[] kilograms;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        quantities = new ArrayList<>(size);
+        tons = new long[size];
+        for (int i = 0; i < size; i++) {
+            long amount = 1 + random.nextInt(1_000_000);
+            Quantity.Unit unit = random.nextBoolean() ? Quantity.Unit.KG : Quantity.Unit.TON;
+            quantities.add(Quantity.of(BigDecimal.valueOf(amount, 3), unit));
+            tons[i] = amount;
+        }
+        batch = QuantityBatch.of(Quantity.Dimension.MASS, quantities);
+        minimum = Quantity.of(new BigDecimal("250"), Quantity.Unit.KG);
+        kilograms = new long[size];
+    }
+
+    @Benchmark
+    public Quantity totalOneByOne() {
+        Quantity total = Quantity.of(BigDecimal.ONE, Quantity.Unit.KG);
+        for (Quantity quantity : quantities) {
+            total = total.add(quantity);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Quantity totalBatch() {
+        return batch.total();
+    }
+
+    @Benchmark
+    public int countAtLeastOneByOne() {
+        int count = 0;
+        for (Quantity quantity : quantities) {
+            if (!quantity.isLessThan(minimum)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int countAtLeastBatch() {
+        return batch.countAtLeast(minimum);
+    }
+
+    @Benchmark
+    public long[] tonsToBase() {
+        UnitConversions.toBase(tons, Quantity.Unit.TON, kilograms);
+        return kilograms;
+    }
+
+    @Benchmark
+    public QuantityBatch normalize() {
+        return QuantityBatch.of(Quantity.Dimension.MASS, quantities);
+    }
+}
@@ -0,0 +1,82 @@
+package com.agriprocurement.benchmarks.events;
+
+import com.agriprocurement.common.events.DomainEvent;
+import com.agriprocurement.common.events.EventMetadata;
+import com.agriprocurement.common.events.procurement.BidSubmittedEvent;
+import com.agriprocurement.common.events.procurement.ProcurementCreatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polymorphic Jackson serde of domain events, as done by {@code KafkaEventPublisher} and the
+ * outbox. Events are read back through the {@link DomainEvent} base type, so the
+ * {@code eventType} discriminator is resolved on every read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainEventSerdeBenchmark {
+
+    @Param({"BID_SUBMITTED", "PROCUREMENT_CREATED"})
+    private String eventType;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private DomainEvent event;
+    private String json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        // Configured like the Spring Boot ObjectMapper injected into the publisher
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = mapper.writerFor(DomainEvent.class);
+        reader = mapper.readerFor(DomainEvent.class);
+
+        String procurementId = UUID.randomUUID().toString();
+        event = switch (eventType) {
+            case "BID_SUBMITTED" -> new BidSubmittedEvent(procurementId, UUID.randomUUID().toString(),
+                    "vendor-17", new BigDecimal("612500.00"), LocalDateTime.now());
+            case "PROCUREMENT_CREATED" -> new ProcurementCreatedEvent(procurementId, "Winter wheat, class 3",
+                    "Milling wheat delivered to the regional elevator, moisture below 14%",
+                    new BigDecimal("500"), new BigDecimal("1000000.00"), LocalDateTime.now().plusDays(30));
+            default -> throw new IllegalArgumentException("Unknown event type: " + eventType);
+        };
+        event.setMetadata(EventMetadata.create(UUID.randomUUID().toString(), "user-42"));
+        json = writer.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return writer.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public DomainEvent deserialize() throws JsonProcessingException {
+        return reader.readValue(json);
+    }
+}
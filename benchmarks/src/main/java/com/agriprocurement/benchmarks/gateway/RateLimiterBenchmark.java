@@ -0,0 +1,96 @@
+package com.agriprocurement.benchmarks.gateway;
+
+import com.agriprocurement.gateway.ratelimit.HybridRateLimiter;
+import com.agriprocurement.gateway.ratelimit.RateLimitPolicyRegistry;
+import com.agriprocurement.gateway.ratelimit.RateLimitProperties;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission path of the gateway's {@link HybridRateLimiter}: throughput of {@code isAllowed} and
+ * how many requests it lets through.
+ * <p>
+ * The Redis synchronization is not started, so this measures the node-local decision every
+ * request pays. The {@code allowed} counter, reported per second, must not exceed the replenish
+ * rate times the number of keys once the initial burst is used up in warmup; a higher value
+ * means the local buckets over-admit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class RateLimiterBenchmark {
+
+    private static final String ROUTE_ID = "procurement-service";
+    private static final int REPLENISH_RATE = 1_000;
+
+    /**
+     * 1 is a single hot key (one user hammering a route), larger values spread the load.
+     */
+    @Param({"1", "1000"})
+    private int keys;
+
+    private HybridRateLimiter limiter;
+    private String[] keyIds;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setDefaults(new HybridRateLimiter.Config(REPLENISH_RATE, 2 * REPLENISH_RATE, 1));
+        RateLimitPolicyRegistry policyRegistry = new RateLimitPolicyRegistry(properties);
+        policyRegistry.refresh();
+        limiter = new HybridRateLimiter(null, properties, policyRegistry, null);
+
+        keyIds = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            keyIds[i] = "user-" + i;
+        }
+    }
+
+    @Benchmark
+    public boolean isAllowed(Admissions admissions) {
+        String key = keyIds[keys == 1 ? 0 : ThreadLocalRandom.current().nextInt(keys)];
+        boolean allowed = limiter.isAllowed(ROUTE_ID, key).block().isAllowed();
+        if (allowed) {
+            admissions.allowed++;
+        } else {
+            admissions.rejected++;
+        }
+        return allowed;
+    }
+
+    /**
+     * Admission outcomes, reported by JMH as rates next to the primary throughput.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Admissions {
+
+        public long allowed;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            allowed = 0;
+            rejected = 0;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.agriprocurement.benchmarks.order;
+
+import com.agriprocurement.order.infrastructure.FeignConnectionPoolProperties;
+import com.agriprocurement.order.infrastructure.FeignHttpClientConfiguration;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.hc5.ApacheHttp5Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Call latency of the Feign transport used by the order saga against a local stub server:
+ * the {@code HttpURLConnection} default versus the pooled HttpClient 5 backend built by
+ * {@link FeignHttpClientConfiguration} with its default pool settings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class FeignClientBenchmark {
+
+    private static final byte[] PAYMENT_JSON = ("{\"paymentId\":\"7d0c6a8e-2f4b-4d7e-9a51-0b6f3c2e9d14\","
+            + "\"orderId\":\"c3b1f7a2-5e8d-4c9b-8f60-1a2d3e4f5a6b\",\"status\":\"COMPLETED\","
+            + "\"amount\":1250.00,\"currency\":\"USD\"}").getBytes(StandardCharsets.UTF_8);
+
+    @Param({"default", "hc5"})
+    private String client;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private Client feignClient;
+    private Request request;
+    private Request.Options options;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 512);
+        server.createContext("/api/v1/payments", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                body.readAllBytes();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, PAYMENT_JSON.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(PAYMENT_JSON);
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(16);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        feignClient = switch (client) {
+            case "default" -> new Client.Default(null, null);
+            case "hc5" -> {
+                FeignHttpClientConfiguration configuration = new FeignHttpClientConfiguration();
+                FeignConnectionPoolProperties properties = new FeignConnectionPoolProperties();
+                connectionManager = configuration.feignConnectionManager(properties);
+                httpClient = configuration.feignHttpClient(connectionManager, properties);
+                yield new ApacheHttp5Client(httpClient);
+            }
+            default -> throw new IllegalArgumentException("Unknown client: " + client);
+        };
+
+        String url = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort()
+                + "/api/v1/payments";
+        request = Request.create(Request.HttpMethod.GET, url, Collections.emptyMap(), null,
+                StandardCharsets.UTF_8, null);
+        options = new Request.Options(1, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, false);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+            connectionManager.close();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int call() throws IOException {
+        try (Response response = feignClient.execute(request, options);
+             InputStream body = response.body().asInputStream()) {
+            return body.readAllBytes().length;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.agriprocurement.benchmarks.procurement;
+
+import com.agriprocurement.common.domain.valueobject.Money;
+import com.agriprocurement.procurement.application.ProcurementResponse;
+import com.agriprocurement.procurement.domain.Bid;
+import com.agriprocurement.procurement.domain.Procurement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregate operations on tenders with many bids: submitting a bid, finding the lowest one and
+ * mapping the tender with its bids to the API response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcurementBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int bidCount;
+
+    private Procurement procurement;
+    private Money bidAmount;
+    private String newVendorId;
+
+    @Setup
+    public void setUp() {
+        procurement = ProcurementFixtures.openProcurement(bidCount);
+        bidAmount = Money.of(450_000, ProcurementFixtures.CURRENCY);
+        newVendorId = ProcurementFixtures.vendorId(bidCount);
+    }
+
+    /**
+     * Submits a bid from a vendor that has not bid yet, then drops it again so the tender keeps
+     * {@code bidCount} bids across invocations.
+     */
+    @Benchmark
+    public Bid addBid() {
+        Bid bid = procurement.addBid(newVendorId, bidAmount);
+        List<Bid> bids = procurement.getBids();
+        bids.remove(bids.size() - 1);
+        return bid;
+    }
+
+    @Benchmark
+    public Bid getLowestBid() {
+        return procurement.getLowestBid();
+    }
+
+    @Benchmark
+    public ProcurementResponse fromWithBids() {
+        return ProcurementResponse.fromWithBids(procurement);
+    }
+}
@@ -0,0 +1,47 @@
+package com.agriprocurement.benchmarks.procurement;
+
+import com.agriprocurement.common.domain.valueobject.Money;
+import com.agriprocurement.common.domain.valueobject.Quantity;
+import com.agriprocurement.procurement.domain.Bid;
+import com.agriprocurement.procurement.domain.Procurement;
+
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Builds procurements in the state the bidding endpoints see them: open for bids, with ids
+ * assigned as if loaded from the database.
+ */
+final class ProcurementFixtures {
+
+    static final String CURRENCY = "USD";
+
+    private ProcurementFixtures() {
+    }
+
+    static Procurement openProcurement(int bidCount) {
+        Procurement procurement = new Procurement(
+                "Winter wheat, class 3",
+                "Milling wheat delivered to the regional elevator, moisture below 14%",
+                Quantity.of(500, Quantity.Unit.TON),
+                Money.of(1_000_000, CURRENCY),
+                LocalDateTime.now().plusDays(30),
+                "buyer-" + UUID.randomUUID());
+        procurement.setId(UUID.randomUUID());
+        procurement.publish();
+        procurement.openBidding();
+
+        // Fixed seed so every run and fork sees the same amounts
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < bidCount; i++) {
+            Bid bid = procurement.addBid(vendorId(i), Money.of(500_000 + random.nextInt(400_000), CURRENCY));
+            bid.setId(UUID.randomUUID());
+        }
+        return procurement;
+    }
+
+    static String vendorId(int index) {
+        return "vendor-" + index;
+    }
+}
@@ -0,0 +1,58 @@
+package com.agriprocurement.benchmarks.procurement;
+
+import com.agriprocurement.procurement.application.ProcurementResponse;
+import com.agriprocurement.procurement.infrastructure.CacheConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The value serializer of the procurement cache, on a cached {@link ProcurementResponse} with and
+ * without its bids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisCacheSerializerBenchmark {
+
+    @Param({"0", "50"})
+    private int bidCount;
+
+    private RedisSerializer<Object> serializer;
+    private ProcurementResponse response;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        serializer = CacheConfiguration.valueSerializer();
+        response = ProcurementResponse.fromWithBids(ProcurementFixtures.openProcurement(bidCount));
+        serialized = serializer.serialize(response);
+        if (!response.equals(serializer.deserialize(serialized))) {
+            throw new IllegalStateException("Cached procurement does not survive a round trip");
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(response);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+}
@@ -0,0 +1,80 @@
+package com.agriprocurement.benchmarks.security;
+
+import com.agriprocurement.common.security.config.KeycloakJwtAuthenticationConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keycloak JWT to authentication conversion, with the per-token cache disabled
+ * ({@code cacheSize=0}) and enabled. A small set of live tokens is cycled, as when the same
+ * clients keep calling with their current access token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtConversionBenchmark {
+
+    private static final int TOKENS = 64;
+
+    @Param({"0", "10000"})
+    private long cacheSize;
+
+    private KeycloakJwtAuthenticationConverter converter;
+    private Jwt[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        converter = new KeycloakJwtAuthenticationConverter(null, cacheSize);
+        tokens = new Jwt[TOKENS];
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        for (int i = 0; i < TOKENS; i++) {
+            String userId = UUID.randomUUID().toString();
+            tokens[i] = Jwt.withTokenValue("token-" + i)
+                    .header("alg", "RS256")
+                    .header("kid", "benchmark")
+                    .issuer("http://localhost:8180/realms/agri-procurement")
+                    .subject(userId)
+                    .claim("jti", UUID.randomUUID().toString())
+                    .claim("preferred_username", "user" + i)
+                    .claim("email", "user" + i + "@example.com")
+                    .claim("scope", "openid profile email")
+                    .claim("realm_access", Map.of("roles", List.of("BUYER", "VENDOR", "offline_access")))
+                    .claim("resource_access", Map.of(
+                            "agri-procurement-client", Map.of("roles", List.of("procurement:read", "procurement:write")),
+                            "account", Map.of("roles", List.of("view-profile"))))
+                    .issuedAt(issuedAt)
+                    .expiresAt(issuedAt.plus(1, ChronoUnit.HOURS))
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public JwtAuthenticationToken convert() {
+        // Racy index under -t > 1 only changes which token is picked
+        int index = next;
+        next = (index + 1) & (TOKENS - 1);
+        return converter.convert(tokens[index]);
+    }
+}
@@ -1,5 +1,6 @@
 package com.agriprocurement.common.domain;
 
+import com.agriprocurement.common.domain.id.UuidV7Id;
 import jakarta.persistence.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -7,14 +8,15 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.Instant;
 import java.util.Objects;
+import java.util.UUID;
 
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @UuidV7Id
+    private UUID id;
 
     @CreatedDate
     @Column(nullable = false, updatable = false)
@@ -30,11 +32,19 @@ public abstract class BaseEntity {
     protected BaseEntity() {
     }
 
-    public String getId() {
+    /**
+     * For entities created by the application, which know their id before they are persisted;
+     * new entities are still detected by their null {@code version}.
+     */
+    protected BaseEntity(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getId() {
         return id;
     }
 
-    public void setId(String id) {
+    public void setId(UUID id) {
         this.id = id;
     }
 
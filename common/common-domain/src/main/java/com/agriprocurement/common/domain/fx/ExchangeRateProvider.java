@@ -0,0 +1,19 @@
+package com.agriprocurement.common.domain.fx;
+
+import java.io.IOException;
+
+/**
+ * Source of exchange rate snapshots for {@link ExchangeRateService}.
+ */
+@FunctionalInterface
+public interface ExchangeRateProvider {
+
+    ExchangeRates load() throws IOException;
+
+    /**
+     * Provider that always returns the same rates, for local environments and tests.
+     */
+    static ExchangeRateProvider fixed(ExchangeRates rates) {
+        return () -> rates;
+    }
+}
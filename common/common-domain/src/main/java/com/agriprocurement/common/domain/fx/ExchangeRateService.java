@@ -0,0 +1,113 @@
+package com.agriprocurement.common.domain.fx;
+
+import com.agriprocurement.common.domain.valueobject.Money;
+import com.agriprocurement.common.lifecycle.PeriodicRefresher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Currency;
+
+/**
+ * Holds the current {@link ExchangeRates} in memory and reloads them from an
+ * {@link ExchangeRateProvider} in the background.
+ * <p>
+ * Callers take one snapshot with {@link #current()} and do all conversions of an operation
+ * against it, so a budget check and a ranking never mix two rate tables and never wait for the
+ * provider. Rates are loaded on start and then every {@code refreshInterval}; a refresh replaces
+ * the snapshot in a single write, and a failed refresh keeps the previous one.
+ * <p>
+ * Rates are never used past {@code maxAge} from their as-of time: when the provider stops
+ * delivering newer rates, {@link #current()} falls back to {@link ExchangeRates#none()}, so
+ * cross-currency amounts are rejected instead of being converted at an outdated rate.
+ */
+public class ExchangeRateService extends PeriodicRefresher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExchangeRateService.class);
+
+    private final ExchangeRateProvider provider;
+    private final Duration maxAge;
+    private final Clock clock;
+
+    private volatile ExchangeRates rates = ExchangeRates.none();
+
+    public ExchangeRateService(ExchangeRateProvider provider, Duration refreshInterval, Duration maxAge) {
+        this(provider, refreshInterval, maxAge, Clock.systemUTC());
+    }
+
+    public ExchangeRateService(ExchangeRateProvider provider, Duration refreshInterval, Duration maxAge, Clock clock) {
+        super("fx-rates-refresh", refreshInterval);
+        this.provider = provider;
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    /**
+     * The rates currently in use; {@link ExchangeRates#none()} until the first successful load
+     * and while the loaded rates are older than {@code maxAge}.
+     */
+    public ExchangeRates current() {
+        ExchangeRates snapshot = rates;
+        return isStale(snapshot) ? ExchangeRates.none() : snapshot;
+    }
+
+    public Money convert(Money money, Currency target) {
+        return current().convert(money, target);
+    }
+
+    /**
+     * Time since the as-of time of the loaded rates; measured from the epoch before the first load.
+     */
+    public Duration age() {
+        return Duration.between(rates.asOf(), clock.instant());
+    }
+
+    public boolean isStale() {
+        return isStale(rates);
+    }
+
+    private boolean isStale(ExchangeRates snapshot) {
+        return snapshot.asOf().isBefore(clock.instant().minus(maxAge));
+    }
+
+    /**
+     * Loads the rates now. Returns whether new rates were installed.
+     */
+    @Override
+    public boolean refresh() {
+        try {
+            ExchangeRates loaded = provider.load();
+            if (loaded.isEmpty()) {
+                logger.warn("Exchange rates from {} are empty, keeping {}", provider, rates);
+                return false;
+            }
+            ExchangeRates previous = rates;
+            rates = loaded;
+            if (!loaded.asOf().equals(previous.asOf())) {
+                logger.info("Loaded exchange rates from {}: {}", provider, loaded);
+            }
+            warnIfStale();
+            return true;
+        } catch (Exception e) {
+            logger.warn("Could not refresh exchange rates from {}, keeping {}: {}", provider, rates, e.getMessage());
+            warnIfStale();
+            return false;
+        }
+    }
+
+    private void warnIfStale() {
+        ExchangeRates snapshot = rates;
+        if (!snapshot.isEmpty() && isStale(snapshot)) {
+            logger.warn("Exchange rates from {} are as of {}, older than {}; cross-currency amounts are rejected "
+                    + "until newer rates are loaded", provider, snapshot.asOf(), maxAge);
+        }
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        logger.info("Exchange rate service started: provider={}, refreshInterval={}, maxAge={}",
+                provider, getRefreshInterval(), maxAge);
+    }
+}
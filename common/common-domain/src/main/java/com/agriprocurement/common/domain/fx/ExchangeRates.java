@@ -0,0 +1,134 @@
+package com.agriprocurement.common.domain.fx;
+
+import com.agriprocurement.common.domain.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of exchange rates, quoted as units of each currency per one unit of a base
+ * currency. All cross rates are computed when the snapshot is built, so a conversion is two map
+ * lookups and one multiplication.
+ */
+public final class ExchangeRates {
+
+    private static final MathContext PRECISION = MathContext.DECIMAL64;
+
+    private static final ExchangeRates NONE = new ExchangeRates(null, Map.of(), Instant.EPOCH);
+
+    private final Currency base;
+    private final Map<Currency, BigDecimal> rates;
+    private final Instant asOf;
+    private final Map<Currency, Integer> indexes;
+    private final BigDecimal[][] crossRates;
+
+    private ExchangeRates(Currency base, Map<Currency, BigDecimal> rates, Instant asOf) {
+        this.base = base;
+        this.rates = rates;
+        this.asOf = asOf;
+        this.indexes = new HashMap<>();
+        for (Currency currency : rates.keySet()) {
+            indexes.put(currency, indexes.size());
+        }
+        this.crossRates = new BigDecimal[rates.size()][rates.size()];
+        for (Map.Entry<Currency, BigDecimal> from : rates.entrySet()) {
+            for (Map.Entry<Currency, BigDecimal> to : rates.entrySet()) {
+                crossRates[indexes.get(from.getKey())][indexes.get(to.getKey())] =
+                        to.getValue().divide(from.getValue(), PRECISION);
+            }
+        }
+    }
+
+    /**
+     * @param rates units of each currency per one {@code base}; the base itself may be omitted
+     * @throws IllegalArgumentException if a rate is not positive
+     */
+    public static ExchangeRates of(Currency base, Map<Currency, BigDecimal> rates, Instant asOf) {
+        Objects.requireNonNull(base, "Base currency cannot be null");
+        Objects.requireNonNull(asOf, "As-of time cannot be null");
+        Map<Currency, BigDecimal> copy = new LinkedHashMap<>();
+        copy.put(base, BigDecimal.ONE);
+        rates.forEach((currency, rate) -> {
+            if (rate == null || rate.signum() <= 0) {
+                throw new IllegalArgumentException("Exchange rate for " + currency + " must be positive");
+            }
+            if (!currency.equals(base)) {
+                copy.put(currency, rate);
+            }
+        });
+        return new ExchangeRates(base, Collections.unmodifiableMap(copy), asOf);
+    }
+
+    /**
+     * Rates that convert nothing: amounts can only be used in their own currency.
+     */
+    public static ExchangeRates none() {
+        return NONE;
+    }
+
+    public Currency base() {
+        return base;
+    }
+
+    public Map<Currency, BigDecimal> rates() {
+        return rates;
+    }
+
+    public Instant asOf() {
+        return asOf;
+    }
+
+    public boolean isEmpty() {
+        return rates.isEmpty();
+    }
+
+    /**
+     * Whether amounts in {@code from} can be converted to {@code to}; always true for the same
+     * currency.
+     */
+    public boolean canConvert(Currency from, Currency to) {
+        return from.equals(to) || (indexes.containsKey(from) && indexes.containsKey(to));
+    }
+
+    /**
+     * Units of {@code to} per one unit of {@code from}.
+     *
+     * @throws IllegalArgumentException if either currency has no rate
+     */
+    public BigDecimal rate(Currency from, Currency to) {
+        if (from.equals(to)) {
+            return BigDecimal.ONE;
+        }
+        Integer fromIndex = indexes.get(from);
+        Integer toIndex = indexes.get(to);
+        if (fromIndex == null || toIndex == null) {
+            throw new IllegalArgumentException("No exchange rate from " + from + " to " + to);
+        }
+        return crossRates[fromIndex][toIndex];
+    }
+
+    /**
+     * {@code money} in the {@code target} currency, rounded half up to its fraction digits. Amounts
+     * already in the target currency are returned as they are.
+     *
+     * @throws IllegalArgumentException if either currency has no rate
+     */
+    public Money convert(Money money, Currency target) {
+        if (money.currency().equals(target)) {
+            return money;
+        }
+        return new Money(money.amount().multiply(rate(money.currency(), target)), target);
+    }
+
+    @Override
+    public String toString() {
+        return "ExchangeRates{base=" + base + ", currencies=" + rates.size() + ", asOf=" + asOf + "}";
+    }
+}
@@ -0,0 +1,79 @@
+package com.agriprocurement.common.domain.fx;
+
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Reads rates from a properties file at a {@code file:} or {@code classpath:} location:
+ *
+ * <pre>
+ * base=USD
+ * as-of=2026-10-01T00:00:00Z
+ * EUR=0.9210
+ * UZS=12650
+ * </pre>
+ *
+ * Every other key is an ISO 4217 code with the units of that currency per one base unit. The
+ * {@code as-of} time is required, since it decides how long the rates may be used. The file is
+ * read again on every load, so replacing it takes effect at the next refresh.
+ */
+public class ResourceExchangeRateProvider implements ExchangeRateProvider {
+
+    private static final String BASE_KEY = "base";
+    private static final String AS_OF_KEY = "as-of";
+
+    private final String location;
+
+    public ResourceExchangeRateProvider(String location) {
+        this.location = location;
+    }
+
+    @Override
+    public ExchangeRates load() throws IOException {
+        Resource resource = new DefaultResourceLoader().getResource(location);
+        Properties properties = new Properties();
+        try (InputStream input = resource.getInputStream();
+             Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        String base = properties.getProperty(BASE_KEY);
+        if (base == null || base.isBlank()) {
+            throw new IOException("No '" + BASE_KEY + "' currency in " + location);
+        }
+        String asOfValue = properties.getProperty(AS_OF_KEY);
+        if (asOfValue == null || asOfValue.isBlank()) {
+            throw new IOException("No '" + AS_OF_KEY + "' time in " + location);
+        }
+        Map<Currency, BigDecimal> rates = new LinkedHashMap<>();
+        try {
+            Instant asOf = Instant.parse(asOfValue.trim());
+            for (String key : properties.stringPropertyNames()) {
+                if (!key.equals(BASE_KEY) && !key.equals(AS_OF_KEY)) {
+                    rates.put(Currency.getInstance(key.trim()), new BigDecimal(properties.getProperty(key).trim()));
+                }
+            }
+            return ExchangeRates.of(Currency.getInstance(base.trim()), rates, asOf);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IOException("Invalid exchange rates in " + location + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return location;
+    }
+}
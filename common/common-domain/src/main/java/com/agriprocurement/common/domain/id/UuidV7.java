@@ -0,0 +1,69 @@
+package com.agriprocurement.common.domain.id;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUIDs as specified by RFC 9562, version 7: a 48-bit Unix millisecond timestamp,
+ * a 12-bit counter and 62 random bits. Keys generated later sort after earlier ones, so inserts
+ * append to the right edge of a B-tree index instead of landing on random pages as version 4
+ * keys do.
+ * <p>
+ * Ids are strictly increasing within the JVM: the counter orders ids created in the same
+ * millisecond, and when the clock goes backwards or the counter runs out the timestamp is
+ * carried forward instead.
+ */
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    // Timestamp in the upper bits, counter in the lower COUNTER_BITS
+    private static final AtomicLong STATE = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        long state = nextState(System.currentTimeMillis());
+        long mostSignificant = (state >>> COUNTER_BITS) << 16 | VERSION | (state & COUNTER_MASK);
+        long leastSignificant = VARIANT | (ThreadLocalRandom.current().nextLong() & VARIANT_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * Creation time encoded in a version 7 UUID.
+     *
+     * @throws IllegalArgumentException if the UUID is not version 7
+     */
+    public static Instant timestamp(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+    }
+
+    private static long nextState(long millis) {
+        while (true) {
+            long current = STATE.get();
+            long next;
+            if (millis > current >>> COUNTER_BITS) {
+                // New millisecond: start the counter at a random point in its lower half, leaving
+                // room for 2048+ more ids in that millisecond and making ids harder to guess
+                next = millis << COUNTER_BITS | ThreadLocalRandom.current().nextLong(COUNTER_MASK >>> 1);
+            } else {
+                // Same millisecond or clock went backwards; overflowing the counter moves on to
+                // the next millisecond
+                next = current + 1;
+            }
+            if (STATE.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+}
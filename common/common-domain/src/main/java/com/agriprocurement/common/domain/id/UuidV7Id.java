@@ -0,0 +1,19 @@
+package com.agriprocurement.common.domain.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the annotated {@code @Id} as a {@link UuidV7}, in place of
+ * {@code @GeneratedValue(strategy = GenerationType.UUID)} which produces random version 4 ids.
+ * The attribute must be a {@link java.util.UUID}.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7Id {
+}
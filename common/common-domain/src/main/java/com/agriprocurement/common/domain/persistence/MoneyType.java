@@ -0,0 +1,71 @@
+package com.agriprocurement.common.domain.persistence;
+
+import com.agriprocurement.common.domain.valueobject.Money;
+import jakarta.persistence.Column;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.ValueAccess;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+/**
+ * Maps {@link Money} onto an amount and a currency column. Entities keep naming the columns
+ * with {@code @AttributeOverride(name = "amount" | "currency")}:
+ *
+ * <pre>
+ * &#64;Embedded
+ * &#64;CompositeType(MoneyType.class)
+ * &#64;AttributeOverride(name = "amount", column = &#64;Column(name = "budget_amount"))
+ * &#64;AttributeOverride(name = "currency", column = &#64;Column(name = "budget_currency"))
+ * private Money budget;
+ * </pre>
+ */
+public class MoneyType extends ValueObjectType<Money> {
+
+    private static final int AMOUNT = 0;
+    private static final int CURRENCY = 1;
+
+    public MoneyType() {
+        super(Money.class);
+    }
+
+    @Override
+    public Object getPropertyValue(Money component, int property) {
+        return switch (property) {
+            case AMOUNT -> component.amount();
+            case CURRENCY -> component.currency();
+            default -> throw new IllegalArgumentException("Unknown Money property index: " + property);
+        };
+    }
+
+    @Override
+    public Money instantiate(ValueAccess values, SessionFactoryImplementor sessionFactory) {
+        BigDecimal amount = values.getValue(AMOUNT, BigDecimal.class);
+        Currency currency = values.getValue(CURRENCY, Currency.class);
+        return amount == null || currency == null ? null : new Money(amount, currency);
+    }
+
+    @Override
+    public Class<?> embeddable() {
+        return Columns.class;
+    }
+
+    @Override
+    protected int propertyCount() {
+        return 2;
+    }
+
+    @Override
+    protected Money instantiate(Object[] properties) {
+        return new Money((BigDecimal) properties[AMOUNT], (Currency) properties[CURRENCY]);
+    }
+
+    public static class Columns {
+
+        @Column(precision = 19, scale = 4)
+        BigDecimal amount;
+
+        @Column(length = 3)
+        Currency currency;
+    }
+}
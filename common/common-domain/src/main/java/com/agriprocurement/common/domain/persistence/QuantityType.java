@@ -0,0 +1,65 @@
+package com.agriprocurement.common.domain.persistence;
+
+import com.agriprocurement.common.domain.valueobject.Quantity;
+import jakarta.persistence.Column;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.ValueAccess;
+
+import java.math.BigDecimal;
+
+/**
+ * Maps {@link Quantity} onto an amount and a unit column, the unit stored by name. Columns are
+ * named with {@code @AttributeOverride(name = "amount" | "unit")}.
+ */
+public class QuantityType extends ValueObjectType<Quantity> {
+
+    private static final int AMOUNT = 0;
+    private static final int UNIT = 1;
+
+    public QuantityType() {
+        super(Quantity.class);
+    }
+
+    @Override
+    public Object getPropertyValue(Quantity component, int property) {
+        return switch (property) {
+            case AMOUNT -> component.amount();
+            case UNIT -> component.unit();
+            default -> throw new IllegalArgumentException("Unknown Quantity property index: " + property);
+        };
+    }
+
+    @Override
+    public Quantity instantiate(ValueAccess values, SessionFactoryImplementor sessionFactory) {
+        BigDecimal amount = values.getValue(AMOUNT, BigDecimal.class);
+        Quantity.Unit unit = values.getValue(UNIT, Quantity.Unit.class);
+        return amount == null || unit == null ? null : new Quantity(amount, unit);
+    }
+
+    @Override
+    public Class<?> embeddable() {
+        return Columns.class;
+    }
+
+    @Override
+    protected int propertyCount() {
+        return 2;
+    }
+
+    @Override
+    protected Quantity instantiate(Object[] properties) {
+        return new Quantity((BigDecimal) properties[AMOUNT], (Quantity.Unit) properties[UNIT]);
+    }
+
+    public static class Columns {
+
+        @Column(precision = 19, scale = 4)
+        BigDecimal amount;
+
+        @Enumerated(EnumType.STRING)
+        @Column(length = 50)
+        Quantity.Unit unit;
+    }
+}
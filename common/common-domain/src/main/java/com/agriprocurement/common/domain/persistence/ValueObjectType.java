@@ -0,0 +1,76 @@
+package com.agriprocurement.common.domain.persistence;
+
+import org.hibernate.usertype.CompositeUserType;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Base for mapping the immutable value objects, which are not embeddables themselves, onto
+ * their columns. Subclasses name the columns through an embeddable mapper class whose
+ * properties, in alphabetical order, are the indexes passed to
+ * {@link #getPropertyValue(Object, int)}.
+ */
+abstract class ValueObjectType<J> implements CompositeUserType<J> {
+
+    private final Class<J> valueClass;
+
+    protected ValueObjectType(Class<J> valueClass) {
+        this.valueClass = valueClass;
+    }
+
+    @Override
+    public Class<J> returnedClass() {
+        return valueClass;
+    }
+
+    @Override
+    public boolean equals(J x, J y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(J x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public J deepCopy(J value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(J value) {
+        if (value == null) {
+            return null;
+        }
+        Object[] properties = new Object[propertyCount()];
+        for (int i = 0; i < properties.length; i++) {
+            properties[i] = getPropertyValue(value, i);
+        }
+        return properties;
+    }
+
+    @Override
+    public J assemble(Serializable cached, Object owner) {
+        if (cached == null) {
+            return null;
+        }
+        Object[] properties = (Object[]) cached;
+        return instantiate(properties);
+    }
+
+    @Override
+    public J replace(J detached, J managed, Object owner) {
+        return detached;
+    }
+
+    protected abstract int propertyCount();
+
+    protected abstract J instantiate(Object[] properties);
+}
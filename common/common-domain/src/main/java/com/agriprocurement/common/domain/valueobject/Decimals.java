@@ -0,0 +1,56 @@
+package com.agriprocurement.common.domain.valueobject;
+
+import java.math.BigDecimal;
+
+/**
+ * Helpers for the compact form of the value objects: an unscaled {@code long} plus a scale, used
+ * while the unscaled value has at most 18 digits. Larger values stay {@link BigDecimal}s.
+ * <p>
+ * The limit is on digits rather than on the {@code long} range so that a value has exactly one
+ * representation whichever way it was produced, which keeps {@code equals} a field comparison.
+ */
+final class Decimals {
+
+    static final int MAX_COMPACT_PRECISION = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_COMPACT_PRECISION + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private static final long COMPACT_LIMIT = POWERS_OF_TEN[MAX_COMPACT_PRECISION];
+
+    private Decimals() {
+    }
+
+    static boolean isCompact(BigDecimal value) {
+        return value.precision() <= MAX_COMPACT_PRECISION;
+    }
+
+    static boolean isCompact(long unscaled) {
+        return unscaled > -COMPACT_LIMIT && unscaled < COMPACT_LIMIT;
+    }
+
+    /**
+     * Unscaled value of a compact decimal, without going through {@link BigDecimal#unscaledValue()}.
+     */
+    static long unscaled(BigDecimal compact) {
+        return compact.scaleByPowerOfTen(compact.scale()).longValue();
+    }
+
+    /**
+     * Multiplies {@code unscaled} by {@code 10^digits}.
+     *
+     * @throws ArithmeticException if the result does not fit a {@code long}
+     */
+    static long rescale(long unscaled, int digits) {
+        if (digits >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException("long overflow");
+        }
+        return Math.multiplyExact(unscaled, POWERS_OF_TEN[digits]);
+    }
+}
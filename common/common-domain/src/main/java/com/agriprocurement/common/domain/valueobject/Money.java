@@ -1,58 +1,119 @@
 package com.agriprocurement.common.domain.valueobject;
 
-import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.PositiveOrZero;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Currency;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Immutable value object representing a monetary amount with currency.
+ * <p>
+ * Amounts are always scaled to the currency's fraction digits. Up to 18 digits they are held as
+ * a {@code long} count of minor units (cents for USD), so adding, subtracting, comparing and
+ * equality checks between such amounts do not allocate; larger amounts fall back to
+ * {@link BigDecimal}. Persisted through
+ * {@link com.agriprocurement.common.domain.persistence.MoneyType}.
  */
-public record Money(
-    @NotNull @PositiveOrZero BigDecimal amount,
-    @NotNull Currency currency
-) {
-    public Money {
+public final class Money {
+
+    private static final ConcurrentMap<String, Currency> CURRENCIES = new ConcurrentHashMap<>();
+
+    private final long minorUnits;
+    private final BigDecimal overflow;
+    private final Currency currency;
+
+    // Materialized on first call to amount(); racy but idempotent, like String.hash
+    private BigDecimal amount;
+
+    @JsonCreator
+    public Money(@JsonProperty("amount") BigDecimal amount, @JsonProperty("currency") Currency currency) {
         Objects.requireNonNull(amount, "Amount cannot be null");
         Objects.requireNonNull(currency, "Currency cannot be null");
         if (amount.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Amount cannot be negative");
         }
         // Scale to currency's fraction digits
-        amount = amount.setScale(currency.getDefaultFractionDigits(), RoundingMode.HALF_UP);
+        BigDecimal scaled = amount.setScale(currency.getDefaultFractionDigits(), RoundingMode.HALF_UP);
+        this.currency = currency;
+        this.amount = scaled;
+        if (Decimals.isCompact(scaled)) {
+            this.minorUnits = Decimals.unscaled(scaled);
+            this.overflow = null;
+        } else {
+            this.minorUnits = 0;
+            this.overflow = scaled;
+        }
+    }
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.overflow = null;
+        this.currency = currency;
     }
 
     public static Money of(BigDecimal amount, String currencyCode) {
-        return new Money(amount, Currency.getInstance(currencyCode));
+        return new Money(amount, currency(currencyCode));
     }
 
     public static Money of(double amount, String currencyCode) {
-        return new Money(BigDecimal.valueOf(amount), Currency.getInstance(currencyCode));
+        return new Money(BigDecimal.valueOf(amount), currency(currencyCode));
     }
 
     public static Money zero(String currencyCode) {
-        return new Money(BigDecimal.ZERO, Currency.getInstance(currencyCode));
+        return new Money(0L, currency(currencyCode));
+    }
+
+    @JsonProperty
+    public BigDecimal amount() {
+        BigDecimal value = amount;
+        if (value == null) {
+            value = BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits());
+            amount = value;
+        }
+        return value;
+    }
+
+    @JsonProperty
+    public Currency currency() {
+        return currency;
     }
 
     public Money add(Money other) {
         if (!this.currency.equals(other.currency)) {
             throw new IllegalArgumentException("Cannot add money with different currencies");
         }
-        return new Money(this.amount.add(other.amount), this.currency);
+        if (isCompact() && other.isCompact()) {
+            long sum = this.minorUnits + other.minorUnits;
+            // Both operands are below 10^18, so the sum cannot overflow a long
+            if (Decimals.isCompact(sum)) {
+                return new Money(sum, this.currency);
+            }
+        }
+        return new Money(this.amount().add(other.amount()), this.currency);
     }
 
     public Money subtract(Money other) {
         if (!this.currency.equals(other.currency)) {
             throw new IllegalArgumentException("Cannot subtract money with different currencies");
         }
-        return new Money(this.amount.subtract(other.amount), this.currency);
+        if (isCompact() && other.isCompact()) {
+            long difference = this.minorUnits - other.minorUnits;
+            if (difference < 0) {
+                throw new IllegalArgumentException("Amount cannot be negative");
+            }
+            return new Money(difference, this.currency);
+        }
+        return new Money(this.amount().subtract(other.amount()), this.currency);
     }
 
     public Money multiply(BigDecimal multiplier) {
-        return new Money(this.amount.multiply(multiplier), this.currency);
+        return new Money(this.amount().multiply(multiplier), this.currency);
     }
 
     public Money multiply(double multiplier) {
@@ -63,29 +124,71 @@ public record Money(
         if (divisor.compareTo(BigDecimal.ZERO) == 0) {
             throw new IllegalArgumentException("Cannot divide by zero");
         }
-        return new Money(this.amount.divide(divisor, currency.getDefaultFractionDigits(), RoundingMode.HALF_UP), this.currency);
+        return new Money(this.amount().divide(divisor, currency.getDefaultFractionDigits(), RoundingMode.HALF_UP), this.currency);
     }
 
     public boolean isGreaterThan(Money other) {
         if (!this.currency.equals(other.currency)) {
             throw new IllegalArgumentException("Cannot compare money with different currencies");
         }
-        return this.amount.compareTo(other.amount) > 0;
+        return compareAmount(other) > 0;
     }
 
     public boolean isLessThan(Money other) {
         if (!this.currency.equals(other.currency)) {
             throw new IllegalArgumentException("Cannot compare money with different currencies");
         }
-        return this.amount.compareTo(other.amount) < 0;
+        return compareAmount(other) < 0;
     }
 
+    @JsonIgnore
     public boolean isZero() {
-        return this.amount.compareTo(BigDecimal.ZERO) == 0;
+        return isCompact() ? minorUnits == 0 : overflow.signum() == 0;
+    }
+
+    private boolean isCompact() {
+        return overflow == null;
+    }
+
+    private int compareAmount(Money other) {
+        if (isCompact() && other.isCompact()) {
+            return Long.compare(this.minorUnits, other.minorUnits);
+        }
+        return this.amount().compareTo(other.amount());
+    }
+
+    /**
+     * {@link Currency#getInstance(String)} validates the code on every call; currencies are
+     * looked up per request when parsing amounts, so valid ones are remembered here.
+     */
+    private static Currency currency(String currencyCode) {
+        Currency currency = CURRENCIES.get(currencyCode);
+        if (currency == null) {
+            currency = Currency.getInstance(currencyCode);
+            CURRENCIES.putIfAbsent(currencyCode, currency);
+        }
+        return currency;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Money other
+                && this.currency.equals(other.currency)
+                && this.minorUnits == other.minorUnits
+                && Objects.equals(this.overflow, other.overflow);
+    }
+
+    @Override
+    public int hashCode() {
+        int amountHash = isCompact() ? Long.hashCode(minorUnits) : overflow.hashCode();
+        return 31 * amountHash + currency.hashCode();
     }
 
     @Override
     public String toString() {
-        return currency.getSymbol() + amount.toPlainString();
+        return currency.getSymbol() + amount().toPlainString();
     }
 }
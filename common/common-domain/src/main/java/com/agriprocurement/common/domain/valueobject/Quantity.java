@@ -1,30 +1,49 @@
 package com.agriprocurement.common.domain.valueobject;
 
-import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Positive;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.math.BigDecimal;
 import java.util.Objects;
 
 /**
  * Immutable value object representing a quantity with a unit of measure.
+ * <p>
+ * The amount keeps the scale it was given, with {@link BigDecimal} semantics for arithmetic and
+ * equality. Up to 18 digits it is held as an unscaled {@code long} and a scale, so adding,
+ * subtracting and comparing such quantities does not allocate. Persisted through
+ * {@link com.agriprocurement.common.domain.persistence.QuantityType}.
+ * <p>
+ * Arithmetic and comparison accept any unit of the same {@link Dimension}: the right operand is
+ * converted to the left operand's unit first, see {@link UnitConversions}.
  */
-public record Quantity(
-    @NotNull @Positive BigDecimal amount,
-    @NotNull Unit unit
-) {
+public final class Quantity {
+
+    /**
+     * What a unit measures. Quantities convert freely between units of the same dimension.
+     */
+    public enum Dimension {
+        MASS,
+        VOLUME,
+        COUNT
+    }
+
     public enum Unit {
-        KG("Kilogram", "kg"),
-        TON("Ton", "t"),
-        LITER("Liter", "L"),
-        PIECE("Piece", "pc");
+        KG("Kilogram", "kg", Dimension.MASS, BigDecimal.ONE),
+        TON("Ton", "t", Dimension.MASS, BigDecimal.valueOf(1000)),
+        LITER("Liter", "L", Dimension.VOLUME, BigDecimal.ONE),
+        PIECE("Piece", "pc", Dimension.COUNT, BigDecimal.ONE);
 
         private final String name;
         private final String symbol;
+        private final Dimension dimension;
+        private final BigDecimal baseFactor;
 
-        Unit(String name, String symbol) {
+        Unit(String name, String symbol, Dimension dimension, BigDecimal baseFactor) {
             this.name = name;
             this.symbol = symbol;
+            this.dimension = dimension;
+            this.baseFactor = baseFactor;
         }
 
         public String getName() {
@@ -34,14 +53,52 @@ public record Quantity(
         public String getSymbol() {
             return symbol;
         }
+
+        public Dimension getDimension() {
+            return dimension;
+        }
+
+        /**
+         * Amount of the dimension's base unit in one of this unit; the base unit has factor 1.
+         */
+        public BigDecimal getBaseFactor() {
+            return baseFactor;
+        }
     }
 
-    public Quantity {
+    private final long unscaled;
+    private final int scale;
+    private final BigDecimal overflow;
+    private final Unit unit;
+
+    // Materialized on first call to amount(); racy but idempotent, like String.hash
+    private BigDecimal amount;
+
+    @JsonCreator
+    public Quantity(@JsonProperty("amount") BigDecimal amount, @JsonProperty("unit") Unit unit) {
         Objects.requireNonNull(amount, "Amount cannot be null");
         Objects.requireNonNull(unit, "Unit cannot be null");
         if (amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Amount must be positive");
         }
+        this.unit = unit;
+        this.amount = amount;
+        if (Decimals.isCompact(amount)) {
+            this.unscaled = Decimals.unscaled(amount);
+            this.scale = amount.scale();
+            this.overflow = null;
+        } else {
+            this.unscaled = 0;
+            this.scale = 0;
+            this.overflow = amount;
+        }
+    }
+
+    private Quantity(long unscaled, int scale, Unit unit) {
+        this.unscaled = unscaled;
+        this.scale = scale;
+        this.overflow = null;
+        this.unit = unit;
     }
 
     public static Quantity of(BigDecimal amount, Unit unit) {
@@ -52,18 +109,52 @@ public record Quantity(
         return new Quantity(BigDecimal.valueOf(amount), unit);
     }
 
+    @JsonProperty
+    public BigDecimal amount() {
+        BigDecimal value = amount;
+        if (value == null) {
+            value = BigDecimal.valueOf(unscaled, scale);
+            amount = value;
+        }
+        return value;
+    }
+
+    @JsonProperty
+    public Unit unit() {
+        return unit;
+    }
+
     public Quantity add(Quantity other) {
-        if (!this.unit.equals(other.unit)) {
-            throw new IllegalArgumentException("Cannot add quantities with different units");
+        other = other.sameUnitAs(this, "Cannot add quantities with different dimensions");
+        if (isCompact() && other.isCompact()) {
+            try {
+                int resultScale = Math.max(this.scale, other.scale);
+                long sum = Math.addExact(this.alignedTo(resultScale), other.alignedTo(resultScale));
+                if (Decimals.isCompact(sum)) {
+                    return new Quantity(sum, resultScale, this.unit);
+                }
+            } catch (ArithmeticException e) {
+                // Too large for the compact form, fall through
+            }
         }
-        return new Quantity(this.amount.add(other.amount), this.unit);
+        return new Quantity(this.amount().add(other.amount()), this.unit);
     }
 
     public Quantity subtract(Quantity other) {
-        if (!this.unit.equals(other.unit)) {
-            throw new IllegalArgumentException("Cannot subtract quantities with different units");
+        other = other.sameUnitAs(this, "Cannot subtract quantities with different dimensions");
+        if (isCompact() && other.isCompact()) {
+            try {
+                int resultScale = Math.max(this.scale, other.scale);
+                long difference = Math.subtractExact(this.alignedTo(resultScale), other.alignedTo(resultScale));
+                if (difference <= 0) {
+                    throw new IllegalArgumentException("Result must be positive");
+                }
+                return new Quantity(difference, resultScale, this.unit);
+            } catch (ArithmeticException e) {
+                // Too large for the compact form, fall through
+            }
         }
-        BigDecimal result = this.amount.subtract(other.amount);
+        BigDecimal result = this.amount().subtract(other.amount());
         if (result.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Result must be positive");
         }
@@ -74,25 +165,115 @@ public record Quantity(
         if (multiplier.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Multiplier must be positive");
         }
-        return new Quantity(this.amount.multiply(multiplier), this.unit);
+        return new Quantity(this.amount().multiply(multiplier), this.unit);
     }
 
     public boolean isGreaterThan(Quantity other) {
-        if (!this.unit.equals(other.unit)) {
-            throw new IllegalArgumentException("Cannot compare quantities with different units");
-        }
-        return this.amount.compareTo(other.amount) > 0;
+        return compareAmount(other.sameUnitAs(this, "Cannot compare quantities with different dimensions")) > 0;
     }
 
     public boolean isLessThan(Quantity other) {
-        if (!this.unit.equals(other.unit)) {
-            throw new IllegalArgumentException("Cannot compare quantities with different units");
+        return compareAmount(other.sameUnitAs(this, "Cannot compare quantities with different dimensions")) < 0;
+    }
+
+    /**
+     * This quantity in another unit of the same dimension. Conversions between decimal multiples
+     * such as {@code KG} and {@code TON} are exact.
+     *
+     * @throws IllegalArgumentException if the unit measures a different dimension
+     */
+    public Quantity convertTo(Unit target) {
+        if (target == this.unit) {
+            return this;
+        }
+        if (!UnitConversions.isConvertible(this.unit, target)) {
+            throw new IllegalArgumentException("Cannot convert " + this.unit + " to " + target);
+        }
+        int shift = UnitConversions.decimalShift(this.unit, target);
+        if (isCompact() && shift != UnitConversions.NOT_DECIMAL) {
+            try {
+                // Same result as multiplying by 10^shift, without the multiplication for shift < 0
+                long converted = shift >= 0 ? Decimals.rescale(unscaled, shift) : unscaled;
+                int convertedScale = shift >= 0 ? scale : scale - shift;
+                if (Decimals.isCompact(converted)) {
+                    return new Quantity(converted, convertedScale, target);
+                }
+            } catch (ArithmeticException e) {
+                // Too large for the compact form, fall through
+            }
         }
-        return this.amount.compareTo(other.amount) < 0;
+        return new Quantity(amount().multiply(UnitConversions.factor(this.unit, target)), target);
+    }
+
+    /**
+     * This quantity in the base unit of its dimension, e.g. {@code TON} as {@code KG}.
+     */
+    public Quantity toBaseUnit() {
+        return convertTo(UnitConversions.baseUnit(unit.getDimension()));
+    }
+
+    public boolean isConvertibleTo(Unit target) {
+        return UnitConversions.isConvertible(this.unit, target);
+    }
+
+    private Quantity sameUnitAs(Quantity reference, String incompatibleMessage) {
+        if (this.unit == reference.unit) {
+            return this;
+        }
+        if (!UnitConversions.isConvertible(this.unit, reference.unit)) {
+            throw new IllegalArgumentException(incompatibleMessage);
+        }
+        return convertTo(reference.unit);
+    }
+
+    private boolean isCompact() {
+        return overflow == null;
+    }
+
+    /**
+     * Unscaled value at a scale at least as large as this one's.
+     *
+     * @throws ArithmeticException if it does not fit a {@code long}
+     */
+    private long alignedTo(int targetScale) {
+        return Decimals.rescale(unscaled, targetScale - scale);
+    }
+
+    private int compareAmount(Quantity other) {
+        if (isCompact() && other.isCompact()) {
+            if (this.scale == other.scale) {
+                return Long.compare(this.unscaled, other.unscaled);
+            }
+            try {
+                int commonScale = Math.max(this.scale, other.scale);
+                return Long.compare(this.alignedTo(commonScale), other.alignedTo(commonScale));
+            } catch (ArithmeticException e) {
+                // Fall through to BigDecimal
+            }
+        }
+        return this.amount().compareTo(other.amount());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Quantity other
+                && this.unit == other.unit
+                && this.unscaled == other.unscaled
+                && this.scale == other.scale
+                && Objects.equals(this.overflow, other.overflow);
+    }
+
+    @Override
+    public int hashCode() {
+        int amountHash = isCompact() ? 31 * Long.hashCode(unscaled) + scale : overflow.hashCode();
+        return 31 * amountHash + unit.hashCode();
     }
 
     @Override
     public String toString() {
-        return amount.toPlainString() + " " + unit.getSymbol();
+        return amount().toPlainString() + " " + unit.getSymbol();
     }
 }
@@ -0,0 +1,147 @@
+package com.agriprocurement.common.domain.valueobject;
+
+import com.agriprocurement.common.domain.valueobject.Quantity.Dimension;
+import com.agriprocurement.common.domain.valueobject.Quantity.Unit;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Quantities of one dimension normalized to its base unit and laid out as a {@code long[]} of
+ * amounts at {@link #SCALE} decimals, for aggregating demand and matching offers over many
+ * procurements at once. The bulk operations are branch-free loops over the array, which the JIT
+ * can vectorize, instead of a {@link Quantity} allocation per element.
+ */
+public final class QuantityBatch {
+
+    /** Decimals kept per amount, the scale of the quantity columns. */
+    public static final int SCALE = 4;
+
+    private final Dimension dimension;
+    private final long[] amounts;
+
+    private QuantityBatch(Dimension dimension, long[] amounts) {
+        this.dimension = dimension;
+        this.amounts = amounts;
+    }
+
+    /**
+     * Normalizes the quantities to the dimension's base unit, rounding half up to {@link #SCALE}
+     * decimals.
+     *
+     * @throws IllegalArgumentException if a quantity measures another dimension or rounds to zero
+     * @throws ArithmeticException if a normalized amount does not fit a {@code long}
+     */
+    public static QuantityBatch of(Dimension dimension, Collection<Quantity> quantities) {
+        Objects.requireNonNull(dimension, "Dimension cannot be null");
+        QuantityBatch batch = new QuantityBatch(dimension, new long[quantities.size()]);
+        int i = 0;
+        for (Quantity quantity : quantities) {
+            batch.amounts[i++] = batch.normalize(quantity);
+        }
+        return batch;
+    }
+
+    /**
+     * Wraps amounts already normalized to the base unit at {@link #SCALE} decimals, such as the
+     * {@code quantity_base_amount} column. The array is not copied.
+     *
+     * @throws IllegalArgumentException if an amount is not positive
+     */
+    public static QuantityBatch ofBaseAmounts(Dimension dimension, long[] amounts) {
+        Objects.requireNonNull(dimension, "Dimension cannot be null");
+        Objects.requireNonNull(amounts, "Amounts cannot be null");
+        long min = Long.MAX_VALUE;
+        for (long amount : amounts) {
+            min = Math.min(min, amount);
+        }
+        if (min <= 0) {
+            throw new IllegalArgumentException("Amounts must be positive");
+        }
+        return new QuantityBatch(dimension, amounts);
+    }
+
+    /**
+     * Amount of a quantity in its dimension's base unit, rounded half up to {@link #SCALE}
+     * decimals: the value of the {@code quantity_base_amount} column and of a batch element.
+     *
+     * @throws IllegalArgumentException if the quantity rounds to zero at that scale, since every
+     *         quantity is positive and {@link #ofBaseAmounts} rejects zero
+     */
+    public static BigDecimal baseAmount(Quantity quantity) {
+        BigDecimal amount = quantity.toBaseUnit().amount().setScale(SCALE, RoundingMode.HALF_UP);
+        if (amount.signum() <= 0) {
+            throw new IllegalArgumentException("Quantity " + quantity + " is below the smallest storable amount");
+        }
+        return amount;
+    }
+
+    public Dimension dimension() {
+        return dimension;
+    }
+
+    public int size() {
+        return amounts.length;
+    }
+
+    /**
+     * Base-unit amount at {@code index}, unscaled at {@link #SCALE} decimals.
+     */
+    public long baseAmount(int index) {
+        return amounts[index];
+    }
+
+    /**
+     * Sum of all quantities in the base unit.
+     *
+     * @throws IllegalStateException if the batch is empty, as quantities must be positive
+     */
+    public Quantity total() {
+        if (amounts.length == 0) {
+            throw new IllegalStateException("Cannot total an empty batch");
+        }
+        long sum = 0;
+        long max = 0;
+        for (long amount : amounts) {
+            sum += amount;
+            max = Math.max(max, amount);
+        }
+        // All amounts are positive: if n * max fits, no partial sum can have overflowed
+        if (max <= Long.MAX_VALUE / amounts.length) {
+            return new Quantity(BigDecimal.valueOf(sum, SCALE), baseUnit());
+        }
+        BigDecimal total = BigDecimal.ZERO;
+        for (long amount : amounts) {
+            total = total.add(BigDecimal.valueOf(amount, SCALE));
+        }
+        return new Quantity(total, baseUnit());
+    }
+
+    /**
+     * Number of quantities at least as large as {@code minimum}, e.g. offers that can cover a
+     * requested amount.
+     *
+     * @throws IllegalArgumentException if {@code minimum} measures another dimension or rounds to zero
+     */
+    public int countAtLeast(Quantity minimum) {
+        long threshold = normalize(minimum);
+        int count = 0;
+        for (long amount : amounts) {
+            count += amount >= threshold ? 1 : 0;
+        }
+        return count;
+    }
+
+    private long normalize(Quantity quantity) {
+        if (quantity.unit().getDimension() != dimension) {
+            throw new IllegalArgumentException("Expected " + dimension + " but got " + quantity.unit());
+        }
+        return baseAmount(quantity).unscaledValue().longValueExact();
+    }
+
+    private Unit baseUnit() {
+        return UnitConversions.baseUnit(dimension);
+    }
+}
@@ -0,0 +1,125 @@
+package com.agriprocurement.common.domain.valueobject;
+
+import com.agriprocurement.common.domain.valueobject.Quantity.Dimension;
+import com.agriprocurement.common.domain.valueobject.Quantity.Unit;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+/**
+ * Conversion factors between {@link Unit}s, computed once from each unit's
+ * {@link Unit#getBaseFactor() base factor}. Lookups are array accesses by ordinal.
+ */
+public final class UnitConversions {
+
+    /** {@link #decimalShift} of a factor that is not a power of ten. */
+    static final int NOT_DECIMAL = Integer.MIN_VALUE;
+
+    private static final Unit[] UNITS = Unit.values();
+
+    // [from][to]; null where the units measure different dimensions
+    private static final BigDecimal[][] FACTORS = new BigDecimal[UNITS.length][UNITS.length];
+    private static final int[][] SHIFTS = new int[UNITS.length][UNITS.length];
+    private static final long[] BASE_MULTIPLIERS = new long[UNITS.length];
+    private static final Unit[] BASE_UNITS = new Unit[Dimension.values().length];
+
+    static {
+        for (Unit from : UNITS) {
+            for (Unit to : UNITS) {
+                if (from.getDimension() != to.getDimension()) {
+                    continue;
+                }
+                BigDecimal factor = from.getBaseFactor().divide(to.getBaseFactor(), MathContext.DECIMAL128);
+                BigDecimal stripped = factor.stripTrailingZeros();
+                FACTORS[from.ordinal()][to.ordinal()] = stripped.scale() < 0 ? stripped.setScale(0) : stripped;
+                SHIFTS[from.ordinal()][to.ordinal()] = stripped.unscaledValue().equals(BigInteger.ONE)
+                        ? -stripped.scale()
+                        : NOT_DECIMAL;
+            }
+            if (from.getBaseFactor().compareTo(BigDecimal.ONE) == 0) {
+                if (BASE_UNITS[from.getDimension().ordinal()] != null) {
+                    throw new IllegalStateException("Two base units for " + from.getDimension());
+                }
+                BASE_UNITS[from.getDimension().ordinal()] = from;
+            }
+            BigDecimal baseFactor = from.getBaseFactor().stripTrailingZeros();
+            BASE_MULTIPLIERS[from.ordinal()] = baseFactor.scale() <= 0 ? baseFactor.longValueExact() : 0;
+        }
+        for (Dimension dimension : Dimension.values()) {
+            if (BASE_UNITS[dimension.ordinal()] == null) {
+                throw new IllegalStateException("No base unit for " + dimension);
+            }
+        }
+    }
+
+    private UnitConversions() {
+    }
+
+    public static boolean isConvertible(Unit from, Unit to) {
+        return from.getDimension() == to.getDimension();
+    }
+
+    /**
+     * Number of {@code to} units in one {@code from} unit.
+     *
+     * @throws IllegalArgumentException if the units measure different dimensions
+     */
+    public static BigDecimal factor(Unit from, Unit to) {
+        BigDecimal factor = FACTORS[from.ordinal()][to.ordinal()];
+        if (factor == null) {
+            throw new IllegalArgumentException("Cannot convert " + from + " to " + to);
+        }
+        return factor;
+    }
+
+    public static Unit baseUnit(Dimension dimension) {
+        return BASE_UNITS[dimension.ordinal()];
+    }
+
+    /**
+     * Whole number of base units in one {@code unit}, or 0 if the unit is a fraction of it.
+     */
+    public static long baseMultiplier(Unit unit) {
+        return BASE_MULTIPLIERS[unit.ordinal()];
+    }
+
+    /**
+     * Converts unscaled amounts, all at the same scale, from {@code unit} to its base unit at that
+     * scale, writing into {@code target} (which may be {@code amounts}). The overflow check is
+     * done up front so the conversion itself is a plain multiply loop the JIT can vectorize.
+     *
+     * @throws ArithmeticException if a converted amount would not fit a {@code long}
+     * @throws IllegalArgumentException if the unit is not a whole multiple of its base unit
+     */
+    public static void toBase(long[] amounts, Unit unit, long[] target) {
+        if (target.length < amounts.length) {
+            throw new IllegalArgumentException("Target holds " + target.length + " amounts, need " + amounts.length);
+        }
+        long multiplier = baseMultiplier(unit);
+        if (multiplier == 0) {
+            throw new IllegalArgumentException(unit + " is not a whole multiple of its base unit");
+        }
+        if (multiplier == 1) {
+            System.arraycopy(amounts, 0, target, 0, amounts.length);
+            return;
+        }
+        long limit = Long.MAX_VALUE / multiplier;
+        long max = 0;
+        long min = 0;
+        for (long amount : amounts) {
+            max = Math.max(max, amount);
+            min = Math.min(min, amount);
+        }
+        if (max > limit || min < -limit) {
+            throw new ArithmeticException("long overflow converting " + unit + " to base unit");
+        }
+        for (int i = 0; i < amounts.length; i++) {
+            target[i] = amounts[i] * multiplier;
+        }
+    }
+
+    static int decimalShift(Unit from, Unit to) {
+        return SHIFTS[from.ordinal()][to.ordinal()];
+    }
+}
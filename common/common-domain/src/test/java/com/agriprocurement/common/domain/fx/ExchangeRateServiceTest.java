@@ -0,0 +1,103 @@
+package com.agriprocurement.common.domain.fx;
+
+import com.agriprocurement.common.domain.valueobject.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Currency;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExchangeRateServiceTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    void shouldUseRatesWithinMaxAge() {
+        // Given
+        ExchangeRateService service = service(() -> rates(NOW.minus(Duration.ofHours(47))));
+
+        // When
+        boolean refreshed = service.refresh();
+
+        // Then
+        assertThat(refreshed).isTrue();
+        assertThat(service.isStale()).isFalse();
+        assertThat(service.age()).isEqualTo(Duration.ofHours(47));
+        assertThat(service.convert(Money.of(new BigDecimal("10"), "EUR"), USD).amount())
+                .isEqualByComparingTo("20.00");
+    }
+
+    @Test
+    void shouldRejectRatesOlderThanMaxAge() {
+        // Given
+        ExchangeRateService service = service(() -> rates(NOW.minus(Duration.ofHours(49))));
+
+        // When
+        service.refresh();
+
+        // Then: same-currency amounts still work, conversions do not
+        assertThat(service.isStale()).isTrue();
+        assertThat(service.age()).isEqualTo(Duration.ofHours(49));
+        assertThat(service.current().canConvert(EUR, USD)).isFalse();
+        assertThat(service.current().canConvert(USD, USD)).isTrue();
+    }
+
+    @Test
+    void shouldKeepPreviousRatesWhenRefreshFails() {
+        // Given
+        AtomicReference<ExchangeRates> next = new AtomicReference<>(rates(NOW.minus(Duration.ofHours(1))));
+        ExchangeRateService service = service(() -> {
+            ExchangeRates loaded = next.get();
+            if (loaded == null) {
+                throw new IOException("unavailable");
+            }
+            return loaded;
+        });
+        service.refresh();
+
+        // When
+        next.set(null);
+        boolean refreshed = service.refresh();
+
+        // Then
+        assertThat(refreshed).isFalse();
+        assertThat(service.current().asOf()).isEqualTo(NOW.minus(Duration.ofHours(1)));
+    }
+
+    @Test
+    void shouldRequireAsOfTimeInRatesFile(@TempDir Path directory) throws IOException {
+        // Given
+        Path file = directory.resolve("fx-rates.properties");
+        Files.writeString(file, "base=USD\nEUR=0.5\n");
+        ResourceExchangeRateProvider provider = new ResourceExchangeRateProvider(file.toUri().toString());
+
+        // When / Then
+        assertThatThrownBy(provider::load).isInstanceOf(IOException.class).hasMessageContaining("as-of");
+
+        Files.writeString(file, "base=USD\nas-of=2026-10-18T00:00:00Z\nEUR=0.5\n");
+        assertThat(provider.load().asOf()).isEqualTo(Instant.parse("2026-10-18T00:00:00Z"));
+    }
+
+    private static ExchangeRateService service(ExchangeRateProvider provider) {
+        return new ExchangeRateService(provider, Duration.ofMinutes(15), Duration.ofHours(48), CLOCK);
+    }
+
+    private static ExchangeRates rates(Instant asOf) {
+        return ExchangeRates.of(USD, Map.of(EUR, new BigDecimal("0.5")), asOf);
+    }
+}
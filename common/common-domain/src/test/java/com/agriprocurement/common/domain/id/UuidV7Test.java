@@ -0,0 +1,100 @@
+package com.agriprocurement.common.domain.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7Test {
+
+    @Test
+    void shouldSetVersionAndVariantBits() {
+        for (int i = 0; i < 1000; i++) {
+            UUID id = UuidV7.next();
+
+            assertThat(id.version()).isEqualTo(7);
+            assertThat(id.variant()).isEqualTo(2);
+            assertThat(id.getMostSignificantBits() & 0xF000L).isEqualTo(0x7000L);
+            assertThat(id.getLeastSignificantBits() >>> 62).isEqualTo(0b10L);
+        }
+    }
+
+    @Test
+    void shouldIncreaseStrictlyWithinTheSameMillisecond() {
+        // Given: a tight loop puts many ids in the same millisecond
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(UuidV7.next());
+        }
+
+        // Then
+        int sameMillisecond = 0;
+        for (int i = 1; i < ids.size(); i++) {
+            UUID previous = ids.get(i - 1);
+            UUID current = ids.get(i);
+            assertThat(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .as("%s after %s", current, previous)
+                    .isPositive();
+            if (UuidV7.timestamp(current).equals(UuidV7.timestamp(previous))) {
+                sameMillisecond++;
+            }
+        }
+        assertThat(sameMillisecond).isPositive();
+    }
+
+    @Test
+    void shouldEncodeCreationTime() {
+        // Given
+        Instant before = Instant.ofEpochMilli(System.currentTimeMillis());
+
+        // When
+        UUID id = UuidV7.next();
+
+        // Then: never earlier than the clock; later only if carried forward by the counter
+        assertThat(UuidV7.timestamp(id)).isAfterOrEqualTo(before)
+                .isBeforeOrEqualTo(Instant.ofEpochMilli(System.currentTimeMillis()).plusSeconds(1));
+    }
+
+    @Test
+    void shouldBeUniqueAcrossThreads() throws Exception {
+        // Given
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        ids.add(UuidV7.next());
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(ids).hasSize(20_000);
+    }
+
+    @Test
+    void shouldRejectTimestampOfOtherVersions() {
+        assertThatThrownBy(() -> UuidV7.timestamp(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,131 @@
+package com.agriprocurement.common.domain.persistence;
+
+import com.agriprocurement.common.domain.valueobject.Money;
+import com.agriprocurement.common.domain.valueobject.Quantity;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.CompositeType;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValueObjectTypeTest {
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void buildSessionFactory() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.URL, "jdbc:h2:mem:value-objects;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.USER, "sa")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(Lot.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @AfterAll
+    static void closeSessionFactory() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void shouldRoundTripValueObjectsThroughColumns() {
+        // Given
+        Quantity quantity = Quantity.of(new BigDecimal("12.5000"), Quantity.Unit.TON);
+        Money price = Money.of(new BigDecimal("1999.99"), "EUR");
+
+        // When
+        sessionFactory.inTransaction(session -> session.persist(new Lot(1L, quantity, price)));
+        Lot loaded = sessionFactory.fromTransaction(session -> session.get(Lot.class, 1L));
+
+        // Then
+        assertThat(loaded.quantity).isEqualTo(quantity);
+        assertThat(loaded.price).isEqualTo(price);
+    }
+
+    @Test
+    void shouldStoreUnitAndCurrencyByName() {
+        // Given
+        sessionFactory.inTransaction(session -> session.persist(new Lot(2L,
+                Quantity.of(new BigDecimal("3"), Quantity.Unit.LITER), Money.of(new BigDecimal("4.50"), "USD"))));
+
+        // When
+        Object[] row = sessionFactory.fromTransaction(session -> session
+                .createNativeQuery("SELECT quantity_unit, price_currency FROM lots WHERE id = 2", Object[].class)
+                .getSingleResult());
+
+        // Then
+        assertThat(row).containsExactly("LITER", "USD");
+    }
+
+    @Test
+    void shouldRoundTripThroughCachedForm() {
+        // Given
+        MoneyType moneyType = new MoneyType();
+        QuantityType quantityType = new QuantityType();
+        Money money = Money.of(new BigDecimal("10000000000000000.00"), "USD");
+        Quantity quantity = Quantity.of(new BigDecimal("0.0001"), Quantity.Unit.KG);
+
+        // When
+        Serializable cachedMoney = moneyType.disassemble(money);
+        Serializable cachedQuantity = quantityType.disassemble(quantity);
+
+        // Then
+        assertThat(moneyType.assemble(cachedMoney, null)).isEqualTo(money);
+        assertThat(quantityType.assemble(cachedQuantity, null)).isEqualTo(quantity);
+        assertThat(moneyType.disassemble(null)).isNull();
+        assertThat(moneyType.equals(money, Money.of(new BigDecimal("10000000000000000"), "USD"))).isTrue();
+        assertThat(quantityType.isMutable()).isFalse();
+    }
+
+    @Entity
+    @Table(name = "lots")
+    static class Lot {
+
+        @Id
+        Long id;
+
+        @Embedded
+        @CompositeType(QuantityType.class)
+        @AttributeOverrides({
+            @AttributeOverride(name = "amount", column = @Column(name = "quantity_amount", precision = 19, scale = 4)),
+            @AttributeOverride(name = "unit", column = @Column(name = "quantity_unit"))
+        })
+        Quantity quantity;
+
+        @Embedded
+        @CompositeType(MoneyType.class)
+        @AttributeOverrides({
+            @AttributeOverride(name = "amount", column = @Column(name = "price_amount", precision = 19, scale = 4)),
+            @AttributeOverride(name = "currency", column = @Column(name = "price_currency"))
+        })
+        Money price;
+
+        protected Lot() {
+        }
+
+        Lot(Long id, Quantity quantity, Money price) {
+            this.id = id;
+            this.quantity = quantity;
+            this.price = price;
+        }
+    }
+}
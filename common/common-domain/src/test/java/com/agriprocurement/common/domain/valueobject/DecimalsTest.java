@@ -0,0 +1,45 @@
+package com.agriprocurement.common.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DecimalsTest {
+
+    @Test
+    void shouldTreatUpTo18DigitsAsCompact() {
+        assertThat(Decimals.isCompact(new BigDecimal("999999999999999999"))).isTrue();
+        assertThat(Decimals.isCompact(new BigDecimal("99999999999999.9999"))).isTrue();
+        assertThat(Decimals.isCompact(new BigDecimal("1000000000000000000"))).isFalse();
+        assertThat(Decimals.isCompact(999_999_999_999_999_999L)).isTrue();
+        assertThat(Decimals.isCompact(-999_999_999_999_999_999L)).isTrue();
+        assertThat(Decimals.isCompact(1_000_000_000_000_000_000L)).isFalse();
+        assertThat(Decimals.isCompact(Long.MAX_VALUE)).isFalse();
+        assertThat(Decimals.isCompact(Long.MIN_VALUE)).isFalse();
+    }
+
+    @Test
+    void shouldReadUnscaledValueAtOwnScale() {
+        assertThat(Decimals.unscaled(new BigDecimal("12.34"))).isEqualTo(1234L);
+        assertThat(Decimals.unscaled(new BigDecimal("12.3400"))).isEqualTo(123400L);
+        assertThat(Decimals.unscaled(new BigDecimal("-0.5"))).isEqualTo(-5L);
+        assertThat(Decimals.unscaled(new BigDecimal("1E+3"))).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRescaleByPowersOfTen() {
+        assertThat(Decimals.rescale(15, 0)).isEqualTo(15L);
+        assertThat(Decimals.rescale(15, 3)).isEqualTo(15_000L);
+        assertThat(Decimals.rescale(1, 18)).isEqualTo(1_000_000_000_000_000_000L);
+    }
+
+    @Test
+    void shouldRejectRescaleBeyondLongRange() {
+        assertThatThrownBy(() -> Decimals.rescale(Long.MAX_VALUE, 1)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Decimals.rescale(10, 18)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Decimals.rescale(1, 19)).isInstanceOf(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,91 @@
+package com.agriprocurement.common.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    @Test
+    void shouldScaleToCurrencyFractionDigits() {
+        assertThat(Money.of(new BigDecimal("12.3"), "USD").amount()).isEqualByComparingTo("12.30")
+                .hasScaleOf(2);
+        assertThat(Money.of(new BigDecimal("1.005"), "USD").amount()).isEqualTo(new BigDecimal("1.01"));
+        assertThat(Money.of(new BigDecimal("1.004"), "USD").amount()).isEqualTo(new BigDecimal("1.00"));
+        assertThat(Money.of(new BigDecimal("12.5"), "JPY").amount()).isEqualTo(new BigDecimal("13"));
+        assertThat(Money.zero("USD").amount()).isEqualTo(new BigDecimal("0.00"));
+    }
+
+    @Test
+    void shouldRoundDivisionHalfUp() {
+        // Given
+        Money amount = Money.of(new BigDecimal("10"), "USD");
+
+        // When / Then
+        assertThat(amount.divide(new BigDecimal("3")).amount()).isEqualTo(new BigDecimal("3.33"));
+        assertThat(amount.divide(new BigDecimal("6")).amount()).isEqualTo(new BigDecimal("1.67"));
+        assertThatThrownBy(() -> amount.divide(BigDecimal.ZERO)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldAddBeyondCompactRangeWithoutOverflow() {
+        // Given: 18 digits of cents, the largest compact amount
+        Money largestCompact = Money.of(new BigDecimal("9999999999999999.99"), "USD");
+
+        // When
+        Money sum = largestCompact.add(Money.of(new BigDecimal("0.01"), "USD"));
+
+        // Then
+        assertThat(sum.amount()).isEqualTo(new BigDecimal("10000000000000000.00"));
+        assertThat(sum.isGreaterThan(largestCompact)).isTrue();
+    }
+
+    @Test
+    void shouldAddAndMultiplyLongMaxValueExactly() {
+        // Given
+        Money max = Money.of(LONG_MAX, "USD");
+
+        // When
+        Money doubled = max.add(max);
+        Money squared = max.multiply(LONG_MAX);
+
+        // Then
+        assertThat(doubled.amount()).isEqualByComparingTo(LONG_MAX.multiply(BigDecimal.valueOf(2)));
+        assertThat(squared.amount()).isEqualByComparingTo(LONG_MAX.multiply(LONG_MAX));
+        assertThat(doubled.subtract(max)).isEqualTo(max);
+    }
+
+    @Test
+    void shouldHaveOneRepresentationPerValue() {
+        // Given: the same amounts built from the compact and from the BigDecimal form
+        Money compact = Money.of(new BigDecimal("9999999999999999.99"), "USD");
+        Money overflowSum = compact.add(Money.of(new BigDecimal("0.01"), "USD"));
+        Money overflowDirect = Money.of(new BigDecimal("10000000000000000"), "USD");
+        Money backToCompact = overflowDirect.subtract(Money.of(new BigDecimal("0.01"), "USD"));
+
+        // Then
+        assertThat(overflowSum).isEqualTo(overflowDirect).hasSameHashCodeAs(overflowDirect);
+        assertThat(backToCompact).isEqualTo(compact).hasSameHashCodeAs(compact);
+        assertThat(Money.of(new BigDecimal("5"), "USD"))
+                .isEqualTo(Money.of(new BigDecimal("5.000"), "USD"))
+                .hasSameHashCodeAs(Money.of(new BigDecimal("5.000"), "USD"));
+        assertThat(Money.of(new BigDecimal("5"), "USD")).isNotEqualTo(Money.of(new BigDecimal("5"), "EUR"));
+    }
+
+    @Test
+    void shouldRejectNegativeResults() {
+        Money ten = Money.of(new BigDecimal("10.00"), "USD");
+
+        assertThatThrownBy(() -> ten.subtract(Money.of(new BigDecimal("10.01"), "USD")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("-0.01"), "USD"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ten.add(Money.of(new BigDecimal("1"), "EUR")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,101 @@
+package com.agriprocurement.common.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.agriprocurement.common.domain.valueobject.Quantity.Dimension.MASS;
+import static com.agriprocurement.common.domain.valueobject.Quantity.Unit.KG;
+import static com.agriprocurement.common.domain.valueobject.Quantity.Unit.LITER;
+import static com.agriprocurement.common.domain.valueobject.Quantity.Unit.TON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuantityBatchTest {
+
+    @Test
+    void shouldNormalizeToBaseUnitAtFourDecimals() {
+        // Given
+        List<Quantity> quantities = List.of(
+                Quantity.of(new BigDecimal("1.5"), TON),
+                Quantity.of(new BigDecimal("0.12345"), KG));
+
+        // When
+        QuantityBatch batch = QuantityBatch.of(MASS, quantities);
+
+        // Then
+        assertThat(batch.size()).isEqualTo(2);
+        assertThat(batch.baseAmount(0)).isEqualTo(15_000_000L);
+        assertThat(batch.baseAmount(1)).isEqualTo(1_235L);
+    }
+
+    @Test
+    void shouldTotalInBaseUnit() {
+        // Given
+        QuantityBatch batch = QuantityBatch.of(MASS, List.of(
+                Quantity.of(new BigDecimal("2"), TON),
+                Quantity.of(new BigDecimal("250.5"), KG)));
+
+        // When
+        Quantity total = batch.total();
+
+        // Then
+        assertThat(total.unit()).isEqualTo(KG);
+        assertThat(total.amount()).isEqualByComparingTo("2250.5");
+    }
+
+    @Test
+    void shouldTotalWithoutOverflow() {
+        // Given
+        QuantityBatch batch = QuantityBatch.ofBaseAmounts(MASS, new long[]{Long.MAX_VALUE, Long.MAX_VALUE});
+
+        // When
+        Quantity total = batch.total();
+
+        // Then
+        assertThat(total.amount()).isEqualByComparingTo(
+                BigDecimal.valueOf(Long.MAX_VALUE, QuantityBatch.SCALE).multiply(BigDecimal.valueOf(2)));
+    }
+
+    @Test
+    void shouldCountQuantitiesCoveringMinimum() {
+        // Given
+        QuantityBatch batch = QuantityBatch.of(MASS, List.of(
+                Quantity.of(new BigDecimal("1"), TON),
+                Quantity.of(new BigDecimal("999"), KG),
+                Quantity.of(new BigDecimal("1000"), KG)));
+
+        // When / Then
+        assertThat(batch.countAtLeast(Quantity.of(BigDecimal.ONE, TON))).isEqualTo(2);
+        assertThat(batch.countAtLeast(Quantity.of(new BigDecimal("0.5"), KG))).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRejectQuantitiesRoundingToZero() {
+        // Given: below the smallest amount at four decimals
+        Quantity tiny = Quantity.of(new BigDecimal("0.00004"), KG);
+
+        // When / Then: same rule as ofBaseAmounts, so total() never sees a zero
+        assertThatThrownBy(() -> QuantityBatch.of(MASS, List.of(tiny)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuantityBatch.baseAmount(tiny))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuantityBatch.ofBaseAmounts(MASS, new long[]{1, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(QuantityBatch.baseAmount(Quantity.of(new BigDecimal("0.00005"), KG)))
+                .isEqualTo(new BigDecimal("0.0001"));
+    }
+
+    @Test
+    void shouldRejectOtherDimensions() {
+        assertThatThrownBy(() -> QuantityBatch.of(MASS, List.of(Quantity.of(BigDecimal.ONE, LITER))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectTotalOfEmptyBatch() {
+        assertThatThrownBy(() -> QuantityBatch.of(MASS, List.of()).total())
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
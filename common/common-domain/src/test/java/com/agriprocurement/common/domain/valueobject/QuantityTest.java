@@ -0,0 +1,112 @@
+package com.agriprocurement.common.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static com.agriprocurement.common.domain.valueobject.Quantity.Unit.KG;
+import static com.agriprocurement.common.domain.valueobject.Quantity.Unit.LITER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuantityTest {
+
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    @Test
+    void shouldKeepScaleOfOperands() {
+        // Given
+        Quantity oneAndHalf = Quantity.of(new BigDecimal("1.5"), KG);
+
+        // When
+        Quantity sum = oneAndHalf.add(Quantity.of(new BigDecimal("0.25"), KG));
+        Quantity difference = oneAndHalf.subtract(Quantity.of(new BigDecimal("0.50"), KG));
+
+        // Then
+        assertThat(sum.amount()).isEqualTo(new BigDecimal("1.75"));
+        assertThat(difference.amount()).isEqualTo(new BigDecimal("1.00"));
+        assertThat(oneAndHalf.multiply(new BigDecimal("3")).amount()).isEqualTo(new BigDecimal("4.5"));
+    }
+
+    @Test
+    void shouldCompareAcrossScales() {
+        Quantity one = Quantity.of(new BigDecimal("1"), KG);
+        Quantity oneHundredth = Quantity.of(new BigDecimal("0.01"), KG);
+
+        assertThat(one.isGreaterThan(oneHundredth)).isTrue();
+        assertThat(oneHundredth.isLessThan(one)).isTrue();
+        assertThat(one.isGreaterThan(Quantity.of(new BigDecimal("1.000"), KG))).isFalse();
+    }
+
+    @Test
+    void shouldAddBeyondCompactRangeWithoutOverflow() {
+        // Given
+        Quantity largestCompact = Quantity.of(new BigDecimal("999999999999999999"), KG);
+
+        // When
+        Quantity sum = largestCompact.add(Quantity.of(BigDecimal.ONE, KG));
+
+        // Then
+        assertThat(sum.amount()).isEqualTo(new BigDecimal("1000000000000000000"));
+    }
+
+    @Test
+    void shouldAlignScalesBeyondLongRangeWithoutOverflow() {
+        // Given: aligning 10^17 to scale 4 does not fit a long
+        Quantity large = Quantity.of(new BigDecimal("100000000000000000"), KG);
+        Quantity fraction = Quantity.of(new BigDecimal("0.0001"), KG);
+
+        // When / Then
+        assertThat(large.add(fraction).amount()).isEqualTo(new BigDecimal("100000000000000000.0001"));
+        assertThat(large.subtract(fraction).amount()).isEqualTo(new BigDecimal("99999999999999999.9999"));
+        assertThat(large.isGreaterThan(fraction)).isTrue();
+    }
+
+    @Test
+    void shouldAddAndMultiplyLongMaxValueExactly() {
+        // Given
+        Quantity max = Quantity.of(LONG_MAX, KG);
+
+        // When
+        Quantity doubled = max.add(max);
+        Quantity squared = max.multiply(LONG_MAX);
+
+        // Then
+        assertThat(doubled.amount()).isEqualTo(LONG_MAX.multiply(BigDecimal.valueOf(2)));
+        assertThat(squared.amount()).isEqualTo(LONG_MAX.multiply(LONG_MAX));
+        assertThat(doubled.subtract(max)).isEqualTo(max);
+    }
+
+    @Test
+    void shouldHaveOneRepresentationPerValue() {
+        // Given: the same amounts built from the compact and from the BigDecimal form
+        Quantity overflowSum = Quantity.of(new BigDecimal("999999999999999999"), KG)
+                .add(Quantity.of(BigDecimal.ONE, KG));
+        Quantity overflowDirect = Quantity.of(new BigDecimal("1000000000000000000"), KG);
+        Quantity backToCompact = overflowDirect.subtract(Quantity.of(BigDecimal.ONE, KG));
+
+        // Then
+        assertThat(overflowSum).isEqualTo(overflowDirect).hasSameHashCodeAs(overflowDirect);
+        assertThat(backToCompact)
+                .isEqualTo(Quantity.of(new BigDecimal("999999999999999999"), KG))
+                .hasSameHashCodeAs(Quantity.of(new BigDecimal("999999999999999999"), KG));
+    }
+
+    @Test
+    void shouldFollowBigDecimalEqualityForScale() {
+        assertThat(Quantity.of(new BigDecimal("1.5"), KG)).isEqualTo(Quantity.of(new BigDecimal("1.5"), KG));
+        assertThat(Quantity.of(new BigDecimal("1.5"), KG)).isNotEqualTo(Quantity.of(new BigDecimal("1.50"), KG));
+        assertThat(Quantity.of(new BigDecimal("1.5"), KG)).isNotEqualTo(Quantity.of(new BigDecimal("1.5"), LITER));
+    }
+
+    @Test
+    void shouldRejectNonPositiveResults() {
+        Quantity one = Quantity.of(BigDecimal.ONE, KG);
+
+        assertThatThrownBy(() -> one.subtract(one)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> one.multiply(BigDecimal.ZERO)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Quantity.of(BigDecimal.ZERO, KG)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> one.add(Quantity.of(BigDecimal.ONE, LITER)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
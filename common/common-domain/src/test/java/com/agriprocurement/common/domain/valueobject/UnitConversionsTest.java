@@ -0,0 +1,89 @@
+package com.agriprocurement.common.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static com.agriprocurement.common.domain.valueobject.Quantity.Unit.KG;
+import static com.agriprocurement.common.domain.valueobject.Quantity.Unit.LITER;
+import static com.agriprocurement.common.domain.valueobject.Quantity.Unit.PIECE;
+import static com.agriprocurement.common.domain.valueobject.Quantity.Unit.TON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UnitConversionsTest {
+
+    @Test
+    void shouldResolveFactorsWithinDimension() {
+        assertThat(UnitConversions.factor(TON, KG)).isEqualTo(new BigDecimal("1000"));
+        assertThat(UnitConversions.factor(KG, TON)).isEqualTo(new BigDecimal("0.001"));
+        assertThat(UnitConversions.factor(KG, KG)).isEqualTo(BigDecimal.ONE);
+        assertThat(UnitConversions.decimalShift(TON, KG)).isEqualTo(3);
+        assertThat(UnitConversions.decimalShift(KG, TON)).isEqualTo(-3);
+        assertThat(UnitConversions.baseUnit(Quantity.Dimension.MASS)).isEqualTo(KG);
+        assertThat(UnitConversions.baseMultiplier(TON)).isEqualTo(1000L);
+        assertThat(UnitConversions.isConvertible(KG, LITER)).isFalse();
+        assertThatThrownBy(() -> UnitConversions.factor(KG, PIECE)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldConvertQuantitiesExactly() {
+        // Given
+        Quantity tons = Quantity.of(new BigDecimal("1.5"), TON);
+        Quantity kilograms = Quantity.of(new BigDecimal("250"), KG);
+
+        // When / Then
+        assertThat(tons.convertTo(KG).amount()).isEqualByComparingTo("1500");
+        assertThat(kilograms.convertTo(TON).amount()).isEqualTo(new BigDecimal("0.250"));
+        assertThat(kilograms.convertTo(TON).convertTo(KG).amount()).isEqualByComparingTo(kilograms.amount());
+        assertThat(tons.toBaseUnit().unit()).isEqualTo(KG);
+        assertThat(tons.convertTo(TON)).isSameAs(tons);
+        assertThatThrownBy(() -> tons.convertTo(LITER)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldConvertBeyondCompactRangeWithoutOverflow() {
+        // Given
+        Quantity largest = Quantity.of(new BigDecimal("999999999999999999"), TON);
+
+        // When
+        Quantity converted = largest.convertTo(KG);
+
+        // Then
+        assertThat(converted.amount()).isEqualByComparingTo("999999999999999999000");
+        assertThat(converted.unit()).isEqualTo(KG);
+    }
+
+    @Test
+    void shouldCompareAndAddAcrossUnits() {
+        Quantity ton = Quantity.of(BigDecimal.ONE, TON);
+        Quantity kilograms = Quantity.of(new BigDecimal("999"), KG);
+
+        assertThat(ton.isGreaterThan(kilograms)).isTrue();
+        assertThat(kilograms.isLessThan(ton)).isTrue();
+        assertThat(kilograms.add(ton).amount()).isEqualByComparingTo("1999");
+        assertThat(ton.add(kilograms).amount()).isEqualByComparingTo("1.999");
+    }
+
+    @Test
+    void shouldConvertArraysToBaseUnit() {
+        // Given
+        long[] amounts = {15, 2, 0};
+        long[] target = new long[3];
+
+        // When
+        UnitConversions.toBase(amounts, TON, target);
+
+        // Then
+        assertThat(target).containsExactly(15_000, 2_000, 0);
+    }
+
+    @Test
+    void shouldRejectArrayConversionThatOverflows() {
+        long[] amounts = {1, Long.MAX_VALUE / 100};
+
+        assertThatThrownBy(() -> UnitConversions.toBase(amounts, TON, amounts))
+                .isInstanceOf(ArithmeticException.class);
+        assertThat(amounts).containsExactly(1, Long.MAX_VALUE / 100);
+    }
+}
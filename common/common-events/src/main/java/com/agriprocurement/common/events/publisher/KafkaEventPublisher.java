@@ -1,14 +1,18 @@
 package com.agriprocurement.common.events.publisher;
 
 import com.agriprocurement.common.events.DomainEvent;
+import com.agriprocurement.common.events.EventMetadata;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 
 @Service
@@ -16,6 +20,10 @@ public class KafkaEventPublisher {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaEventPublisher.class);
 
+    /** MDC keys set by the observability and security modules; also used as record header names. */
+    private static final String CORRELATION_ID_KEY = "correlationId";
+    private static final String USER_ID_KEY = "userId";
+
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
 
@@ -27,6 +35,12 @@ public class KafkaEventPublisher {
 
     public CompletableFuture<SendResult<String, String>> publishEvent(String topic, DomainEvent event) {
         try {
+            String correlationId = MDC.get(CORRELATION_ID_KEY);
+            String userId = MDC.get(USER_ID_KEY);
+            if (event.getMetadata() == null && (correlationId != null || userId != null)) {
+                event.setMetadata(EventMetadata.create(correlationId, userId));
+            }
+
             String eventJson = objectMapper.writeValueAsString(event);
             String key = event.getAggregateId();
             String eventId = event.getEventId();
@@ -35,7 +49,10 @@ public class KafkaEventPublisher {
             logger.debug("Publishing event to topic {}: eventId={}, eventType={}, aggregateId={}", 
                         topic, eventId, eventType, event.getAggregateId());
 
-            CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(topic, key, eventJson);
+            ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, eventJson);
+            addHeader(record, CORRELATION_ID_KEY, correlationId);
+            addHeader(record, USER_ID_KEY, userId);
+            CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(record);
             
             future.whenComplete((result, ex) -> {
                 if (ex == null) {
@@ -62,6 +79,12 @@ public class KafkaEventPublisher {
         return publishEvent(topic, event);
     }
 
+    private static void addHeader(ProducerRecord<String, String> record, String name, String value) {
+        if (value != null) {
+            record.headers().add(name, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
     private String determineTopicFromEventType(String eventType) {
         return switch (eventType) {
             case "PROCUREMENT_CREATED", "BID_SUBMITTED" -> "procurement-events";
@@ -0,0 +1,97 @@
+package com.agriprocurement.common.events.publisher;
+
+import com.agriprocurement.common.events.EventMetadata;
+import com.agriprocurement.common.events.order.OrderCreatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.MDC;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaEventPublisherTest {
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+    private final ObjectMapper objectMapper = mock(ObjectMapper.class);
+    private final KafkaEventPublisher publisher = new KafkaEventPublisher(kafkaTemplate, objectMapper);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(new CompletableFuture<SendResult<String, String>>());
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void shouldCarryCorrelationAndUserInHeadersAndMetadata() {
+        // Given
+        MDC.put("correlationId", "request-1");
+        MDC.put("userId", "user-1");
+        OrderCreatedEvent event = event();
+
+        // When
+        publisher.publishEvent(event);
+
+        // Then
+        ProducerRecord<String, String> record = sent();
+        assertThat(record.topic()).isEqualTo("order-events");
+        assertThat(header(record, "correlationId")).isEqualTo("request-1");
+        assertThat(header(record, "userId")).isEqualTo("user-1");
+        assertThat(event.getMetadata()).isEqualTo(EventMetadata.create("request-1", "user-1"));
+    }
+
+    @Test
+    void shouldKeepExistingMetadataAndSkipMissingHeaders() {
+        // Given
+        MDC.put("correlationId", "request-1");
+        OrderCreatedEvent event = event();
+        EventMetadata original = EventMetadata.createWithCausation("saga-7", "event-3", "user-9");
+        event.setMetadata(original);
+
+        // When
+        publisher.publishEvent(event);
+
+        // Then
+        ProducerRecord<String, String> record = sent();
+        assertThat(header(record, "correlationId")).isEqualTo("request-1");
+        assertThat(record.headers().lastHeader("userId")).isNull();
+        assertThat(event.getMetadata()).isSameAs(original);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProducerRecord<String, String> sent() {
+        ArgumentCaptor<ProducerRecord<String, String>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        return captor.getValue();
+    }
+
+    private static String header(ProducerRecord<String, String> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    private static OrderCreatedEvent event() {
+        return new OrderCreatedEvent("order-1", "customer-1", List.of(), new BigDecimal("100.00"));
+    }
+}
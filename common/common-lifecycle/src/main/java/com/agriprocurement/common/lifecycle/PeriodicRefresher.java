@@ -0,0 +1,99 @@
+package com.agriprocurement.common.lifecycle;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class for components that hold a snapshot in memory and reload it in the background.
+ * <p>
+ * {@link #start()} runs one {@link #refresh()} on the calling thread, so the snapshot is in place
+ * before the application takes traffic, and then one every {@code refreshInterval} on a single
+ * daemon thread. An exception escaping a refresh is logged and never cancels the later runs.
+ */
+public abstract class PeriodicRefresher implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(PeriodicRefresher.class);
+
+    private final String threadName;
+    private final Duration refreshInterval;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    protected PeriodicRefresher(String threadName, Duration refreshInterval) {
+        if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+            throw new IllegalArgumentException("Refresh interval must be positive: " + refreshInterval);
+        }
+        this.threadName = threadName;
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Loads the snapshot now. Returns whether a new snapshot was installed.
+     */
+    public abstract boolean refresh();
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    /**
+     * Runs {@code task} on the refresh thread. Returns {@code false} when the refresher is not
+     * running, in which case the task is dropped.
+     */
+    protected boolean execute(Runnable task) {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null) {
+            return false;
+        }
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        safeRefresh();
+        executor.scheduleWithFixedDelay(this::safeRefresh, refreshInterval.toMillis(), refreshInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        this.scheduler = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = this.scheduler;
+        if (executor != null) {
+            executor.shutdownNow();
+            this.scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void safeRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // Must not escape: an exception thrown from a scheduleWithFixedDelay task cancels all
+            // later runs, and the snapshot would never be reloaded again
+            logger.error("Unexpected error in {}", threadName, e);
+        }
+    }
+}
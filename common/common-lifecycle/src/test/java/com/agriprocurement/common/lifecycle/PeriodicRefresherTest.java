@@ -0,0 +1,94 @@
+package com.agriprocurement.common.lifecycle;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PeriodicRefresherTest {
+
+    private CountingRefresher refresher;
+
+    @AfterEach
+    void stopRefresher() {
+        if (refresher != null) {
+            refresher.stop();
+        }
+    }
+
+    @Test
+    void shouldRefreshOnStartBeforeReturning() {
+        // Given
+        refresher = new CountingRefresher(Duration.ofHours(1), false);
+
+        // When
+        refresher.start();
+
+        // Then
+        assertThat(refresher.refreshes.get()).isEqualTo(1);
+        assertThat(refresher.isRunning()).isTrue();
+    }
+
+    @Test
+    void shouldKeepRefreshingAfterUnexpectedError() throws Exception {
+        // Given: every refresh throws
+        refresher = new CountingRefresher(Duration.ofMillis(10), true);
+
+        // When
+        refresher.start();
+
+        // Then: the schedule survives the exceptions
+        assertThat(refresher.threeRefreshes.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(refresher.isRunning()).isTrue();
+    }
+
+    @Test
+    void shouldRunTasksOnlyWhileRunning() throws Exception {
+        // Given
+        refresher = new CountingRefresher(Duration.ofHours(1), false);
+        CountDownLatch executed = new CountDownLatch(1);
+
+        // When / Then
+        assertThat(refresher.execute(executed::countDown)).isFalse();
+        refresher.start();
+        assertThat(refresher.execute(executed::countDown)).isTrue();
+        assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+        refresher.stop();
+        assertThat(refresher.isRunning()).isFalse();
+        assertThat(refresher.execute(executed::countDown)).isFalse();
+    }
+
+    @Test
+    void shouldRejectNonPositiveInterval() {
+        assertThatThrownBy(() -> new CountingRefresher(Duration.ZERO, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class CountingRefresher extends PeriodicRefresher {
+
+        private final AtomicInteger refreshes = new AtomicInteger();
+        private final CountDownLatch threeRefreshes = new CountDownLatch(3);
+        private final boolean failing;
+
+        private CountingRefresher(Duration refreshInterval, boolean failing) {
+            super("test-refresh", refreshInterval);
+            this.failing = failing;
+        }
+
+        @Override
+        public boolean refresh() {
+            refreshes.incrementAndGet();
+            threeRefreshes.countDown();
+            if (failing) {
+                throw new IllegalStateException("boom");
+            }
+            return true;
+        }
+    }
+}
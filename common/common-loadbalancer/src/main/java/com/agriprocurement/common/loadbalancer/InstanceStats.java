@@ -0,0 +1,75 @@
+package com.agriprocurement.common.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load of one service instance as seen by this client: requests in flight and a peak-sensitive
+ * moving average of their latency.
+ * <p>
+ * A sample above the average replaces it immediately, a sample below it is blended in with a
+ * weight that depends on the time since the previous sample. Slow instances are therefore
+ * detected on the first slow response, while an instance that was slow a while ago drifts back
+ * towards zero and gets probed again.
+ */
+public final class InstanceStats {
+
+    /** Cost assumed before the first response, so new instances are tried but not flooded. */
+    private static final long COLD_START_NANOS = 1_000_000L;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final double decayNanos;
+
+    private double ewmaNanos;
+    private long lastSampleNanos;
+
+    InstanceStats(long decayNanos, long now) {
+        this.decayNanos = decayNanos;
+        this.lastSampleNanos = now;
+    }
+
+    void requestStarted() {
+        inflight.incrementAndGet();
+    }
+
+    void requestCompleted(long rttNanos, long now) {
+        requestReleased();
+        observe(rttNanos, now);
+    }
+
+    /**
+     * Ends a request without a latency sample, e.g. one that was cancelled.
+     */
+    void requestReleased() {
+        inflight.updateAndGet(current -> Math.max(0, current - 1));
+    }
+
+    /**
+     * Cost of sending one more request here; the lower of two instances wins.
+     */
+    double cost(long now) {
+        double latency = decayedLatency(now);
+        return (latency > 0 ? latency : COLD_START_NANOS) * (inflight.get() + 1);
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public double getLatencyMillis() {
+        return decayedLatency(System.nanoTime()) / 1_000_000.0;
+    }
+
+    private synchronized void observe(long rttNanos, long now) {
+        if (rttNanos > ewmaNanos) {
+            ewmaNanos = rttNanos;
+        } else {
+            double weight = Math.exp(-(now - lastSampleNanos) / decayNanos);
+            ewmaNanos = ewmaNanos * weight + rttNanos * (1 - weight);
+        }
+        lastSampleNanos = Math.max(lastSampleNanos, now);
+    }
+
+    private synchronized double decayedLatency(long now) {
+        return ewmaNanos * Math.exp(-Math.max(0, now - lastSampleNanos) / decayNanos);
+    }
+}
@@ -0,0 +1,144 @@
+package com.agriprocurement.common.loadbalancer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared {@link InstanceStats} of every instance this application talks to, with their metrics.
+ * <p>
+ * One registry serves all load-balanced clients, so the gateway and Feign clients of the same
+ * process see the same load picture. Instances that disappear from discovery are dropped together
+ * with their meters.
+ */
+public class InstanceStatsRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(InstanceStatsRegistry.class);
+    private static final long RETAIN_INTERVAL_NANOS = 30_000_000_000L;
+
+    private final long decayNanos;
+    private final long failurePenaltyNanos;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastRetained = new ConcurrentHashMap<>();
+
+    public InstanceStatsRegistry(LatencyAwareLoadBalancerProperties properties,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        this.decayNanos = properties.getDecayTime().toNanos();
+        this.failurePenaltyNanos = properties.getFailurePenalty().toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    public InstanceStats get(ServiceInstance instance) {
+        return entry(instance).stats();
+    }
+
+    void requestStarted(ServiceInstance instance) {
+        entry(instance).stats().requestStarted();
+    }
+
+    void requestCompleted(ServiceInstance instance, long rttNanos, boolean failed) {
+        Entry entry = entry(instance);
+        entry.stats().requestCompleted(failed ? Math.max(rttNanos, failurePenaltyNanos) : rttNanos, System.nanoTime());
+        if (entry.outcomes() != null) {
+            (failed ? entry.outcomes().failure() : entry.outcomes().success()).increment();
+        }
+    }
+
+    void requestReleased(ServiceInstance instance) {
+        entry(instance).stats().requestReleased();
+    }
+
+    /**
+     * Drops stats of instances of {@code serviceId} that are no longer in {@code live}. Runs at
+     * most every 30 seconds per service, so it can be called on every selection.
+     */
+    void retain(String serviceId, Collection<ServiceInstance> live) {
+        long now = System.nanoTime();
+        Long last = lastRetained.get(serviceId);
+        if (last != null && now - last < RETAIN_INTERVAL_NANOS) {
+            return;
+        }
+        lastRetained.put(serviceId, now);
+
+        Set<String> liveKeys = new HashSet<>();
+        for (ServiceInstance instance : live) {
+            liveKeys.add(key(instance));
+        }
+        entries.entrySet().removeIf(mapping -> {
+            Entry entry = mapping.getValue();
+            if (!entry.serviceId().equals(serviceId) || liveKeys.contains(mapping.getKey())) {
+                return false;
+            }
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null) {
+                entry.meters().forEach(registry::remove);
+            }
+            logger.debug("Dropped load balancer stats of {} instance {}", serviceId, mapping.getKey());
+            return true;
+        });
+    }
+
+    private Entry entry(ServiceInstance instance) {
+        return entries.computeIfAbsent(key(instance), key -> createEntry(instance));
+    }
+
+    private Entry createEntry(ServiceInstance instance) {
+        InstanceStats stats = new InstanceStats(decayNanos, System.nanoTime());
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return new Entry(instance.getServiceId(), stats, null, List.of());
+        }
+
+        Tags tags = Tags.of("type", "loadbalancer",
+                "service", instance.getServiceId(),
+                "instance", instance.getHost() + ":" + instance.getPort());
+        List<Meter> meters = new ArrayList<>();
+        meters.add(Gauge.builder("agri.loadbalancer.instance.latency", stats, InstanceStats::getLatencyMillis)
+                .description("Peak-weighted moving average of the instance's response time")
+                .baseUnit("milliseconds")
+                .tags(tags)
+                .register(registry));
+        meters.add(Gauge.builder("agri.loadbalancer.instance.inflight", stats, InstanceStats::getInflight)
+                .description("Requests this client currently has outstanding on the instance")
+                .tags(tags)
+                .register(registry));
+        Counter success = Counter.builder("agri.loadbalancer.instance.requests")
+                .description("Completed load-balanced requests per instance")
+                .tags(tags)
+                .tag("outcome", "success")
+                .register(registry);
+        Counter failure = Counter.builder("agri.loadbalancer.instance.requests")
+                .description("Completed load-balanced requests per instance")
+                .tags(tags)
+                .tag("outcome", "failure")
+                .register(registry);
+        meters.add(success);
+        meters.add(failure);
+        return new Entry(instance.getServiceId(), stats, new Outcomes(success, failure), meters);
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getServiceId() + "|" + instance.getHost() + ":" + instance.getPort();
+    }
+
+    private record Entry(String serviceId, InstanceStats stats, Outcomes outcomes, List<Meter> meters) {
+    }
+
+    private record Outcomes(Counter success, Counter failure) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.agriprocurement.common.loadbalancer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Auto-configuration replacing the round-robin default of Spring Cloud LoadBalancer with
+ * {@link LatencyAwareLoadBalancer} for every {@code lb://} route and load-balanced client.
+ * Disable with {@code loadbalancing.enabled=false}.
+ */
+@AutoConfiguration
+@ConditionalOnClass(ReactorServiceInstanceLoadBalancer.class)
+@ConditionalOnProperty(prefix = "loadbalancing", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(LatencyAwareLoadBalancerProperties.class)
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+public class LatencyAwareLoadBalancerAutoConfiguration {
+
+    @Bean
+    public InstanceStatsRegistry instanceStatsRegistry(LatencyAwareLoadBalancerProperties properties,
+                                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        return new InstanceStatsRegistry(properties, meterRegistry);
+    }
+
+    @Bean
+    public InstanceLatencyLifecycle instanceLatencyLifecycle(InstanceStatsRegistry stats) {
+        return new InstanceLatencyLifecycle(stats);
+    }
+}
@@ -0,0 +1,44 @@
+package com.agriprocurement.common.loadbalancer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the latency-aware load balancer.
+ */
+@ConfigurationProperties(prefix = "loadbalancing")
+public class LatencyAwareLoadBalancerProperties {
+
+    private boolean enabled = true;
+
+    /** Time over which an instance's latency average forgets old samples. */
+    private Duration decayTime = Duration.ofSeconds(10);
+
+    /** Latency recorded for a failed request, so failing instances are avoided like slow ones. */
+    private Duration failurePenalty = Duration.ofSeconds(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getDecayTime() {
+        return decayTime;
+    }
+
+    public void setDecayTime(Duration decayTime) {
+        this.decayTime = decayTime;
+    }
+
+    public Duration getFailurePenalty() {
+        return failurePenalty;
+    }
+
+    public void setFailurePenalty(Duration failurePenalty) {
+        this.failurePenalty = failurePenalty;
+    }
+}
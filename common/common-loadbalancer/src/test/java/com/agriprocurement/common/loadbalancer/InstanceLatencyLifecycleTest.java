@@ -0,0 +1,80 @@
+package com.agriprocurement.common.loadbalancer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultRequestContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.LinkedMultiValueMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstanceLatencyLifecycleTest {
+
+    private final ServiceInstance instance = new DefaultServiceInstance("a", "order-service", "host-a", 8080, false);
+    private final Response<ServiceInstance> lbResponse = new DefaultResponse(instance);
+
+    private InstanceStatsRegistry stats;
+    private InstanceLatencyLifecycle lifecycle;
+
+    @BeforeEach
+    void setUp() {
+        stats = new InstanceStatsRegistry(new LatencyAwareLoadBalancerProperties(),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        lifecycle = new InstanceLatencyLifecycle(stats);
+    }
+
+    @Test
+    void shouldRecordLatencyOfTimedRequest() {
+        // Given
+        Request<Object> request = new DefaultRequest<>(new DefaultRequestContext());
+        lifecycle.onStartRequest(request, lbResponse);
+
+        // When
+        lifecycle.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request, lbResponse));
+
+        // Then
+        assertThat(stats.get(instance).getInflight()).isZero();
+        assertThat(stats.get(instance).getLatencyMillis()).isPositive();
+    }
+
+    @Test
+    void shouldReleaseInflightWhenRequestHasNoStartTime() {
+        // Given: a context the lifecycle cannot time
+        Request<Object> request = new DefaultRequest<>("untimed");
+        lifecycle.onStartRequest(request, lbResponse);
+        assertThat(stats.get(instance).getInflight()).isEqualTo(1);
+
+        // When
+        lifecycle.onComplete(new CompletionContext<>(CompletionContext.Status.DISCARD, request, lbResponse));
+
+        // Then
+        assertThat(stats.get(instance).getInflight()).isZero();
+        assertThat(stats.get(instance).getLatencyMillis()).isZero();
+    }
+
+    @Test
+    void shouldPenalizeServerErrors() {
+        // Given
+        Request<Object> request = new DefaultRequest<>(new DefaultRequestContext());
+        lifecycle.onStartRequest(request, lbResponse);
+        ResponseData response = new ResponseData(HttpStatus.SERVICE_UNAVAILABLE, new HttpHeaders(),
+                new LinkedMultiValueMap<>(), null);
+
+        // When
+        lifecycle.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request, lbResponse, response));
+
+        // Then: the default failure penalty is one second
+        assertThat(stats.get(instance).getLatencyMillis()).isGreaterThan(900);
+    }
+}
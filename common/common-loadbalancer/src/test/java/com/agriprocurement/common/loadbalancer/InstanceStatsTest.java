@@ -0,0 +1,82 @@
+package com.agriprocurement.common.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class InstanceStatsTest {
+
+    private static final long MILLIS = 1_000_000L;
+    private static final long DECAY = 10_000 * MILLIS;
+    private static final long T0 = 1_000_000 * MILLIS;
+
+    @Test
+    void shouldCostColdStartLatencyPerOutstandingRequestBeforeFirstSample() {
+        // Given
+        InstanceStats stats = new InstanceStats(DECAY, T0);
+
+        // When
+        stats.requestStarted();
+        stats.requestStarted();
+
+        // Then
+        assertThat(stats.cost(T0)).isEqualTo(3.0 * MILLIS);
+    }
+
+    @Test
+    void shouldTakeSlowerSampleImmediately() {
+        // Given
+        InstanceStats stats = new InstanceStats(DECAY, T0);
+        stats.requestCompleted(2 * MILLIS, T0);
+
+        // When
+        stats.requestCompleted(50 * MILLIS, T0 + MILLIS);
+
+        // Then
+        assertThat(stats.cost(T0 + MILLIS)).isEqualTo(50.0 * MILLIS);
+    }
+
+    @Test
+    void shouldBlendFasterSampleByTimeSinceLastSample() {
+        // Given
+        InstanceStats stats = new InstanceStats(DECAY, T0);
+        stats.requestCompleted(10 * MILLIS, T0);
+
+        // When: one decay time later the old average keeps a weight of 1/e
+        stats.requestCompleted(2 * MILLIS, T0 + DECAY);
+
+        // Then
+        double weight = Math.exp(-1);
+        assertThat(stats.cost(T0 + DECAY)).isCloseTo((10 * weight + 2 * (1 - weight)) * MILLIS, within(1.0));
+    }
+
+    @Test
+    void shouldDecayTowardsZeroWithoutSamples() {
+        // Given
+        InstanceStats stats = new InstanceStats(DECAY, T0);
+        stats.requestCompleted(10 * MILLIS, T0);
+
+        // When
+        double oneDecayLater = stats.cost(T0 + DECAY);
+        double muchLater = stats.cost(T0 + 20 * DECAY);
+
+        // Then
+        assertThat(oneDecayLater).isCloseTo(10 * MILLIS * Math.exp(-1), within(1.0));
+        assertThat(muchLater).isLessThan(1);
+    }
+
+    @Test
+    void shouldNotCountInflightBelowZero() {
+        // Given
+        InstanceStats stats = new InstanceStats(DECAY, T0);
+        stats.requestStarted();
+
+        // When
+        stats.requestReleased();
+        stats.requestReleased();
+
+        // Then
+        assertThat(stats.getInflight()).isZero();
+    }
+}
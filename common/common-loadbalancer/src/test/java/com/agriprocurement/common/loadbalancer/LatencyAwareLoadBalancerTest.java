@@ -0,0 +1,100 @@
+package com.agriprocurement.common.loadbalancer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyAwareLoadBalancerTest {
+
+    private static final String SERVICE = "procurement-service";
+
+    private final ServiceInstance a = new DefaultServiceInstance("a", SERVICE, "host-a", 8080, false);
+    private final ServiceInstance b = new DefaultServiceInstance("b", SERVICE, "host-b", 8080, false);
+
+    private InstanceStatsRegistry stats;
+
+    @BeforeEach
+    void setUp() {
+        stats = new InstanceStatsRegistry(new LatencyAwareLoadBalancerProperties(),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void shouldPickFasterOfTwoInstances() {
+        // Given
+        stats.requestCompleted(a, TimeUnit.MILLISECONDS.toNanos(500), false);
+        stats.requestCompleted(b, TimeUnit.MILLISECONDS.toNanos(5), false);
+        LatencyAwareLoadBalancer loadBalancer = loadBalancer(a, b);
+
+        // When & Then
+        for (int i = 0; i < 50; i++) {
+            assertThat(choose(loadBalancer).getServer()).isEqualTo(b);
+        }
+    }
+
+    @Test
+    void shouldPickLessLoadedInstanceWhenLatenciesMatch() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            stats.requestStarted(a);
+        }
+        LatencyAwareLoadBalancer loadBalancer = loadBalancer(a, b);
+
+        // When & Then
+        for (int i = 0; i < 50; i++) {
+            assertThat(choose(loadBalancer).getServer()).isEqualTo(b);
+        }
+    }
+
+    @Test
+    void shouldAvoidFailingInstance() {
+        // Given: a fast failure still costs the failure penalty
+        stats.requestCompleted(a, TimeUnit.MILLISECONDS.toNanos(1), true);
+        stats.requestCompleted(b, TimeUnit.MILLISECONDS.toNanos(100), false);
+        LatencyAwareLoadBalancer loadBalancer = loadBalancer(a, b);
+
+        // When & Then
+        for (int i = 0; i < 50; i++) {
+            assertThat(choose(loadBalancer).getServer()).isEqualTo(b);
+        }
+    }
+
+    @Test
+    void shouldReturnOnlyInstance() {
+        // Given
+        stats.requestCompleted(a, TimeUnit.SECONDS.toNanos(5), true);
+
+        // When
+        Response<ServiceInstance> response = choose(loadBalancer(a));
+
+        // Then
+        assertThat(response.getServer()).isEqualTo(a);
+    }
+
+    @Test
+    void shouldReturnNoServerWithoutInstances() {
+        // When
+        Response<ServiceInstance> response = choose(loadBalancer());
+
+        // Then
+        assertThat(response.hasServer()).isFalse();
+    }
+
+    private LatencyAwareLoadBalancer loadBalancer(ServiceInstance... instances) {
+        return new LatencyAwareLoadBalancer(ServiceInstanceListSuppliers.toProvider(SERVICE, instances), SERVICE, stats);
+    }
+
+    private static Response<ServiceInstance> choose(LatencyAwareLoadBalancer loadBalancer) {
+        return loadBalancer.choose(new DefaultRequest<>()).block();
+    }
+}
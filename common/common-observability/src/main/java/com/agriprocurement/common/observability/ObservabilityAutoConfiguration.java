@@ -1,7 +1,9 @@
 package com.agriprocurement.common.observability;
 
 import com.agriprocurement.common.observability.config.ObservabilityConfig;
+import com.agriprocurement.common.observability.context.ContextPropagationConfig;
 import com.agriprocurement.common.observability.metrics.BusinessMetrics;
+import com.agriprocurement.common.observability.threads.VirtualThreadPinningMonitor;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Import;
@@ -13,6 +15,7 @@ import io.micrometer.core.instrument.MeterRegistry;
  */
 @AutoConfiguration
 @ConditionalOnClass(MeterRegistry.class)
-@Import({ObservabilityConfig.class, BusinessMetrics.class})
+@Import({ObservabilityConfig.class, BusinessMetrics.class, VirtualThreadPinningMonitor.class,
+        ContextPropagationConfig.class})
 public class ObservabilityAutoConfiguration {
 }
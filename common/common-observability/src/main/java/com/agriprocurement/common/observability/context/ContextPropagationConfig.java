@@ -0,0 +1,45 @@
+package com.agriprocurement.common.observability.context;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+/**
+ * Propagates request-scoped context (correlation id, user context, trace) to other threads.
+ * <p>
+ * Every {@code ThreadLocalAccessor} registered with Micrometer's {@code ContextRegistry} is
+ * captured when a task is submitted to the application task executor and restored, then reset,
+ * on the thread that runs it. Spring Boot applies the decorator to the auto-configured executor
+ * used by {@code @Async}.
+ */
+@Configuration
+public class ContextPropagationConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(TaskDecorator.class)
+    public TaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+
+    /**
+     * Servlet-only part, kept separate so reactive applications never load servlet classes.
+     */
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(name = "jakarta.servlet.Filter")
+    static class ServletCorrelationConfig {
+
+        @Bean
+        public FilterRegistrationBean<CorrelationIdFilter> correlationIdFilter() {
+            FilterRegistrationBean<CorrelationIdFilter> registration = new FilterRegistrationBean<>(new CorrelationIdFilter());
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+            return registration;
+        }
+    }
+}
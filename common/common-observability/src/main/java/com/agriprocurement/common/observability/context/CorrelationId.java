@@ -0,0 +1,60 @@
+package com.agriprocurement.common.observability.context;
+
+import org.slf4j.MDC;
+
+import java.util.UUID;
+
+/**
+ * Access to the correlation id of the current unit of work.
+ * <p>
+ * The id lives in the SLF4J MDC under {@value #MDC_KEY}, so every log line carries it without
+ * further work; {@link CorrelationIdThreadLocalAccessor} moves it across thread boundaries.
+ * Between services it travels in the {@value #HEADER} header set by the API gateway.
+ */
+public final class CorrelationId {
+
+    public static final String HEADER = "X-Correlation-Id";
+    public static final String MDC_KEY = "correlationId";
+
+    /** Longest id accepted from a caller; generated ids are 36 characters. */
+    public static final int MAX_LENGTH = 64;
+
+    private CorrelationId() {
+    }
+
+    public static String current() {
+        return MDC.get(MDC_KEY);
+    }
+
+    public static void set(String correlationId) {
+        MDC.put(MDC_KEY, correlationId);
+    }
+
+    public static void clear() {
+        MDC.remove(MDC_KEY);
+    }
+
+    public static String generate() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Whether an id received from a caller can be used as is: at most {@value #MAX_LENGTH} letters,
+     * digits, {@code -}, {@code _} or {@code .}. Anything else is replaced rather than copied into
+     * logs, response headers and outgoing calls.
+     */
+    public static boolean isValid(String correlationId) {
+        if (correlationId == null || correlationId.isEmpty() || correlationId.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < correlationId.length(); i++) {
+            char c = correlationId.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,33 @@
+package com.agriprocurement.common.observability.context;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Puts the correlation id of an incoming request into the MDC for the duration of the request,
+ * generating one for requests that did not come through the gateway or carry an id that is not
+ * {@linkplain CorrelationId#isValid valid}, and echoes it back.
+ */
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String correlationId = request.getHeader(CorrelationId.HEADER);
+        if (!CorrelationId.isValid(correlationId)) {
+            correlationId = CorrelationId.generate();
+        }
+        CorrelationId.set(correlationId);
+        response.setHeader(CorrelationId.HEADER, correlationId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            CorrelationId.clear();
+        }
+    }
+}
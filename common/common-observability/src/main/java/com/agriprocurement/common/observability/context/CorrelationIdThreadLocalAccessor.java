@@ -0,0 +1,32 @@
+package com.agriprocurement.common.observability.context;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * Lets Micrometer context propagation carry the correlation id into executors, {@code @Async}
+ * methods and Reactor operators. Registered through {@code META-INF/services}.
+ */
+public class CorrelationIdThreadLocalAccessor implements ThreadLocalAccessor<String> {
+
+    public static final String KEY = "agri.correlation-id";
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    @Override
+    public String getValue() {
+        return CorrelationId.current();
+    }
+
+    @Override
+    public void setValue(String value) {
+        CorrelationId.set(value);
+    }
+
+    @Override
+    public void setValue() {
+        CorrelationId.clear();
+    }
+}
@@ -0,0 +1,126 @@
+package com.agriprocurement.common.observability.threads;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Surfaces virtual-thread pinning as Micrometer metrics.
+ * Listens to the JFR {@code jdk.VirtualThreadPinned} and {@code jdk.VirtualThreadSubmitFailed}
+ * events in-process, so pinning caused by {@code synchronized} blocks or native frames around
+ * blocking I/O (JDBC drivers, HTTP clients) shows up on dashboards instead of as unexplained
+ * carrier-thread starvation. Only active when the service runs with virtual threads enabled.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+
+    private final Timer pinnedTimer;
+    private final Counter submitFailedCounter;
+    private final Duration threshold;
+
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry registry,
+                                       @Value("${observability.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+        this.pinnedTimer = Timer.builder("agri.threads.virtual.pinned")
+            .description("Time virtual threads spent pinned to their carrier thread while blocking")
+            .tag("type", "threads")
+            .register(registry);
+        this.submitFailedCounter = Counter.builder("agri.threads.virtual.submit.failed")
+            .description("Virtual threads that could not be scheduled on a carrier thread")
+            .tag("type", "threads")
+            .register(registry);
+    }
+
+    /**
+     * Starts the in-process JFR stream. The pinned event only exists on Java 21+, on older
+     * runtimes the stream simply never delivers it.
+     */
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.enable(SUBMIT_FAILED_EVENT);
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailedCounter.increment());
+        stream.setMaxAge(Duration.ofSeconds(10));
+        stream.startAsync();
+        this.recordingStream = stream;
+        logger.info("Virtual thread pinning monitor started: threshold={}", threshold);
+    }
+
+    /**
+     * Closes the JFR stream on shutdown.
+     */
+    @Override
+    public void stop() {
+        RecordingStream stream = this.recordingStream;
+        if (stream != null) {
+            stream.close();
+            this.recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        if (recordPinned(event.getDuration()) && logger.isDebugEnabled()) {
+            logger.debug("Virtual thread pinned for {} at {}", event.getDuration(), pinnedSite(event));
+        }
+    }
+
+    /**
+     * Records a pin that lasted at least the threshold. JFR applies the lowest threshold of all
+     * recordings in the JVM, so a concurrently running recording can hand this stream shorter pins.
+     *
+     * @return whether the pin was recorded
+     */
+    boolean recordPinned(Duration duration) {
+        if (duration.compareTo(threshold) < 0) {
+            return false;
+        }
+        pinnedTimer.record(duration);
+        return true;
+    }
+
+    /**
+     * Resolves the first platform frame outside the JDK, which is usually the monitor holder.
+     */
+    private static String pinnedSite(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return "jdk-internal";
+    }
+}
@@ -0,0 +1,68 @@
+package com.agriprocurement.common.observability.context;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorrelationIdFilterTest {
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter();
+    private final AtomicReference<String> seen = new AtomicReference<>();
+    private final FilterChain chain = (request, response) -> seen.set(CorrelationId.current());
+
+    @AfterEach
+    void tearDown() {
+        CorrelationId.clear();
+    }
+
+    @Test
+    void shouldUseValidIncomingId() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders");
+        request.addHeader(CorrelationId.HEADER, "gateway-42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(seen).hasValue("gateway-42");
+        assertThat(response.getHeader(CorrelationId.HEADER)).isEqualTo("gateway-42");
+        assertThat(CorrelationId.current()).isNull();
+    }
+
+    @Test
+    void shouldReplaceInvalidIncomingId() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders");
+        request.addHeader(CorrelationId.HEADER, "forged\nlog line");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(seen.get()).isNotEqualTo("forged\nlog line").satisfies(id -> assertThat(CorrelationId.isValid(id)).isTrue());
+        assertThat(response.getHeader(CorrelationId.HEADER)).isEqualTo(seen.get());
+        assertThat(CorrelationId.current()).isNull();
+    }
+
+    @Test
+    void shouldGenerateIdWhenMissing() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/orders"), response, chain);
+
+        // Then
+        assertThat(seen.get()).isNotNull();
+        assertThat(response.getHeader(CorrelationId.HEADER)).isEqualTo(seen.get());
+    }
+}
@@ -0,0 +1,28 @@
+package com.agriprocurement.common.observability.context;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorrelationIdTest {
+
+    @Test
+    void shouldAcceptGeneratedAndGatewayIds() {
+        // When / Then
+        assertThat(CorrelationId.isValid(CorrelationId.generate())).isTrue();
+        assertThat(CorrelationId.isValid("order-import_42.retry")).isTrue();
+        assertThat(CorrelationId.isValid("a".repeat(CorrelationId.MAX_LENGTH))).isTrue();
+    }
+
+    @Test
+    void shouldRejectIdsUnsafeToLogOrForward() {
+        // When / Then
+        assertThat(CorrelationId.isValid(null)).isFalse();
+        assertThat(CorrelationId.isValid("")).isFalse();
+        assertThat(CorrelationId.isValid("a".repeat(CorrelationId.MAX_LENGTH + 1))).isFalse();
+        assertThat(CorrelationId.isValid("abc\r\nX-Injected: 1")).isFalse();
+        assertThat(CorrelationId.isValid("abc def")).isFalse();
+        assertThat(CorrelationId.isValid("${jndi:ldap://x}")).isFalse();
+        assertThat(CorrelationId.isValid("идентификатор")).isFalse();
+    }
+}
@@ -0,0 +1,54 @@
+package com.agriprocurement.common.observability.context;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorrelationIdThreadLocalAccessorTest {
+
+    private final TaskDecorator decorator = new ContextPropagatingTaskDecorator();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final AtomicReference<String> seen = new AtomicReference<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        CorrelationId.clear();
+    }
+
+    @Test
+    void shouldCarryCorrelationIdToWorkerAndClearItAfterwards() throws Exception {
+        // Given
+        CorrelationId.set("request-1");
+
+        // When
+        executor.submit(decorator.decorate(() -> seen.set(CorrelationId.current()))).get();
+        String afterTask = executor.submit(CorrelationId::current).get();
+
+        // Then
+        assertThat(seen).hasValue("request-1");
+        assertThat(afterTask).isNull();
+        assertThat(CorrelationId.current()).isEqualTo("request-1");
+    }
+
+    @Test
+    void shouldNotLeakPreviousIdIntoTaskSubmittedWithoutOne() throws Exception {
+        // Given: a task of one request ran on the worker
+        CorrelationId.set("request-1");
+        executor.submit(decorator.decorate(() -> seen.set(CorrelationId.current()))).get();
+
+        // When: the next task is submitted without an id
+        CorrelationId.clear();
+        executor.submit(decorator.decorate(() -> seen.set(CorrelationId.current()))).get();
+
+        // Then
+        assertThat(seen.get()).isNull();
+    }
+}
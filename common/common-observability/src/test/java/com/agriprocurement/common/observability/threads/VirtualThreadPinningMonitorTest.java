@@ -0,0 +1,81 @@
+package com.agriprocurement.common.observability.threads;
+
+import com.agriprocurement.common.observability.ObservabilityAutoConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ObservabilityAutoConfiguration.class))
+            // As SpringApplication does, so "20ms" binds to the Duration threshold
+            .withInitializer(context -> context.getBeanFactory().setConversionService(new ApplicationConversionService()))
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    @Test
+    void shouldStartMonitorWhenVirtualThreadsAreEnabled() {
+        contextRunner
+                .withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(VirtualThreadPinningMonitor.class);
+                    assertThat(context.getBean(VirtualThreadPinningMonitor.class).isRunning()).isTrue();
+                    assertThat(context.getBean(MeterRegistry.class).find("agri.threads.virtual.pinned").timer())
+                            .isNotNull();
+                });
+    }
+
+    @Test
+    void shouldNotRegisterMonitorWithoutVirtualThreads() {
+        contextRunner
+                .withPropertyValues("spring.threads.virtual.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(VirtualThreadPinningMonitor.class));
+        contextRunner
+                .run(context -> assertThat(context).doesNotHaveBean(VirtualThreadPinningMonitor.class));
+    }
+
+    @Test
+    void shouldStopMonitorWithContext() {
+        contextRunner
+                .withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> {
+                    VirtualThreadPinningMonitor monitor = context.getBean(VirtualThreadPinningMonitor.class);
+
+                    // When
+                    context.close();
+
+                    // Then
+                    assertThat(monitor.isRunning()).isFalse();
+                });
+    }
+
+    @Test
+    void shouldRecordOnlyPinsReachingThreshold() {
+        // Given
+        MeterRegistry registry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(registry, Duration.ofMillis(20));
+
+        // When
+        boolean shortPin = monitor.recordPinned(Duration.ofMillis(5));
+        boolean atThreshold = monitor.recordPinned(Duration.ofMillis(20));
+        boolean longPin = monitor.recordPinned(Duration.ofMillis(150));
+
+        // Then
+        assertThat(shortPin).isFalse();
+        assertThat(atThreshold).isTrue();
+        assertThat(longPin).isTrue();
+        Timer pinned = registry.get("agri.threads.virtual.pinned").tag("type", "threads").timer();
+        assertThat(pinned.count()).isEqualTo(2);
+        assertThat(pinned.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(170);
+        assertThat(pinned.max(TimeUnit.MILLISECONDS)).isEqualTo(150);
+    }
+}
@@ -0,0 +1,18 @@
+package com.agriprocurement.common.security;
+
+import com.agriprocurement.common.security.config.JwtConfig;
+import com.agriprocurement.common.security.config.SecurityConfig;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Auto-configuration for the servlet resource server setup of the common security module.
+ * The configurations themselves stay inactive until an issuer URI is configured; the reactive
+ * gateway builds its own security chain.
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Import({JwtConfig.class, SecurityConfig.class})
+public class CommonSecurityAutoConfiguration {
+}
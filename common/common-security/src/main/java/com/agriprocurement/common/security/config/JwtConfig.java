@@ -1,12 +1,22 @@
 package com.agriprocurement.common.security.config;
 
+import com.agriprocurement.common.security.identity.InternalIdentityCodec;
+import com.agriprocurement.common.security.jwks.JwksKeyManager;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 
+import java.time.Duration;
+import java.util.Set;
+
 /**
  * JWT token configuration for Keycloak.
  * Configures JWT decoder and custom converters for Keycloak realm roles.
@@ -15,6 +25,13 @@ import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 @ConditionalOnProperty(name = "spring.security.oauth2.resourceserver.jwt.issuer-uri")
 public class JwtConfig {
 
+    private static final String KEYCLOAK_CERTS_PATH = "/protocol/openid-connect/certs";
+
+    private static final Set<JWSAlgorithm> SIGNATURE_ALGORITHMS = Set.of(
+            JWSAlgorithm.RS256, JWSAlgorithm.RS384, JWSAlgorithm.RS512,
+            JWSAlgorithm.PS256, JWSAlgorithm.PS384, JWSAlgorithm.PS512,
+            JWSAlgorithm.ES256, JWSAlgorithm.ES384, JWSAlgorithm.ES512);
+
     @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri:}")
     private String jwkSetUri;
 
@@ -24,33 +41,80 @@ public class JwtConfig {
     @Value("${keycloak.resource:}")
     private String keycloakResource;
 
+    @Value("${security.jwt.conversion-cache-size:" + KeycloakJwtAuthenticationConverter.DEFAULT_CACHE_SIZE + "}")
+    private long conversionCacheSize;
+
+    @Value("${security.jwks.location:}")
+    private String jwksLocation;
+
+    @Value("${security.jwks.refresh-interval:5m}")
+    private Duration jwksRefreshInterval;
+
+    @Value("${security.jwks.min-refresh-interval:30s}")
+    private Duration jwksMinRefreshInterval;
+
+    @Value("${security.jwks.timeout:5s}")
+    private Duration jwksTimeout;
+
     /**
-     * Configure JWT decoder for validating tokens.
+     * Keycloak signing keys, prefetched and refreshed in the background.
+     * Loaded from {@code security.jwks.location} (URL, {@code file:} or {@code classpath:}) if set,
+     * otherwise from the JWK set URI or the realm's certs endpoint below the issuer.
      */
     @Bean
-    public JwtDecoder jwtDecoder() {
-        NimbusJwtDecoder jwtDecoder;
-        
-        if (jwkSetUri != null && !jwkSetUri.isBlank()) {
-            jwtDecoder = NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
+    public JwksKeyManager jwksKeyManager() {
+        String location;
+        if (jwksLocation != null && !jwksLocation.isBlank()) {
+            location = jwksLocation;
+        } else if (jwkSetUri != null && !jwkSetUri.isBlank()) {
+            location = jwkSetUri;
         } else if (issuerUri != null && !issuerUri.isBlank()) {
-            jwtDecoder = NimbusJwtDecoder.withIssuerLocation(issuerUri).build();
+            location = issuerUri.replaceAll("/+$", "") + KEYCLOAK_CERTS_PATH;
         } else {
             throw new IllegalStateException("""
                 Either spring.security.oauth2.resourceserver.jwt.jwk-set-uri or \
                 spring.security.oauth2.resourceserver.jwt.issuer-uri must be configured
                 """);
         }
-        
+        return new JwksKeyManager(location, jwksRefreshInterval, jwksMinRefreshInterval, jwksTimeout);
+    }
+
+    /**
+     * Configure JWT decoder for validating tokens.
+     * Signatures are verified against the in-memory keys of {@link JwksKeyManager}, so decoding
+     * never fetches keys on the request path.
+     */
+    @Bean
+    public JwtDecoder jwtDecoder(JwksKeyManager jwksKeyManager) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(SIGNATURE_ALGORITHMS, jwksKeyManager));
+        // Claims are validated by Spring Security's validators below
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder jwtDecoder = new NimbusJwtDecoder(jwtProcessor);
+        jwtDecoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuerUri));
         return jwtDecoder;
     }
 
     /**
      * Configure Keycloak JWT authentication converter.
      * Maps Keycloak realm_access.roles and resource_access roles to Spring Security authorities.
+     * Conversions are cached per token until it expires ({@code security.jwt.conversion-cache-size}, 0 disables).
      */
     @Bean
     public KeycloakJwtAuthenticationConverter keycloakJwtAuthenticationConverter() {
-        return new KeycloakJwtAuthenticationConverter(keycloakResource);
+        return new KeycloakJwtAuthenticationConverter(keycloakResource, conversionCacheSize);
+    }
+
+    /**
+     * Verifier for the identity header the gateway forwards after validating the token itself.
+     * Only created when the secret shared with the gateway is configured.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "security.internal-identity.secret")
+    public InternalIdentityCodec internalIdentityCodec(
+            @Value("${security.internal-identity.secret}") String internalIdentitySecret) {
+        return new InternalIdentityCodec(internalIdentitySecret);
     }
 }
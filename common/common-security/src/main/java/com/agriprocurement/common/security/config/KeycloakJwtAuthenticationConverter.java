@@ -1,5 +1,10 @@
 package com.agriprocurement.common.security.config;
 
+import com.agriprocurement.common.security.context.UserContext;
+import com.agriprocurement.common.security.context.UserContextHolder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.convert.converter.Converter;
@@ -8,15 +13,19 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtClaimNames;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
-import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Custom JWT converter for Keycloak that extracts roles from:
@@ -24,6 +33,12 @@ import java.util.stream.Stream;
  * 2. resource_access.{client-id}.roles - Keycloak client roles
  * 
  * Maps roles to Spring Security authorities with ROLE_ prefix.
+ * <p>
+ * A client sends the same token for many requests, so the extracted authorities and the
+ * {@link UserContext} are cached per token (by issuer and {@code jti}, or by hash when the token
+ * has no id) until it expires. Every call still returns a new authentication object, only the
+ * immutable parts are shared. Authority objects are interned, since a realm has only a handful of
+ * distinct roles.
  */
 public class KeycloakJwtAuthenticationConverter implements Converter<Jwt, JwtAuthenticationToken> {
 
@@ -32,123 +47,212 @@ public class KeycloakJwtAuthenticationConverter implements Converter<Jwt, JwtAut
     private static final String REALM_ACCESS_CLAIM = "realm_access";
     private static final String RESOURCE_ACCESS_CLAIM = "resource_access";
     private static final String ROLES_CLAIM = "roles";
-    
-    private final JwtGrantedAuthoritiesConverter defaultGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+    private static final String SCOPE_CLAIM = "scope";
+    private static final String SCP_CLAIM = "scp";
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final String SCOPE_PREFIX = "SCOPE_";
+
+    public static final long DEFAULT_CACHE_SIZE = 10_000;
+    private static final int MAX_INTERNED_AUTHORITIES = 1_024;
+    private static final Base64.Encoder KEY_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
     private final String resourceId;
+    private final Cache<String, Conversion> conversions;
+    private final Map<String, GrantedAuthority> roleAuthorities = new ConcurrentHashMap<>();
+    private final Map<String, GrantedAuthority> scopeAuthorities = new ConcurrentHashMap<>();
 
     public KeycloakJwtAuthenticationConverter() {
         this(null);
     }
 
     public KeycloakJwtAuthenticationConverter(String resourceId) {
+        this(resourceId, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param cacheSize maximum number of tokens whose conversion is cached, 0 to disable caching
+     */
+    public KeycloakJwtAuthenticationConverter(String resourceId, long cacheSize) {
         this.resourceId = resourceId;
+        this.conversions = cacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheSize)
+                        .expireAfter(new ExpireAtTokenExpiry())
+                        .build()
+                : null;
     }
 
     @Override
     public JwtAuthenticationToken convert(Jwt jwt) {
+        Conversion conversion = conversion(jwt);
+        return new KeycloakJwtAuthenticationToken(jwt, conversion.authorities(), conversion.principal(),
+                conversion.userContext());
+    }
+
+    private Conversion conversion(Jwt jwt) {
+        if (conversions == null || jwt.getExpiresAt() == null) {
+            return createConversion(jwt);
+        }
+        return conversions.get(cacheKey(jwt), key -> createConversion(jwt));
+    }
+
+    private Conversion createConversion(Jwt jwt) {
         Collection<GrantedAuthority> authorities = extractAuthorities(jwt);
         String principalClaimValue = jwt.getClaimAsString(JwtClaimNames.SUB);
         
         logger.debug("Converting JWT for user: {}, authorities: {}", principalClaimValue, authorities);
-        
-        return new JwtAuthenticationToken(jwt, authorities, principalClaimValue);
+
+        return new Conversion(authorities, principalClaimValue,
+                UserContextHolder.createUserContext(jwt, authorities), jwt.getExpiresAt());
     }
 
     private Collection<GrantedAuthority> extractAuthorities(Jwt jwt) {
-        Set<GrantedAuthority> authorities = new HashSet<>();
+        Set<GrantedAuthority> authorities = new LinkedHashSet<>();
         
         // Add default authorities (scope-based)
-        Collection<GrantedAuthority> defaultAuthorities = defaultGrantedAuthoritiesConverter.convert(jwt);
-        if (defaultAuthorities != null) {
-            authorities.addAll(defaultAuthorities);
-        }
+        addScopeAuthorities(jwt, authorities);
         
         // Extract realm roles
-        Collection<String> realmRoles = extractRealmRoles(jwt);
-        authorities.addAll(convertRolesToAuthorities(realmRoles));
+        Object realmAccess = jwt.getClaims().get(REALM_ACCESS_CLAIM);
+        if (realmAccess instanceof Map<?, ?> realmAccessMap) {
+            addRoleAuthorities(realmAccessMap.get(ROLES_CLAIM), authorities);
+        }
         
         // Extract resource/client roles
-        Collection<String> resourceRoles = extractResourceRoles(jwt);
-        authorities.addAll(convertRolesToAuthorities(resourceRoles));
+        Object resourceAccess = jwt.getClaims().get(RESOURCE_ACCESS_CLAIM);
+        if (resourceAccess instanceof Map<?, ?> resourceAccessMap) {
+            if (resourceId != null && !resourceId.isBlank()) {
+                // If specific resourceId is configured, only extract roles for that client
+                addClientRoleAuthorities(resourceAccessMap.get(resourceId), authorities);
+            } else {
+                // Extract roles from all clients
+                for (Object clientAccess : resourceAccessMap.values()) {
+                    addClientRoleAuthorities(clientAccess, authorities);
+                }
+            }
+        }
         
         logger.debug("Extracted {} authorities from JWT", authorities.size());
         
-        return authorities;
+        return List.copyOf(authorities);
     }
 
-    private Collection<String> extractRealmRoles(Jwt jwt) {
-        Map<String, Object> realmAccess = jwt.getClaim(REALM_ACCESS_CLAIM);
-        if (realmAccess == null) {
-            logger.debug("No realm_access claim found in JWT");
-            return Set.of();
+    private void addClientRoleAuthorities(Object clientAccess, Set<GrantedAuthority> authorities) {
+        if (clientAccess instanceof Map<?, ?> clientAccessMap) {
+            addRoleAuthorities(clientAccessMap.get(ROLES_CLAIM), authorities);
         }
-        
-        Object rolesObj = realmAccess.get(ROLES_CLAIM);
-        if (rolesObj instanceof List<?> rolesList) {
-            Set<String> roles = rolesList.stream()
-                    .filter(String.class::isInstance)
-                    .map(String.class::cast)
-                    .collect(Collectors.toSet());
-            logger.debug("Extracted {} realm roles: {}", roles.size(), roles);
-            return roles;
+    }
+
+    private void addRoleAuthorities(Object roles, Set<GrantedAuthority> authorities) {
+        if (roles instanceof List<?> rolesList) {
+            for (Object role : rolesList) {
+                if (role instanceof String roleName) {
+                    authorities.add(roleAuthority(roleName));
+                }
+            }
         }
-        
-        return Set.of();
     }
 
-    private Collection<String> extractResourceRoles(Jwt jwt) {
-        Map<String, Object> resourceAccess = jwt.getClaim(RESOURCE_ACCESS_CLAIM);
-        if (resourceAccess == null) {
-            logger.debug("No resource_access claim found in JWT");
-            return Set.of();
+    /**
+     * Same scopes as Spring's {@code JwtGrantedAuthoritiesConverter}: the space-separated
+     * {@code scope} claim, or the {@code scp} claim, each prefixed with {@code SCOPE_}.
+     */
+    private void addScopeAuthorities(Jwt jwt, Set<GrantedAuthority> authorities) {
+        Object scopes = jwt.getClaims().get(SCOPE_CLAIM);
+        if (scopes == null || (scopes instanceof String scopeString && scopeString.isBlank())) {
+            scopes = jwt.getClaims().get(SCP_CLAIM);
         }
-        
-        Set<String> allResourceRoles = new HashSet<>();
-        
-        // If specific resourceId is configured, only extract roles for that client
-        if (resourceId != null && !resourceId.isBlank()) {
-            Collection<String> clientRoles = extractClientRoles(resourceAccess, resourceId);
-            allResourceRoles.addAll(clientRoles);
-        } else {
-            // Extract roles from all clients
-            for (Map.Entry<String, Object> entry : resourceAccess.entrySet()) {
-                String clientId = entry.getKey();
-                Collection<String> clientRoles = extractClientRoles(resourceAccess, clientId);
-                allResourceRoles.addAll(clientRoles);
+        if (scopes instanceof String scopeString) {
+            int start = 0;
+            int length = scopeString.length();
+            while (start < length) {
+                int end = scopeString.indexOf(' ', start);
+                if (end < 0) {
+                    end = length;
+                }
+                if (end > start) {
+                    authorities.add(scopeAuthority(scopeString.substring(start, end)));
+                }
+                start = end + 1;
+            }
+        } else if (scopes instanceof Collection<?> scopeCollection) {
+            for (Object scope : scopeCollection) {
+                if (scope != null) {
+                    authorities.add(scopeAuthority(scope.toString()));
+                }
             }
         }
-        
-        logger.debug("Extracted {} resource roles: {}", allResourceRoles.size(), allResourceRoles);
-        return allResourceRoles;
     }
 
-    private Collection<String> extractClientRoles(Map<String, Object> resourceAccess, String clientId) {
-        Object clientAccessObj = resourceAccess.get(clientId);
-        if (!(clientAccessObj instanceof Map<?, ?>)) {
-            return Set.of();
+    private GrantedAuthority roleAuthority(String role) {
+        GrantedAuthority authority = roleAuthorities.get(role);
+        if (authority == null) {
+            String upperRole = role.toUpperCase();
+            authority = new SimpleGrantedAuthority(upperRole.startsWith(ROLE_PREFIX) ? upperRole : ROLE_PREFIX + upperRole);
+            intern(roleAuthorities, role, authority);
         }
-        
-        @SuppressWarnings("unchecked")
-        Map<String, Object> clientAccess = (Map<String, Object>) clientAccessObj;
-        Object rolesObj = clientAccess.get(ROLES_CLAIM);
-        
-        if (rolesObj instanceof List<?> rolesList) {
-            return rolesList.stream()
-                    .filter(String.class::isInstance)
-                    .map(String.class::cast)
-                    .collect(Collectors.toSet());
+        return authority;
+    }
+
+    private GrantedAuthority scopeAuthority(String scope) {
+        GrantedAuthority authority = scopeAuthorities.get(scope);
+        if (authority == null) {
+            authority = new SimpleGrantedAuthority(SCOPE_PREFIX + scope);
+            intern(scopeAuthorities, scope, authority);
         }
-        
-        return Set.of();
+        return authority;
     }
 
-    private Collection<GrantedAuthority> convertRolesToAuthorities(Collection<String> roles) {
-        return roles.stream()
-                .map(role -> {
-                    String upperRole = role.toUpperCase();
-                    return upperRole.startsWith("ROLE_") ? upperRole : "ROLE_" + upperRole;
-                })
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toSet());
+    private static void intern(Map<String, GrantedAuthority> pool, String name, GrantedAuthority authority) {
+        if (pool.size() < MAX_INTERNED_AUTHORITIES) {
+            pool.putIfAbsent(name, authority);
+        }
+    }
+
+    /**
+     * Issuer and token id identify a verified token; tokens without an id are keyed by hash.
+     */
+    private static String cacheKey(Jwt jwt) {
+        String tokenId = jwt.getId();
+        if (tokenId != null && !tokenId.isBlank()) {
+            Object issuer = jwt.getClaims().get(JwtClaimNames.ISS);
+            return issuer + "|" + tokenId;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return "#" + KEY_ENCODER.encodeToString(digest.digest(jwt.getTokenValue().getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Conversion(Collection<GrantedAuthority> authorities, String principal,
+                              UserContext userContext, Instant expiresAt) {
+
+        Duration timeToLive() {
+            Duration remaining = Duration.between(Instant.now(), expiresAt);
+            return remaining.isNegative() ? Duration.ZERO : remaining;
+        }
+    }
+
+    /**
+     * Drops a cached conversion when its token expires; reads and updates do not extend it.
+     */
+    private static final class ExpireAtTokenExpiry implements Expiry<String, Conversion> {
+
+        @Override
+        public long expireAfterCreate(String key, Conversion conversion, long currentTime) {
+            return conversion.timeToLive().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Conversion conversion, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Conversion conversion, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,30 @@
+package com.agriprocurement.common.security.config;
+
+import com.agriprocurement.common.security.context.UserContext;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.Collection;
+
+/**
+ * JWT authentication that also carries the {@link UserContext} built during conversion, so
+ * {@code UserContextHolder} does not have to read the claims again.
+ */
+public class KeycloakJwtAuthenticationToken extends JwtAuthenticationToken {
+
+    private final transient UserContext userContext;
+
+    public KeycloakJwtAuthenticationToken(Jwt jwt, Collection<? extends GrantedAuthority> authorities,
+                                          String name, UserContext userContext) {
+        super(jwt, authorities, name);
+        this.userContext = userContext;
+    }
+
+    /**
+     * @return the user context, or null if the token lacks the claims it requires
+     */
+    public UserContext getUserContext() {
+        return userContext;
+    }
+}
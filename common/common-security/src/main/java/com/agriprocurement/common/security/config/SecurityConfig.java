@@ -1,5 +1,9 @@
 package com.agriprocurement.common.security.config;
 
+import com.agriprocurement.common.security.context.UserContextFilter;
+import com.agriprocurement.common.security.identity.InternalIdentityAuthenticationFilter;
+import com.agriprocurement.common.security.identity.InternalIdentityBearerTokenResolver;
+import com.agriprocurement.common.security.identity.InternalIdentityCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +15,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 
 /**
@@ -28,6 +33,9 @@ public class SecurityConfig {
     @Autowired
     private KeycloakJwtAuthenticationConverter keycloakJwtAuthenticationConverter;
 
+    @Autowired(required = false)
+    private InternalIdentityCodec internalIdentityCodec;
+
     /**
      * Configure security filter chain with OAuth2 resource server.
      */
@@ -66,6 +74,20 @@ public class SecurityConfig {
                     .jwtAuthenticationConverter(keycloakJwtAuthenticationConverter)
                 )
             );
+
+        // Expose the user to logs for the request and drop any thread-bound user context afterwards
+        http.addFilterAfter(new UserContextFilter(), BearerTokenAuthenticationFilter.class);
+
+        // Requests forwarded by the gateway carry a signed identity; trust it instead of decoding the JWT again
+        if (internalIdentityCodec != null) {
+            http
+                .addFilterBefore(new InternalIdentityAuthenticationFilter(internalIdentityCodec),
+                    BearerTokenAuthenticationFilter.class)
+                .oauth2ResourceServer(oauth2 -> oauth2
+                    .bearerTokenResolver(new InternalIdentityBearerTokenResolver())
+                );
+            logger.info("Internal identity header from the gateway is accepted");
+        }
         
         logger.info("Security configuration completed");
         
@@ -0,0 +1,32 @@
+package com.agriprocurement.common.security.context;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Exposes the authenticated user id in the MDC for the request and guarantees the thread's
+ * {@link UserContextHolder} binding is cleared afterwards, even if application code set one and
+ * never cleared it.
+ */
+public class UserContextFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        UserContext user = UserContextHolder.getContext();
+        if (user != null) {
+            MDC.put(UserContextHolder.MDC_KEY, user.userId());
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            UserContextHolder.clearContext();
+        }
+    }
+}
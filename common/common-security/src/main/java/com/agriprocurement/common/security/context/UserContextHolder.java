@@ -1,22 +1,33 @@
 package com.agriprocurement.common.security.context;
 
+import com.agriprocurement.common.security.config.KeycloakJwtAuthenticationToken;
+import com.agriprocurement.common.security.identity.InternalIdentityAuthenticationToken;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * ThreadLocal holder for user context information.
  * Extracts and holds user information from JWT claims.
+ * <p>
+ * A context resolved from the Spring Security context is not stored, so nothing is left behind on
+ * pooled threads; only {@link #setContext} and {@link #runWith} bind one explicitly, and the user
+ * id is mirrored into the MDC while bound. {@link UserContextThreadLocalAccessor} carries the
+ * context across executors through Micrometer context propagation.
  */
 public class UserContextHolder {
     
+    public static final String MDC_KEY = "userId";
+
     private static final Logger logger = LoggerFactory.getLogger(UserContextHolder.class);
     private static final ThreadLocal<UserContext> contextHolder = new ThreadLocal<>();
 
@@ -29,22 +40,17 @@ public class UserContextHolder {
      */
     public static void setContext(UserContext userContext) {
         contextHolder.set(userContext);
+        MDC.put(MDC_KEY, userContext.userId());
         logger.debug("User context set for user: {}", userContext.username());
     }
 
     /**
      * Get the current user context.
-     * If not set manually, attempts to extract from Spring Security context.
+     * If not set manually, extracts it from the Spring Security context.
      */
     public static UserContext getContext() {
         UserContext context = contextHolder.get();
-        if (context == null) {
-            context = extractFromSecurityContext();
-            if (context != null) {
-                contextHolder.set(context);
-            }
-        }
-        return context;
+        return context != null ? context : extractFromSecurityContext();
     }
 
     /**
@@ -52,9 +58,27 @@ public class UserContextHolder {
      */
     public static void clearContext() {
         contextHolder.remove();
+        MDC.remove(MDC_KEY);
         logger.debug("User context cleared");
     }
 
+    /**
+     * Run {@code action} with {@code userContext} bound, restoring the previous binding afterwards.
+     */
+    public static void runWith(UserContext userContext, Runnable action) {
+        UserContext previous = contextHolder.get();
+        setContext(userContext);
+        try {
+            action.run();
+        } finally {
+            if (previous != null) {
+                setContext(previous);
+            } else {
+                clearContext();
+            }
+        }
+    }
+
     /**
      * Extract user context from Spring Security context.
      */
@@ -66,6 +90,10 @@ public class UserContextHolder {
             return null;
         }
 
+        if (authentication instanceof InternalIdentityAuthenticationToken identityAuth) {
+            return identityAuth.getUserContext();
+        }
+
         if (authentication instanceof JwtAuthenticationToken jwtAuth) {
             return extractFromJwt(jwtAuth);
         }
@@ -76,10 +104,21 @@ public class UserContextHolder {
 
     /**
      * Extract user context from JWT token.
+     * Returns null if the token lacks the claims a user context requires.
      */
-    private static UserContext extractFromJwt(JwtAuthenticationToken jwtAuth) {
-        Jwt jwt = jwtAuth.getToken();
-        
+    public static UserContext extractFromJwt(JwtAuthenticationToken jwtAuth) {
+        // Converted by KeycloakJwtAuthenticationConverter: the context was built (and cached) with the authorities
+        if (jwtAuth instanceof KeycloakJwtAuthenticationToken keycloakAuth && keycloakAuth.getUserContext() != null) {
+            return keycloakAuth.getUserContext();
+        }
+        return createUserContext(jwtAuth.getToken(), jwtAuth.getAuthorities());
+    }
+
+    /**
+     * Build a user context from JWT claims and the authorities granted for the token.
+     * Returns null if the token lacks the claims a user context requires.
+     */
+    public static UserContext createUserContext(Jwt jwt, Collection<? extends GrantedAuthority> authorities) {
         // Extract user ID (sub claim)
         String userId = jwt.getClaimAsString("sub");
         
@@ -90,11 +129,13 @@ public class UserContextHolder {
         String email = jwt.getClaimAsString("email");
         
         // Extract roles from authorities
-        Set<String> roles = jwtAuth.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .filter(authority -> authority.startsWith("ROLE_"))
-                .map(authority -> authority.substring(5)) // Remove ROLE_ prefix
-                .collect(Collectors.toSet());
+        Set<String> roles = new HashSet<>();
+        for (GrantedAuthority authority : authorities) {
+            String name = authority.getAuthority();
+            if (name.startsWith("ROLE_")) {
+                roles.add(name.substring(5)); // Remove ROLE_ prefix
+            }
+        }
 
         logger.debug("Extracted user context - userId: {}, username: {}, roles: {}", 
                 userId, username, roles);
@@ -0,0 +1,34 @@
+package com.agriprocurement.common.security.context;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * Lets Micrometer context propagation carry the {@link UserContext} into executors, {@code @Async}
+ * methods and Reactor operators. The captured value is the effective context, so a user resolved
+ * from the security context on the calling thread is bound explicitly on the target thread.
+ * Registered through {@code META-INF/services}.
+ */
+public class UserContextThreadLocalAccessor implements ThreadLocalAccessor<UserContext> {
+
+    public static final String KEY = "agri.user-context";
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    @Override
+    public UserContext getValue() {
+        return UserContextHolder.getContext();
+    }
+
+    @Override
+    public void setValue(UserContext value) {
+        UserContextHolder.setContext(value);
+    }
+
+    @Override
+    public void setValue() {
+        UserContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,58 @@
+package com.agriprocurement.common.security.identity;
+
+import com.agriprocurement.common.security.context.UserContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates requests forwarded by the gateway from their internal identity header.
+ * <p>
+ * Runs before bearer token authentication; when the header is present and valid the request is
+ * authenticated without decoding the JWT again. An invalid header is rejected with 401 rather
+ * than falling back to the bearer token, since it can only come from a misconfigured or forged
+ * caller.
+ */
+public class InternalIdentityAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(InternalIdentityAuthenticationFilter.class);
+
+    private final InternalIdentityCodec codec;
+
+    public InternalIdentityAuthenticationFilter(InternalIdentityCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(InternalIdentityCodec.HEADER);
+        if (header == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        UserContext user;
+        try {
+            user = codec.decode(header);
+        } catch (AuthenticationException e) {
+            logger.warn("Rejected internal identity from {}: {}", request.getRemoteAddr(), e.getMessage());
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new InternalIdentityAuthenticationToken(user));
+        SecurityContextHolder.setContext(context);
+        chain.doFilter(request, response);
+    }
+}
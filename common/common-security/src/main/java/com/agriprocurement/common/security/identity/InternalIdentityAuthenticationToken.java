@@ -0,0 +1,47 @@
+package com.agriprocurement.common.security.identity;
+
+import com.agriprocurement.common.security.context.UserContext;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Authentication established from a verified internal identity header instead of a JWT.
+ */
+public class InternalIdentityAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final UserContext userContext;
+
+    public InternalIdentityAuthenticationToken(UserContext userContext) {
+        super(toAuthorities(userContext));
+        this.userContext = userContext;
+        setAuthenticated(true);
+    }
+
+    public UserContext getUserContext() {
+        return userContext;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return "";
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return userContext.userId();
+    }
+
+    @Override
+    public String getName() {
+        return userContext.userId();
+    }
+
+    private static List<GrantedAuthority> toAuthorities(UserContext userContext) {
+        return userContext.roles().stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+    }
+}
@@ -0,0 +1,22 @@
+package com.agriprocurement.common.security.identity;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
+
+/**
+ * Ignores the bearer token of requests that carry an internal identity, which
+ * {@link InternalIdentityAuthenticationFilter} has already authenticated.
+ */
+public class InternalIdentityBearerTokenResolver implements BearerTokenResolver {
+
+    private final BearerTokenResolver delegate = new DefaultBearerTokenResolver();
+
+    @Override
+    public String resolve(HttpServletRequest request) {
+        if (request.getHeader(InternalIdentityCodec.HEADER) != null) {
+            return null;
+        }
+        return delegate.resolve(request);
+    }
+}
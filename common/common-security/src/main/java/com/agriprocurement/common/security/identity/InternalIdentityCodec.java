@@ -0,0 +1,124 @@
+package com.agriprocurement.common.security.identity;
+
+import com.agriprocurement.common.security.context.UserContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Encodes and verifies the internal identity header the gateway attaches after it has verified a
+ * bearer token.
+ * <p>
+ * The header is {@code base64url(json).base64url(hmac-sha256)} with the user id, username, email,
+ * roles and the expiry of the original token. Verifying it costs one HMAC instead of an RSA
+ * signature check and a JWKS lookup, so services behind the gateway can skip JWT decoding. The
+ * secret must be shared by the gateway and the services and never leave the internal network.
+ */
+public class InternalIdentityCodec {
+
+    public static final String HEADER = "X-Internal-Identity";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_LENGTH = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public InternalIdentityCodec(String secret) {
+        this(secret, new ObjectMapper(), Clock.systemUTC());
+    }
+
+    public InternalIdentityCodec(String secret, ObjectMapper objectMapper, Clock clock) {
+        if (secret == null || secret.length() < MIN_SECRET_LENGTH) {
+            throw new IllegalArgumentException(
+                    "security.internal-identity.secret must be at least " + MIN_SECRET_LENGTH + " characters");
+        }
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    /**
+     * Encodes {@code user} into a header value that is valid until {@code expiresAt}.
+     */
+    public String encode(UserContext user, Instant expiresAt) {
+        Claims claims = new Claims(user.userId(), user.username(), user.email(), user.roles(),
+                expiresAt.getEpochSecond());
+        try {
+            String payload = ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+            return payload + "." + ENCODER.encodeToString(sign(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode internal identity", e);
+        }
+    }
+
+    /**
+     * Verifies a header value and returns the identity it carries.
+     *
+     * @throws BadCredentialsException if the value is malformed, forged or expired
+     */
+    public UserContext decode(String header) {
+        int separator = header.lastIndexOf('.');
+        if (separator <= 0) {
+            throw new BadCredentialsException("Malformed internal identity");
+        }
+        String payload = header.substring(0, separator);
+        byte[] signature;
+        byte[] json;
+        try {
+            signature = DECODER.decode(header.substring(separator + 1));
+            json = DECODER.decode(payload);
+        } catch (IllegalArgumentException e) {
+            throw new BadCredentialsException("Malformed internal identity", e);
+        }
+        if (!MessageDigest.isEqual(signature, sign(payload))) {
+            throw new BadCredentialsException("Invalid internal identity signature");
+        }
+
+        Claims claims;
+        try {
+            claims = objectMapper.readValue(json, Claims.class);
+        } catch (IOException e) {
+            throw new BadCredentialsException("Malformed internal identity", e);
+        }
+        if (clock.instant().getEpochSecond() >= claims.exp()) {
+            throw new BadCredentialsException("Internal identity has expired");
+        }
+        try {
+            return new UserContext(claims.sub(), claims.name(), claims.email(), claims.roles());
+        } catch (IllegalArgumentException e) {
+            throw new BadCredentialsException("Incomplete internal identity", e);
+        }
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HMAC implementation cannot be cloned", e);
+        }
+    }
+
+    record Claims(String sub, String name, String email, Set<String> roles, long exp) {
+    }
+}
@@ -0,0 +1,160 @@
+package com.agriprocurement.common.security.jwks;
+
+import com.agriprocurement.common.lifecycle.PeriodicRefresher;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the signing keys of the identity provider in memory and refreshes them in the background.
+ * <p>
+ * Token verification only ever reads the current, immutable {@link JWKSet}; it never waits for
+ * Keycloak. Keys are loaded when the application starts and then every {@code refreshInterval}. A
+ * token signed with an unknown {@code kid} (a key rotation between two refreshes) schedules an
+ * early refresh, at most once per {@code minRefreshInterval}, and fails verification until the new
+ * key has arrived. When a refresh fails the previous keys stay in use.
+ * <p>
+ * The location may be an {@code http(s)} JWKS endpoint or a {@code file:} / {@code classpath:}
+ * resource, which lets offline and test environments verify tokens against a fixed key set.
+ */
+public class JwksKeyManager extends PeriodicRefresher implements JWKSource<SecurityContext> {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwksKeyManager.class);
+
+    private final String location;
+    private final long minRefreshIntervalNanos;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    private volatile JWKSet keys = new JWKSet();
+    private volatile long lastRefreshNanos;
+
+    public JwksKeyManager(String location, Duration refreshInterval, Duration minRefreshInterval, Duration timeout) {
+        super("jwks-refresh", refreshInterval);
+        this.location = location;
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+        this.timeout = timeout;
+        this.httpClient = isHttp(location)
+                ? HttpClient.newBuilder().connectTimeout(timeout).build()
+                : null;
+        this.lastRefreshNanos = System.nanoTime() - minRefreshIntervalNanos;
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+        List<JWK> matches = jwkSelector.select(keys);
+        if (matches.isEmpty()) {
+            requestRefresh();
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the keys currently used for verification.
+     */
+    public JWKSet getKeys() {
+        return keys;
+    }
+
+    /**
+     * Loads the key set now. Returns whether new keys were installed.
+     */
+    @Override
+    public boolean refresh() {
+        lastRefreshNanos = System.nanoTime();
+        try {
+            JWKSet loaded = load().toPublicJWKSet();
+            if (loaded.getKeys().isEmpty()) {
+                logger.warn("JWKS at {} contains no public keys, keeping {} current keys", location, keys.getKeys().size());
+                return false;
+            }
+            JWKSet previous = keys;
+            keys = loaded;
+            if (!keyIds(previous).equals(keyIds(loaded))) {
+                logger.info("Loaded {} signing keys from {}: {}", loaded.getKeys().size(), location, keyIds(loaded));
+            }
+            return true;
+        } catch (IOException | ParseException e) {
+            logger.warn("Could not refresh JWKS from {}, keeping {} current keys: {}", location, keys.getKeys().size(), e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (RuntimeException e) {
+            // Same as a failed load: the current keys stay in use until the next refresh
+            logger.error("Unexpected error refreshing JWKS from {}, keeping {} current keys", location,
+                    keys.getKeys().size(), e);
+            return false;
+        }
+    }
+
+    private void requestRefresh() {
+        if (!isRunning() || System.nanoTime() - lastRefreshNanos < minRefreshIntervalNanos
+                || !refreshScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        logger.debug("Unknown signing key, refreshing JWKS from {}", location);
+        boolean submitted = execute(() -> {
+            try {
+                refresh();
+            } finally {
+                refreshScheduled.set(false);
+            }
+        });
+        if (!submitted) {
+            refreshScheduled.set(false);
+        }
+    }
+
+    private JWKSet load() throws IOException, ParseException, InterruptedException {
+        if (httpClient != null) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(location))
+                    .timeout(timeout)
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("HTTP " + response.statusCode());
+            }
+            return JWKSet.parse(response.body());
+        }
+        Resource resource = new DefaultResourceLoader().getResource(location);
+        try (InputStream input = resource.getInputStream()) {
+            return JWKSet.parse(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        logger.info("JWKS key manager started: location={}, refreshInterval={}", location, getRefreshInterval());
+    }
+
+    private static boolean isHttp(String location) {
+        return location.startsWith("http://") || location.startsWith("https://");
+    }
+
+    private static List<String> keyIds(JWKSet set) {
+        return set.getKeys().stream().map(jwk -> String.valueOf(jwk.getKeyID())).sorted().toList();
+    }
+}
@@ -0,0 +1,115 @@
+package com.agriprocurement.common.security.config;
+
+import com.agriprocurement.common.security.context.UserContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeycloakJwtAuthenticationConverterTest {
+
+    private static final String ISSUER = "https://keycloak.example.com/realms/agri";
+    private static final Instant EXPIRES_AT = Instant.now().plus(1, ChronoUnit.HOURS);
+
+    private final KeycloakJwtAuthenticationConverter converter = new KeycloakJwtAuthenticationConverter();
+
+    @Test
+    void shouldReuseUserContextForSameToken() {
+        // Given
+        Jwt jwt = token("token-1").jti("jti-1").expiresAt(EXPIRES_AT).build();
+
+        // When
+        KeycloakJwtAuthenticationToken first = convert(converter, jwt);
+        KeycloakJwtAuthenticationToken second = convert(converter, jwt);
+
+        // Then: a new authentication around the same cached user context
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getUserContext()).isSameAs(first.getUserContext());
+    }
+
+    @Test
+    void shouldKeyTokenWithoutIdByHash() {
+        // Given: the same token decoded twice, and a different token of the same user
+        Jwt jwt = token("token-1").expiresAt(EXPIRES_AT).build();
+        Jwt sameToken = token("token-1").expiresAt(EXPIRES_AT).build();
+        Jwt otherToken = token("token-2").expiresAt(EXPIRES_AT).build();
+
+        // When
+        UserContext context = convert(converter, jwt).getUserContext();
+
+        // Then
+        assertThat(convert(converter, sameToken).getUserContext()).isSameAs(context);
+        assertThat(convert(converter, otherToken).getUserContext()).isNotSameAs(context).isEqualTo(context);
+    }
+
+    @Test
+    void shouldNotCacheTokenWithoutExpiry() {
+        // Given
+        Jwt jwt = token("token-1").jti("jti-1").build();
+
+        // When
+        UserContext first = convert(converter, jwt).getUserContext();
+        UserContext second = convert(converter, jwt).getUserContext();
+
+        // Then
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    void shouldNotCacheWhenCacheSizeIsZero() {
+        // Given
+        KeycloakJwtAuthenticationConverter uncached = new KeycloakJwtAuthenticationConverter(null, 0);
+        Jwt jwt = token("token-1").jti("jti-1").expiresAt(EXPIRES_AT).build();
+
+        // When
+        UserContext first = convert(uncached, jwt).getUserContext();
+        UserContext second = convert(uncached, jwt).getUserContext();
+
+        // Then
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    void shouldOnlyMapClientRolesOfConfiguredResource() {
+        // Given
+        Jwt jwt = token("token-1")
+                .claim("scope", "openid profile")
+                .claim("realm_access", Map.of("roles", List.of("buyer")))
+                .claim("resource_access", Map.of(
+                        "order-service", Map.of("roles", List.of("order-admin")),
+                        "payment-service", Map.of("roles", List.of("ROLE_refund"))))
+                .build();
+
+        // When
+        List<String> scoped = authorities(new KeycloakJwtAuthenticationConverter("order-service"), jwt);
+        List<String> all = authorities(converter, jwt);
+
+        // Then
+        assertThat(scoped).containsExactlyInAnyOrder("SCOPE_openid", "SCOPE_profile", "ROLE_BUYER", "ROLE_ORDER-ADMIN");
+        assertThat(all).containsExactlyInAnyOrder("SCOPE_openid", "SCOPE_profile", "ROLE_BUYER", "ROLE_ORDER-ADMIN",
+                "ROLE_REFUND");
+    }
+
+    private static Jwt.Builder token(String tokenValue) {
+        return Jwt.withTokenValue(tokenValue)
+                .header("alg", "RS256")
+                .issuer(ISSUER)
+                .subject("user-1")
+                .claim("preferred_username", "alice")
+                .claim("realm_access", Map.of("roles", List.of("buyer")));
+    }
+
+    private static KeycloakJwtAuthenticationToken convert(KeycloakJwtAuthenticationConverter converter, Jwt jwt) {
+        return (KeycloakJwtAuthenticationToken) converter.convert(jwt);
+    }
+
+    private static List<String> authorities(KeycloakJwtAuthenticationConverter converter, Jwt jwt) {
+        return converter.convert(jwt).getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+    }
+}
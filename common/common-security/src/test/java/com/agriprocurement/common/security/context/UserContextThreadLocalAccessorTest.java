@@ -0,0 +1,79 @@
+package com.agriprocurement.common.security.context;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserContextThreadLocalAccessorTest {
+
+    private static final UserContext USER = new UserContext("user-1", "alice", "alice@example.com", Set.of("BUYER"));
+
+    private final TaskDecorator decorator = new ContextPropagatingTaskDecorator();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final AtomicReference<UserContext> seen = new AtomicReference<>();
+    private final AtomicReference<String> seenMdc = new AtomicReference<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        UserContextHolder.clearContext();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldCarryUserToWorkerAndClearItAfterwards() throws Exception {
+        // Given
+        UserContextHolder.setContext(USER);
+
+        // When
+        executor.submit(decorator.decorate(this::capture)).get();
+
+        // Then
+        assertThat(seen).hasValue(USER);
+        assertThat(seenMdc).hasValue("user-1");
+
+        // When: the next task on the same worker is not decorated
+        executor.submit(this::capture).get();
+
+        // Then
+        assertThat(seen.get()).isNull();
+        assertThat(seenMdc.get()).isNull();
+        assertThat(UserContextHolder.getContext()).isEqualTo(USER);
+    }
+
+    @Test
+    void shouldBindUserResolvedFromSecurityContextOnWorker() throws Exception {
+        // Given: only the security context knows the user, and it is not inherited by the worker
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user-2")
+                .claim("preferred_username", "bob")
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt, List.of()));
+
+        // When
+        executor.submit(decorator.decorate(this::capture)).get();
+
+        // Then
+        assertThat(seen.get().userId()).isEqualTo("user-2");
+        assertThat(seenMdc).hasValue("user-2");
+    }
+
+    private void capture() {
+        seen.set(UserContextHolder.getContext());
+        seenMdc.set(MDC.get(UserContextHolder.MDC_KEY));
+    }
+}
@@ -0,0 +1,118 @@
+package com.agriprocurement.common.security.identity;
+
+import com.agriprocurement.common.security.context.UserContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InternalIdentityCodecTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+    private static final UserContext USER = new UserContext("user-1", "alice", "alice@example.com", Set.of("BUYER"));
+
+    private final InternalIdentityCodec codec = codec(SECRET, NOW);
+
+    @Test
+    void shouldRoundTripIdentity() {
+        // Given
+        String header = codec.encode(USER, NOW.plus(Duration.ofMinutes(5)));
+
+        // When
+        UserContext decoded = codec.decode(header);
+
+        // Then
+        assertThat(decoded).isEqualTo(USER);
+    }
+
+    @Test
+    void shouldRejectTamperedSignature() {
+        // Given
+        String header = codec.encode(USER, NOW.plus(Duration.ofMinutes(5)));
+        int index = header.length() - 10;
+        String tampered = header.substring(0, index) + (header.charAt(index) == 'A' ? 'B' : 'A')
+                + header.substring(index + 1);
+
+        // When / Then
+        assertThatThrownBy(() -> codec.decode(tampered))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("signature");
+    }
+
+    @Test
+    void shouldRejectTamperedPayload() {
+        // Given: the roles are raised but the original signature is kept
+        String header = codec.encode(USER, NOW.plus(Duration.ofMinutes(5)));
+        String signature = header.substring(header.lastIndexOf('.') + 1);
+        String payload = new String(Base64.getUrlDecoder().decode(header.substring(0, header.lastIndexOf('.'))),
+                StandardCharsets.UTF_8).replace("BUYER", "ADMIN");
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + signature;
+
+        // When / Then
+        assertThatThrownBy(() -> codec.decode(forged))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("signature");
+    }
+
+    @Test
+    void shouldRejectIdentitySignedWithAnotherKey() {
+        // Given
+        String header = codec("fedcba9876543210fedcba9876543210", NOW).encode(USER, NOW.plus(Duration.ofMinutes(5)));
+
+        // When / Then
+        assertThatThrownBy(() -> codec.decode(header))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("signature");
+    }
+
+    @Test
+    void shouldRejectExpiredIdentity() {
+        // Given
+        String header = codec.encode(USER, NOW.plus(Duration.ofSeconds(30)));
+
+        // When / Then: valid before the expiry, rejected at and after it
+        assertThat(codec(SECRET, NOW.plusSeconds(29)).decode(header)).isEqualTo(USER);
+        assertThatThrownBy(() -> codec(SECRET, NOW.plusSeconds(30)).decode(header))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("expired");
+    }
+
+    @Test
+    void shouldRejectMalformedAndTruncatedInput() {
+        String header = codec.encode(USER, NOW.plus(Duration.ofMinutes(5)));
+        String payload = header.substring(0, header.lastIndexOf('.'));
+
+        assertThatThrownBy(() -> codec.decode("")).isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> codec.decode("no-separator")).isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> codec.decode(".signature")).isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> codec.decode(payload + ".")).isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> codec.decode(payload + ".not base64!")).isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> codec.decode(header.substring(0, header.length() - 5)))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> codec.decode(header.substring(5))).isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void shouldRequireLongSecret() {
+        assertThatThrownBy(() -> new InternalIdentityCodec("too-short"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new InternalIdentityCodec(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static InternalIdentityCodec codec(String secret, Instant now) {
+        return new InternalIdentityCodec(secret, new ObjectMapper(), Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
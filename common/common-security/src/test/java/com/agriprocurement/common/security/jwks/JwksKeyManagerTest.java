@@ -0,0 +1,110 @@
+package com.agriprocurement.common.security.jwks;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwksKeyManagerTest {
+
+    @TempDir
+    Path directory;
+
+    private JwksKeyManager manager;
+
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.stop();
+        }
+    }
+
+    @Test
+    void shouldLoadKeysFromFileOnStartAndPickUpRotation() throws Exception {
+        // Given
+        Path file = directory.resolve("jwks.json");
+        RSAKey first = writeKeySet(file, "key-1");
+        manager = fileManager(file, Duration.ofHours(1));
+
+        // When
+        manager.start();
+
+        // Then
+        assertThat(manager.getKeys().getKeyByKeyId(first.getKeyID())).isNotNull();
+
+        // When
+        RSAKey second = writeKeySet(file, "key-2");
+        boolean refreshed = manager.refresh();
+
+        // Then
+        assertThat(refreshed).isTrue();
+        assertThat(manager.getKeys().getKeyByKeyId(second.getKeyID())).isNotNull();
+        assertThat(manager.getKeys().getKeyByKeyId(first.getKeyID())).isNull();
+    }
+
+    @Test
+    void shouldKeepCurrentKeysWhenFileIsInvalid() throws Exception {
+        // Given
+        Path file = directory.resolve("jwks.json");
+        RSAKey key = writeKeySet(file, "key-1");
+        manager = fileManager(file, Duration.ofHours(1));
+        manager.start();
+
+        // When
+        Files.writeString(file, "{ not json");
+        boolean refreshed = manager.refresh();
+
+        // Then
+        assertThat(refreshed).isFalse();
+        assertThat(manager.getKeys().getKeyByKeyId(key.getKeyID())).isNotNull();
+    }
+
+    @Test
+    void shouldKeepRefreshingAfterUnexpectedError() throws Exception {
+        // Given: a location the HTTP client rejects with an IllegalArgumentException
+        manager = new JwksKeyManager("http://[invalid", Duration.ofMillis(20), Duration.ZERO, Duration.ofSeconds(1));
+
+        // When
+        boolean refreshed = manager.refresh();
+        manager.start();
+        Thread.sleep(100);
+
+        // Then: the error is swallowed and the scheduler is still alive
+        assertThat(refreshed).isFalse();
+        assertThat(manager.isRunning()).isTrue();
+    }
+
+    @Test
+    void shouldLoadKeysFromClasspath() {
+        // Given
+        manager = new JwksKeyManager("classpath:jwks/test-jwks.json", Duration.ofHours(1), Duration.ZERO,
+                Duration.ofSeconds(1));
+
+        // When
+        boolean refreshed = manager.refresh();
+
+        // Then
+        assertThat(refreshed).isTrue();
+        assertThat(manager.getKeys().getKeyByKeyId("test-key")).isNotNull();
+    }
+
+    private static JwksKeyManager fileManager(Path file, Duration refreshInterval) {
+        return new JwksKeyManager(file.toUri().toString(), refreshInterval, Duration.ZERO, Duration.ofSeconds(1));
+    }
+
+    private static RSAKey writeKeySet(Path file, String keyId) throws JOSEException, IOException {
+        RSAKey key = new RSAKeyGenerator(2048).keyID(keyId).generate();
+        Files.writeString(file, new JWKSet(key.toPublicJWK()).toString());
+        return key;
+    }
+}
@@ -0,0 +1,42 @@
+package com.agriprocurement.gateway.accesslog;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the gateway access log.
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.access-log")
+public class AccessLogProperties {
+
+    private boolean enabled = true;
+
+    private Mode mode = Mode.ALL;
+
+    /** Fraction of requests logged in {@link Mode#SAMPLED} mode. */
+    private double sampleRate = 0.1;
+
+    /** Requests at least this slow are logged in every mode. */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    /** Whether 5xx responses are logged in every mode. */
+    private boolean alwaysLogErrors = true;
+
+    /** Number of records buffered between request threads and the writer; rounded up to a power of two. */
+    private int bufferSize = 8192;
+
+    /** How long the writer sleeps when the buffer is empty. */
+    private Duration idleWait = Duration.ofMillis(50);
+
+    public enum Mode {
+        /** Every request. */
+        ALL,
+        /** A random {@code sample-rate} fraction of requests, plus slow and failed ones. */
+        SAMPLED,
+        /** Only slow and failed requests. */
+        SLOW_ONLY
+    }
+}
@@ -0,0 +1,119 @@
+package com.agriprocurement.gateway.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded multi-producer, single-consumer ring of preallocated access log records.
+ * <p>
+ * Producers claim a sequence with a CAS and publish the filled slot by writing its sequence;
+ * the single writer thread consumes slots in order. When the writer falls a full ring behind,
+ * new records are dropped instead of blocking request threads.
+ */
+public final class AccessLogRingBuffer {
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile long consumed;
+
+    public AccessLogRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity) - 1) << 1;
+        this.slots = new Slot[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot(i - capacity);
+        }
+    }
+
+    /**
+     * Copies a request into the next free slot.
+     *
+     * @return {@code false} if the buffer is full and the record was dropped
+     */
+    public boolean publish(String method, String path, String routeId, int status, long durationNanos,
+                           String correlationId, Object clientAddress, long timestampMillis) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= slots.length) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.method = method;
+        slot.path = path;
+        slot.routeId = routeId;
+        slot.status = status;
+        slot.durationNanos = durationNanos;
+        slot.correlationId = correlationId;
+        slot.clientAddress = clientAddress;
+        slot.timestampMillis = timestampMillis;
+        slot.sequence = sequence;
+        return true;
+    }
+
+    /**
+     * Hands every published record to {@code consumer} in order. Only called by the writer thread.
+     *
+     * @return the number of records consumed
+     */
+    int drain(RecordConsumer consumer) {
+        long next = consumed;
+        int count = 0;
+        while (true) {
+            Slot slot = slots[(int) (next & mask)];
+            if (slot.sequence != next) {
+                break;
+            }
+            consumer.accept(slot);
+            slot.clear();
+            next++;
+            count++;
+            consumed = next;
+        }
+        return count;
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    interface RecordConsumer {
+        void accept(Slot record);
+    }
+
+    /**
+     * A reusable record. Fields are written by one producer before {@link #sequence} is published
+     * and read by the writer after it observed the sequence.
+     */
+    static final class Slot {
+        String method;
+        String path;
+        String routeId;
+        int status;
+        long durationNanos;
+        String correlationId;
+        Object clientAddress;
+        long timestampMillis;
+        volatile long sequence;
+
+        Slot(long initialSequence) {
+            this.sequence = initialSequence;
+        }
+
+        private void clear() {
+            path = null;
+            routeId = null;
+            correlationId = null;
+            clientAddress = null;
+        }
+    }
+}
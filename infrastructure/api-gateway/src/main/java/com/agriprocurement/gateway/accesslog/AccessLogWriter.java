@@ -0,0 +1,101 @@
+package com.agriprocurement.gateway.accesslog;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Background thread that drains the {@link AccessLogRingBuffer} and writes one line per request
+ * to the {@code access-log} logger, keeping string formatting and appender I/O off the event loop.
+ */
+@Slf4j
+@Component
+public class AccessLogWriter implements SmartLifecycle {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("access-log");
+
+    private final AccessLogRingBuffer buffer;
+    private final long idleWaitNanos;
+    private final StringBuilder line = new StringBuilder(256);
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public AccessLogWriter(AccessLogProperties properties, MeterRegistry meterRegistry) {
+        this.buffer = new AccessLogRingBuffer(properties.getBufferSize());
+        this.idleWaitNanos = properties.getIdleWait().toNanos();
+        FunctionCounter.builder("agri.gateway.access.log.dropped", buffer, AccessLogRingBuffer::dropped)
+                .description("Access log records dropped because the writer could not keep up")
+                .tag("type", "gateway")
+                .register(meterRegistry);
+    }
+
+    public AccessLogRingBuffer buffer() {
+        return buffer;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "access-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Access log writer started: bufferSize={}", buffer.capacity());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread writer = thread;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            try {
+                writer.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            if (buffer.drain(this::write) == 0) {
+                LockSupport.parkNanos(idleWaitNanos);
+            }
+        }
+        buffer.drain(this::write);
+    }
+
+    private void write(AccessLogRingBuffer.Slot record) {
+        if (!accessLog.isInfoEnabled()) {
+            return;
+        }
+        line.setLength(0);
+        line.append(record.method).append(' ').append(record.path)
+                .append(" status=").append(record.status)
+                .append(" durationMs=").append(record.durationNanos / 1_000_000)
+                .append('.').append(record.durationNanos / 100_000 % 10)
+                .append(" route=").append(record.routeId)
+                .append(" correlationId=").append(record.correlationId)
+                .append(" client=");
+        if (record.clientAddress instanceof InetSocketAddress address && address.getAddress() != null) {
+            line.append(address.getAddress().getHostAddress());
+        } else {
+            line.append('-');
+        }
+        line.append(" ts=").append(record.timestampMillis);
+        accessLog.info(line.toString());
+    }
+}
@@ -0,0 +1,45 @@
+package com.agriprocurement.gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A stored upstream response.
+ *
+ * @param path       request path without query, used for invalidation
+ * @param collection whether the path is one of the route's collection resources
+ */
+record CachedResponse(String routeId,
+                      String path,
+                      boolean collection,
+                      HttpStatusCode status,
+                      HttpHeaders headers,
+                      byte[] body,
+                      String etag,
+                      Duration ttl,
+                      long storedAtMillis) {
+
+    private static final int ENTRY_OVERHEAD = 256;
+
+    /**
+     * Approximate retained size in bytes, used as the cache weight.
+     */
+    int weight() {
+        int headerBytes = 0;
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            headerBytes += header.getKey().length();
+            for (String value : header.getValue()) {
+                headerBytes += value.length();
+            }
+        }
+        return ENTRY_OVERHEAD + body.length + 2 * (path.length() + headerBytes + etag.length());
+    }
+
+    long ageSeconds(long nowMillis) {
+        return Math.max(0, (nowMillis - storedAtMillis) / 1000);
+    }
+}
@@ -0,0 +1,182 @@
+package com.agriprocurement.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Size-bounded store of upstream responses.
+ * <p>
+ * Entries are weighed by their retained size and evicted by Caffeine's frequency-aware policy
+ * once {@code gateway.cache.max-memory} is reached; each entry expires after its route's TTL.
+ * <p>
+ * Invalidation goes through a secondary index from route and path (or path segment) to cache
+ * keys, so a write only touches the entries it affects instead of scanning the cache. The index
+ * is updated in the same per-key atomic operation as the entry: on put, on eviction (through the
+ * eviction listener) and on invalidation.
+ */
+@Slf4j
+@Component
+public class ResponseCache {
+
+    private final Cache<String, CachedResponse> cache;
+    private final Map<String, Set<String>> index = new ConcurrentHashMap<>();
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxMemory().toBytes())
+                .weigher((String key, CachedResponse response) -> 2 * key.length() + response.weight())
+                .expireAfter(new RouteTtlExpiry())
+                .evictionListener((String key, CachedResponse response, RemovalCause cause) -> {
+                    if (key != null && response != null) {
+                        unindex(key, response);
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway-response-cache");
+    }
+
+    CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    void put(String key, CachedResponse response) {
+        cache.asMap().compute(key, (k, previous) -> {
+            // A key always maps to the same route and path, so a replaced entry is already indexed
+            if (previous == null) {
+                index(k, response);
+            }
+            return response;
+        });
+    }
+
+    /**
+     * Evicts the route's entries for an aggregate together with its collection entries: those whose
+     * path contains {@code aggregateId} as a complete segment.
+     */
+    public int invalidateAggregate(String routeId, String aggregateId) {
+        List<String> tokens = List.of(collectionToken(routeId), segmentToken(routeId, aggregateId));
+        return invalidate(tokens);
+    }
+
+    /**
+     * Evicts the entries a successful write to {@code path} may have changed: the resource itself,
+     * the resources it is a sub-resource of, and the route's collections.
+     */
+    public int invalidateForWrite(String routeId, String path) {
+        List<String> tokens = new ArrayList<>();
+        tokens.add(collectionToken(routeId));
+        for (int end = path.length(); end > 0; end = path.lastIndexOf('/', end - 1)) {
+            tokens.add(pathToken(routeId, path.substring(0, end)));
+        }
+        return invalidate(tokens);
+    }
+
+    public void invalidateAll() {
+        index.clear();
+        cache.invalidateAll();
+    }
+
+    private int invalidate(List<String> tokens) {
+        int[] removed = {0};
+        for (String token : tokens) {
+            Set<String> keys = index.get(token);
+            if (keys == null) {
+                continue;
+            }
+            for (String key : List.copyOf(keys)) {
+                cache.asMap().computeIfPresent(key, (k, response) -> {
+                    unindex(k, response);
+                    removed[0]++;
+                    return null;
+                });
+            }
+        }
+        if (removed[0] > 0) {
+            log.debug("Invalidated {} cached responses", removed[0]);
+        }
+        return removed[0];
+    }
+
+    private void index(String key, CachedResponse response) {
+        for (String token : tokens(response)) {
+            index.compute(token, (t, keys) -> {
+                Set<String> indexed = keys != null ? keys : ConcurrentHashMap.newKeySet();
+                indexed.add(key);
+                return indexed;
+            });
+        }
+    }
+
+    private void unindex(String key, CachedResponse response) {
+        for (String token : tokens(response)) {
+            index.computeIfPresent(token, (t, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    /**
+     * Index tokens of an entry: its exact path, each of its path segments, and whether it is a collection.
+     */
+    private static List<String> tokens(CachedResponse response) {
+        String routeId = response.routeId();
+        List<String> tokens = new ArrayList<>();
+        tokens.add(pathToken(routeId, response.path()));
+        for (String segment : response.path().split("/")) {
+            if (!segment.isEmpty()) {
+                tokens.add(segmentToken(routeId, segment));
+            }
+        }
+        if (response.collection()) {
+            tokens.add(collectionToken(routeId));
+        }
+        return tokens;
+    }
+
+    private static String pathToken(String routeId, String path) {
+        return "path " + routeId + ' ' + path;
+    }
+
+    private static String segmentToken(String routeId, String segment) {
+        return "segment " + routeId + ' ' + segment;
+    }
+
+    private static String collectionToken(String routeId) {
+        return "collection " + routeId;
+    }
+
+    /**
+     * Expires an entry its route's TTL after it was stored; reads do not extend it.
+     */
+    private static final class RouteTtlExpiry implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+            return response.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse response, long currentTime, long currentDuration) {
+            return response.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse response, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.agriprocurement.gateway.cache;
+
+import com.agriprocurement.gateway.support.BodyCaptureResponseDecorator;
+import com.agriprocurement.gateway.support.ReplayableResponse;
+import com.agriprocurement.gateway.support.RequestKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves repeated GET requests on configured routes from {@link ResponseCache}.
+ * <p>
+ * Misses are forwarded and their 200 responses stored with a strong ETag; hits are answered by the
+ * gateway, with {@code 304 Not Modified} when the client's {@code If-None-Match} matches. Successful
+ * writes through the gateway evict the affected entries immediately, events from other writers are
+ * handled by {@link ResponseCacheInvalidationListener}.
+ * <p>
+ * By default entries are keyed by the caller ({@link RequestKeys#authScope}), so a response is only
+ * ever served to the caller it was fetched for, or to other anonymous callers if it was fetched
+ * anonymously. Routes with {@code vary-by-user: false} share one entry per resource between all
+ * callers and skip responses marked {@code Cache-Control: private}. The filter runs after the route filters, so hits still pass the rate limiter and
+ * circuit breaker, and headers added by the gateway before it are not stored with the response.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+    // Route filters are ordered 0 (Java DSL) or by position (configured routes)
+    public static final int ORDER = RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER - 100;
+
+    private final ResponseCache responseCache;
+    private final ResponseCacheProperties properties;
+    private final Map<String, PathPattern> patterns = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        ResponseCacheProperties.RouteCache routeCache =
+                properties.isEnabled() && route != null ? properties.getRoutes().get(route.getId()) : null;
+        if (routeCache == null) {
+            return chain.filter(exchange);
+        }
+
+        ServerHttpRequest request = exchange.getRequest();
+        HttpMethod method = request.getMethod();
+        if (HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method)) {
+            return chain.filter(exchange);
+        }
+        if (!HttpMethod.GET.equals(method)) {
+            return chain.filter(exchange).then(Mono.fromRunnable(() -> invalidateAfterWrite(exchange, route.getId())));
+        }
+        if (isNoStore(request.getHeaders().getCacheControl())) {
+            return chain.filter(exchange);
+        }
+
+        return cacheKey(exchange, route.getId(), routeCache).flatMap(key -> {
+            CachedResponse cached = responseCache.get(key);
+            if (cached != null) {
+                return writeCached(exchange, cached);
+            }
+            return forwardAndStore(exchange, chain, key, route.getId(), routeCache);
+        });
+    }
+
+    private Mono<String> cacheKey(ServerWebExchange exchange, String routeId, ResponseCacheProperties.RouteCache routeCache) {
+        String resource = RequestKeys.resource(exchange.getRequest(), routeId);
+        if (!routeCache.isVaryByUser()) {
+            return Mono.just(resource);
+        }
+        return RequestKeys.authScope(exchange).map(scope -> resource + ' ' + scope);
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(cached.headers());
+        headers.setETag(cached.etag());
+        headers.set(HttpHeaders.AGE, Long.toString(cached.ageSeconds(System.currentTimeMillis())));
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+
+        if (etagMatches(exchange.getRequest().getHeaders().getIfNoneMatch(), cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            headers.remove(HttpHeaders.CONTENT_TYPE);
+            return response.setComplete();
+        }
+        response.setStatusCode(cached.status());
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.body())));
+    }
+
+    private Mono<Void> forwardAndStore(ServerWebExchange exchange, GatewayFilterChain chain, String key,
+                                       String routeId, ResponseCacheProperties.RouteCache routeCache) {
+        // Correlation id, rate limit headers and the like belong to this request, not to the entry
+        Set<String> ownHeaders = ReplayableResponse.ownHeaders(exchange.getResponse().getHeaders());
+        ownHeaders.add(CACHE_STATUS_HEADER.toLowerCase(Locale.ROOT));
+
+        BodyCaptureResponseDecorator response = new BodyCaptureResponseDecorator(
+                exchange.getResponse(), (int) properties.getMaxEntrySize().toBytes());
+        response.getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+        String path = exchange.getRequest().getPath().value();
+        response.captured().subscribe(body -> store(key, routeId, path, routeCache, ownHeaders, response, body));
+        return chain.filter(exchange.mutate().response(response).build());
+    }
+
+    private void store(String key, String routeId, String path, ResponseCacheProperties.RouteCache routeCache,
+                       Set<String> ownHeaders, ServerHttpResponse response, byte[] body) {
+        HttpHeaders upstream = response.getHeaders();
+        HttpStatusCode status = response.getStatusCode();
+        if (status == null || status.value() != HttpStatus.OK.value() || upstream.containsKey(HttpHeaders.SET_COOKIE)) {
+            return;
+        }
+        String cacheControl = upstream.getCacheControl();
+        if (isNoStore(cacheControl) || (!routeCache.isVaryByUser() && cacheControl != null
+                && cacheControl.contains("private"))) {
+            return;
+        }
+
+        String etag = upstream.getETag() != null ? upstream.getETag() : etag(body);
+        Duration ttl = routeCache.getTtl();
+        responseCache.put(key, new CachedResponse(routeId, path, isCollection(path, routeCache),
+                status, ReplayableResponse.copyHeaders(upstream, ownHeaders), body, etag, ttl,
+                System.currentTimeMillis()));
+    }
+
+    private void invalidateAfterWrite(ServerWebExchange exchange, String routeId) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        if (status != null && status.is2xxSuccessful()) {
+            responseCache.invalidateForWrite(routeId, exchange.getRequest().getPath().value());
+        }
+    }
+
+    private boolean isCollection(String path, ResponseCacheProperties.RouteCache routeCache) {
+        List<String> collectionPaths = routeCache.getCollectionPaths();
+        if (collectionPaths.isEmpty()) {
+            return false;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        for (String collectionPath : collectionPaths) {
+            PathPattern pattern = patterns.computeIfAbsent(collectionPath, PathPatternParser.defaultInstance::parse);
+            if (pattern.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNoStore(String cacheControl) {
+        return cacheControl != null && (cacheControl.contains("no-store") || cacheControl.contains("no-cache"));
+    }
+
+    private static boolean etagMatches(List<String> ifNoneMatch, String etag) {
+        String strongEtag = stripWeak(etag);
+        for (String candidate : ifNoneMatch) {
+            if ("*".equals(candidate) || stripWeak(candidate).equals(strongEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
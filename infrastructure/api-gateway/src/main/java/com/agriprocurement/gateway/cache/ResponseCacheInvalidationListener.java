@@ -0,0 +1,60 @@
+package com.agriprocurement.gateway.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts cached responses when a service publishes a domain event for an aggregate.
+ * <p>
+ * Every gateway instance holds its own cache, so each one consumes the topics with its own
+ * consumer group. The group is named after the instance's host and port rather than a random id,
+ * so restarts reuse it instead of leaving an abandoned group behind; a new group starts at the
+ * latest offset because events from before startup are irrelevant to an empty cache.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "gateway.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCacheInvalidationListener {
+
+    private final ResponseCache responseCache;
+    private final ResponseCacheProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = "#{'${gateway.cache.invalidation.topics:procurement-events}'.split(',')}",
+            groupId = "${gateway.cache.invalidation.group-id:"
+                    + "${spring.application.name}-cache-${spring.cloud.client.hostname}-${server.port}}",
+            properties = {"auto.offset.reset=latest", "enable.auto.commit=true"})
+    public void onDomainEvent(ConsumerRecord<String, String> record) {
+        String aggregateId = record.key() != null ? record.key() : aggregateId(record.value());
+        if (aggregateId == null) {
+            log.warn("Ignoring event without aggregate id on topic {}", record.topic());
+            return;
+        }
+        properties.getRoutes().forEach((routeId, routeCache) -> {
+            if (routeCache.getInvalidatedBy().contains(record.topic())) {
+                int evicted = responseCache.invalidateAggregate(routeId, aggregateId);
+                log.debug("Event for {} on {} evicted {} cached responses of route {}",
+                        aggregateId, record.topic(), evicted, routeId);
+            }
+        });
+    }
+
+    private String aggregateId(String payload) {
+        try {
+            JsonNode node = objectMapper.readTree(payload).get("aggregateId");
+            return node != null && node.isTextual() ? node.asText() : null;
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable event payload: {}", e.getMessage());
+            return null;
+        }
+    }
+}
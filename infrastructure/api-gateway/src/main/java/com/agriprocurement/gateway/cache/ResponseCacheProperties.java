@@ -0,0 +1,65 @@
+package com.agriprocurement.gateway.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings of the gateway response cache for idempotent GET requests.
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    /** Upper bound of the memory used by cached bodies and headers; least valuable entries are evicted first. */
+    private DataSize maxMemory = DataSize.ofMegabytes(64);
+
+    /** Responses larger than this are passed through without being cached. */
+    private DataSize maxEntrySize = DataSize.ofKilobytes(512);
+
+    /** Cached routes keyed by route id; routes not listed here are never cached. */
+    private Map<String, RouteCache> routes = new LinkedHashMap<>();
+
+    private Invalidation invalidation = new Invalidation();
+
+    @Data
+    public static class RouteCache {
+
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /**
+         * Cache per caller; disable only for routes whose responses are the same for every caller.
+         * Shared entries never store responses marked {@code Cache-Control: private}.
+         */
+        private boolean varyByUser = true;
+
+        /** Path patterns of collection resources, evicted on every change to the route's aggregates. */
+        private List<String> collectionPaths = new ArrayList<>();
+
+        /** Kafka topics whose events invalidate this route's entries. */
+        private List<String> invalidatedBy = new ArrayList<>();
+    }
+
+    @Data
+    public static class Invalidation {
+
+        /** Whether domain events are consumed to invalidate entries. */
+        private boolean enabled = true;
+
+        /**
+         * Consumer group of this instance. Every instance needs its own group to see every event;
+         * the default is derived from host and port so a restarted instance reuses its group.
+         */
+        private String groupId;
+
+        private List<String> topics = new ArrayList<>(List.of("procurement-events"));
+    }
+}
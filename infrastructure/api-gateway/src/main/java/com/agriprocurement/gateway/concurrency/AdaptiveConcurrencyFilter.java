@@ -0,0 +1,117 @@
+package com.agriprocurement.gateway.concurrency;
+
+import com.agriprocurement.gateway.filter.SingleFlightFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sheds load per route before the backend saturates.
+ * <p>
+ * Every route gets a {@link GradientConcurrencyLimit}; requests beyond the current limit are
+ * rejected immediately with {@code 503} and {@code Retry-After}; the route retry filters, which run
+ * before this one, do not retry {@code 503}, so a shed request goes straight back to the client.
+ * Only requests that were actually forwarded feed their latency into the limit, so rate-limited,
+ * cached and coalesced requests do not distort it.
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = SingleFlightFilter.ORDER + 1;
+
+    private final ConcurrencyLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RouteLimit> limits = new ConcurrentHashMap<>();
+    private final String retryAfterSeconds;
+
+    public AdaptiveConcurrencyFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.retryAfterSeconds = Long.toString(Math.max(1, properties.getRetryAfter().toSeconds()));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.isEnabled() || route == null
+                || (!properties.getRoutes().isEmpty() && !properties.getRoutes().contains(route.getId()))) {
+            return chain.filter(exchange);
+        }
+
+        RouteLimit routeLimit = limits.computeIfAbsent(route.getId(), this::createLimit);
+        GradientConcurrencyLimit limit = routeLimit.limit();
+        int inflightAtStart = limit.getInflight();
+        if (!limit.tryAcquire()) {
+            routeLimit.rejected().increment();
+            return reject(exchange.getResponse(), routeLimit);
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    if (ServerWebExchangeUtils.isAlreadyRouted(exchange)) {
+                        limit.release(System.nanoTime() - start, inflightAtStart);
+                    } else {
+                        limit.release();
+                    }
+                });
+    }
+
+    private Mono<Void> reject(ServerHttpResponse response, RouteLimit routeLimit) {
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(routeLimit.rejectionBody().length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(routeLimit.rejectionBody())));
+    }
+
+    private RouteLimit createLimit(String routeId) {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(properties);
+        Gauge.builder("agri.gateway.concurrency.limit", limit, GradientConcurrencyLimit::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("type", "gateway")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("agri.gateway.concurrency.inflight", limit, GradientConcurrencyLimit::getInflight)
+                .description("Requests currently forwarded to the route")
+                .tag("type", "gateway")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("agri.gateway.concurrency.rejected")
+                .description("Requests rejected because the route was at its concurrency limit")
+                .tag("type", "gateway")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        byte[] body = ("{\"status\":503,\"error\":\"Service Unavailable\",\"message\":\"" + routeId
+                + " is overloaded. Please try again later.\",\"service\":\"" + routeId + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        log.info("Adaptive concurrency limit created for route {}: initialLimit={}", routeId, limit.getLimit());
+        return new RouteLimit(limit, rejected, body);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private record RouteLimit(GradientConcurrencyLimit limit, Counter rejected, byte[] rejectionBody) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.agriprocurement.gateway.concurrency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Settings of the adaptive per-route concurrency limiter.
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.concurrency")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Route ids to protect; empty means every route. */
+    private Set<String> routes = new HashSet<>();
+
+    /** Limit a route starts with before any latency has been observed. */
+    private int initialLimit = 20;
+
+    private int minLimit = 5;
+
+    private int maxLimit = 500;
+
+    /** How far the recent latency may exceed the long-term latency before the limit shrinks. */
+    private double rttTolerance = 1.5;
+
+    /** Weight of each new limit estimate (0-1); lower values react slower but are more stable. */
+    private double smoothing = 0.2;
+
+    /** Number of samples the long-term (no-load) latency average spans. */
+    private int longWindow = 600;
+
+    /** Value of the Retry-After header on rejected requests. */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
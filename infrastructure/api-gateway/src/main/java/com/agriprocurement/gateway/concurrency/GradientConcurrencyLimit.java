@@ -0,0 +1,101 @@
+package com.agriprocurement.gateway.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to the latency of one backend.
+ * <p>
+ * Each completed request compares its round-trip time with a slowly moving long-term average. While
+ * latency stays within {@code rttTolerance} of that baseline the limit grows by roughly its square
+ * root per sample (room for queueing); once latency rises, the limit is scaled down by the ratio of
+ * the two, so load is shed as soon as the backend starts queueing instead of after it times out.
+ */
+public final class GradientConcurrencyLimit {
+
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final int longWindow;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRttNanos;
+    private long samples;
+
+    public GradientConcurrencyLimit(ConcurrencyLimitProperties properties) {
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.rttTolerance = properties.getRttTolerance();
+        this.smoothing = properties.getSmoothing();
+        this.longWindow = properties.getLongWindow();
+        this.limit = properties.getInitialLimit();
+    }
+
+    /**
+     * Takes a slot if the route is below its limit.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a slot without a latency sample, e.g. when the request never reached the backend.
+     */
+    public void release() {
+        inflight.decrementAndGet();
+    }
+
+    /**
+     * Releases a slot and feeds the request's round-trip time into the limit.
+     *
+     * @param inflightAtStart requests in flight when this one started, used to detect an app-limited route
+     */
+    public void release(long rttNanos, int inflightAtStart) {
+        inflight.decrementAndGet();
+        update(rttNanos, inflightAtStart);
+    }
+
+    private synchronized void update(long rttNanos, int inflightAtStart) {
+        samples++;
+        if (samples <= WARMUP_SAMPLES) {
+            longRttNanos = longRttNanos + (rttNanos - longRttNanos) / samples;
+            return;
+        }
+        double window = Math.min(samples, longWindow);
+        longRttNanos = longRttNanos + (rttNanos - longRttNanos) / window;
+        if (longRttNanos / rttNanos > 2) {
+            // Latency dropped sharply (backend recovered): let the baseline catch up faster
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        if (inflightAtStart < current / 2) {
+            // Not enough load to learn anything about the limit
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / rttNanos));
+        double queueSize = Math.sqrt(current);
+        double estimate = current * gradient + queueSize;
+        double smoothed = current * (1 - smoothing) + estimate * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, smoothed));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+}
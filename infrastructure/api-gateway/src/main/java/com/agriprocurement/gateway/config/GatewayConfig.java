@@ -1,28 +1,53 @@
 package com.agriprocurement.gateway.config;
 
+import com.agriprocurement.gateway.accesslog.AccessLogProperties;
+import com.agriprocurement.gateway.cache.ResponseCacheProperties;
+import com.agriprocurement.gateway.concurrency.ConcurrencyLimitProperties;
+import com.agriprocurement.gateway.filter.SingleFlightProperties;
+import com.agriprocurement.gateway.hedging.HedgingProperties;
+import com.agriprocurement.gateway.ratelimit.HybridRateLimiter;
+import com.agriprocurement.gateway.ratelimit.PolicyKeyResolver;
+import com.agriprocurement.gateway.ratelimit.RateLimitProperties;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.timelimiter.TimeLimiterConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
 import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
 import org.springframework.cloud.client.circuitbreaker.Customizer;
-import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
-import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
-import reactor.core.publisher.Mono;
+import org.springframework.http.HttpStatus;
 
 import java.time.Duration;
 
 @Slf4j
 @Configuration
+@EnableConfigurationProperties({
+        RateLimitProperties.class,
+        ResponseCacheProperties.class,
+        SingleFlightProperties.class,
+        AccessLogProperties.class,
+        ConcurrencyLimitProperties.class,
+        HedgingProperties.class
+})
 public class GatewayConfig {
 
+    /**
+     * Server errors worth retrying. {@code 503} is left out: it is how the gateway itself sheds load
+     * ({@code AdaptiveConcurrencyFilter}) and how an overloaded backend asks callers to back off.
+     */
+    private static final HttpStatus[] RETRYABLE_STATUSES = {
+            HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.BAD_GATEWAY, HttpStatus.GATEWAY_TIMEOUT
+    };
+
     @Bean
-    public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
+    public RouteLocator customRouteLocator(RouteLocatorBuilder builder,
+                                           HybridRateLimiter rateLimiter,
+                                           PolicyKeyResolver keyResolver) {
         return builder.routes()
                 // Procurement Service Routes
                 .route("procurement-service", r -> r
@@ -30,14 +55,16 @@ public class GatewayConfig {
                         .filters(f -> f
                                 .stripPrefix(1)
                                 .requestRateLimiter(c -> c
-                                        .setRateLimiter(redisRateLimiter())
-                                        .setKeyResolver(userKeyResolver()))
+                                        .setRateLimiter(rateLimiter)
+                                        .setKeyResolver(keyResolver))
                                 .circuitBreaker(c -> c
                                         .setName("procurementCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/procurement"))
                                 .retry(retryConfig -> retryConfig
                                         .setRetries(3)
                                         .setMethods(HttpMethod.GET)
+                                        .setSeries()
+                                        .setStatuses(RETRYABLE_STATUSES)
                                         .setBackoff(Duration.ofMillis(100), Duration.ofMillis(1000), 2, false)))
                         .uri("lb://procurement-service"))
 
@@ -47,14 +74,16 @@ public class GatewayConfig {
                         .filters(f -> f
                                 .stripPrefix(1)
                                 .requestRateLimiter(c -> c
-                                        .setRateLimiter(redisRateLimiter())
-                                        .setKeyResolver(userKeyResolver()))
+                                        .setRateLimiter(rateLimiter)
+                                        .setKeyResolver(keyResolver))
                                 .circuitBreaker(c -> c
                                         .setName("orderCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/order"))
                                 .retry(retryConfig -> retryConfig
                                         .setRetries(3)
                                         .setMethods(HttpMethod.GET)
+                                        .setSeries()
+                                        .setStatuses(RETRYABLE_STATUSES)
                                         .setBackoff(Duration.ofMillis(100), Duration.ofMillis(1000), 2, false)))
                         .uri("lb://order-service"))
 
@@ -64,14 +93,16 @@ public class GatewayConfig {
                         .filters(f -> f
                                 .stripPrefix(1)
                                 .requestRateLimiter(c -> c
-                                        .setRateLimiter(redisRateLimiter())
-                                        .setKeyResolver(userKeyResolver()))
+                                        .setRateLimiter(rateLimiter)
+                                        .setKeyResolver(keyResolver))
                                 .circuitBreaker(c -> c
                                         .setName("inventoryCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/inventory"))
                                 .retry(retryConfig -> retryConfig
                                         .setRetries(3)
                                         .setMethods(HttpMethod.GET)
+                                        .setSeries()
+                                        .setStatuses(RETRYABLE_STATUSES)
                                         .setBackoff(Duration.ofMillis(100), Duration.ofMillis(1000), 2, false)))
                         .uri("lb://inventory-service"))
 
@@ -81,14 +112,16 @@ public class GatewayConfig {
                         .filters(f -> f
                                 .stripPrefix(1)
                                 .requestRateLimiter(c -> c
-                                        .setRateLimiter(redisRateLimiter())
-                                        .setKeyResolver(userKeyResolver()))
+                                        .setRateLimiter(rateLimiter)
+                                        .setKeyResolver(keyResolver))
                                 .circuitBreaker(c -> c
                                         .setName("paymentCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/payment"))
                                 .retry(retryConfig -> retryConfig
                                         .setRetries(2)
                                         .setMethods(HttpMethod.GET)
+                                        .setSeries()
+                                        .setStatuses(RETRYABLE_STATUSES)
                                         .setBackoff(Duration.ofMillis(200), Duration.ofMillis(2000), 2, false)))
                         .uri("lb://payment-service"))
 
@@ -98,14 +131,16 @@ public class GatewayConfig {
                         .filters(f -> f
                                 .stripPrefix(1)
                                 .requestRateLimiter(c -> c
-                                        .setRateLimiter(redisRateLimiter())
-                                        .setKeyResolver(userKeyResolver()))
+                                        .setRateLimiter(rateLimiter)
+                                        .setKeyResolver(keyResolver))
                                 .circuitBreaker(c -> c
                                         .setName("logisticsCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/logistics"))
                                 .retry(retryConfig -> retryConfig
                                         .setRetries(3)
                                         .setMethods(HttpMethod.GET)
+                                        .setSeries()
+                                        .setStatuses(RETRYABLE_STATUSES)
                                         .setBackoff(Duration.ofMillis(100), Duration.ofMillis(1000), 2, false)))
                         .uri("lb://logistics-service"))
 
@@ -115,14 +150,16 @@ public class GatewayConfig {
                         .filters(f -> f
                                 .stripPrefix(1)
                                 .requestRateLimiter(c -> c
-                                        .setRateLimiter(redisRateLimiter())
-                                        .setKeyResolver(userKeyResolver()))
+                                        .setRateLimiter(rateLimiter)
+                                        .setKeyResolver(keyResolver))
                                 .circuitBreaker(c -> c
                                         .setName("notificationCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/notification"))
                                 .retry(retryConfig -> retryConfig
                                         .setRetries(3)
                                         .setMethods(HttpMethod.GET)
+                                        .setSeries()
+                                        .setStatuses(RETRYABLE_STATUSES)
                                         .setBackoff(Duration.ofMillis(100), Duration.ofMillis(1000), 2, false)))
                         .uri("lb://notification-service"))
 
@@ -132,14 +169,16 @@ public class GatewayConfig {
                         .filters(f -> f
                                 .stripPrefix(1)
                                 .requestRateLimiter(c -> c
-                                        .setRateLimiter(redisRateLimiter())
-                                        .setKeyResolver(userKeyResolver()))
+                                        .setRateLimiter(rateLimiter)
+                                        .setKeyResolver(keyResolver))
                                 .circuitBreaker(c -> c
                                         .setName("userCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/user"))
                                 .retry(retryConfig -> retryConfig
                                         .setRetries(3)
                                         .setMethods(HttpMethod.GET)
+                                        .setSeries()
+                                        .setStatuses(RETRYABLE_STATUSES)
                                         .setBackoff(Duration.ofMillis(100), Duration.ofMillis(1000), 2, false)))
                         .uri("lb://user-service"))
 
@@ -149,39 +188,22 @@ public class GatewayConfig {
                         .filters(f -> f
                                 .stripPrefix(1)
                                 .requestRateLimiter(c -> c
-                                        .setRateLimiter(redisRateLimiter())
-                                        .setKeyResolver(userKeyResolver()))
+                                        .setRateLimiter(rateLimiter)
+                                        .setKeyResolver(keyResolver))
                                 .circuitBreaker(c -> c
                                         .setName("analyticsCircuitBreaker")
                                         .setFallbackUri("forward:/fallback/analytics"))
                                 .retry(retryConfig -> retryConfig
                                         .setRetries(3)
                                         .setMethods(HttpMethod.GET)
+                                        .setSeries()
+                                        .setStatuses(RETRYABLE_STATUSES)
                                         .setBackoff(Duration.ofMillis(100), Duration.ofMillis(1000), 2, false)))
                         .uri("lb://analytics-service"))
 
                 .build();
     }
 
-    @Bean
-    public RedisRateLimiter redisRateLimiter() {
-        return new RedisRateLimiter(100, 200, 1);
-    }
-
-    @Bean
-    public KeyResolver userKeyResolver() {
-        return exchange -> {
-            String userId = exchange.getRequest().getHeaders().getFirst("X-User-Id");
-            if (userId != null && !userId.isEmpty()) {
-                return Mono.just(userId);
-            }
-            String remoteAddress = exchange.getRequest().getRemoteAddress() != null 
-                ? exchange.getRequest().getRemoteAddress().getAddress().getHostAddress()
-                : "unknown";
-            return Mono.just(remoteAddress);
-        };
-    }
-
     @Bean
     public Customizer<ReactiveResilience4JCircuitBreakerFactory> defaultCustomizer() {
         return factory -> factory.configureDefault(id -> new Resilience4JConfigBuilder(id)
@@ -0,0 +1,77 @@
+package com.agriprocurement.gateway.config;
+
+import com.agriprocurement.common.security.config.KeycloakJwtAuthenticationConverter;
+import com.agriprocurement.common.security.identity.InternalIdentityCodec;
+import com.agriprocurement.gateway.security.CachingReactiveJwtDecoder;
+import com.agriprocurement.gateway.security.GatewaySecurityProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive security for the gateway.
+ * <p>
+ * Authorization stays with the downstream services; the gateway only validates bearer tokens when
+ * a JWT decoder is configured ({@code spring.security.oauth2.resourceserver.jwt.*}) so that rate
+ * limiting can rely on the verified subject, tenant and roles. Requests with an invalid token are
+ * rejected with 401, requests without one pass through anonymously.
+ * <p>
+ * Verified tokens are cached until they expire, and with {@code security.internal-identity.secret}
+ * set the verified identity is forwarded as a signed header so services need not verify the JWT
+ * again.
+ */
+@Slf4j
+@Configuration
+@EnableWebFluxSecurity
+@EnableConfigurationProperties(GatewaySecurityProperties.class)
+public class GatewaySecurityConfig {
+
+    @Value("${keycloak.resource:}")
+    private String keycloakResource;
+
+    @Bean
+    public SecurityWebFilterChain gatewaySecurityFilterChain(ServerHttpSecurity http,
+                                                             ObjectProvider<ReactiveJwtDecoder> jwtDecoder,
+                                                             GatewaySecurityProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        http
+            .csrf(ServerHttpSecurity.CsrfSpec::disable)
+            .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+            .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+            .authorizeExchange(exchanges -> exchanges.anyExchange().permitAll());
+
+        ReactiveJwtDecoder decoder = jwtDecoder.getIfAvailable();
+        if (decoder != null) {
+            ReactiveJwtDecoder verifier = properties.getTokenCache().isEnabled()
+                ? new CachingReactiveJwtDecoder(decoder, properties.getTokenCache().getMaxSize(), meterRegistry)
+                : decoder;
+            KeycloakJwtAuthenticationConverter converter = new KeycloakJwtAuthenticationConverter(
+                keycloakResource, properties.getTokenCache().isEnabled() ? properties.getTokenCache().getMaxSize() : 0);
+            http.oauth2ResourceServer(oauth2 -> oauth2
+                .jwt(jwt -> jwt
+                    .jwtDecoder(verifier)
+                    .jwtAuthenticationConverter(token -> Mono.just(converter.convert(token)))));
+            log.info("Gateway JWT validation enabled");
+        } else {
+            log.warn("No JWT decoder configured, rate limits fall back to client addresses");
+        }
+        return http.build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "security.internal-identity.secret")
+    public InternalIdentityCodec internalIdentityCodec(
+            @Value("${security.internal-identity.secret}") String internalIdentitySecret) {
+        return new InternalIdentityCodec(internalIdentitySecret);
+    }
+}
@@ -1,118 +1,117 @@
 package com.agriprocurement.gateway.filter;
 
-import lombok.extern.slf4j.Slf4j;
-import org.slf4j.MDC;
+import com.agriprocurement.common.observability.context.CorrelationId;
+import com.agriprocurement.gateway.accesslog.AccessLogProperties;
+import com.agriprocurement.gateway.accesslog.AccessLogRingBuffer;
+import com.agriprocurement.gateway.accesslog.AccessLogWriter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
 
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
-@Slf4j
+/**
+ * Assigns the correlation id and records one access log entry per request.
+ * <p>
+ * The correlation id is taken from the request when it is {@linkplain CorrelationId#isValid valid}
+ * and generated otherwise. It is forwarded as {@code X-Correlation-Id}, returned to the client and put into
+ * the Reactor context under {@link #CORRELATION_ID_CONTEXT_KEY} for downstream operators. Access log
+ * entries only hold references to request data and are copied into {@link AccessLogRingBuffer};
+ * formatting and I/O happen on the {@link AccessLogWriter} thread.
+ */
 @Component
 public class RequestLoggingFilter implements GlobalFilter, Ordered {
 
-    private static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
-    private static final String USER_ID_HEADER = "X-User-Id";
-    private static final String REQUEST_START_TIME = "requestStartTime";
+    public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+    public static final String CORRELATION_ID_CONTEXT_KEY = "correlationId";
+
+    private static final String NO_ROUTE = "-";
+
+    private final AccessLogProperties properties;
+    private final AccessLogRingBuffer buffer;
+    private final long slowThresholdNanos;
+
+    public RequestLoggingFilter(AccessLogProperties properties, AccessLogWriter writer) {
+        this.properties = properties;
+        this.buffer = writer.buffer();
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+    }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long startNanos = System.nanoTime();
         ServerHttpRequest request = exchange.getRequest();
-        
-        String correlationId = getOrCreateCorrelationId(request);
-        exchange.getAttributes().put(REQUEST_START_TIME, System.currentTimeMillis());
-        
-        try {
-            MDC.put(CORRELATION_ID_HEADER, correlationId);
-            
-            String userId = request.getHeaders().getFirst(USER_ID_HEADER);
-            if (userId != null) {
-                MDC.put(USER_ID_HEADER, userId);
-            }
-            
-            logRequest(request, correlationId);
-            
-            ServerHttpRequest mutatedRequest = request.mutate()
-                    .header(CORRELATION_ID_HEADER, correlationId)
-                    .build();
-            
-            ServerWebExchange mutatedExchange = exchange.mutate()
-                    .request(mutatedRequest)
+
+        String correlationId = request.getHeaders().getFirst(CORRELATION_ID_HEADER);
+        ServerWebExchange forwarded = exchange;
+        if (!CorrelationId.isValid(correlationId)) {
+            correlationId = newCorrelationId();
+            String id = correlationId;
+            forwarded = exchange.mutate()
+                    .request(builder -> builder.header(CORRELATION_ID_HEADER, id))
                     .build();
-            
-            return chain.filter(mutatedExchange)
-                    .doFinally(signalType -> {
-                        logResponse(mutatedExchange);
-                        MDC.clear();
-                    });
-                    
-        } catch (Exception e) {
-            log.error("Error in request logging filter", e);
-            MDC.clear();
-            return chain.filter(exchange);
         }
+        forwarded.getResponse().getHeaders().set(CORRELATION_ID_HEADER, correlationId);
+
+        String id = correlationId;
+        ServerWebExchange logged = forwarded;
+        return chain.filter(forwarded)
+                .doFinally(signal -> record(logged, id, System.nanoTime() - startNanos))
+                .contextWrite(context -> context.put(CORRELATION_ID_CONTEXT_KEY, id));
     }
 
-    private String getOrCreateCorrelationId(ServerHttpRequest request) {
-        String correlationId = request.getHeaders().getFirst(CORRELATION_ID_HEADER);
-        if (correlationId == null || correlationId.isEmpty()) {
-            correlationId = UUID.randomUUID().toString();
-        }
-        return correlationId;
+    /**
+     * Returns the correlation id of the request being processed, if any.
+     */
+    public static String correlationId(ContextView context) {
+        return context.getOrDefault(CORRELATION_ID_CONTEXT_KEY, null);
     }
 
-    private void logRequest(ServerHttpRequest request, String correlationId) {
-        log.info("Incoming request: method={}, uri={}, correlationId={}, remoteAddress={}",
-                request.getMethod(),
-                request.getURI(),
-                correlationId,
-                request.getRemoteAddress());
-        
-        if (log.isDebugEnabled()) {
-            HttpHeaders headers = request.getHeaders();
-            log.debug("Request headers: {}", sanitizeHeaders(headers));
+    private void record(ServerWebExchange exchange, String correlationId, long durationNanos) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        int status = statusCode != null ? statusCode.value() : 0;
+        if (!shouldLog(status, durationNanos)) {
+            return;
         }
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        buffer.publish(request.getMethod().name(), request.getPath().value(),
+                route != null ? route.getId() : NO_ROUTE, status, durationNanos, correlationId,
+                request.getRemoteAddress(), System.currentTimeMillis());
     }
 
-    private void logResponse(ServerWebExchange exchange) {
-        ServerHttpResponse response = exchange.getResponse();
-        Long startTime = exchange.getAttribute(REQUEST_START_TIME);
-        
-        long duration = startTime != null 
-                ? System.currentTimeMillis() - startTime 
-                : 0;
-        
-        String correlationId = exchange.getRequest().getHeaders().getFirst(CORRELATION_ID_HEADER);
-        
-        log.info("Outgoing response: status={}, correlationId={}, duration={}ms",
-                response.getStatusCode(),
-                correlationId,
-                duration);
-        
-        if (response.getHeaders().getFirst(CORRELATION_ID_HEADER) == null) {
-            response.getHeaders().add(CORRELATION_ID_HEADER, correlationId);
+    private boolean shouldLog(int status, long durationNanos) {
+        if (durationNanos >= slowThresholdNanos || (properties.isAlwaysLogErrors() && status >= 500)) {
+            return true;
         }
+        return switch (properties.getMode()) {
+            case ALL -> true;
+            case SAMPLED -> ThreadLocalRandom.current().nextDouble() < properties.getSampleRate();
+            case SLOW_ONLY -> false;
+        };
     }
 
-    private String sanitizeHeaders(HttpHeaders headers) {
-        HttpHeaders sanitized = new HttpHeaders();
-        headers.forEach((key, value) -> {
-            if (key.equalsIgnoreCase("authorization") || 
-                key.equalsIgnoreCase("cookie") ||
-                key.equalsIgnoreCase("set-cookie")) {
-                sanitized.add(key, "[REDACTED]");
-            } else {
-                sanitized.addAll(key, value);
-            }
-        });
-        return sanitized.toString();
+    /**
+     * Version 4 UUID without going through the shared {@code SecureRandom}; correlation ids only
+     * need to be unique, not unpredictable.
+     */
+    private static String newCorrelationId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSignificant = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSignificant = (random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(mostSignificant, leastSignificant).toString();
     }
 
     @Override
@@ -0,0 +1,182 @@
+package com.agriprocurement.gateway.filter;
+
+import com.agriprocurement.gateway.cache.ResponseCacheFilter;
+import com.agriprocurement.gateway.support.BodyCaptureResponseDecorator;
+import com.agriprocurement.gateway.support.ReplayableResponse;
+import com.agriprocurement.gateway.support.RequestKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collapses concurrent identical GET requests into one upstream call.
+ * <p>
+ * The first request for a key (route, path, query, accepted type and caller) is forwarded as the
+ * leader; requests arriving while it is in flight wait for its response and receive a copy. If the
+ * leader's response cannot be shared (not 2xx, too large, sets cookies, failed) or does not arrive
+ * within {@code gateway.single-flight.max-wait}, the waiting requests are forwarded on their own.
+ * Conditional and range requests are never coalesced, because their answer depends on headers that
+ * are not part of the key. Runs after the response cache, so only cache misses are coalesced.
+ */
+@Slf4j
+@Component
+public class SingleFlightFilter implements GlobalFilter, Ordered {
+
+    public static final String SINGLE_FLIGHT_HEADER = "X-Single-Flight";
+    public static final int ORDER = ResponseCacheFilter.ORDER + 1;
+
+    private static final List<String> CONDITIONAL_HEADERS = List.of(
+            HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE, HttpHeaders.IF_MATCH,
+            HttpHeaders.IF_UNMODIFIED_SINCE, HttpHeaders.IF_RANGE, HttpHeaders.RANGE);
+
+    private final SingleFlightProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, RouteCounters> counters = new ConcurrentHashMap<>();
+
+    public SingleFlightFilter(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("agri.gateway.single.flight.leaders", inFlight, Map::size)
+                .description("Upstream GET requests currently being shared with waiting requests")
+                .tag("type", "gateway")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.isEnabled() || route == null || !HttpMethod.GET.equals(request.getMethod())
+                || (!properties.getRoutes().isEmpty() && !properties.getRoutes().contains(route.getId()))
+                || isConditional(request.getHeaders())) {
+            return chain.filter(exchange);
+        }
+
+        String resource = RequestKeys.resource(request, route.getId());
+        RouteCounters routeCounters = counters.computeIfAbsent(route.getId(), this::registerCounters);
+        return RequestKeys.authScope(exchange).flatMap(scope -> {
+            String key = resource + ' ' + scope;
+            Flight flight = new Flight();
+            Flight leader = inFlight.putIfAbsent(key, flight);
+            if (leader != null) {
+                routeCounters.coalesced().increment();
+                return follow(exchange, chain, leader, routeCounters);
+            }
+            routeCounters.forwarded().increment();
+            return lead(exchange, chain, key, flight);
+        });
+    }
+
+    private Mono<Void> lead(ServerWebExchange exchange, GatewayFilterChain chain, String key, Flight flight) {
+        Set<String> ownHeaders = ReplayableResponse.ownHeaders(exchange.getResponse().getHeaders());
+        BodyCaptureResponseDecorator response = new BodyCaptureResponseDecorator(
+                exchange.getResponse(), (int) properties.getMaxBodySize().toBytes());
+        response.captured().subscribe(body -> {
+            inFlight.remove(key, flight);
+            HttpStatusCode status = response.getStatusCode();
+            if (status == null || !status.is2xxSuccessful() || response.getHeaders().containsKey(HttpHeaders.SET_COOKIE)) {
+                flight.abandon();
+            } else {
+                flight.share(ReplayableResponse.of(response, body, ownHeaders));
+            }
+        });
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, flight);
+                    flight.abandon();
+                });
+    }
+
+    private Mono<Void> follow(ServerWebExchange exchange, GatewayFilterChain chain, Flight leader,
+                              RouteCounters routeCounters) {
+        return leader.response()
+                .timeout(properties.getMaxWait(), Mono.empty())
+                .flatMap(shared -> {
+                    exchange.getResponse().getHeaders().set(SINGLE_FLIGHT_HEADER, "shared");
+                    return shared.writeTo(exchange.getResponse()).thenReturn(Boolean.TRUE);
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    routeCounters.fallback().increment();
+                    return chain.filter(exchange).thenReturn(Boolean.TRUE);
+                }))
+                .then();
+    }
+
+    private static boolean isConditional(HttpHeaders headers) {
+        for (String header : CONDITIONAL_HEADERS) {
+            if (headers.containsKey(header)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private RouteCounters registerCounters(String routeId) {
+        return new RouteCounters(
+                counter(routeId, "forwarded"),
+                counter(routeId, "coalesced"),
+                counter(routeId, "fallback"));
+    }
+
+    /**
+     * Outcomes: forwarded (leader), coalesced (joined a leader), fallback (joined, then forwarded
+     * because the shared response was unavailable).
+     */
+    private Counter counter(String routeId, String outcome) {
+        return Counter.builder("agri.gateway.single.flight.requests")
+                .description("GET requests handled by the single-flight filter")
+                .tag("type", "gateway")
+                .tag("route", routeId)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private record RouteCounters(Counter forwarded, Counter coalesced, Counter fallback) {
+    }
+
+    /**
+     * Result of a leader request; emissions are serialized because the capture and the
+     * chain completion may signal from different threads.
+     */
+    private static final class Flight {
+
+        private final Sinks.One<ReplayableResponse> result = Sinks.one();
+
+        Mono<ReplayableResponse> response() {
+            return result.asMono();
+        }
+
+        synchronized void share(ReplayableResponse response) {
+            result.tryEmitValue(response);
+        }
+
+        synchronized void abandon() {
+            result.tryEmitEmpty();
+        }
+    }
+}
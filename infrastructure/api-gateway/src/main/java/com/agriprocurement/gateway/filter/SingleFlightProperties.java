@@ -0,0 +1,28 @@
+package com.agriprocurement.gateway.filter;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Settings of the request coalescing filter.
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.single-flight")
+public class SingleFlightProperties {
+
+    private boolean enabled = true;
+
+    /** Route ids whose GET requests are coalesced; empty means every route. */
+    private Set<String> routes = new HashSet<>();
+
+    /** How long a waiting request follows the leader before it is forwarded on its own. */
+    private Duration maxWait = Duration.ofSeconds(10);
+
+    /** Responses larger than this are not shared; waiting requests are forwarded instead. */
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+}
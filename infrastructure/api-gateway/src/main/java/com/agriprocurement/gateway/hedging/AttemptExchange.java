@@ -0,0 +1,145 @@
+package com.agriprocurement.gateway.hedging;
+
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebExchangeDecorator;
+import reactor.netty.Connection;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One attempt of a hedged request: the original exchange with its own attributes and its own
+ * response status and headers.
+ * <p>
+ * The load balancer and routing filters run on an attempt as they would on the exchange itself,
+ * but what they record (chosen instance, request URL, upstream connection, status, headers) stays
+ * on the attempt. Only the winning attempt is copied onto the exchange with {@link #applyTo}, so
+ * the regular write filter streams the winner's body and nothing of the loser reaches the client.
+ */
+final class AttemptExchange extends ServerWebExchangeDecorator {
+
+    private final boolean hedge;
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Object> attributes;
+    private final AttemptResponse response;
+
+    private volatile Throwable error;
+
+    AttemptExchange(ServerWebExchange exchange, boolean hedge) {
+        super(exchange);
+        this.hedge = hedge;
+        this.attributes = new ConcurrentHashMap<>(exchange.getAttributes());
+        // Appended to by the load balancer filter, so each attempt needs its own copy
+        Collection<?> originalUrls = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ORIGINAL_REQUEST_URL_ATTR);
+        if (originalUrls != null) {
+            attributes.put(ServerWebExchangeUtils.GATEWAY_ORIGINAL_REQUEST_URL_ATTR, new LinkedHashSet<>(originalUrls));
+        }
+        this.response = new AttemptResponse(exchange.getResponse());
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public ServerHttpResponse getResponse() {
+        return response;
+    }
+
+    boolean hedge() {
+        return hedge;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    AttemptExchange fail(Throwable error) {
+        this.error = error;
+        return this;
+    }
+
+    Throwable error() {
+        return error;
+    }
+
+    /**
+     * Whether this attempt should only be served if no other attempt does better: it failed
+     * or the upstream answered with a server error.
+     */
+    boolean failed() {
+        HttpStatusCode status = response.getStatusCode();
+        return error != null || (status != null && status.is5xxServerError());
+    }
+
+    /**
+     * Releases the upstream connection of an attempt that received a response but lost.
+     */
+    void release() {
+        Connection connection = getAttribute(ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR);
+        if (connection != null) {
+            connection.dispose();
+        }
+    }
+
+    /**
+     * Makes this attempt's routing outcome and response head the exchange's own.
+     */
+    void applyTo(ServerWebExchange exchange) {
+        exchange.getAttributes().putAll(attributes);
+        ServerHttpResponse target = exchange.getResponse();
+        if (response.getStatusCode() != null) {
+            target.setStatusCode(response.getStatusCode());
+        }
+        target.getHeaders().clear();
+        target.getHeaders().putAll(response.getHeaders());
+    }
+
+    /**
+     * Keeps the status and headers the routing filter sets instead of passing them on.
+     */
+    private static final class AttemptResponse extends ServerHttpResponseDecorator {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private volatile HttpStatusCode status;
+
+        AttemptResponse(ServerHttpResponse delegate) {
+            super(delegate);
+            headers.putAll(delegate.getHeaders());
+        }
+
+        @Override
+        public boolean setStatusCode(HttpStatusCode status) {
+            this.status = status;
+            return true;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return status;
+        }
+
+        @Override
+        public boolean setRawStatusCode(Integer value) {
+            return setStatusCode(value != null ? HttpStatusCode.valueOf(value) : null);
+        }
+
+        @Override
+        public Integer getRawStatusCode() {
+            return status != null ? status.value() : null;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.agriprocurement.gateway.hedging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycleValidator;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hedges slow GET requests with a second attempt.
+ * <p>
+ * Runs right before the load balancer. The request goes through load balancing and routing as
+ * usual; if no response has arrived after the route's latency percentile, a second attempt goes
+ * through them again. The load balancer prices in the first attempt's outstanding request, so the
+ * second one normally lands on another instance. Both attempts are recorded by the load balancer
+ * lifecycle and keep the route's timeouts, since the regular routing filter sends them.
+ * <p>
+ * The first attempt to receive a non-5xx response wins; a 5xx or an error is only served when the
+ * other attempt does no better. The winner's body is then streamed by the regular write filter,
+ * and the loser is cancelled or its connection closed. Hedges are limited to
+ * {@code maxHedgePercent} of the route's requests so a slow backend does not get its load doubled.
+ */
+@Slf4j
+@Component
+public class HedgingFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 1;
+    public static final String HEDGE_HEADER = "X-Hedged";
+
+    private static final long CREDIT_PER_HEDGE = 100;
+    private static final long MAX_CREDIT = 10 * CREDIT_PER_HEDGE;
+
+    private final HedgingProperties properties;
+    private final LoadBalancerClientFactory clientFactory;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RouteHedging> routes = new ConcurrentHashMap<>();
+
+    public HedgingFilter(HedgingProperties properties, LoadBalancerClientFactory clientFactory,
+                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.clientFactory = clientFactory;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.isEnabled() || route == null
+                || exchange.getRequest().getMethod() != HttpMethod.GET
+                || ServerWebExchangeUtils.isAlreadyRouted(exchange)
+                || !"lb".equals(route.getUri().getScheme())
+                || !properties.getRoutes().contains(route.getId())) {
+            return chain.filter(exchange);
+        }
+
+        RouteHedging hedging = routes.computeIfAbsent(route.getId(), this::createRouteHedging);
+        hedging.earnCredit(properties.getMaxHedgePercent());
+        String serviceId = route.getUri().getHost();
+
+        // Once the primary has answered, even with a 5xx, there is nothing left to hedge
+        Sinks.One<Boolean> primaryDone = Sinks.one();
+        Mono<AttemptExchange> primary = attempt(exchange, chain, serviceId, hedging, false)
+                .doFinally(signal -> primaryDone.tryEmitValue(true));
+        Mono<AttemptExchange> hedge = Mono.delay(hedging.delay())
+                .takeUntilOther(primaryDone.asMono())
+                .filter(tick -> hedging.spendCredit())
+                .flatMap(tick -> {
+                    hedging.sent().increment();
+                    return attempt(exchange, chain, serviceId, hedging, true);
+                });
+
+        List<AttemptExchange> failed = new ArrayList<>(2);
+        return Flux.merge(primary, hedge)
+                .filter(attempt -> {
+                    if (!attempt.failed()) {
+                        return true;
+                    }
+                    synchronized (failed) {
+                        failed.add(attempt);
+                    }
+                    return false;
+                })
+                .next()
+                .switchIfEmpty(Mono.fromSupplier(() -> bestFailed(failed)))
+                .flatMap(winner -> {
+                    synchronized (failed) {
+                        failed.stream().filter(attempt -> attempt != winner).forEach(AttemptExchange::release);
+                    }
+                    if (winner.error() != null) {
+                        return Mono.error(winner.error());
+                    }
+                    (winner.hedge() ? hedging.hedgeWon() : hedging.primaryWon()).increment();
+                    winner.applyTo(exchange);
+                    if (winner.hedge()) {
+                        exchange.getResponse().getHeaders().set(HEDGE_HEADER, "true");
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Runs the rest of the chain, load balancing and routing included, on a copy of the exchange.
+     * Completes when the response head has arrived; errors are captured on the attempt.
+     */
+    private Mono<AttemptExchange> attempt(ServerWebExchange exchange, GatewayFilterChain chain, String serviceId,
+                                          RouteHedging hedging, boolean hedge) {
+        return Mono.defer(() -> {
+            AttemptExchange attempt = new AttemptExchange(exchange, hedge);
+            return chain.filter(attempt)
+                    .doOnCancel(() -> discard(attempt, serviceId))
+                    .then(Mono.fromSupplier(() -> {
+                        hedging.latency().record(attempt.elapsedNanos());
+                        return attempt;
+                    }))
+                    .onErrorResume(e -> Mono.just(attempt.fail(e)));
+        });
+    }
+
+    /**
+     * A server error response is preferred to a transport error, and an earlier one to a later one.
+     */
+    private static AttemptExchange bestFailed(List<AttemptExchange> failed) {
+        synchronized (failed) {
+            return failed.stream()
+                    .filter(attempt -> attempt.error() == null)
+                    .findFirst()
+                    .orElse(failed.get(0));
+        }
+    }
+
+    /**
+     * Tells the load balancer lifecycle that a cancelled attempt is over. The load balancer filter
+     * only reports attempts that complete or fail, so without this the instance would keep the
+     * cancelled request counted as in flight.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void discard(AttemptExchange attempt, String serviceId) {
+        attempt.release();
+        Response<ServiceInstance> lbResponse = attempt.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        DefaultRequest<RequestDataContext> request =
+                new DefaultRequest<>(new RequestDataContext(new RequestData(attempt.getRequest())));
+        CompletionContext context = new CompletionContext<>(CompletionContext.Status.DISCARD, request, lbResponse);
+        LoadBalancerLifecycleValidator.getSupportedLifecycleProcessors(
+                        clientFactory.getInstances(serviceId, LoadBalancerLifecycle.class),
+                        RequestDataContext.class, ResponseData.class, ServiceInstance.class)
+                .forEach(lifecycle -> lifecycle.onComplete(context));
+    }
+
+    private RouteHedging createRouteHedging(String routeId) {
+        log.info("Request hedging enabled for route {}: percentile={}, maxHedgePercent={}",
+                routeId, properties.getPercentile(), properties.getMaxHedgePercent());
+        return new RouteHedging(
+                new LatencyTracker(properties.getPercentile()),
+                new AtomicLong(),
+                counter("agri.gateway.hedge.sent", routeId, null,
+                        "Duplicate requests sent to a second instance"),
+                counter("agri.gateway.hedge.requests", routeId, "primary",
+                        "Hedge-eligible requests by which attempt answered first"),
+                counter("agri.gateway.hedge.requests", routeId, "hedge",
+                        "Hedge-eligible requests by which attempt answered first"),
+                properties.getMinDelay().toNanos(),
+                properties.getInitialDelay());
+    }
+
+    private Counter counter(String name, String routeId, String winner, String description) {
+        Counter.Builder builder = Counter.builder(name)
+                .description(description)
+                .tag("type", "gateway")
+                .tag("route", routeId);
+        if (winner != null) {
+            builder.tag("winner", winner);
+        }
+        return builder.register(meterRegistry);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * Per-route hedging state. The budget is a credit counter in hundredths of a hedge: every
+     * request earns {@code maxHedgePercent} and a hedge costs {@link #CREDIT_PER_HEDGE}.
+     */
+    private record RouteHedging(LatencyTracker latency, AtomicLong credit, Counter sent,
+                                Counter primaryWon, Counter hedgeWon,
+                                long minDelayNanos, Duration initialDelay) {
+
+        void earnCredit(int percent) {
+            credit.accumulateAndGet(percent, (current, earned) -> Math.min(MAX_CREDIT, current + earned));
+        }
+
+        boolean spendCredit() {
+            while (true) {
+                long current = credit.get();
+                if (current < CREDIT_PER_HEDGE) {
+                    return false;
+                }
+                if (credit.compareAndSet(current, current - CREDIT_PER_HEDGE)) {
+                    return true;
+                }
+            }
+        }
+
+        Duration delay() {
+            long percentile = latency.percentileNanos(System.nanoTime());
+            return percentile < 0 ? initialDelay : Duration.ofNanos(Math.max(minDelayNanos, percentile));
+        }
+    }
+}
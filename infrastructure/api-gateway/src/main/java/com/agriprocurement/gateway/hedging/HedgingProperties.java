@@ -0,0 +1,33 @@
+package com.agriprocurement.gateway.hedging;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Settings of hedged GET requests.
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.hedging")
+public class HedgingProperties {
+
+    private boolean enabled = true;
+
+    /** Route ids whose GET requests may be hedged; only {@code lb://} routes are eligible. */
+    private Set<String> routes = new HashSet<>();
+
+    /** Latency percentile of the route after which the duplicate request is sent. */
+    private double percentile = 95;
+
+    /** Lower bound of the hedge delay, so a fast route is not hedged on every request. */
+    private Duration minDelay = Duration.ofMillis(20);
+
+    /** Hedge delay used until enough latency samples have been collected. */
+    private Duration initialDelay = Duration.ofMillis(200);
+
+    /** Upper bound of hedged requests as a percentage of all eligible requests. */
+    private int maxHedgePercent = 10;
+}
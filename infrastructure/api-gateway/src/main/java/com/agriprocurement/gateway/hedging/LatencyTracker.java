@@ -0,0 +1,60 @@
+package com.agriprocurement.gateway.hedging;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recent latencies of one route and a periodically refreshed percentile over them.
+ * <p>
+ * Samples go into a fixed ring without locking; a lost update under contention only drops a
+ * sample. The percentile is recomputed at most every {@link #REFRESH_NANOS}, so the request
+ * path normally reads a cached value.
+ */
+final class LatencyTracker {
+
+    private static final int CAPACITY = 1024;
+    private static final int MIN_SAMPLES = 100;
+    private static final long REFRESH_NANOS = 1_000_000_000L;
+
+    private final long[] samples = new long[CAPACITY];
+    // Long, so the sample count of a busy route does not wrap to negative
+    private final AtomicLong count = new AtomicLong();
+    private final double percentile;
+
+    private volatile long cachedNanos = -1;
+    private volatile long refreshedAt;
+
+    LatencyTracker(double percentile) {
+        this.percentile = percentile;
+    }
+
+    void record(long nanos) {
+        long index = count.getAndIncrement();
+        samples[(int) (index & (CAPACITY - 1))] = nanos;
+    }
+
+    /**
+     * @return the configured percentile in nanoseconds, or -1 until enough samples exist
+     */
+    long percentileNanos(long now) {
+        if (now - refreshedAt > REFRESH_NANOS) {
+            refresh(now);
+        }
+        return cachedNanos;
+    }
+
+    private synchronized void refresh(long now) {
+        if (now - refreshedAt <= REFRESH_NANOS) {
+            return;
+        }
+        refreshedAt = now;
+        int size = (int) Math.min(count.get(), CAPACITY);
+        if (size < MIN_SAMPLES) {
+            return;
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        cachedNanos = sorted[Math.max(0, Math.min(size - 1, rank))];
+    }
+}
@@ -0,0 +1,194 @@
+package com.agriprocurement.gateway.ratelimit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rate limiter that decides locally and synchronizes with Redis in the background.
+ * <p>
+ * Every node keeps a {@link LocalTokenBucket} per route and key in a concurrent map, so admission
+ * costs a map lookup and a short uncontended lock instead of a Redis round trip. Every
+ * {@code gateway.rate-limit.sync-interval} the consumed-token deltas of all active buckets are
+ * added to per-key Redis counters and each bucket is charged for what the other nodes consumed.
+ * The resulting limit is approximate: the cluster can over-admit by at most what the other nodes
+ * consume within one sync interval. If Redis is unavailable the limiter degrades to per-node limits.
+ */
+@Slf4j
+@Primary
+@Component
+public class HybridRateLimiter extends AbstractRateLimiter<HybridRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "hybrid-rate-limiter";
+
+    private static final RedisScript<Long> PUBLISH_SCRIPT = RedisScript.of(
+            "local total = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return total", Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    private final RateLimitPolicyRegistry policyRegistry;
+    private final Map<String, Map<String, LocalTokenBucket>> buckets = new ConcurrentHashMap<>();
+
+    private Disposable syncTask;
+
+    public HybridRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+                             RateLimitProperties properties,
+                             RateLimitPolicyRegistry policyRegistry,
+                             ConfigurationService configurationService) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.policyRegistry = policyRegistry;
+    }
+
+    @PostConstruct
+    void startSync() {
+        syncTask = Flux.interval(properties.getSyncInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> synchronize(), 1)
+                .subscribe();
+        log.info("Hybrid rate limiter started: syncInterval={}", properties.getSyncInterval());
+    }
+
+    @PreDestroy
+    void stopSync() {
+        if (syncTask != null) {
+            syncTask.dispose();
+        }
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config limit = resolveLimit(routeId, id);
+        long now = System.nanoTime();
+        LocalTokenBucket bucket = bucketFor(routeId, id, limit, now);
+        long remaining = bucket.tryAcquire(limit.getRequestedTokens(), now);
+        boolean allowed = remaining >= 0;
+        return Mono.just(new Response(allowed, headers(limit, allowed ? remaining : 0)));
+    }
+
+    /**
+     * Keys produced by {@link PolicyKeyResolver} carry their policy. For keys from other resolvers
+     * the order is: route arguments from YAML filter definitions, per-route properties, defaults.
+     */
+    Config resolveLimit(String routeId, String id) {
+        RateLimitPolicy policy = policyRegistry.current().forRateLimitKey(id);
+        if (policy != null) {
+            return policy.limit();
+        }
+        Config limit = getConfig().get(routeId);
+        if (limit != null) {
+            return limit;
+        }
+        limit = properties.getRoutes().get(routeId);
+        return limit != null ? limit : properties.getDefaults();
+    }
+
+    private LocalTokenBucket bucketFor(String routeId, String id, Config limit, long now) {
+        Map<String, LocalTokenBucket> routeBuckets = buckets.get(routeId);
+        if (routeBuckets == null) {
+            routeBuckets = buckets.computeIfAbsent(routeId, key -> new ConcurrentHashMap<>());
+        }
+        LocalTokenBucket bucket = routeBuckets.get(id);
+        if (bucket == null || bucket.limit() != limit) {
+            // New key, or the limit was reconfigured: start from a fresh replica
+            bucket = routeBuckets.compute(id, (key, existing) ->
+                    existing != null && existing.limit() == limit
+                            ? existing
+                            : new LocalTokenBucket(limit, redisKey(routeId, key), now));
+        }
+        return bucket;
+    }
+
+    private String redisKey(String routeId, String id) {
+        return properties.getKeyPrefix() + ":{" + routeId + ":" + id + "}";
+    }
+
+    /**
+     * Publishes local deltas and reconciles every active bucket. Redis commands are issued
+     * concurrently and pipelined by the reactive connection.
+     */
+    Mono<Void> synchronize() {
+        long now = System.nanoTime();
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        return Flux.fromIterable(buckets.values())
+                .concatMap(routeBuckets -> Flux.fromIterable(routeBuckets.entrySet())
+                        .filter(entry -> !evictIfIdle(routeBuckets, entry.getKey(), entry.getValue(), now, idleNanos)))
+                .flatMap(entry -> publish(entry.getValue(), entry.getValue().drainUnsynced()), 64)
+                .then();
+    }
+
+    private Mono<Void> publish(LocalTokenBucket bucket, long delta) {
+        Config limit = bucket.limit();
+        long ttlMillis = Math.max(60_000L,
+                2_000L * limit.getBurstCapacity() / Math.max(1, limit.getReplenishRate()));
+        return redisTemplate.execute(PUBLISH_SCRIPT, List.of(bucket.redisKey()),
+                        List.of(Long.toString(delta), Long.toString(ttlMillis)))
+                .next()
+                .doOnNext(total -> bucket.reconcile(delta, total))
+                .onErrorResume(e -> {
+                    bucket.restoreUnsynced(delta);
+                    log.debug("Rate limit sync failed for {}: {}", bucket.redisKey(), e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Drops a bucket that has not been used for the idle timeout and has nothing left to publish.
+     */
+    private boolean evictIfIdle(Map<String, LocalTokenBucket> routeBuckets, String id,
+                                LocalTokenBucket bucket, long now, long idleNanos) {
+        if (!bucket.isIdle(now, idleNanos)) {
+            return false;
+        }
+        long pending = bucket.drainUnsynced();
+        if (pending > 0) {
+            bucket.restoreUnsynced(pending);
+            return false;
+        }
+        return routeBuckets.remove(id, bucket);
+    }
+
+    private Map<String, String> headers(Config limit, long remaining) {
+        if (!properties.isIncludeHeaders()) {
+            return Map.of();
+        }
+        return Map.of(
+                RedisRateLimiter.REMAINING_HEADER, Long.toString(remaining),
+                RedisRateLimiter.REPLENISH_RATE_HEADER, Integer.toString(limit.getReplenishRate()),
+                RedisRateLimiter.BURST_CAPACITY_HEADER, Integer.toString(limit.getBurstCapacity()),
+                RedisRateLimiter.REQUESTED_TOKENS_HEADER, Integer.toString(limit.getRequestedTokens()));
+    }
+
+    /**
+     * Limit definition: tokens added per second, bucket size and tokens charged per request.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Config {
+        private int replenishRate = 100;
+        private int burstCapacity = 200;
+        private int requestedTokens = 1;
+    }
+}
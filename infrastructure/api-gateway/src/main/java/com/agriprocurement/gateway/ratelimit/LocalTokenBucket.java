@@ -0,0 +1,106 @@
+package com.agriprocurement.gateway.ratelimit;
+
+/**
+ * Node-local replica of a global token bucket.
+ * <p>
+ * Local requests are charged immediately. Tokens consumed on other gateway nodes arrive in
+ * batches when the bucket is reconciled against the shared Redis counter, so every node refills
+ * at the global rate but is drained by the whole cluster's consumption. Between two syncs a node
+ * can only over-admit what the other nodes consumed in that interval.
+ */
+final class LocalTokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final HybridRateLimiter.Config limit;
+    private final String redisKey;
+    private final double capacity;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long unsyncedTokens;
+    private long lastSeenGlobal = -1;
+    private volatile long lastAccessNanos;
+
+    LocalTokenBucket(HybridRateLimiter.Config limit, String redisKey, long nowNanos) {
+        this.limit = limit;
+        this.redisKey = redisKey;
+        this.capacity = limit.getBurstCapacity();
+        this.tokensPerNano = (double) limit.getReplenishRate() / NANOS_PER_SECOND;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+        this.lastAccessNanos = nowNanos;
+    }
+
+    /**
+     * Takes {@code requested} tokens if available.
+     *
+     * @return the tokens left after the acquisition, or -1 if the request is rejected
+     */
+    synchronized long tryAcquire(int requested, long nowNanos) {
+        refill(nowNanos);
+        lastAccessNanos = nowNanos;
+        if (tokens < requested) {
+            return -1;
+        }
+        tokens -= requested;
+        unsyncedTokens += requested;
+        return (long) tokens;
+    }
+
+    /**
+     * Hands over the tokens consumed locally since the previous sync.
+     */
+    synchronized long drainUnsynced() {
+        long drained = unsyncedTokens;
+        unsyncedTokens = 0;
+        return drained;
+    }
+
+    /**
+     * Returns drained tokens that could not be published, so they go out with the next sync.
+     */
+    synchronized void restoreUnsynced(long delta) {
+        unsyncedTokens += delta;
+    }
+
+    /**
+     * Charges this replica for what the rest of the cluster consumed since the previous sync.
+     *
+     * @param publishedDelta tokens this node added to the global counter in this sync
+     * @param globalTotal    the global counter after adding {@code publishedDelta}
+     */
+    synchronized void reconcile(long publishedDelta, long globalTotal) {
+        long previous = lastSeenGlobal;
+        lastSeenGlobal = globalTotal;
+        if (previous < 0 || globalTotal < previous + publishedDelta) {
+            // First sync for this bucket, or the shared counter expired and restarted
+            return;
+        }
+        long remote = globalTotal - previous - publishedDelta;
+        if (remote > 0) {
+            tokens = Math.max(tokens - remote, -capacity);
+        }
+    }
+
+    boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - lastAccessNanos > idleNanos;
+    }
+
+    HybridRateLimiter.Config limit() {
+        return limit;
+    }
+
+    String redisKey() {
+        return redisKey;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
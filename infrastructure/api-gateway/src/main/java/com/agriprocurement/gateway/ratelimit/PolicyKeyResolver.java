@@ -0,0 +1,80 @@
+package com.agriprocurement.gateway.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+/**
+ * Resolves the rate limit key from the caller's validated JWT.
+ * <p>
+ * The subject and tenant come from the token verified by the gateway's resource server, never from
+ * client supplied headers; unauthenticated requests are counted per client address. The key is
+ * prefixed with the index of the matching {@link RateLimitPolicy}, which is how
+ * {@link HybridRateLimiter} finds the quota to apply.
+ */
+@Component
+@RequiredArgsConstructor
+public class PolicyKeyResolver implements KeyResolver {
+
+    private static final String UNKNOWN_ADDRESS = "unknown";
+
+    private final RateLimitPolicyRegistry policyRegistry;
+    private final RateLimitProperties properties;
+
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+        return exchange.getPrincipal()
+                .filter(JwtAuthenticationToken.class::isInstance)
+                .map(principal -> authenticatedKey(exchange, (JwtAuthenticationToken) principal))
+                .switchIfEmpty(Mono.fromSupplier(() -> anonymousKey(exchange)));
+    }
+
+    private String authenticatedKey(ServerWebExchange exchange, JwtAuthenticationToken authentication) {
+        RateLimitPolicyTable table = policyRegistry.current();
+        String subject = authentication.getToken().getSubject();
+        String tenant = authentication.getToken().getClaimAsString(properties.getTenantClaim());
+
+        RateLimitPolicy override = table.forKey(subject);
+        if (override != null) {
+            return override.keyPrefix() + subject;
+        }
+        if (tenant != null && (override = table.forKey(tenant)) != null) {
+            return override.keyPrefix() + tenant;
+        }
+
+        RateLimitPolicy policy = table.resolve(routeId(exchange), exchange.getRequest().getMethod(),
+                authentication.getAuthorities());
+        return switch (policy.keyBy()) {
+            case TENANT -> policy.keyPrefix() + (tenant != null ? tenant : subject);
+            case CLIENT_ADDRESS -> policy.keyPrefix() + clientAddress(exchange.getRequest());
+            case USER -> policy.keyPrefix() + subject;
+        };
+    }
+
+    private String anonymousKey(ServerWebExchange exchange) {
+        RateLimitPolicy policy = policyRegistry.current()
+                .resolve(routeId(exchange), exchange.getRequest().getMethod(), List.of());
+        return policy.keyPrefix() + clientAddress(exchange.getRequest());
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : null;
+    }
+
+    private static String clientAddress(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return remoteAddress != null && remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress()
+                : UNKNOWN_ADDRESS;
+    }
+}
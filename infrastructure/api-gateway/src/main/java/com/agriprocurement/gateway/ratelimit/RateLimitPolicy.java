@@ -0,0 +1,60 @@
+package com.agriprocurement.gateway.ratelimit;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * A resolved rate-limit policy. The index is the policy's position in its
+ * {@link RateLimitPolicyTable} and prefixes every rate limit key, so the limiter
+ * can find the policy again without a map lookup.
+ *
+ * @param authorities granted authorities (ROLE_*) of which the caller needs one; empty matches everyone
+ */
+public record RateLimitPolicy(int index,
+                              String name,
+                              Set<String> authorities,
+                              RateLimitProperties.KeyType keyBy,
+                              HybridRateLimiter.Config limit,
+                              String keyPrefix) {
+
+    public static final char KEY_SEPARATOR = '|';
+
+    RateLimitPolicy(int index, String name, Set<String> authorities,
+                    RateLimitProperties.KeyType keyBy, HybridRateLimiter.Config limit) {
+        this(index, name, Set.copyOf(authorities), keyBy, limit, Integer.toString(index) + KEY_SEPARATOR);
+    }
+
+    boolean appliesTo(Collection<? extends GrantedAuthority> granted) {
+        if (authorities.isEmpty()) {
+            return true;
+        }
+        for (GrantedAuthority authority : granted) {
+            if (authorities.contains(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the policy index in front of {@link #KEY_SEPARATOR} without allocating.
+     *
+     * @return the index, or -1 if the key was not produced by the policy key resolver
+     */
+    static int indexOf(String key) {
+        int index = 0;
+        for (int i = 0; i < key.length() && i < 10; i++) {
+            char c = key.charAt(i);
+            if (c == KEY_SEPARATOR) {
+                return i > 0 ? index : -1;
+            }
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,50 @@
+package com.agriprocurement.gateway.ratelimit;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the current {@link RateLimitPolicyTable}.
+ * <p>
+ * {@code gateway.rate-limit.*} is rebound by Spring Cloud on a configuration refresh
+ * ({@code POST /actuator/refresh} or a config server push); the table is then rebuilt and swapped
+ * in atomically, so in-flight requests keep using the table they started with.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitPolicyRegistry {
+
+    private final RateLimitProperties properties;
+
+    private volatile RateLimitPolicyTable table;
+
+    @PostConstruct
+    void init() {
+        refresh();
+    }
+
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void refresh() {
+        RateLimitPolicyTable rebuilt;
+        try {
+            rebuilt = RateLimitPolicyTable.build(properties);
+        } catch (IllegalArgumentException e) {
+            if (table == null) {
+                throw e;
+            }
+            log.error("Invalid rate limit policies, keeping the previous ones: {}", e.getMessage());
+            return;
+        }
+        table = rebuilt;
+        log.info("Loaded {} rate limit policies ({} configured)", rebuilt.size(), properties.getPolicies().size());
+    }
+
+    public RateLimitPolicyTable current() {
+        return table;
+    }
+}
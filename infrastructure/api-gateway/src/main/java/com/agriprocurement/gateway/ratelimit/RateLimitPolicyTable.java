@@ -0,0 +1,162 @@
+package com.agriprocurement.gateway.ratelimit;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable lookup table built from {@link RateLimitProperties}.
+ * <p>
+ * Policies are expanded up front into one candidate array per route and HTTP method, ordered by
+ * declaration and terminated by the route (or global) default, so resolving a request is two hash
+ * lookups and a scan over a short array. Nothing is allocated on that path.
+ */
+public final class RateLimitPolicyTable {
+
+    private static final Set<String> NO_AUTHORITIES = Set.of();
+
+    private final RateLimitPolicy[] policies;
+    private final Map<String, RouteEntry> routes;
+    private final RouteEntry anyRoute;
+    private final Map<String, RateLimitPolicy> keyOverrides;
+
+    private RateLimitPolicyTable(List<RateLimitPolicy> policies, Map<String, RouteEntry> routes,
+                                 RouteEntry anyRoute, Map<String, RateLimitPolicy> keyOverrides) {
+        this.policies = policies.toArray(new RateLimitPolicy[0]);
+        this.routes = Map.copyOf(routes);
+        this.anyRoute = anyRoute;
+        this.keyOverrides = Map.copyOf(keyOverrides);
+    }
+
+    public static RateLimitPolicyTable build(RateLimitProperties properties) {
+        List<RateLimitPolicy> all = new ArrayList<>();
+        List<Matcher> matchers = new ArrayList<>();
+
+        for (RateLimitProperties.Policy definition : properties.getPolicies()) {
+            Set<String> authorities = new LinkedHashSet<>();
+            for (String role : definition.getRoles()) {
+                String upperRole = role.toUpperCase();
+                authorities.add(upperRole.startsWith("ROLE_") ? upperRole : "ROLE_" + upperRole);
+            }
+            RateLimitPolicy policy = new RateLimitPolicy(all.size(), definition.getName(), authorities,
+                    definition.getKeyBy(), definition.getLimit());
+            all.add(policy);
+            Set<HttpMethod> methods = new LinkedHashSet<>();
+            definition.getMethods().forEach(method -> methods.add(HttpMethod.valueOf(method.toUpperCase())));
+            matchers.add(new Matcher(policy, Set.copyOf(definition.getRoutes()), methods));
+        }
+
+        Map<String, RateLimitPolicy> keyOverrides = new HashMap<>();
+        properties.getKeys().forEach((key, limit) -> {
+            RateLimitPolicy policy = new RateLimitPolicy(all.size(), "key:" + key, NO_AUTHORITIES,
+                    RateLimitProperties.KeyType.USER, limit);
+            all.add(policy);
+            keyOverrides.put(key, policy);
+        });
+
+        RateLimitPolicy fallback = new RateLimitPolicy(all.size(), "default", NO_AUTHORITIES,
+                RateLimitProperties.KeyType.USER, properties.getDefaults());
+        all.add(fallback);
+
+        Set<String> routeIds = new LinkedHashSet<>(properties.getRoutes().keySet());
+        matchers.forEach(matcher -> routeIds.addAll(matcher.routes()));
+
+        Map<String, RouteEntry> routes = new HashMap<>();
+        for (String routeId : routeIds) {
+            HybridRateLimiter.Config routeLimit = properties.getRoutes().get(routeId);
+            RateLimitPolicy terminal = fallback;
+            if (routeLimit != null) {
+                terminal = new RateLimitPolicy(all.size(), "route:" + routeId, NO_AUTHORITIES,
+                        RateLimitProperties.KeyType.USER, routeLimit);
+                all.add(terminal);
+            }
+            routes.put(routeId, RouteEntry.build(routeId, matchers, terminal));
+        }
+
+        return new RateLimitPolicyTable(all, routes, RouteEntry.build(null, matchers, fallback), keyOverrides);
+    }
+
+    /**
+     * Returns the first policy for the route and method that the caller's authorities satisfy.
+     */
+    public RateLimitPolicy resolve(String routeId, HttpMethod method,
+                                   Collection<? extends GrantedAuthority> authorities) {
+        RouteEntry entry = routeId != null ? routes.get(routeId) : null;
+        if (entry == null) {
+            entry = anyRoute;
+        }
+        RateLimitPolicy[] candidates = method != null ? entry.byMethod().get(method) : null;
+        if (candidates == null) {
+            candidates = entry.otherMethods();
+        }
+        for (RateLimitPolicy candidate : candidates) {
+            if (candidate.appliesTo(authorities)) {
+                return candidate;
+            }
+        }
+        // Unreachable: every candidate array ends with a policy without role requirements
+        return candidates[candidates.length - 1];
+    }
+
+    /**
+     * Returns the override configured for a caller (subject or tenant), if any.
+     */
+    public RateLimitPolicy forKey(String key) {
+        return key != null ? keyOverrides.get(key) : null;
+    }
+
+    /**
+     * Returns the policy a rate limit key was resolved with, or {@code null} for foreign keys.
+     */
+    public RateLimitPolicy forRateLimitKey(String key) {
+        int index = RateLimitPolicy.indexOf(key);
+        return index >= 0 && index < policies.length ? policies[index] : null;
+    }
+
+    public int size() {
+        return policies.length;
+    }
+
+    private record Matcher(RateLimitPolicy policy, Set<String> routes, Set<HttpMethod> methods) {
+
+        boolean matches(String routeId, HttpMethod method) {
+            boolean routeMatches = routes.isEmpty() || (routeId != null && routes.contains(routeId));
+            boolean methodMatches = methods.isEmpty() || (method != null && methods.contains(method));
+            return routeMatches && methodMatches;
+        }
+    }
+
+    private record RouteEntry(Map<HttpMethod, RateLimitPolicy[]> byMethod, RateLimitPolicy[] otherMethods) {
+
+        static RouteEntry build(String routeId, List<Matcher> matchers, RateLimitPolicy terminal) {
+            Map<HttpMethod, RateLimitPolicy[]> byMethod = new HashMap<>();
+            for (HttpMethod method : HttpMethod.values()) {
+                byMethod.put(method, candidates(routeId, method, matchers, terminal));
+            }
+            return new RouteEntry(Map.copyOf(byMethod), candidates(routeId, null, matchers, terminal));
+        }
+
+        private static RateLimitPolicy[] candidates(String routeId, HttpMethod method,
+                                                    List<Matcher> matchers, RateLimitPolicy terminal) {
+            List<RateLimitPolicy> candidates = new ArrayList<>();
+            for (Matcher matcher : matchers) {
+                if (matcher.matches(routeId, method)) {
+                    candidates.add(matcher.policy());
+                    if (matcher.policy().authorities().isEmpty()) {
+                        // Later policies can never be reached
+                        return candidates.toArray(new RateLimitPolicy[0]);
+                    }
+                }
+            }
+            candidates.add(terminal);
+            return candidates.toArray(new RateLimitPolicy[0]);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.agriprocurement.gateway.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings of the hybrid (node-local + Redis-synchronized) rate limiter and its policies.
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    /** How often consumed tokens are published to and reconciled with Redis. */
+    private Duration syncInterval = Duration.ofMillis(250);
+
+    /** Buckets without local traffic for this long are dropped after their final sync. */
+    private Duration idleTimeout = Duration.ofMinutes(5);
+
+    /** Prefix of the shared Redis counters. */
+    private String keyPrefix = "gateway:rate-limit";
+
+    /** Whether X-RateLimit-* headers are added to responses. */
+    private boolean includeHeaders = true;
+
+    /** JWT claim identifying the tenant (organization) of the caller. */
+    private String tenantClaim = "tenant_id";
+
+    /** Limit applied when no policy, key or route override matches. */
+    private HybridRateLimiter.Config defaults = new HybridRateLimiter.Config();
+
+    /** Per-route limits, keyed by route id; apply to every method and role of the route. */
+    private Map<String, HybridRateLimiter.Config> routes = new LinkedHashMap<>();
+
+    /** Per-caller limits (e.g. a partner integration account), keyed by JWT subject or tenant. */
+    private Map<String, HybridRateLimiter.Config> keys = new LinkedHashMap<>();
+
+    /** Policies by route, method and role; the first matching policy wins. */
+    private List<Policy> policies = new ArrayList<>();
+
+    @Data
+    public static class Policy {
+
+        /** Name used in logs and metrics. */
+        private String name;
+
+        /** Route ids the policy applies to; empty means every route. */
+        private List<String> routes = new ArrayList<>();
+
+        /** HTTP methods the policy applies to; empty means every method. */
+        private List<String> methods = new ArrayList<>();
+
+        /** Realm roles (without the ROLE_ prefix) of which the caller needs one; empty means any caller. */
+        private List<String> roles = new ArrayList<>();
+
+        /** What the quota is counted against. */
+        private KeyType keyBy = KeyType.USER;
+
+        private HybridRateLimiter.Config limit = new HybridRateLimiter.Config();
+    }
+
+    public enum KeyType {
+        /** The JWT subject; anonymous callers are counted per client address. */
+        USER,
+        /** The tenant claim, so all users of an organization share the quota. */
+        TENANT,
+        /** The client address, regardless of authentication. */
+        CLIENT_ADDRESS
+    }
+}
@@ -0,0 +1,23 @@
+package com.agriprocurement.gateway.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of token verification at the gateway.
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.security")
+public class GatewaySecurityProperties {
+
+    private TokenCache tokenCache = new TokenCache();
+
+    @Data
+    public static class TokenCache {
+
+        private boolean enabled = true;
+
+        /** Verified tokens kept in memory; each entry expires with its token. */
+        private long maxSize = 10_000;
+    }
+}
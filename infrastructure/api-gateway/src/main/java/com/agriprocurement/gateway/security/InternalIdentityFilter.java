@@ -0,0 +1,79 @@
+package com.agriprocurement.gateway.security;
+
+import com.agriprocurement.common.security.context.UserContext;
+import com.agriprocurement.common.security.context.UserContextHolder;
+import com.agriprocurement.common.security.identity.InternalIdentityCodec;
+import com.agriprocurement.gateway.concurrency.AdaptiveConcurrencyFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Passes the identity verified at the gateway to downstream services.
+ * <p>
+ * Any {@value InternalIdentityCodec#HEADER} sent by the client is removed. When the request was
+ * authenticated with a JWT and an internal identity secret is configured, a freshly signed header
+ * is added instead, so services can authenticate the request with one HMAC check. The header is
+ * computed once per verified token: it is cached against the {@link Jwt} instance, which the
+ * caching decoder hands out again for every request with the same token.
+ */
+@Component
+public class InternalIdentityFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = AdaptiveConcurrencyFilter.ORDER + 1;
+
+    private final InternalIdentityCodec codec;
+    private final Cache<Jwt, String> headers;
+
+    public InternalIdentityFilter(ObjectProvider<InternalIdentityCodec> codec, GatewaySecurityProperties properties) {
+        this.codec = codec.getIfAvailable();
+        this.headers = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(properties.getTokenCache().getMaxSize())
+                .build();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerWebExchange stripped = exchange.getRequest().getHeaders().containsKey(InternalIdentityCodec.HEADER)
+                ? exchange.mutate().request(request -> request.headers(h -> h.remove(InternalIdentityCodec.HEADER))).build()
+                : exchange;
+        if (codec == null) {
+            return chain.filter(stripped);
+        }
+
+        return stripped.getPrincipal()
+                .filter(JwtAuthenticationToken.class::isInstance)
+                .cast(JwtAuthenticationToken.class)
+                .mapNotNull(this::identityHeader)
+                .map(header -> stripped.mutate()
+                        .request(request -> request.header(InternalIdentityCodec.HEADER, header))
+                        .build())
+                .defaultIfEmpty(stripped)
+                .flatMap(chain::filter);
+    }
+
+    private String identityHeader(JwtAuthenticationToken authentication) {
+        Jwt jwt = authentication.getToken();
+        if (jwt.getExpiresAt() == null) {
+            return null;
+        }
+        return headers.get(jwt, token -> {
+            UserContext user = UserContextHolder.extractFromJwt(authentication);
+            return user != null ? codec.encode(user, token.getExpiresAt()) : null;
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
@@ -0,0 +1,86 @@
+package com.agriprocurement.gateway.support;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Response decorator that streams the body to the client unchanged while keeping a copy of it.
+ * <p>
+ * The copy is published through {@link #captured()} once the body has been written completely.
+ * If the body exceeds {@code maxBytes}, or the write fails or is cancelled, {@link #captured()}
+ * completes empty, so callers never observe a truncated body.
+ */
+public class BodyCaptureResponseDecorator extends ServerHttpResponseDecorator {
+
+    private final int maxBytes;
+    private final Sinks.One<byte[]> result = Sinks.one();
+
+    private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+    public BodyCaptureResponseDecorator(ServerHttpResponse delegate, int maxBytes) {
+        super(delegate);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Emits the complete body after it has been written, or completes empty if it was not captured.
+     */
+    public Mono<byte[]> captured() {
+        return result.asMono();
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        Flux<? extends DataBuffer> tapped = Flux.from(body)
+                .doOnNext(this::append)
+                .doOnComplete(this::publish)
+                .doOnError(e -> abandon())
+                .doOnCancel(this::abandon);
+        return super.writeWith(tapped);
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        return writeWith(Flux.from(body).flatMapSequential(part -> part));
+    }
+
+    @Override
+    public Mono<Void> setComplete() {
+        return super.setComplete().doOnSuccess(v -> publish());
+    }
+
+    private synchronized void append(DataBuffer buffer) {
+        if (copy == null) {
+            return;
+        }
+        int readable = buffer.readableByteCount();
+        if (copy.size() + readable > maxBytes) {
+            copy = null;
+            return;
+        }
+        byte[] chunk = new byte[readable];
+        int position = buffer.readPosition();
+        buffer.read(chunk);
+        buffer.readPosition(position);
+        copy.writeBytes(chunk);
+    }
+
+    private synchronized void publish() {
+        if (copy == null) {
+            result.tryEmitEmpty();
+        } else {
+            result.tryEmitValue(copy.toByteArray());
+        }
+    }
+
+    private void abandon() {
+        result.tryEmitEmpty();
+    }
+}
@@ -0,0 +1,60 @@
+package com.agriprocurement.gateway.support;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * An upstream response captured so it can be written again to other exchanges.
+ */
+public record ReplayableResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+    /** Per-connection headers that must not be copied from one response to another. */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            "connection", "keep-alive", "transfer-encoding", "content-length", "date", "age");
+
+    /**
+     * Captures a response, leaving out the headers named in {@code ownHeaders}.
+     */
+    public static ReplayableResponse of(ServerHttpResponse response, byte[] body, Set<String> ownHeaders) {
+        return new ReplayableResponse(response.getStatusCode(), copyHeaders(response.getHeaders(), ownHeaders), body);
+    }
+
+    /**
+     * Lower-case names of the headers already on a response before it is forwarded: set by the
+     * gateway for this particular request (correlation id, rate limits), so they must not be
+     * copied to the responses of other requests.
+     */
+    public static Set<String> ownHeaders(HttpHeaders headers) {
+        Set<String> names = new HashSet<>();
+        headers.keySet().forEach(name -> names.add(name.toLowerCase(Locale.ROOT)));
+        return names;
+    }
+
+    /**
+     * Copies the end-to-end headers of a response into a read-only instance, except those named
+     * in {@code ownHeaders}.
+     */
+    public static HttpHeaders copyHeaders(HttpHeaders source, Set<String> ownHeaders) {
+        HttpHeaders copy = new HttpHeaders();
+        source.forEach((name, values) -> {
+            String lowerCase = name.toLowerCase(Locale.ROOT);
+            if (!EXCLUDED_HEADERS.contains(lowerCase) && !ownHeaders.contains(lowerCase)) {
+                copy.addAll(name, values);
+            }
+        });
+        return HttpHeaders.readOnlyHttpHeaders(copy);
+    }
+
+    public Mono<Void> writeTo(ServerHttpResponse response) {
+        response.setStatusCode(status);
+        response.getHeaders().putAll(headers);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.agriprocurement.gateway.support;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Builds the keys under which filters treat GET requests as identical.
+ */
+public final class RequestKeys {
+
+    private static final String ANONYMOUS = "anonymous";
+
+    private RequestKeys() {
+    }
+
+    /**
+     * Route, path, query and accepted media type of the request.
+     */
+    public static String resource(ServerHttpRequest request, String routeId) {
+        String rawQuery = request.getURI().getRawQuery();
+        String accept = request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+        return routeId + ' ' + request.getPath().value()
+                + (rawQuery != null ? "?" + rawQuery : "")
+                + ' ' + (accept != null ? accept : "*/*");
+    }
+
+    /**
+     * Identifies whose view of the resource the response is: the authenticated principal, or a hash
+     * of the credentials when the gateway does not validate tokens, so different callers are never
+     * merged. Keys outlive the request, so they never contain the credentials themselves.
+     */
+    public static Mono<String> authScope(ServerWebExchange exchange) {
+        return exchange.getPrincipal()
+                .map(principal -> "user:" + principal.getName())
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+                    return authorization != null ? "credentials:" + sha256(authorization) : ANONYMOUS;
+                }));
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
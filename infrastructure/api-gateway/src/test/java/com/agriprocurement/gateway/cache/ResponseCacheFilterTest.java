@@ -0,0 +1,148 @@
+package com.agriprocurement.gateway.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFilterTest {
+
+    private static final String ROUTE = "procurement-service";
+    private static final String PATH = "/api/procurement/procurements/42";
+
+    private final Route route = Route.async()
+            .id(ROUTE)
+            .uri(URI.create("lb://" + ROUTE))
+            .predicate(exchange -> true)
+            .build();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private final ResponseCacheProperties.RouteCache routeCache = new ResponseCacheProperties.RouteCache();
+    private ResponseCacheFilter filter;
+    private String upstreamCacheControl;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.getRoutes().put(ROUTE, routeCache);
+        filter = new ResponseCacheFilter(new ResponseCache(properties, new SimpleMeterRegistry()), properties);
+    }
+
+    @Test
+    void shouldServeRepeatedRequestFromCache() {
+        // Given
+        send(request(null), "one");
+
+        // When
+        MockServerWebExchange second = send(request(null), "two");
+
+        // Then
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(second.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo("body");
+    }
+
+    @Test
+    void shouldNotServeAuthenticatedResponseToOtherCallers() {
+        // Given
+        send(request("Bearer alice"), "one");
+
+        // When
+        MockServerWebExchange anonymous = send(request(null), "two");
+        MockServerWebExchange bob = send(request("Bearer bob"), "three");
+
+        // Then
+        assertThat(upstreamCalls).hasValue(3);
+        assertThat(anonymous.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+        assertThat(bob.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+    }
+
+    @Test
+    void shouldShareEntryBetweenCallersWhenRouteDoesNotVaryByUser() {
+        // Given
+        routeCache.setVaryByUser(false);
+        send(request("Bearer alice"), "one");
+
+        // When
+        MockServerWebExchange bob = send(request("Bearer bob"), "two");
+        MockServerWebExchange anonymous = send(request(null), "three");
+
+        // Then
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(bob.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+        assertThat(anonymous.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+    }
+
+    @Test
+    void shouldNotShareResponseMarkedPrivate() {
+        // Given
+        routeCache.setVaryByUser(false);
+        upstreamCacheControl = "private, max-age=30";
+        send(request("Bearer alice"), "one");
+
+        // When
+        MockServerWebExchange bob = send(request("Bearer bob"), "two");
+
+        // Then
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(bob.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+    }
+
+    @Test
+    void shouldNotReplayHeadersSetByGatewayForEarlierRequest() {
+        // Given
+        send(request(null), "one");
+
+        // When
+        MockServerWebExchange second = send(request(null), "two");
+
+        // Then
+        HttpHeaders headers = second.getResponse().getHeaders();
+        assertThat(headers.get("X-Correlation-Id")).containsExactly("two");
+        assertThat(headers.getFirst("X-Upstream")).isEqualTo("yes");
+    }
+
+    private static MockServerHttpRequest request(String authorization) {
+        MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.get(PATH);
+        if (authorization != null) {
+            builder.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Runs the request through the filter, with a correlation id set by an earlier filter and an
+     * upstream answering 200.
+     */
+    private MockServerWebExchange send(MockServerHttpRequest request, String correlationId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        exchange.getResponse().getHeaders().set("X-Correlation-Id", correlationId);
+        GatewayFilterChain upstream = forwarded -> {
+            upstreamCalls.incrementAndGet();
+            forwarded.getResponse().setStatusCode(HttpStatus.OK);
+            forwarded.getResponse().getHeaders().set("X-Upstream", "yes");
+            if (upstreamCacheControl != null) {
+                forwarded.getResponse().getHeaders().setCacheControl(upstreamCacheControl);
+            }
+            return forwarded.getResponse().writeWith(Mono.just(
+                    DefaultDataBufferFactory.sharedInstance.wrap("body".getBytes(StandardCharsets.UTF_8))));
+        };
+        filter.filter(exchange, upstream).block();
+        return exchange;
+    }
+}
@@ -0,0 +1,158 @@
+package com.agriprocurement.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheTest {
+
+    private static final String ROUTE = "procurement-service";
+    private static final String OTHER_ROUTE = "order-service";
+    private static final String COLLECTION = "/api/procurement/procurements";
+
+    private final ResponseCache cache = new ResponseCache(new ResponseCacheProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void shouldEvictWrittenResourceItsParentsAndCollections() {
+        // Given
+        store(ROUTE, COLLECTION, true);
+        store(ROUTE, COLLECTION + "/42", false);
+        store(ROUTE, COLLECTION + "/42/bids", false);
+        store(ROUTE, COLLECTION + "/420", false);
+        store(OTHER_ROUTE, COLLECTION + "/42", false);
+
+        // When: a bid is placed on procurement 42
+        int evicted = cache.invalidateForWrite(ROUTE, COLLECTION + "/42/bids");
+
+        // Then: the sibling resource and the other route are kept
+        assertThat(evicted).isEqualTo(3);
+        assertThat(cached(ROUTE, COLLECTION)).isFalse();
+        assertThat(cached(ROUTE, COLLECTION + "/42")).isFalse();
+        assertThat(cached(ROUTE, COLLECTION + "/42/bids")).isFalse();
+        assertThat(cached(ROUTE, COLLECTION + "/420")).isTrue();
+        assertThat(cached(OTHER_ROUTE, COLLECTION + "/42")).isTrue();
+    }
+
+    @Test
+    void shouldEvictEntriesReferencingAggregateAsCompleteSegment() {
+        // Given
+        store(ROUTE, COLLECTION, true);
+        store(ROUTE, COLLECTION + "/42", false);
+        store(ROUTE, COLLECTION + "/42/bids", false);
+        store(ROUTE, COLLECTION + "/420", false);
+
+        // When
+        int evicted = cache.invalidateAggregate(ROUTE, "42");
+
+        // Then
+        assertThat(evicted).isEqualTo(3);
+        assertThat(cached(ROUTE, COLLECTION + "/420")).isTrue();
+    }
+
+    @Test
+    void shouldDropIndexOfInvalidatedAndEvictedEntries() {
+        // Given: one entry invalidated, one expired
+        store(ROUTE, COLLECTION + "/42", false);
+        cache.put(key(ROUTE, COLLECTION + "/43"), response(ROUTE, COLLECTION + "/43", false, Duration.ofMillis(1)));
+        cache.invalidateAggregate(ROUTE, "42");
+
+        // When: expired entries are removed by Caffeine's timer wheel, at about one second resolution
+        cache.put(key(ROUTE, COLLECTION + "/44"), response(ROUTE, COLLECTION + "/44", false, Duration.ofMinutes(1)));
+        await(() -> {
+            caffeine(cache).cleanUp();
+            return caffeine(cache).estimatedSize() == 1;
+        });
+
+        // Then: only the live entry is indexed
+        assertThat(index()).isNotEmpty().allSatisfy((token, keys) -> assertThat(keys).containsExactly(
+                key(ROUTE, COLLECTION + "/44")));
+    }
+
+    @Test
+    void shouldIndexEntryStoredAgainAfterExpiry() throws InterruptedException {
+        // Given
+        cache.put(key(ROUTE, COLLECTION + "/42"), response(ROUTE, COLLECTION + "/42", false, Duration.ofMillis(1)));
+        Thread.sleep(20);
+
+        // When
+        store(ROUTE, COLLECTION + "/42", false);
+
+        // Then
+        assertThat(cache.invalidateForWrite(ROUTE, COLLECTION + "/42")).isEqualTo(1);
+        assertThat(cached(ROUTE, COLLECTION + "/42")).isFalse();
+    }
+
+    @Test
+    void shouldKeepIndexBoundedUnderSizeEviction() {
+        // Given: room for only a few entries
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setMaxMemory(DataSize.ofKilobytes(4));
+        ResponseCache small = new ResponseCache(properties, new SimpleMeterRegistry());
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            String path = COLLECTION + "/" + i;
+            small.put(key(ROUTE, path), response(ROUTE, path, false, Duration.ofMinutes(1)));
+        }
+        caffeine(small).cleanUp();
+
+        // Then: one path and one id token per live entry, plus the shared segment tokens
+        Map<String, Set<String>> smallIndex = indexOf(small);
+        long live = caffeine(small).estimatedSize();
+        assertThat(live).isLessThan(500);
+        assertThat(smallIndex).hasSize((int) (2 * live + 3));
+    }
+
+    private void store(String routeId, String path, boolean collection) {
+        cache.put(key(routeId, path), response(routeId, path, collection, Duration.ofMinutes(1)));
+    }
+
+    private boolean cached(String routeId, String path) {
+        return cache.get(key(routeId, path)) != null;
+    }
+
+    private Map<String, Set<String>> index() {
+        return indexOf(cache);
+    }
+
+    private static Cache<?, ?> caffeine(ResponseCache responseCache) {
+        return (Cache<?, ?>) ReflectionTestUtils.getField(responseCache, "cache");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Set<String>> indexOf(ResponseCache responseCache) {
+        return (Map<String, Set<String>>) ReflectionTestUtils.getField(responseCache, "index");
+    }
+
+    private static String key(String routeId, String path) {
+        return routeId + ' ' + path + " */* anonymous";
+    }
+
+    private static CachedResponse response(String routeId, String path, boolean collection, Duration ttl) {
+        return new CachedResponse(routeId, path, collection, HttpStatus.OK, new HttpHeaders(), new byte[16],
+                "\"etag\"", ttl, System.currentTimeMillis());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
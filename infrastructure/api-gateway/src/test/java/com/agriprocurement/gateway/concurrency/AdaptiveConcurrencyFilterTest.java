@@ -0,0 +1,89 @@
+package com.agriprocurement.gateway.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyFilterTest {
+
+    private static final String ROUTE = "order-service";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger forwarded = new AtomicInteger();
+    private final Sinks.Empty<Void> backend = Sinks.empty();
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.incrementAndGet();
+        return backend.asMono();
+    };
+    private AdaptiveConcurrencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(1);
+        properties.setMinLimit(1);
+        properties.setRetryAfter(Duration.ofSeconds(2));
+        filter = new AdaptiveConcurrencyFilter(properties, meterRegistry);
+    }
+
+    @Test
+    void shouldRejectRequestOverLimitWithRetryAfter() {
+        // Given: one request holds the only slot
+        filter.filter(exchange(), chain).subscribe();
+
+        // When
+        MockServerWebExchange rejected = exchange();
+        filter.filter(rejected, chain).block();
+
+        // Then
+        assertThat(forwarded).hasValue(1);
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(rejected.getResponse().getBodyAsString().block())
+                .contains("\"status\":503", ROUTE + " is overloaded");
+        assertThat(meterRegistry.get("agri.gateway.concurrency.rejected").tag("route", ROUTE).counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldAdmitAgainOnceSlotIsReleased() {
+        // Given
+        filter.filter(exchange(), chain).subscribe();
+
+        // When
+        backend.tryEmitEmpty();
+        MockServerWebExchange next = exchange();
+        filter.filter(next, chain).block();
+
+        // Then
+        assertThat(forwarded).hasValue(2);
+        assertThat(next.getResponse().getStatusCode()).isNull();
+        assertThat(meterRegistry.get("agri.gateway.concurrency.inflight").tag("route", ROUTE).gauge().value())
+                .isZero();
+    }
+
+    private static MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders/42"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id(ROUTE)
+                .uri(URI.create("lb://" + ROUTE))
+                .predicate(e -> true)
+                .build());
+        return exchange;
+    }
+}
@@ -0,0 +1,101 @@
+package com.agriprocurement.gateway.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientConcurrencyLimitTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void shouldRejectBeyondLimitUntilSlotIsReleased() {
+        // Given
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(2);
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(properties);
+
+        // When / Then
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+        limit.release();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.getInflight()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldGrowWhileLatencyStaysAtBaseline() {
+        // Given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(new ConcurrencyLimitProperties());
+        warmUp(limit, 10 * MILLIS);
+
+        // When
+        sample(limit, 10 * MILLIS, 5);
+
+        // Then
+        assertThat(limit.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    void shouldShrinkWhenLatencyRises() {
+        // Given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(new ConcurrencyLimitProperties());
+        warmUp(limit, 10 * MILLIS);
+
+        // When: the backend starts queueing
+        sample(limit, 100 * MILLIS, 3);
+
+        // Then
+        assertThat(limit.getLimit()).isLessThan(20);
+    }
+
+    @Test
+    void shouldStayWithinMinAndMaxLimit() {
+        // Given
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setMinLimit(18);
+        properties.setMaxLimit(25);
+        GradientConcurrencyLimit growing = new GradientConcurrencyLimit(properties);
+        GradientConcurrencyLimit shrinking = new GradientConcurrencyLimit(properties);
+        warmUp(growing, 10 * MILLIS);
+        warmUp(shrinking, 10 * MILLIS);
+
+        // When
+        sample(growing, 10 * MILLIS, 50);
+        sample(shrinking, 1_000 * MILLIS, 5);
+
+        // Then
+        assertThat(growing.getLimit()).isEqualTo(25);
+        assertThat(shrinking.getLimit()).isEqualTo(18);
+    }
+
+    @Test
+    void shouldNotLearnFromAppLimitedRoute() {
+        // Given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(new ConcurrencyLimitProperties());
+        warmUp(limit, 10 * MILLIS);
+
+        // When: slow responses while the route used less than half of its limit
+        for (int i = 0; i < 5; i++) {
+            limit.tryAcquire();
+            limit.release(100 * MILLIS, 1);
+        }
+
+        // Then
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    private static void warmUp(GradientConcurrencyLimit limit, long rttNanos) {
+        // The first ten samples only establish the baseline latency
+        sample(limit, rttNanos, 10);
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    private static void sample(GradientConcurrencyLimit limit, long rttNanos, int samples) {
+        for (int i = 0; i < samples; i++) {
+            limit.tryAcquire();
+            limit.release(rttNanos, limit.getLimit());
+        }
+    }
+}
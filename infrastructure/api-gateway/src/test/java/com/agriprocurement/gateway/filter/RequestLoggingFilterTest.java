@@ -0,0 +1,85 @@
+package com.agriprocurement.gateway.filter;
+
+import com.agriprocurement.gateway.accesslog.AccessLogProperties;
+import com.agriprocurement.gateway.accesslog.AccessLogWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLoggingFilterTest {
+
+    private static final String HEADER = RequestLoggingFilter.CORRELATION_ID_HEADER;
+
+    private RequestLoggingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setEnabled(false);
+        filter = new RequestLoggingFilter(properties, new AccessLogWriter(properties, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void shouldGenerateVersion4CorrelationId() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders"));
+
+        // When
+        String forwarded = forward(exchange);
+
+        // Then
+        UUID id = UUID.fromString(forwarded);
+        assertThat(id.version()).isEqualTo(4);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(exchange.getResponse().getHeaders().getFirst(HEADER)).isEqualTo(forwarded);
+    }
+
+    @Test
+    void shouldKeepValidCorrelationIdFromClient() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/orders").header(HEADER, "checkout-42.retry_1"));
+
+        // When
+        String forwarded = forward(exchange);
+
+        // Then
+        assertThat(forwarded).isEqualTo("checkout-42.retry_1");
+    }
+
+    @Test
+    void shouldReplaceInvalidCorrelationIdFromClient() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/orders").header(HEADER, "x\" onload=alert(1)"));
+
+        // When
+        String forwarded = forward(exchange);
+
+        // Then
+        assertThat(forwarded).isNotEqualTo("x\" onload=alert(1)");
+        assertThat(UUID.fromString(forwarded).version()).isEqualTo(4);
+        assertThat(exchange.getResponse().getHeaders().get(HEADER)).containsExactly(forwarded);
+    }
+
+    /**
+     * Runs the filter and returns the correlation id of the request passed down the chain.
+     */
+    private String forward(MockServerWebExchange exchange) {
+        AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+        filter.filter(exchange, next -> {
+            forwarded.set(next);
+            return Mono.empty();
+        }).block();
+        return forwarded.get().getRequest().getHeaders().getFirst(HEADER);
+    }
+}
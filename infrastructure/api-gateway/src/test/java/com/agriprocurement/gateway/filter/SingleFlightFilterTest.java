@@ -0,0 +1,128 @@
+package com.agriprocurement.gateway.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightFilterTest {
+
+    private static final String ROUTE = "procurement-service";
+    private static final String PATH = "/api/procurement/procurements";
+
+    private final Route route = Route.async()
+            .id(ROUTE)
+            .uri(URI.create("lb://" + ROUTE))
+            .predicate(exchange -> true)
+            .build();
+    private final Sinks.Empty<Void> gate = Sinks.empty();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private SingleFlightFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SingleFlightFilter(new SingleFlightProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldShareSuccessfulResponseWithWaitingRequest() {
+        // Given
+        GatewayFilterChain upstream = upstream(HttpStatus.OK);
+        MockServerWebExchange leader = exchange(MockServerHttpRequest.get(PATH), "one");
+        MockServerWebExchange follower = exchange(MockServerHttpRequest.get(PATH), "two");
+
+        // When
+        Mono<Void> leading = filter.filter(leader, upstream).cache();
+        leading.subscribe();
+        Mono<Void> following = filter.filter(follower, upstream).cache();
+        following.subscribe();
+        gate.tryEmitEmpty();
+        leading.block();
+        following.block();
+
+        // Then
+        assertThat(upstreamCalls).hasValue(1);
+        HttpHeaders headers = follower.getResponse().getHeaders();
+        assertThat(headers.getFirst(SingleFlightFilter.SINGLE_FLIGHT_HEADER)).isEqualTo("shared");
+        assertThat(headers.get("X-Correlation-Id")).containsExactly("two");
+        assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo("body");
+    }
+
+    @Test
+    void shouldForwardWaitingRequestWhenLeaderFails() {
+        // Given
+        GatewayFilterChain upstream = upstream(HttpStatus.SERVICE_UNAVAILABLE);
+        MockServerWebExchange leader = exchange(MockServerHttpRequest.get(PATH), "one");
+        MockServerWebExchange follower = exchange(MockServerHttpRequest.get(PATH), "two");
+
+        // When
+        Mono<Void> leading = filter.filter(leader, upstream).cache();
+        leading.subscribe();
+        Mono<Void> following = filter.filter(follower, upstream).cache();
+        following.subscribe();
+        gate.tryEmitEmpty();
+        leading.block();
+        following.block();
+
+        // Then
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(follower.getResponse().getHeaders()).doesNotContainKey(SingleFlightFilter.SINGLE_FLIGHT_HEADER);
+    }
+
+    @Test
+    void shouldNotCoalesceConditionalRequests() {
+        // Given
+        GatewayFilterChain upstream = upstream(HttpStatus.OK);
+        MockServerWebExchange unconditional = exchange(MockServerHttpRequest.get(PATH), "one");
+        MockServerWebExchange conditional = exchange(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"v1\""), "two");
+
+        // When
+        filter.filter(unconditional, upstream).subscribe();
+        filter.filter(conditional, upstream).subscribe();
+
+        // Then
+        assertThat(upstreamCalls).hasValue(2);
+        gate.tryEmitEmpty();
+    }
+
+    private MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request, String correlationId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        exchange.getResponse().getHeaders().set("X-Correlation-Id", correlationId);
+        return exchange;
+    }
+
+    /**
+     * Upstream answering with the given status once the test opens the gate.
+     */
+    private GatewayFilterChain upstream(HttpStatus status) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            return gate.asMono().then(Mono.defer(() -> respond(exchange, status)));
+        };
+    }
+
+    private static Mono<Void> respond(ServerWebExchange exchange, HttpStatus status) {
+        exchange.getResponse().setStatusCode(status);
+        return exchange.getResponse().writeWith(Mono.just(
+                DefaultDataBufferFactory.sharedInstance.wrap("body".getBytes(StandardCharsets.UTF_8))));
+    }
+}
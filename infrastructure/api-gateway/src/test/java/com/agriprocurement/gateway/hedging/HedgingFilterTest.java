@@ -0,0 +1,199 @@
+package com.agriprocurement.gateway.hedging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HedgingFilterTest {
+
+    private static final String SERVICE = "procurement-service";
+    private static final Duration HEDGE_DELAY = Duration.ofMillis(50);
+
+    @SuppressWarnings("rawtypes")
+    private final LoadBalancerLifecycle lifecycle = mock(LoadBalancerLifecycle.class);
+    private final Route route = Route.async()
+            .id(SERVICE)
+            .uri(URI.create("lb://" + SERVICE))
+            .predicate(exchange -> true)
+            .build();
+
+    private HedgingFilter filter;
+    private MockServerWebExchange exchange;
+
+    @BeforeEach
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void setUp() {
+        HedgingProperties properties = new HedgingProperties();
+        properties.setRoutes(Set.of(SERVICE));
+        properties.setInitialDelay(HEDGE_DELAY);
+        properties.setMaxHedgePercent(100);
+        LoadBalancerClientFactory clientFactory = mock(LoadBalancerClientFactory.class);
+        when(clientFactory.getInstances(SERVICE, LoadBalancerLifecycle.class)).thenReturn((Map) Map.of("stats", lifecycle));
+        when(lifecycle.supports(any(), any(), any())).thenReturn(true);
+        filter = new HedgingFilter(properties, clientFactory, new SimpleMeterRegistry());
+
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/procurement/procurements"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR,
+                URI.create("lb://" + SERVICE + "/api/procurement/procurements"));
+    }
+
+    @Test
+    void shouldNotHedgeFastResponse() {
+        // Given
+        Upstream upstream = new Upstream(new Answer(Duration.ZERO, HttpStatus.OK));
+
+        // When
+        filter.filter(exchange, upstream).block();
+
+        // Then
+        assertThat(upstream.attempts()).isEqualTo(1);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(exchange.getResponse().getHeaders().containsKey(HedgingFilter.HEDGE_HEADER)).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    void shouldServeHedgeWhenItAnswersFirstAndDiscardPrimary() {
+        // Given
+        Upstream upstream = new Upstream(
+                new Answer(Duration.ofSeconds(5), HttpStatus.OK),
+                new Answer(Duration.ZERO, HttpStatus.OK));
+
+        // When
+        filter.filter(exchange, upstream).block(Duration.ofSeconds(2));
+
+        // Then
+        assertThat(upstream.attempts()).isEqualTo(2);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Instance")).isEqualTo("instance-2");
+        assertThat(exchange.getResponse().getHeaders().getFirst(HedgingFilter.HEDGE_HEADER)).isEqualTo("true");
+        assertThat((Object) exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR))
+                .isSameAs(upstream.instance(2));
+        ArgumentCaptor<CompletionContext> completion = ArgumentCaptor.forClass(CompletionContext.class);
+        // The loser is cancelled right after the winner has been emitted
+        verify(lifecycle, timeout(1000)).onComplete(completion.capture());
+        assertThat(completion.getValue().status()).isEqualTo(CompletionContext.Status.DISCARD);
+        assertThat(completion.getValue().getLoadBalancerResponse()).isSameAs(upstream.instance(1));
+    }
+
+    @Test
+    void shouldPreferHedgeOverPrimaryServerError() {
+        // Given: the primary fails after the hedge went out, the hedge answers later
+        Upstream upstream = new Upstream(
+                new Answer(Duration.ofMillis(100), HttpStatus.SERVICE_UNAVAILABLE),
+                new Answer(Duration.ofMillis(200), HttpStatus.OK));
+
+        // When
+        filter.filter(exchange, upstream).block(Duration.ofSeconds(2));
+
+        // Then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Instance")).isEqualTo("instance-2");
+    }
+
+    @Test
+    void shouldServeServerErrorWhenBothAttemptsFail() {
+        // Given
+        Upstream upstream = new Upstream(
+                new Answer(Duration.ofMillis(100), HttpStatus.SERVICE_UNAVAILABLE),
+                new Answer(Duration.ofMillis(100), HttpStatus.BAD_GATEWAY));
+
+        // When
+        filter.filter(exchange, upstream).block(Duration.ofSeconds(2));
+
+        // Then
+        assertThat(upstream.attempts()).isEqualTo(2);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    void shouldNotHedgeAfterPrimaryAnsweredWithServerError() {
+        // Given
+        Upstream upstream = new Upstream(new Answer(Duration.ZERO, HttpStatus.SERVICE_UNAVAILABLE));
+
+        // When
+        filter.filter(exchange, upstream).block(Duration.ofSeconds(2));
+        Mono.delay(HEDGE_DELAY.multipliedBy(2)).block();
+
+        // Then
+        assertThat(upstream.attempts()).isEqualTo(1);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        verify(lifecycle, never()).onComplete(any());
+    }
+
+    private record Answer(Duration delay, HttpStatus status) {
+    }
+
+    /**
+     * Stands in for the load balancer and routing filters: the n-th attempt is routed to
+     * instance-n and gets the n-th answer after its delay.
+     */
+    private static final class Upstream implements GatewayFilterChain {
+
+        private final List<Answer> answers;
+        private final List<DefaultResponse> instances = new ArrayList<>();
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        Upstream(Answer... answers) {
+            this.answers = List.of(answers);
+            for (int i = 1; i <= answers.length; i++) {
+                instances.add(new DefaultResponse(
+                        new DefaultServiceInstance("instance-" + i, SERVICE, "host-" + i, 8080, false)));
+            }
+        }
+
+        int attempts() {
+            return attempts.get();
+        }
+
+        DefaultResponse instance(int attempt) {
+            return instances.get(attempt - 1);
+        }
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange) {
+            int attempt = attempts.incrementAndGet();
+            Answer answer = answers.get(attempt - 1);
+            exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR, instance(attempt));
+            return Mono.delay(answer.delay())
+                    .doOnNext(tick -> {
+                        exchange.getResponse().setStatusCode(answer.status());
+                        exchange.getResponse().getHeaders().set("X-Instance", "instance-" + attempt);
+                        ServerWebExchangeUtils.setAlreadyRouted(exchange);
+                    })
+                    .then();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.agriprocurement.gateway.hedging;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyTrackerTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void shouldReportNoPercentileUntilEnoughSamples() {
+        // Given
+        LatencyTracker tracker = new LatencyTracker(95);
+        for (int i = 0; i < 99; i++) {
+            tracker.record(1_000);
+        }
+
+        // When / Then
+        assertThat(tracker.percentileNanos(2 * SECOND)).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldComputePercentileOfRecentSamples() {
+        // Given: 1..200 ms
+        LatencyTracker tracker = new LatencyTracker(95);
+        for (int i = 1; i <= 200; i++) {
+            tracker.record(i * 1_000_000L);
+        }
+
+        // When / Then
+        assertThat(tracker.percentileNanos(2 * SECOND)).isEqualTo(190_000_000L);
+    }
+
+    @Test
+    void shouldKeepRefreshingAfterSampleCountPassesIntRange() {
+        // Given: a route that has recorded more than 2^31 samples
+        LatencyTracker tracker = new LatencyTracker(50);
+        AtomicLong count = (AtomicLong) ReflectionTestUtils.getField(tracker, "count");
+        count.set(Integer.MAX_VALUE - 10L);
+        for (int i = 0; i < 1024; i++) {
+            tracker.record(5_000_000L);
+        }
+        assertThat(tracker.percentileNanos(2 * SECOND)).isEqualTo(5_000_000L);
+
+        // When: latency moves after the count crossed Integer.MAX_VALUE
+        for (int i = 0; i < 1024; i++) {
+            tracker.record(9_000_000L);
+        }
+
+        // Then: the percentile still follows it
+        assertThat(count.get()).isGreaterThan(Integer.MAX_VALUE);
+        assertThat(tracker.percentileNanos(4 * SECOND)).isEqualTo(9_000_000L);
+    }
+}
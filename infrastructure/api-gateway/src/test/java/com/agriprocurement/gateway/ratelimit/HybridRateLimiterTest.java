@@ -0,0 +1,125 @@
+package com.agriprocurement.gateway.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HybridRateLimiterTest {
+
+    private static final String ROUTE = "procurement-service";
+    private static final String KEY = "user-1";
+
+    private final ReactiveStringRedisTemplate redisTemplate = mock(ReactiveStringRedisTemplate.class);
+    private final AtomicLong globalCounter = new AtomicLong();
+    private final List<Long> published = new ArrayList<>();
+    private HybridRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        // Replenishes one token in 100s, so refill does not interfere with the assertions
+        properties.setDefaults(new HybridRateLimiter.Config(1, 100, 1));
+        properties.getRoutes().put(ROUTE, new HybridRateLimiter.Config(1, 3, 1));
+        RateLimitPolicyRegistry registry = new RateLimitPolicyRegistry(properties);
+        registry.refresh();
+        limiter = new HybridRateLimiter(redisTemplate, properties, registry, mock(ConfigurationService.class));
+    }
+
+    @Test
+    void shouldEnforceRouteLimitLocally() {
+        // When
+        List<Boolean> decisions = admit(4);
+
+        // Then
+        assertThat(decisions).containsExactly(true, true, true, false);
+        RateLimiter.Response rejected = limiter.isAllowed(ROUTE, KEY).block();
+        assertThat(rejected.getHeaders())
+                .containsEntry(RedisRateLimiter.REMAINING_HEADER, "0")
+                .containsEntry(RedisRateLimiter.BURST_CAPACITY_HEADER, "3");
+    }
+
+    @Test
+    void shouldFallBackToLocalLimitWhenRedisIsDown() {
+        // Given
+        redisFails();
+
+        // When: sync fails in between requests
+        admit(1);
+        limiter.synchronize().block();
+        List<Boolean> decisions = admit(3);
+
+        // Then: the node keeps admitting up to its own limit
+        assertThat(decisions).containsExactly(true, true, false);
+    }
+
+    @Test
+    void shouldPublishTokensWithheldDuringOutageOnceRedisIsBack() {
+        // Given
+        redisFails();
+        admit(2);
+        limiter.synchronize().block();
+
+        // When
+        redisCounts();
+        limiter.synchronize().block();
+
+        // Then
+        assertThat(published).containsExactly(2L);
+        assertThat(globalCounter.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldChargeConsumptionOfOtherNodes() {
+        // Given: this node has synced once
+        redisCounts();
+        admit(1);
+        limiter.synchronize().block();
+
+        // When: another node used one token before the next sync
+        globalCounter.addAndGet(1);
+        limiter.synchronize().block();
+
+        // Then: one token is left of three
+        assertThat(admit(2)).containsExactly(true, false);
+    }
+
+    private List<Boolean> admit(int requests) {
+        List<Boolean> decisions = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            decisions.add(limiter.isAllowed(ROUTE, KEY).block().isAllowed());
+        }
+        return decisions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void redisFails() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                .thenReturn(Flux.error(new RedisConnectionFailureException("Connection refused")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void redisCounts() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList())).thenAnswer(invocation -> {
+            List<String> args = invocation.getArgument(2);
+            long delta = Long.parseLong(args.get(0));
+            published.add(delta);
+            return Flux.just(globalCounter.addAndGet(delta));
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.agriprocurement.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalTokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    // 10 tokens per second, at most 5 stored
+    private final HybridRateLimiter.Config limit = new HybridRateLimiter.Config(10, 5, 1);
+
+    @Test
+    void shouldAdmitBurstThenReject() {
+        // Given
+        LocalTokenBucket bucket = new LocalTokenBucket(limit, "key", 0);
+
+        // When / Then
+        for (int i = 4; i >= 0; i--) {
+            assertThat(bucket.tryAcquire(1, 0)).isEqualTo(i);
+        }
+        assertThat(bucket.tryAcquire(1, 0)).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldRefillAtReplenishRateUpToCapacity() {
+        // Given: an empty bucket
+        LocalTokenBucket bucket = new LocalTokenBucket(limit, "key", 0);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(1, 0);
+        }
+
+        // When / Then: 10 per second is one token every 100ms
+        assertThat(bucket.tryAcquire(1, SECOND / 20)).isEqualTo(-1);
+        assertThat(bucket.tryAcquire(1, SECOND / 10)).isZero();
+        assertThat(bucket.tryAcquire(1, 10 * SECOND)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldChargeTokensConsumedByOtherNodes() {
+        // Given
+        LocalTokenBucket bucket = new LocalTokenBucket(limit, "key", 0);
+        bucket.tryAcquire(1, 0);
+        long delta = bucket.drainUnsynced();
+
+        // When: first sync sees 1; the next sync sees 3 more from elsewhere on top of our 0
+        bucket.reconcile(delta, 1);
+        bucket.reconcile(0, 4);
+
+        // Then: 5 - 1 local - 3 remote
+        assertThat(bucket.tryAcquire(1, 0)).isZero();
+        assertThat(bucket.tryAcquire(1, 0)).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldIgnoreFirstSyncAndCounterRestart() {
+        // Given
+        LocalTokenBucket bucket = new LocalTokenBucket(limit, "key", 0);
+
+        // When: a fresh bucket joins a busy counter, then the counter expires and restarts
+        bucket.reconcile(0, 1_000);
+        bucket.reconcile(0, 2);
+
+        // Then: neither charges the bucket
+        assertThat(bucket.tryAcquire(1, 0)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldKeepUnpublishedTokensForNextSync() {
+        // Given
+        LocalTokenBucket bucket = new LocalTokenBucket(limit, "key", 0);
+        bucket.tryAcquire(1, 0);
+        bucket.tryAcquire(1, 0);
+
+        // When: the publish fails and the delta is handed back, then one more request arrives
+        bucket.restoreUnsynced(bucket.drainUnsynced());
+        bucket.tryAcquire(1, 0);
+
+        // Then
+        assertThat(bucket.drainUnsynced()).isEqualTo(3);
+        assertThat(bucket.drainUnsynced()).isZero();
+    }
+}
@@ -0,0 +1,39 @@
+package com.agriprocurement.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.http.HttpMethod;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitPolicyRegistryTest {
+
+    private final RateLimitProperties properties = new RateLimitProperties();
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(RateLimitProperties.class, () -> properties)
+            .withBean(RateLimitPolicyRegistry.class);
+
+    @Test
+    void shouldRebuildTableOnRefreshEvent() {
+        contextRunner.run(context -> {
+            // Given
+            RateLimitPolicyRegistry registry = context.getBean(RateLimitPolicyRegistry.class);
+            RateLimitPolicyTable initial = registry.current();
+            assertThat(initial.resolve("order-service", HttpMethod.GET, List.of()).name()).isEqualTo("default");
+
+            // When: the properties were rebound with a new route limit
+            properties.getRoutes().put("order-service", new HybridRateLimiter.Config(10, 20, 1));
+            context.publishEvent(new RefreshScopeRefreshedEvent());
+
+            // Then
+            assertThat(registry.current()).isNotSameAs(initial);
+            assertThat(registry.current().resolve("order-service", HttpMethod.GET, List.of()).name())
+                    .isEqualTo("route:order-service");
+            assertThat(initial.resolve("order-service", HttpMethod.GET, List.of()).name()).isEqualTo("default");
+        });
+    }
+}
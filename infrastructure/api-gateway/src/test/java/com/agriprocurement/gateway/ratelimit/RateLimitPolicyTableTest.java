@@ -0,0 +1,100 @@
+package com.agriprocurement.gateway.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitPolicyTableTest {
+
+    private static final String ORDERS = "order-service";
+
+    private RateLimitPolicyTable table;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getPolicies().add(policy("admin-writes", List.of(ORDERS), List.of("POST"), List.of("admin")));
+        properties.getPolicies().add(policy("buyers", List.of(ORDERS), List.of(), List.of("ROLE_buyer", "farmer")));
+        properties.getPolicies().add(policy("reads", List.of(), List.of("GET"), List.of()));
+        properties.getPolicies().add(policy("never-reached", List.of(), List.of("GET"), List.of("buyer")));
+        properties.getRoutes().put(ORDERS, new HybridRateLimiter.Config(10, 20, 1));
+        properties.getKeys().put("partner-1", new HybridRateLimiter.Config(1000, 2000, 1));
+        table = RateLimitPolicyTable.build(properties);
+    }
+
+    @Test
+    void shouldResolveFirstMatchingPolicyInDeclarationOrder() {
+        // When / Then
+        assertThat(resolve(ORDERS, HttpMethod.POST, "ROLE_BUYER", "ROLE_ADMIN")).isEqualTo("admin-writes");
+        assertThat(resolve(ORDERS, HttpMethod.POST, "ROLE_BUYER")).isEqualTo("buyers");
+        assertThat(resolve(ORDERS, HttpMethod.GET, "ROLE_FARMER")).isEqualTo("buyers");
+        assertThat(resolve(ORDERS, HttpMethod.GET)).isEqualTo("reads");
+        assertThat(resolve("inventory-service", HttpMethod.GET, "ROLE_BUYER")).isEqualTo("reads");
+    }
+
+    @Test
+    void shouldFallBackToRouteLimitThenDefault() {
+        // When / Then
+        assertThat(resolve(ORDERS, HttpMethod.DELETE)).isEqualTo("route:" + ORDERS);
+        assertThat(resolve("inventory-service", HttpMethod.POST, "ROLE_BUYER")).isEqualTo("default");
+        assertThat(resolve(null, null)).isEqualTo("default");
+    }
+
+    @Test
+    void shouldResolveCallerOverride() {
+        // When / Then
+        assertThat(table.forKey("partner-1").name()).isEqualTo("key:partner-1");
+        assertThat(table.forKey("user-1")).isNull();
+        assertThat(table.forKey(null)).isNull();
+    }
+
+    @Test
+    void shouldFindPolicyFromItsRateLimitKey() {
+        // Given
+        RateLimitPolicy policy = table.resolve(ORDERS, HttpMethod.POST, authorities("ROLE_BUYER"));
+
+        // When / Then
+        assertThat(table.forRateLimitKey(policy.keyPrefix() + "user-1")).isSameAs(policy);
+        assertThat(table.forRateLimitKey(table.size() + "|user-1")).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedKeyPrefix() {
+        // When / Then
+        assertThat(RateLimitPolicy.indexOf("12|user-1")).isEqualTo(12);
+        assertThat(RateLimitPolicy.indexOf("0|")).isZero();
+        assertThat(RateLimitPolicy.indexOf("|user-1")).isEqualTo(-1);
+        assertThat(RateLimitPolicy.indexOf("1a|user-1")).isEqualTo(-1);
+        assertThat(RateLimitPolicy.indexOf("-1|user-1")).isEqualTo(-1);
+        assertThat(RateLimitPolicy.indexOf("12")).isEqualTo(-1);
+        assertThat(RateLimitPolicy.indexOf("")).isEqualTo(-1);
+        // Longer than any index a table can have; also keeps the parse from overflowing
+        assertThat(RateLimitPolicy.indexOf("9999999999|user-1")).isEqualTo(-1);
+        assertThat(table.forRateLimitKey("user-1|0")).isNull();
+    }
+
+    private String resolve(String routeId, HttpMethod method, String... authorities) {
+        return table.resolve(routeId, method, authorities(authorities)).name();
+    }
+
+    private static List<GrantedAuthority> authorities(String... authorities) {
+        return AuthorityUtils.createAuthorityList(authorities);
+    }
+
+    private static RateLimitProperties.Policy policy(String name, List<String> routes, List<String> methods,
+                                                     List<String> roles) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setName(name);
+        policy.setRoutes(routes);
+        policy.setMethods(methods);
+        policy.setRoles(roles);
+        policy.setLimit(new HybridRateLimiter.Config(5, 10, 1));
+        return policy;
+    }
+}
@@ -0,0 +1,135 @@
+package com.agriprocurement.gateway.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingReactiveJwtDecoderTest {
+
+    private static RSAKey signingKey;
+    private static RSAKey otherKey;
+
+    private final AtomicInteger verifications = new AtomicInteger();
+    private CachingReactiveJwtDecoder decoder;
+
+    @BeforeAll
+    static void generateKeys() throws JOSEException {
+        signingKey = new RSAKeyGenerator(2048).keyID("signing").generate();
+        otherKey = new RSAKeyGenerator(2048).keyID("signing").generate();
+    }
+
+    @BeforeEach
+    void setUp() throws JOSEException {
+        ReactiveJwtDecoder verifier = NimbusReactiveJwtDecoder.withPublicKey(signingKey.toRSAPublicKey()).build();
+        ReactiveJwtDecoder counting = token -> {
+            verifications.incrementAndGet();
+            return verifier.decode(token);
+        };
+        decoder = new CachingReactiveJwtDecoder(counting, 100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldVerifyTokenOnceUntilItExpires() throws JOSEException {
+        // Given
+        String token = token(signingKey, Instant.now().plusSeconds(300));
+
+        // When
+        Jwt first = decoder.decode(token).block();
+        Jwt second = decoder.decode(token).block();
+
+        // Then
+        assertThat(first.getSubject()).isEqualTo("user-1");
+        assertThat(second).isSameAs(first);
+        assertThat(verifications.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldVerifyAgainOnceCachedTokenHasExpired() throws Exception {
+        // Given: still inside the verifier's clock skew after exp, so only the cache expires
+        String token = token(signingKey, Instant.now().plusSeconds(1));
+        decoder.decode(token).block();
+
+        // When
+        Thread.sleep(1500);
+        decoder.decode(token).block();
+
+        // Then
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectTamperedSignatureEveryTime() throws JOSEException {
+        // Given
+        String token = token(signingKey, Instant.now().plusSeconds(300));
+        int index = token.length() - 10;
+        String tampered = token.substring(0, index) + (token.charAt(index) == 'A' ? 'B' : 'A')
+                + token.substring(index + 1);
+
+        // When / Then: rejected tokens are not cached
+        assertThatThrownBy(() -> decoder.decode(tampered).block()).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode(tampered).block()).isInstanceOf(JwtException.class);
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithAnotherKey() throws JOSEException {
+        // Given: same key id, different key
+        String token = token(otherKey, Instant.now().plusSeconds(300));
+
+        // When / Then
+        assertThatThrownBy(() -> decoder.decode(token).block()).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void shouldRejectExpiredToken() throws JOSEException {
+        // Given: expired beyond the verifier's clock skew
+        String token = token(signingKey, Instant.now().minusSeconds(600));
+
+        // When / Then
+        assertThatThrownBy(() -> decoder.decode(token).block()).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode(token).block()).isInstanceOf(JwtException.class);
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectMalformedAndTruncatedTokens() throws JOSEException {
+        String token = token(signingKey, Instant.now().plusSeconds(300));
+
+        assertThatThrownBy(() -> decoder.decode("not-a-jwt").block()).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode(token.substring(0, token.lastIndexOf('.'))).block())
+                .isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode(token.substring(0, token.length() - 20)).block())
+                .isInstanceOf(JwtException.class);
+    }
+
+    private static String token(RSAKey key, Instant expiresAt) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("user-1")
+                .issueTime(Date.from(Instant.now().minusSeconds(1)))
+                .expirationTime(Date.from(expiresAt))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
@@ -0,0 +1,43 @@
+package com.agriprocurement.gateway.support;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestKeysTest {
+
+    private static final String TOKEN = "Bearer eyJhbGciOiJSUzI1NiJ9.secret-payload.signature";
+
+    @Test
+    void shouldNotKeepCredentialsInScope() {
+        // When
+        String scope = RequestKeys.authScope(exchange(TOKEN)).block();
+
+        // Then
+        assertThat(scope).startsWith("credentials:").doesNotContain("secret-payload").doesNotContain("Bearer");
+        assertThat(RequestKeys.authScope(exchange(TOKEN)).block()).isEqualTo(scope);
+    }
+
+    @Test
+    void shouldSeparateCallersByCredentials() {
+        // When
+        String alice = RequestKeys.authScope(exchange("Bearer alice")).block();
+        String bob = RequestKeys.authScope(exchange("Bearer bob")).block();
+        String anonymous = RequestKeys.authScope(exchange(null)).block();
+
+        // Then
+        assertThat(alice).isNotEqualTo(bob);
+        assertThat(anonymous).isEqualTo("anonymous");
+    }
+
+    private static MockServerWebExchange exchange(String authorization) {
+        MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.get("/api/procurement/procurements");
+        if (authorization != null) {
+            builder.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        return MockServerWebExchange.from(builder.build());
+    }
+}
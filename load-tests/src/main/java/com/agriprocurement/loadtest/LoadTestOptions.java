@@ -0,0 +1,100 @@
+package com.agriprocurement.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command line options of the load driver, given as {@code --name value} pairs.
+ *
+ * @param scenarios    scenarios to run, in order
+ * @param warmup       unmeasured run time per scenario
+ * @param duration     measured run time per scenario
+ * @param concurrency  virtual users per scenario
+ * @param rate         target requests per second across all users; 0 runs closed-loop
+ * @param stubLatency  response delay of the inventory and payment stubs
+ * @param root         repository root, used to find the service jars
+ * @param output       directory for reports and service logs
+ * @param revision     label of the code under test, by default the current git commit
+ */
+public record LoadTestOptions(List<String> scenarios,
+                              Duration warmup,
+                              Duration duration,
+                              int concurrency,
+                              double rate,
+                              Duration stubLatency,
+                              Path root,
+                              Path output,
+                              String revision) {
+
+    public static final List<String> ALL_SCENARIOS =
+            List.of("create-procurement", "bid-storm", "list-procurements", "order-saga");
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --name value, got: " + args[i]);
+            }
+            values.put(args[i].substring(2), args[++i]);
+        }
+
+        Path root = Path.of(values.getOrDefault("root", ".")).toAbsolutePath().normalize();
+        List<String> scenarios = values.containsKey("scenarios")
+                ? Arrays.stream(values.get("scenarios").split(",")).map(String::trim).toList()
+                : ALL_SCENARIOS;
+        for (String scenario : scenarios) {
+            if (!ALL_SCENARIOS.contains(scenario)) {
+                throw new IllegalArgumentException("Unknown scenario " + scenario + ", expected one of " + ALL_SCENARIOS);
+            }
+        }
+
+        return new LoadTestOptions(
+                scenarios,
+                duration(values.getOrDefault("warmup", "15s")),
+                duration(values.getOrDefault("duration", "60s")),
+                Integer.parseInt(values.getOrDefault("concurrency", "16")),
+                Double.parseDouble(values.getOrDefault("rate", "0")),
+                duration(values.getOrDefault("stub-latency", "20ms")),
+                root,
+                Path.of(values.getOrDefault("output", root.resolve("load-tests/target/load-test").toString())),
+                values.getOrDefault("revision", gitRevision(root)));
+    }
+
+    /**
+     * Parses {@code 500ms}, {@code 30s} or {@code 2m}.
+     */
+    static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration: " + value);
+        };
+    }
+
+    private static String gitRevision(Path root) {
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD")
+                    .directory(root.toFile())
+                    .redirectErrorStream(true)
+                    .start();
+            String revision = new String(git.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return git.waitFor(10, TimeUnit.SECONDS) && git.exitValue() == 0 ? revision : "unknown";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+}
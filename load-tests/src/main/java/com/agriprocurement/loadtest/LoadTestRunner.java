@@ -0,0 +1,59 @@
+package com.agriprocurement.loadtest;
+
+import com.agriprocurement.loadtest.driver.LoadReport;
+import com.agriprocurement.loadtest.driver.ScenarioResult;
+import com.agriprocurement.loadtest.driver.ScenarioRunner;
+import com.agriprocurement.loadtest.environment.TestEnvironment;
+import com.agriprocurement.loadtest.scenario.ApiClient;
+import com.agriprocurement.loadtest.scenario.BidStormScenario;
+import com.agriprocurement.loadtest.scenario.CreateProcurementScenario;
+import com.agriprocurement.loadtest.scenario.ListProcurementsScenario;
+import com.agriprocurement.loadtest.scenario.OrderSagaScenario;
+import com.agriprocurement.loadtest.scenario.Scenario;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry point of the load test: starts the environment, runs the selected scenarios one after
+ * another against it and writes the report.
+ */
+public final class LoadTestRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        logger.info("Load test of revision {}: scenarios {}", options.revision(), options.scenarios());
+
+        List<ScenarioResult> results = new ArrayList<>();
+        try (TestEnvironment environment = TestEnvironment.start(options)) {
+            ApiClient api = new ApiClient();
+            ScenarioRunner runner = new ScenarioRunner(options.concurrency(), options.rate(),
+                    options.warmup(), options.duration());
+            for (String name : options.scenarios()) {
+                results.add(runner.run(scenario(name, api, environment, options)));
+            }
+        }
+
+        Path report = new LoadReport().write(options, results);
+        logger.info("Report written to {}", report);
+    }
+
+    private static Scenario scenario(String name, ApiClient api, TestEnvironment environment,
+                                     LoadTestOptions options) {
+        return switch (name) {
+            case "create-procurement" -> new CreateProcurementScenario(api, environment, options.concurrency());
+            case "bid-storm" -> new BidStormScenario(api, environment, options.concurrency());
+            case "list-procurements" -> new ListProcurementsScenario(api, environment);
+            case "order-saga" -> new OrderSagaScenario(api, environment, options.concurrency());
+            default -> throw new IllegalArgumentException("Unknown scenario: " + name);
+        };
+    }
+}
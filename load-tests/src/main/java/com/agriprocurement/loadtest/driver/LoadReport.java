@@ -0,0 +1,92 @@
+package com.agriprocurement.loadtest.driver;
+
+import com.agriprocurement.loadtest.LoadTestOptions;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the results of a run to {@code <output>/<revision>/}: {@code report.json} with
+ * throughput, status counts and latency percentiles per scenario, and one HdrHistogram
+ * percentile distribution ({@code <scenario>.hgrm}, in milliseconds) per scenario that can be
+ * plotted against the same file from another commit.
+ */
+public final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public Path write(LoadTestOptions options, List<ScenarioResult> results) throws IOException {
+        Path directory = options.output().resolve(options.revision());
+        Files.createDirectories(directory);
+
+        List<Map<String, Object>> scenarios = new ArrayList<>();
+        for (ScenarioResult result : results) {
+            scenarios.add(summary(result));
+            try (OutputStream file = Files.newOutputStream(directory.resolve(result.name() + ".hgrm"));
+                 PrintStream out = new PrintStream(file, false, "UTF-8")) {
+                result.latency().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("revision", options.revision());
+        report.put("timestamp", Instant.now().toString());
+        report.put("settings", settings(options));
+        report.put("scenarios", scenarios);
+        Path file = directory.resolve("report.json");
+        objectMapper.writeValue(file.toFile(), report);
+        return file;
+    }
+
+    private static Map<String, Object> settings(LoadTestOptions options) {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("concurrency", options.concurrency());
+        settings.put("rate", options.rate());
+        settings.put("warmupSeconds", options.warmup().toSeconds());
+        settings.put("durationSeconds", options.duration().toSeconds());
+        settings.put("stubLatencyMillis", options.stubLatency().toMillis());
+        settings.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        return settings;
+    }
+
+    private static Map<String, Object> summary(ScenarioResult result) {
+        Histogram latency = result.latency();
+        Map<String, Object> latencyMillis = new LinkedHashMap<>();
+        latencyMillis.put("mean", round(latency.getMean() / 1000.0));
+        for (double percentile : PERCENTILES) {
+            latencyMillis.put("p" + String.valueOf(percentile).replace(".0", "").replace(".", ""),
+                    round(latency.getValueAtPercentile(percentile) / 1000.0));
+        }
+        latencyMillis.put("max", round(latency.getMaxValue() / 1000.0));
+
+        Map<String, Long> statuses = new LinkedHashMap<>();
+        result.statuses().forEach((status, count) ->
+                statuses.put(status == ScenarioRunner.IO_ERROR ? "io-error" : String.valueOf(status), count));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("name", result.name());
+        summary.put("requests", result.requests());
+        summary.put("errors", result.errors());
+        summary.put("throughput", round(result.throughput()));
+        summary.put("statuses", statuses);
+        summary.put("latencyMillis", latencyMillis);
+        return summary;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.agriprocurement.loadtest.driver;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Measured outcome of one scenario run.
+ *
+ * @param latency  latencies in microseconds
+ * @param statuses request count per HTTP status, {@link ScenarioRunner#IO_ERROR} for failed exchanges
+ */
+public record ScenarioResult(String name, Duration duration, Histogram latency, Map<Integer, Long> statuses) {
+
+    public long requests() {
+        return statuses.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Requests without a 2xx response.
+     */
+    public long errors() {
+        return statuses.entrySet().stream()
+                .filter(entry -> entry.getKey() / 100 != 2)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    public double throughput() {
+        return requests() / (duration.toNanos() / 1e9);
+    }
+}
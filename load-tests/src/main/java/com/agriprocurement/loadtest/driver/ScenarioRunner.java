@@ -0,0 +1,149 @@
+package com.agriprocurement.loadtest.driver;
+
+import com.agriprocurement.loadtest.scenario.Scenario;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives one scenario with a fixed number of virtual users, each on its own thread.
+ * <p>
+ * Without a target rate every user sends its next request as soon as the previous one returns
+ * (closed loop). With a rate, users send on a fixed schedule and latency is measured from the
+ * scheduled send time, so a stalled service is charged for the requests it delayed instead of
+ * hiding them (coordinated omission). Only requests scheduled after the warmup are recorded.
+ */
+public final class ScenarioRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScenarioRunner.class);
+
+    /** Failed exchanges (timeouts, resets) are counted under this pseudo status. */
+    public static final int IO_ERROR = -1;
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final int concurrency;
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+
+    public ScenarioRunner(int concurrency, double rate, Duration warmup, Duration duration) {
+        this.concurrency = concurrency;
+        this.rate = rate;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    public ScenarioResult run(Scenario scenario) throws Exception {
+        logger.info("Setting up {}", scenario.name());
+        scenario.setUp();
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        long intervalNanos = rate > 0 ? (long) (concurrency * 1e9 / rate) : 0;
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        logger.info("Running {}: {} users, {} warmup, {} measured{}", scenario.name(), concurrency, warmup, duration,
+                rate > 0 ? ", " + rate + " req/s" : "");
+        List<VirtualUser> users = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            // Stagger the schedules so users do not fire in lockstep
+            long firstSend = start + (intervalNanos > 0 ? intervalNanos * i / concurrency : 0);
+            VirtualUser user = new VirtualUser(scenario, i, firstSend, intervalNanos, measureFrom, end, statuses);
+            user.thread.start();
+            users.add(user);
+        }
+
+        Histogram latency = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        for (VirtualUser user : users) {
+            user.thread.join();
+            latency.add(user.latency);
+        }
+
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+        ScenarioResult result = new ScenarioResult(scenario.name(), duration, latency, statusCounts);
+        logger.info("{}: {} requests, {} errors, {} req/s, p50={}ms p99={}ms max={}ms", scenario.name(),
+                result.requests(), result.errors(), String.format("%.1f", result.throughput()),
+                millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(99)),
+                millis(latency.getMaxValue()));
+        return result;
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+
+    private static final class VirtualUser implements Runnable {
+
+        private final Scenario scenario;
+        private final int index;
+        private final long intervalNanos;
+        private final long measureFrom;
+        private final long end;
+        private final Map<Integer, LongAdder> statuses;
+        private final Histogram latency = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Thread thread;
+
+        private long nextSend;
+
+        VirtualUser(Scenario scenario, int index, long firstSend, long intervalNanos, long measureFrom, long end,
+                    Map<Integer, LongAdder> statuses) {
+            this.scenario = scenario;
+            this.index = index;
+            this.nextSend = firstSend;
+            this.intervalNanos = intervalNanos;
+            this.measureFrom = measureFrom;
+            this.end = end;
+            this.statuses = statuses;
+            this.thread = new Thread(this, scenario.name() + "-user-" + index);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                long scheduled;
+                if (intervalNanos > 0) {
+                    scheduled = nextSend;
+                    nextSend += intervalNanos;
+                    long wait = scheduled - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                } else {
+                    scheduled = System.nanoTime();
+                }
+                if (scheduled >= end) {
+                    return;
+                }
+
+                int status;
+                try {
+                    status = scenario.execute(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    status = IO_ERROR;
+                }
+
+                if (scheduled >= measureFrom) {
+                    long micros = (System.nanoTime() - scheduled) / 1_000;
+                    latency.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                    statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.agriprocurement.loadtest.environment;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.delete;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * WireMock stand-ins for the services the order saga calls (inventory and payment) and for the
+ * Keycloak certs endpoint. The saga stubs always succeed after a log-normal delay around the
+ * configured latency, so order throughput is bounded by the order service itself.
+ */
+public final class StubServices implements AutoCloseable {
+
+    private static final String RESERVATION_BODY = """
+            {"reservationId":"{{randomValue type='UUID'}}","orderId":"{{jsonPath request.body '$.orderId'}}",\
+            "success":true,"message":"Reserved"}""";
+
+    private static final String PAYMENT_BODY = """
+            {"paymentId":"{{randomValue type='UUID'}}","orderId":"{{jsonPath request.body '$.orderId'}}",\
+            "success":true,"message":"Paid"}""";
+
+    private final WireMockServer server;
+
+    private StubServices(WireMockServer server) {
+        this.server = server;
+    }
+
+    public static StubServices start(Duration latency) {
+        WireMockServer server = new WireMockServer(options()
+                .dynamicPort()
+                .containerThreads(200)
+                .globalTemplating(true)
+                .disableRequestJournal());
+        server.start();
+
+        StubServices stubs = new StubServices(server);
+        stubs.stubSaga(latency);
+        return stubs;
+    }
+
+    public String baseUrl() {
+        return server.baseUrl();
+    }
+
+    /**
+     * Serves the token issuer's public keys where the services look for the realm's keys.
+     */
+    public void stubJwks(TokenIssuer tokenIssuer) {
+        server.stubFor(get(urlPathEqualTo(TokenIssuer.CERTS_PATH)).willReturn(okJson(tokenIssuer.jwkSetJson())));
+    }
+
+    private void stubSaga(Duration latency) {
+        server.stubFor(post(urlPathEqualTo("/api/v1/inventory/reservations"))
+                .willReturn(delayed(json(RESERVATION_BODY), latency)));
+        server.stubFor(delete(urlPathMatching("/api/v1/inventory/reservations/[^/]+"))
+                .willReturn(delayed(aResponse().withStatus(204), latency)));
+        server.stubFor(post(urlPathEqualTo("/api/v1/payments"))
+                .willReturn(delayed(json(PAYMENT_BODY), latency)));
+        server.stubFor(delete(urlPathMatching("/api/v1/payments/[^/]+/refund"))
+                .willReturn(delayed(aResponse().withStatus(204), latency)));
+    }
+
+    private static ResponseDefinitionBuilder json(String body) {
+        return aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(body);
+    }
+
+    private static ResponseDefinitionBuilder delayed(ResponseDefinitionBuilder response, Duration latency) {
+        return latency.isZero() ? response : response.withLogNormalRandomDelay(latency.toMillis(), 0.25);
+    }
+
+    @Override
+    public void close() {
+        server.stop();
+    }
+}
@@ -0,0 +1,165 @@
+package com.agriprocurement.loadtest.environment;
+
+import com.agriprocurement.loadtest.LoadTestOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.lifecycle.Startables;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything the scenarios run against: Postgres, Redis and Kafka in containers, WireMock for
+ * Keycloak and the saga's downstream services, and the procurement and order services started
+ * from their jars. Eureka is replaced by static instance lists pointing at the stubs.
+ */
+public final class TestEnvironment implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestEnvironment.class);
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final String ORDER_DATABASE = "orderdb";
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    private TokenIssuer tokenIssuer;
+    private ServiceProcess procurementService;
+    private ServiceProcess orderService;
+
+    private TestEnvironment() {
+    }
+
+    public static TestEnvironment start(LoadTestOptions options) throws Exception {
+        TestEnvironment environment = new TestEnvironment();
+        try {
+            environment.startAll(options);
+            return environment;
+        } catch (Exception e) {
+            environment.close();
+            throw e;
+        }
+    }
+
+    private void startAll(LoadTestOptions options) throws Exception {
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+                .withDatabaseName("procurement_db")
+                .withCommand("postgres", "-c", "max_connections=200");
+        GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+                .withExposedPorts(6379);
+        KafkaContainer kafka = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.5.0"));
+        resources.add(postgres);
+        resources.add(redis);
+        resources.add(kafka);
+        logger.info("Starting Postgres, Redis and Kafka containers");
+        Startables.deepStart(postgres, redis, kafka).join();
+        postgres.execInContainer("psql", "-U", postgres.getUsername(), "-d", postgres.getDatabaseName(),
+                "-c", "CREATE DATABASE " + ORDER_DATABASE);
+
+        StubServices stubs = StubServices.start(options.stubLatency());
+        resources.add(stubs);
+        tokenIssuer = new TokenIssuer(stubs.baseUrl() + TokenIssuer.REALM_PATH);
+        stubs.stubJwks(tokenIssuer);
+
+        List<String> common = List.of(
+                "spring.security.oauth2.resourceserver.jwt.issuer-uri=" + tokenIssuer.issuer(),
+                "spring.datasource.username=" + postgres.getUsername(),
+                "spring.datasource.password=" + postgres.getPassword(),
+                "spring.kafka.bootstrap-servers=" + kafka.getBootstrapServers(),
+                "eureka.client.enabled=false",
+                "logging.level.com.agriprocurement=WARN");
+
+        List<String> procurementProperties = new ArrayList<>(common);
+        procurementProperties.add("spring.datasource.url=" + jdbcUrl(postgres, postgres.getDatabaseName()));
+        procurementProperties.add("spring.data.redis.host=" + redis.getHost());
+        procurementProperties.add("spring.data.redis.port=" + redis.getMappedPort(6379));
+        procurementProperties.add("procurement.fx.rates-location="
+                + writeExchangeRates(options.output()).toUri());
+
+        List<String> orderProperties = new ArrayList<>(common);
+        orderProperties.add("spring.datasource.url=" + jdbcUrl(postgres, ORDER_DATABASE));
+        orderProperties.add("spring.cloud.discovery.client.simple.instances.inventory-service[0].uri=" + stubs.baseUrl());
+        orderProperties.add("spring.cloud.discovery.client.simple.instances.payment-service[0].uri=" + stubs.baseUrl());
+
+        Path logs = options.output().resolve("logs");
+        procurementService = ServiceProcess.start("procurement-service", options.root(), logs, freePort(),
+                procurementProperties);
+        resources.add(procurementService);
+        orderService = ServiceProcess.start("order-service", options.root(), logs, freePort(), orderProperties);
+        resources.add(orderService);
+
+        procurementService.awaitReady(STARTUP_TIMEOUT);
+        orderService.awaitReady(STARTUP_TIMEOUT);
+    }
+
+    private static String jdbcUrl(PostgreSQLContainer<?> postgres, String database) {
+        return "jdbc:postgresql://" + postgres.getHost() + ":" + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT)
+                + "/" + database;
+    }
+
+    /**
+     * Writes fixed exchange rates dated now, since the procurement service has no default rate
+     * source and refuses rates older than its max age.
+     */
+    private static Path writeExchangeRates(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return Files.writeString(directory.resolve("fx-rates.properties"), String.join("\n",
+                "base=USD",
+                "as-of=" + Instant.now().truncatedTo(ChronoUnit.SECONDS),
+                "EUR=0.9210",
+                "GBP=0.7840",
+                "UZS=12650",
+                "KZT=482.50",
+                "RUB=93.40",
+                "CNY=7.1200",
+                "TRY=34.20",
+                ""));
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public TokenIssuer tokenIssuer() {
+        return tokenIssuer;
+    }
+
+    public URI procurementServiceUri() {
+        return procurementService.baseUri();
+    }
+
+    public URI orderServiceUri() {
+        return orderService.baseUri();
+    }
+
+    /**
+     * Stops the services first, then the stubs and containers.
+     */
+    @Override
+    public void close() {
+        for (int i = resources.size() - 1; i >= 0; i--) {
+            try {
+                resources.get(i).close();
+            } catch (Exception e) {
+                logger.warn("Failed to stop {}: {}", resources.get(i).getClass().getSimpleName(), e.getMessage());
+            }
+        }
+        resources.clear();
+    }
+}
@@ -0,0 +1,84 @@
+package com.agriprocurement.loadtest.environment;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Stands in for the Keycloak realm: signs access tokens with a generated RSA key whose public
+ * half is served as the realm's JWK set, so the services verify tokens the same way as in
+ * production.
+ */
+public final class TokenIssuer {
+
+    public static final String REALM_PATH = "/realms/agri-procurement";
+    public static final String CERTS_PATH = REALM_PATH + "/protocol/openid-connect/certs";
+
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(2);
+
+    private final RSAKey signingKey;
+    private final RSASSASigner signer;
+    private final String issuer;
+
+    public TokenIssuer(String issuer) {
+        this.issuer = issuer;
+        try {
+            this.signingKey = new RSAKeyGenerator(2048)
+                    .keyID("load-test")
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(JWSAlgorithm.RS256)
+                    .generate();
+            this.signer = new RSASSASigner(signingKey);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not create the token signing key", e);
+        }
+    }
+
+    public String issuer() {
+        return issuer;
+    }
+
+    public String jwkSetJson() {
+        return new JWKSet(signingKey.toPublicJWK()).toString();
+    }
+
+    /**
+     * Issues an access token for a user with the given realm roles.
+     */
+    public String issue(String userId, List<String> roles) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .subject(userId)
+                .jwtID(UUID.randomUUID().toString())
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(TOKEN_LIFETIME)))
+                .claim("preferred_username", "load-" + userId)
+                .claim("email", "load-" + userId + "@example.com")
+                .claim("scope", "openid profile email")
+                .claim("realm_access", Map.of("roles", roles))
+                .build();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not sign token", e);
+        }
+        return jwt.serialize();
+    }
+}
@@ -0,0 +1,161 @@
+package com.agriprocurement.loadtest.keys;
+
+import com.agriprocurement.common.domain.id.UuidV7;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Insert throughput of a table keyed by random version 4 UUIDs against the same table keyed by
+ * {@link UuidV7}, as the table grows to millions of rows. Each key kind fills its own table in
+ * segments of equal size; the report has the rows per second of every segment and the final
+ * primary key index size.
+ * <p>
+ * Postgres runs with a small {@code shared_buffers} so the primary key index outgrows the
+ * buffer cache early, as it does for a production table: random keys then touch a cold index
+ * page on most inserts while time-ordered keys keep appending to the same few pages.
+ * <p>
+ * Options, as {@code --name value} pairs: {@code --rows} per key kind (default 5000000),
+ * {@code --segments} (10), {@code --batch-size} (1000) and {@code --output} (report directory).
+ */
+public final class KeyInsertBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeyInsertBenchmark.class);
+
+    // Same shape as the bids table, without the foreign key
+    private static final String CREATE_TABLE = """
+            CREATE TABLE %s (
+                id UUID PRIMARY KEY,
+                procurement_id UUID NOT NULL,
+                vendor_id VARCHAR(36) NOT NULL,
+                bid_amount NUMERIC(19, 4) NOT NULL,
+                bid_currency VARCHAR(3) NOT NULL,
+                bid_date TIMESTAMP NOT NULL,
+                status VARCHAR(50) NOT NULL
+            )""";
+    private static final String INSERT = "INSERT INTO %s (id, procurement_id, vendor_id, bid_amount, bid_currency, "
+            + "bid_date, status) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private KeyInsertBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --name value, got: " + args[i]);
+            }
+            values.put(args[i].substring(2), args[++i]);
+        }
+        long rows = Long.parseLong(values.getOrDefault("rows", "5000000"));
+        int segments = Integer.parseInt(values.getOrDefault("segments", "10"));
+        int batchSize = Integer.parseInt(values.getOrDefault("batch-size", "1000"));
+        Path output = Path.of(values.getOrDefault("output", "load-tests/target/key-insert"));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("rows", rows);
+        report.put("segments", segments);
+        report.put("batchSize", batchSize);
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+                .withCommand("postgres", "-c", "shared_buffers=64MB", "-c", "fsync=off")) {
+            postgres.start();
+            String url = postgres.getJdbcUrl() + "&reWriteBatchedInserts=true";
+            try (Connection connection = DriverManager.getConnection(url, postgres.getUsername(), postgres.getPassword())) {
+                connection.setAutoCommit(false);
+                report.put("uuidV4", run(connection, "keys_v4", UUID::randomUUID, rows, segments, batchSize));
+                report.put("uuidV7", run(connection, "keys_v7", UuidV7::next, rows, segments, batchSize));
+            }
+        }
+
+        Files.createDirectories(output);
+        Path file = output.resolve("report.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        logger.info("Report written to {}", file);
+    }
+
+    private static Map<String, Object> run(Connection connection, String table, Supplier<UUID> keys,
+                                           long rows, int segments, int batchSize) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE.formatted(table));
+        }
+        connection.commit();
+
+        long segmentRows = rows / segments;
+        List<Long> rowsPerSecond = new ArrayList<>();
+        long totalNanos = 0;
+        UUID procurementId = UUID.randomUUID();
+        try (PreparedStatement insert = connection.prepareStatement(INSERT.formatted(table))) {
+            for (int segment = 1; segment <= segments; segment++) {
+                long start = System.nanoTime();
+                for (long row = 0; row < segmentRows; row++) {
+                    if (row % 1000 == 0) {
+                        procurementId = UUID.randomUUID();
+                    }
+                    bind(insert, keys.get(), procurementId);
+                    insert.addBatch();
+                    if ((row + 1) % batchSize == 0 || row + 1 == segmentRows) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+                long nanos = System.nanoTime() - start;
+                totalNanos += nanos;
+                long throughput = Math.round(segmentRows / (nanos / 1e9));
+                rowsPerSecond.add(throughput);
+                logger.info("{}: {} rows, {} rows/s", table, segmentRows * segment, throughput);
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rowsPerSecond", rowsPerSecond);
+        result.put("totalSeconds", Math.round(totalNanos / 1e7) / 100.0);
+        result.put("primaryKeyBytes", indexSize(connection, table + "_pkey"));
+        return result;
+    }
+
+    private static void bind(PreparedStatement insert, UUID id, UUID procurementId) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        insert.setObject(1, id);
+        insert.setObject(2, procurementId);
+        insert.setString(3, "vendor-" + random.nextInt(10_000));
+        insert.setBigDecimal(4, BigDecimal.valueOf(random.nextLong(1_000_000, 100_000_000), 2));
+        insert.setString(5, "USD");
+        insert.setTimestamp(6, Timestamp.from(Instant.now()));
+        insert.setString(7, "SUBMITTED");
+    }
+
+    private static long indexSize(Connection connection, String index) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement("SELECT pg_relation_size(?::regclass)")) {
+            query.setString(1, index);
+            try (ResultSet result = query.executeQuery()) {
+                result.next();
+                return result.getLong(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.agriprocurement.loadtest.scenario;
+
+import com.agriprocurement.loadtest.environment.TestEnvironment;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Every vendor bidding on the same tender at once, as in the last minutes before a deadline.
+ * All requests update one aggregate, so this shows how the service copes with contention on a
+ * single row and a growing bid list. Lost optimistic-lock races show up as error responses in
+ * the status breakdown.
+ */
+public final class BidStormScenario implements Scenario {
+
+    private static final BigDecimal BUDGET = new BigDecimal("1000000000.00");
+
+    private final ApiClient api;
+    private final TestEnvironment environment;
+    private final int concurrency;
+    private final AtomicLong vendorSequence = new AtomicLong();
+
+    private URI bidUri;
+    private String procurementId;
+    private VirtualUsers vendors;
+
+    public BidStormScenario(ApiClient api, TestEnvironment environment, int concurrency) {
+        this.api = api;
+        this.environment = environment;
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public String name() {
+        return "bid-storm";
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        VirtualUsers buyer = VirtualUsers.issue(environment.tokenIssuer(), 1, "BUYER");
+        URI baseUri = environment.procurementServiceUri();
+        procurementId = ProcurementRequests.createOpen(api, baseUri, buyer.token(0), buyer.id(0), 0, BUDGET);
+        bidUri = baseUri.resolve(ProcurementRequests.PATH + "/" + procurementId + "/bids");
+        vendors = VirtualUsers.issue(environment.tokenIssuer(), concurrency, "VENDOR");
+    }
+
+    @Override
+    public int execute(int user) throws Exception {
+        // A vendor may only hold one submitted bid, so every request bids as a new vendor
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("procurementId", procurementId);
+        body.put("vendorId", "vendor-" + vendorSequence.incrementAndGet());
+        body.put("bidAmount", BigDecimal.valueOf(ThreadLocalRandom.current().nextLong(50_000_000, 100_000_000), 2));
+        body.put("bidCurrency", ProcurementRequests.CURRENCY);
+        return api.post(bidUri, vendors.token(user), body).statusCode();
+    }
+}
@@ -0,0 +1,46 @@
+package com.agriprocurement.loadtest.scenario;
+
+import com.agriprocurement.loadtest.environment.TestEnvironment;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buyers creating draft tenders: one insert plus the created event per request.
+ */
+public final class CreateProcurementScenario implements Scenario {
+
+    private static final BigDecimal BUDGET = new BigDecimal("250000.00");
+
+    private final ApiClient api;
+    private final TestEnvironment environment;
+    private final int concurrency;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private URI createUri;
+    private VirtualUsers buyers;
+
+    public CreateProcurementScenario(ApiClient api, TestEnvironment environment, int concurrency) {
+        this.api = api;
+        this.environment = environment;
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public String name() {
+        return "create-procurement";
+    }
+
+    @Override
+    public void setUp() {
+        createUri = environment.procurementServiceUri().resolve(ProcurementRequests.PATH);
+        buyers = VirtualUsers.issue(environment.tokenIssuer(), concurrency, "BUYER");
+    }
+
+    @Override
+    public int execute(int user) throws Exception {
+        return api.post(createUri, buyers.token(user),
+                ProcurementRequests.createBody(buyers.id(user), sequence.incrementAndGet(), BUDGET)).statusCode();
+    }
+}
@@ -0,0 +1,61 @@
+package com.agriprocurement.loadtest.scenario;
+
+import com.agriprocurement.loadtest.environment.TestEnvironment;
+
+import java.math.BigDecimal;
+import java.net.URI;
+
+/**
+ * Read traffic on the tender list: the active-tender board and buyers' own tenders, alternating.
+ * The data set is seeded before the warmup.
+ */
+public final class ListProcurementsScenario implements Scenario {
+
+    private static final int BUYERS = 10;
+    private static final int TENDERS_PER_BUYER = 20;
+    private static final BigDecimal BUDGET = new BigDecimal("150000.00");
+
+    private final ApiClient api;
+    private final TestEnvironment environment;
+
+    private URI activeUri;
+    private URI[] byBuyerUris;
+    private VirtualUsers buyers;
+
+    public ListProcurementsScenario(ApiClient api, TestEnvironment environment) {
+        this.api = api;
+        this.environment = environment;
+    }
+
+    @Override
+    public String name() {
+        return "list-procurements";
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        URI baseUri = environment.procurementServiceUri();
+        buyers = VirtualUsers.issue(environment.tokenIssuer(), BUYERS, "BUYER");
+        byBuyerUris = new URI[BUYERS];
+        long sequence = 0;
+        for (int buyer = 0; buyer < BUYERS; buyer++) {
+            for (int i = 0; i < TENDERS_PER_BUYER; i++) {
+                // Half of the tenders open for bidding, half left as drafts
+                if (i % 2 == 0) {
+                    ProcurementRequests.createOpen(api, baseUri, buyers.token(buyer), buyers.id(buyer), ++sequence, BUDGET);
+                } else {
+                    api.expectSuccess(api.post(baseUri.resolve(ProcurementRequests.PATH), buyers.token(buyer),
+                            ProcurementRequests.createBody(buyers.id(buyer), ++sequence, BUDGET)));
+                }
+            }
+            byBuyerUris[buyer] = baseUri.resolve(ProcurementRequests.PATH + "?buyerId=" + buyers.id(buyer));
+        }
+        activeUri = baseUri.resolve(ProcurementRequests.PATH + "?activeOnly=true");
+    }
+
+    @Override
+    public int execute(int user) throws Exception {
+        URI uri = (user & 1) == 0 ? activeUri : byBuyerUris[user % BUYERS];
+        return api.get(uri, buyers.token(user)).statusCode();
+    }
+}
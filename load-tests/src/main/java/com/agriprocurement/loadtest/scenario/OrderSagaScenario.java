@@ -0,0 +1,71 @@
+package com.agriprocurement.loadtest.scenario;
+
+import com.agriprocurement.loadtest.environment.TestEnvironment;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Customers placing orders. Each request runs the full saga: order insert, inventory
+ * reservation and payment against the WireMock stubs, then confirmation. Requests carry an
+ * {@code Idempotency-Key} as the web client does.
+ */
+public final class OrderSagaScenario implements Scenario {
+
+    private static final String PATH = "/api/v1/orders";
+    private static final int PRODUCTS = 100;
+
+    private final ApiClient api;
+    private final TestEnvironment environment;
+    private final int concurrency;
+
+    private URI ordersUri;
+    private VirtualUsers customers;
+    private UUID[] products;
+
+    public OrderSagaScenario(ApiClient api, TestEnvironment environment, int concurrency) {
+        this.api = api;
+        this.environment = environment;
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public String name() {
+        return "order-saga";
+    }
+
+    @Override
+    public void setUp() {
+        ordersUri = environment.orderServiceUri().resolve(PATH);
+        customers = VirtualUsers.issue(environment.tokenIssuer(), concurrency, "CUSTOMER");
+        products = new UUID[PRODUCTS];
+        for (int i = 0; i < PRODUCTS; i++) {
+            products[i] = UUID.randomUUID();
+        }
+    }
+
+    @Override
+    public int execute(int user) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int itemCount = 1 + random.nextInt(3);
+        List<Map<String, Object>> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("productId", products[random.nextInt(PRODUCTS)]);
+            item.put("quantity", 1 + random.nextInt(10));
+            item.put("unitPrice", BigDecimal.valueOf(random.nextLong(100, 100_000), 2));
+            items.add(item);
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("customerId", customers.id(user));
+        body.put("items", items);
+        return api.post(ordersUri, customers.token(user), body,
+                Map.of("Idempotency-Key", UUID.randomUUID().toString())).statusCode();
+    }
+}
@@ -0,0 +1,46 @@
+package com.agriprocurement.loadtest.scenario;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Request bodies and setup calls against the procurement API shared by the procurement scenarios.
+ */
+final class ProcurementRequests {
+
+    static final String PATH = "/api/procurements";
+    static final String CURRENCY = "USD";
+
+    private ProcurementRequests() {
+    }
+
+    static Map<String, Object> createBody(String buyerId, long sequence, BigDecimal budget) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("title", "Load test tender " + sequence);
+        body.put("description", "Milling wheat, class 3, delivered to the regional elevator");
+        body.put("quantityAmount", BigDecimal.valueOf(100 + sequence % 900));
+        body.put("quantityUnit", "TON");
+        body.put("budgetAmount", budget);
+        body.put("budgetCurrency", CURRENCY);
+        body.put("deadline", LocalDateTime.now().plusDays(30));
+        body.put("buyerId", buyerId);
+        return body;
+    }
+
+    /**
+     * Creates a tender and opens it for bids.
+     *
+     * @return the procurement id
+     */
+    static String createOpen(ApiClient api, URI baseUri, String token, String buyerId, long sequence,
+                             BigDecimal budget) throws IOException, InterruptedException {
+        String id = api.json(api.expectSuccess(api.post(baseUri.resolve(PATH), token,
+                createBody(buyerId, sequence, budget)))).path("data").path("id").asText();
+        api.expectSuccess(api.put(baseUri.resolve(PATH + "/" + id + "/publish"), token));
+        return id;
+    }
+}
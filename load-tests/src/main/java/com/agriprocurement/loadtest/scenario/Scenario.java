@@ -0,0 +1,23 @@
+package com.agriprocurement.loadtest.scenario;
+
+/**
+ * A user journey driven by many virtual users at once. Each call to {@link #execute} is one
+ * measured request.
+ */
+public interface Scenario {
+
+    String name();
+
+    /**
+     * Prepares shared state before the warmup, e.g. tokens and the tender a bid storm targets.
+     */
+    default void setUp() throws Exception {
+    }
+
+    /**
+     * Performs one request as the given virtual user.
+     *
+     * @return the HTTP status code
+     */
+    int execute(int user) throws Exception;
+}
@@ -0,0 +1,39 @@
+package com.agriprocurement.loadtest.scenario;
+
+import com.agriprocurement.loadtest.environment.TokenIssuer;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Identities of the virtual users of a scenario, each with a token issued up front so signing
+ * stays out of the measured path.
+ */
+final class VirtualUsers {
+
+    private final String[] ids;
+    private final String[] tokens;
+
+    private VirtualUsers(String[] ids, String[] tokens) {
+        this.ids = ids;
+        this.tokens = tokens;
+    }
+
+    static VirtualUsers issue(TokenIssuer tokenIssuer, int count, String role) {
+        String[] ids = new String[count];
+        String[] tokens = new String[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = UUID.randomUUID().toString();
+            tokens[i] = tokenIssuer.issue(ids[i], List.of(role));
+        }
+        return new VirtualUsers(ids, tokens);
+    }
+
+    String id(int user) {
+        return ids[user % ids.length];
+    }
+
+    String token(int user) {
+        return tokens[user % tokens.length];
+    }
+}
@@ -1,11 +1,17 @@
 package com.agriprocurement.order.api;
 
+import com.agriprocurement.order.application.OrderIdempotencyService;
 import com.agriprocurement.order.application.OrderSagaOrchestrator;
+import com.agriprocurement.order.application.dto.BatchCreateOrderRequest;
+import com.agriprocurement.order.application.dto.BatchOrderResponse;
 import com.agriprocurement.order.application.dto.CreateOrderRequest;
+import com.agriprocurement.order.application.dto.OrderPageResponse;
 import com.agriprocurement.order.application.dto.OrderResponse;
+import com.agriprocurement.order.domain.Order;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,15 +25,30 @@ import java.util.UUID;
 @Slf4j
 public class OrderController {
     
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final int MAX_PAGE_SIZE = 100;
+    
     private final OrderSagaOrchestrator orderSagaOrchestrator;
+    private final OrderIdempotencyService orderIdempotencyService;
     
     @PostMapping
-    public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody CreateOrderRequest request) {
+    public ResponseEntity<OrderResponse> createOrder(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody CreateOrderRequest request) {
         log.info("Creating order for customer: {}", request.getCustomerId());
-        OrderResponse response = orderSagaOrchestrator.createOrder(request);
+        OrderResponse response = idempotencyKey != null
+                ? orderIdempotencyService.createOrder(idempotencyKey, request)
+                : orderSagaOrchestrator.createOrder(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    @PostMapping("/batch")
+    public ResponseEntity<BatchOrderResponse> createOrders(@Valid @RequestBody BatchCreateOrderRequest request) {
+        log.info("Creating batch of {} orders", request.getOrders().size());
+        BatchOrderResponse response = orderSagaOrchestrator.createOrders(request);
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping("/{orderId}")
     public ResponseEntity<OrderResponse> getOrder(@PathVariable UUID orderId) {
         log.info("Retrieving order: {}", orderId);
@@ -36,11 +57,32 @@ public class OrderController {
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    /**
+     * The customer's whole history as a plain list, as this endpoint returned before paging was
+     * added. Kept for existing clients; new clients use {@code /customer/{customerId}/history}.
+     */
+    @Deprecated
     @GetMapping("/customer/{customerId}")
     public ResponseEntity<List<OrderResponse>> getCustomerOrders(@PathVariable UUID customerId) {
-        log.info("Retrieving orders for customer: {}", customerId);
-        List<OrderResponse> orders = orderSagaOrchestrator.getCustomerOrders(customerId);
-        return ResponseEntity.ok(orders);
+        log.info("Retrieving all orders for customer: {}", customerId);
+        List<OrderResponse> orders = orderSagaOrchestrator.getAllCustomerOrders(customerId);
+        return ResponseEntity.ok()
+                .header("Deprecation", "true")
+                .header(HttpHeaders.LINK,
+                        "</api/v1/orders/customer/" + customerId + "/history>; rel=\"successor-version\"")
+                .body(orders);
+    }
+    
+    @GetMapping("/customer/{customerId}/history")
+    public ResponseEntity<OrderPageResponse> getCustomerOrderHistory(
+            @PathVariable UUID customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Order.OrderStatus status) {
+        log.info("Retrieving orders for customer: {}, status: {}", customerId, status);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        OrderPageResponse page = orderSagaOrchestrator.getCustomerOrders(customerId, cursor, pageSize, status);
+        return ResponseEntity.ok(page);
     }
     
     @GetMapping("/health")
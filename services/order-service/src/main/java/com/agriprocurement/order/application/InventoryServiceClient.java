@@ -1,5 +1,8 @@
 package com.agriprocurement.order.application;
 
+import com.agriprocurement.order.application.dto.BulkInventoryReservationRequest;
+import com.agriprocurement.order.application.dto.BulkInventoryReservationResponse;
+import com.agriprocurement.order.application.dto.BulkReservationReleaseRequest;
 import com.agriprocurement.order.application.dto.InventoryReservationRequest;
 import com.agriprocurement.order.application.dto.InventoryReservationResponse;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -16,6 +19,12 @@ public interface InventoryServiceClient {
     @PostMapping("/reservations")
     InventoryReservationResponse reserveInventory(@RequestBody InventoryReservationRequest request);
     
+    @PostMapping("/reservations/batch")
+    BulkInventoryReservationResponse reserveInventoryBatch(@RequestBody BulkInventoryReservationRequest request);
+    
     @DeleteMapping("/reservations/{reservationId}")
     void releaseReservation(@PathVariable("reservationId") UUID reservationId);
+    
+    @PostMapping("/reservations/batch/release")
+    void releaseReservations(@RequestBody BulkReservationReleaseRequest request);
 }
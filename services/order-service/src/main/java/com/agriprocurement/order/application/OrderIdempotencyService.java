@@ -0,0 +1,279 @@
+package com.agriprocurement.order.application;
+
+import com.agriprocurement.common.security.context.UserContextHolder;
+import com.agriprocurement.order.application.dto.CreateOrderRequest;
+import com.agriprocurement.order.application.dto.OrderResponse;
+import com.agriprocurement.order.domain.IdempotencyRecord;
+import com.agriprocurement.order.domain.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Makes order creation idempotent per client supplied {@code Idempotency-Key}.
+ * <p>
+ * Keys are scoped to the authenticated user, not to anything in the request body: the same key
+ * sent by two users names two unrelated requests, so one user can never replay, probe or block
+ * another user's orders.
+ * Lookups go through three levels: concurrent duplicates on this instance join the in-flight
+ * saga, recent completions are answered from a bounded in-memory LRU, and everything else is
+ * decided by claiming the key in {@code order_idempotency_keys}, whose unique
+ * {@code (principal_id, idempotency_key)} index guarantees that only one instance runs the saga
+ * for a given key.
+ * <p>
+ * The order and the completed key are committed in one transaction. If the key cannot be
+ * completed, the order is rolled back with it, so a claim left IN_PROGRESS never has an order
+ * behind it and a retry after the lease runs the saga exactly once. Each claim is identified by
+ * its claim time: completing or releasing a claim that another instance took over after the lease
+ * expired changes nothing, and the late saga is rolled back.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final OrderSagaOrchestrator orderSagaOrchestrator;
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<ScopedKey, InFlightRequest> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${order.idempotency.ttl:PT24H}")
+    private Duration ttl;
+
+    @Value("${order.idempotency.in-progress-lease:PT5M}")
+    private Duration inProgressLease;
+
+    @Value("${order.idempotency.cache-size:10000}")
+    private int cacheSize;
+
+    private Map<ScopedKey, CompletedRequest> completed;
+
+    @PostConstruct
+    void initCache() {
+        int maxEntries = cacheSize;
+        this.completed = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ScopedKey, CompletedRequest> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public OrderResponse createOrder(String idempotencyKey, CreateOrderRequest request) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        String principalId = UserContextHolder.getCurrentUserId();
+        if (principalId == null) {
+            throw new AccessDeniedException("Idempotency-Key requires an authenticated user");
+        }
+        ScopedKey key = new ScopedKey(principalId, idempotencyKey);
+        String requestHash = fingerprint(request);
+
+        OrderResponse cached = fromCache(key, requestHash);
+        if (cached != null) {
+            log.info("Replaying order {} for idempotency key {}", cached.getId(), key);
+            return cached;
+        }
+
+        InFlightRequest current = new InFlightRequest(requestHash, new CompletableFuture<>());
+        InFlightRequest existing = inFlight.putIfAbsent(key, current);
+        if (existing != null) {
+            verifyHash(key, existing.requestHash(), requestHash);
+            log.info("Joining in-flight order creation for idempotency key {}", key);
+            return await(existing.result());
+        }
+
+        try {
+            OrderResponse response = execute(key, requestHash, request);
+            current.result().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            current.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, current);
+        }
+    }
+
+    private OrderResponse execute(ScopedKey key, String requestHash, CreateOrderRequest request) {
+        // Truncated to the column's precision, since the stored value identifies the claim
+        LocalDateTime claimedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int claimed = idempotencyRecordRepository.claim(
+                key.principalId(), key.idempotencyKey(), requestHash, claimedAt, claimedAt.plus(inProgressLease));
+
+        if (claimed == 0) {
+            IdempotencyRecord record = idempotencyRecordRepository.findById(key.toRecordKey())
+                    .orElseThrow(() -> new IdempotencyKeyInProgressException(
+                            "Request with this Idempotency-Key is being processed"));
+            verifyHash(key, record.getRequestHash(), requestHash);
+            if (!record.isCompleted()) {
+                throw new IdempotencyKeyInProgressException(
+                        "Request with this Idempotency-Key is being processed");
+            }
+            OrderResponse response = readResponse(record.getResponseBody());
+            remember(key, requestHash, response, record.getExpiresAt());
+            log.info("Replaying order {} for idempotency key {}", response.getId(), key);
+            return response;
+        }
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        OrderResponse response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                OrderResponse created = orderSagaOrchestrator.createOrder(request);
+                int completed = idempotencyRecordRepository.complete(key.principalId(), key.idempotencyKey(),
+                        claimedAt, created.getId(), writeResponse(created), expiresAt);
+                if (completed == 0) {
+                    log.warn("Claim on idempotency key {} expired and was taken over, rolling back order {}",
+                            key, created.getId());
+                    throw new IdempotencyKeyInProgressException(
+                            "Request with this Idempotency-Key is being processed");
+                }
+                return created;
+            });
+        } catch (RuntimeException e) {
+            idempotencyRecordRepository.release(key.principalId(), key.idempotencyKey(), claimedAt);
+            throw e;
+        }
+
+        remember(key, requestHash, response, expiresAt);
+        return response;
+    }
+
+    /**
+     * Removes expired keys; completed keys are kept for the configured TTL.
+     */
+    @Scheduled(fixedDelayString = "${order.idempotency.purge-interval:PT1H}")
+    public void purgeExpiredKeys() {
+        int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private OrderResponse fromCache(ScopedKey key, String requestHash) {
+        CompletedRequest entry = completed.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt().isBefore(LocalDateTime.now())) {
+            completed.remove(key);
+            return null;
+        }
+        verifyHash(key, entry.requestHash(), requestHash);
+        return entry.response();
+    }
+
+    private void remember(ScopedKey key, String requestHash, OrderResponse response, LocalDateTime expiresAt) {
+        completed.put(key, new CompletedRequest(requestHash, response, expiresAt));
+    }
+
+    private void verifyHash(ScopedKey key, String expectedHash, String actualHash) {
+        if (!expectedHash.equals(actualHash)) {
+            log.warn("Idempotency key {} reused with a different request body", key);
+            throw new IdempotencyKeyReusedException(
+                    "Idempotency-Key was already used with a different request");
+        }
+    }
+
+    private OrderResponse await(CompletableFuture<OrderResponse> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String fingerprint(CreateOrderRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Unable to fingerprint order request", e);
+        }
+    }
+
+    private String writeResponse(OrderResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize order response", e);
+        }
+    }
+
+    private OrderResponse readResponse(String body) {
+        try {
+            return objectMapper.readValue(body, OrderResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to deserialize stored order response", e);
+        }
+    }
+
+    /**
+     * An {@code Idempotency-Key} within the authenticated user that sent it.
+     */
+    private record ScopedKey(String principalId, String idempotencyKey) {
+
+        IdempotencyRecord.Key toRecordKey() {
+            return new IdempotencyRecord.Key(principalId, idempotencyKey);
+        }
+
+        @Override
+        public String toString() {
+            return idempotencyKey + " (user " + principalId + ")";
+        }
+    }
+
+    private record InFlightRequest(String requestHash, CompletableFuture<OrderResponse> result) {
+    }
+
+    private record CompletedRequest(String requestHash, OrderResponse response, LocalDateTime expiresAt) {
+    }
+
+    public static class InvalidIdempotencyKeyException extends RuntimeException {
+        public InvalidIdempotencyKeyException(String message) {
+            super(message);
+        }
+    }
+
+    public static class IdempotencyKeyInProgressException extends RuntimeException {
+        public IdempotencyKeyInProgressException(String message) {
+            super(message);
+        }
+    }
+
+    public static class IdempotencyKeyReusedException extends RuntimeException {
+        public IdempotencyKeyReusedException(String message) {
+            super(message);
+        }
+    }
+}
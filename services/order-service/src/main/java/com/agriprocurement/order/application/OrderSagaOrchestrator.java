@@ -1,5 +1,6 @@
 package com.agriprocurement.order.application;
 
+import com.agriprocurement.common.domain.id.UuidV7;
 import com.agriprocurement.order.application.dto.*;
 import com.agriprocurement.order.domain.Order;
 import com.agriprocurement.order.domain.OrderItem;
@@ -12,7 +13,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -22,6 +26,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class OrderSagaOrchestrator {
     
+    private static final int FULL_HISTORY_PAGE_SIZE = 100;
+    
     private final OrderRepository orderRepository;
     private final InventoryServiceClient inventoryServiceClient;
     private final PaymentServiceClient paymentServiceClient;
@@ -30,8 +36,10 @@ public class OrderSagaOrchestrator {
     public OrderResponse createOrder(CreateOrderRequest request) {
         log.info("Starting order creation saga for customer: {}", request.getCustomerId());
         
+        // The ids are assigned in buildOrder, so the downstream calls can reference the order
+        // before it is persisted. It is saved once with its final status: one batched insert
+        // per table instead of an insert followed by an update.
         Order order = buildOrder(request);
-        order = orderRepository.save(order);
         
         UUID reservationId = null;
         UUID paymentId = null;
@@ -39,11 +47,9 @@ public class OrderSagaOrchestrator {
         try {
             reservationId = reserveInventory(order);
             order.updateSagaStatus(Order.SagaStatus.INVENTORY_RESERVED);
-            orderRepository.save(order);
             
             paymentId = processPayment(order);
             order.updateSagaStatus(Order.SagaStatus.PAYMENT_PROCESSED);
-            orderRepository.save(order);
             
             order.markAsConfirmed();
             order = orderRepository.save(order);
@@ -58,22 +64,166 @@ public class OrderSagaOrchestrator {
         }
     }
     
+    /**
+     * Runs the saga for a batch of orders: inventory is reserved and payment authorized with one
+     * bulk call each, then all orders and their items are inserted with JDBC batching. As in
+     * {@link #createOrder}, ids are assigned up front and every order is saved once with its final
+     * status. Failures are isolated per order; failed orders are persisted as FAILED in the same
+     * batched insert, and the reservations they hold are released with one bulk call instead of
+     * failing the whole batch.
+     */
+    @Transactional
+    public BatchOrderResponse createOrders(BatchCreateOrderRequest request) {
+        List<CreateOrderRequest> requests = request.getOrders();
+        log.info("Starting batch order saga for {} orders", requests.size());
+        
+        List<Order> orders = new ArrayList<>(requests.size());
+        for (CreateOrderRequest orderRequest : requests) {
+            orders.add(buildOrder(orderRequest));
+        }
+        
+        Map<UUID, String> failures = new HashMap<>();
+        Map<UUID, UUID> reservationIds = reserveInventoryBatch(orders, failures);
+        
+        List<Order> reservedOrders = new ArrayList<>(reservationIds.size());
+        for (Order order : orders) {
+            if (reservationIds.containsKey(order.getId())) {
+                order.updateSagaStatus(Order.SagaStatus.INVENTORY_RESERVED);
+                reservedOrders.add(order);
+            }
+        }
+        
+        Map<UUID, UUID> paymentIds = processPaymentBatch(reservedOrders, failures);
+        
+        List<BatchOrderResponse.OrderOutcome> results = new ArrayList<>(orders.size());
+        List<UUID> reservationsToRelease = new ArrayList<>();
+        int succeeded = 0;
+        for (int index = 0; index < orders.size(); index++) {
+            Order order = orders.get(index);
+            if (paymentIds.containsKey(order.getId())) {
+                order.updateSagaStatus(Order.SagaStatus.PAYMENT_PROCESSED);
+                order.markAsConfirmed();
+                succeeded++;
+                results.add(BatchOrderResponse.OrderOutcome.builder()
+                        .index(index)
+                        .success(true)
+                        .order(mapToResponse(order))
+                        .build());
+            } else {
+                String reason = failures.getOrDefault(order.getId(), "No result returned for order");
+                UUID reservationId = reservationIds.get(order.getId());
+                if (reservationId != null) {
+                    reservationsToRelease.add(reservationId);
+                }
+                order.markAsFailed(reason);
+                order.updateSagaStatus(Order.SagaStatus.COMPENSATED);
+                results.add(BatchOrderResponse.OrderOutcome.builder()
+                        .index(index)
+                        .success(false)
+                        .order(mapToResponse(order))
+                        .failureReason(reason)
+                        .build());
+            }
+        }
+        orderRepository.saveAll(orders);
+        releaseReservations(reservationsToRelease);
+        
+        log.info("Batch order saga completed: {} succeeded, {} failed", succeeded, orders.size() - succeeded);
+        return BatchOrderResponse.builder()
+                .total(orders.size())
+                .succeeded(succeeded)
+                .failed(orders.size() - succeeded)
+                .results(results)
+                .build();
+    }
+    
+    private Map<UUID, UUID> reserveInventoryBatch(List<Order> orders, Map<UUID, String> failures) {
+        Map<UUID, UUID> reservationIds = new HashMap<>();
+        if (orders.isEmpty()) {
+            return reservationIds;
+        }
+        
+        List<InventoryReservationRequest> reservations = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            reservations.add(buildReservationRequest(order));
+        }
+        
+        try {
+            BulkInventoryReservationResponse response = inventoryServiceClient.reserveInventoryBatch(
+                    BulkInventoryReservationRequest.builder().reservations(reservations).build());
+            if (response != null && response.getResults() != null) {
+                for (InventoryReservationResponse result : response.getResults()) {
+                    if (result.isSuccess()) {
+                        reservationIds.put(result.getOrderId(), result.getReservationId());
+                    } else {
+                        failures.put(result.getOrderId(), "Failed to reserve inventory: " + result.getMessage());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Bulk inventory reservation failed for {} orders", orders.size(), e);
+            for (Order order : orders) {
+                failures.put(order.getId(), "Inventory service is currently unavailable");
+            }
+        }
+        
+        log.info("Bulk inventory reservation: {} of {} orders reserved", reservationIds.size(), orders.size());
+        return reservationIds;
+    }
+    
+    private void releaseReservations(List<UUID> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return;
+        }
+        try {
+            log.info("Releasing {} inventory reservations of failed orders", reservationIds.size());
+            inventoryServiceClient.releaseReservations(
+                    BulkReservationReleaseRequest.builder().reservationIds(reservationIds).build());
+        } catch (Exception e) {
+            log.error("Failed to release inventory reservations: {}", reservationIds, e);
+        }
+    }
+    
+    private Map<UUID, UUID> processPaymentBatch(List<Order> orders, Map<UUID, String> failures) {
+        Map<UUID, UUID> paymentIds = new HashMap<>();
+        if (orders.isEmpty()) {
+            return paymentIds;
+        }
+        
+        List<PaymentRequest> payments = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            payments.add(buildPaymentRequest(order));
+        }
+        
+        try {
+            BulkPaymentResponse response = paymentServiceClient.processPayments(
+                    BulkPaymentRequest.builder().payments(payments).build());
+            if (response != null && response.getResults() != null) {
+                for (PaymentResponse result : response.getResults()) {
+                    if (result.isSuccess()) {
+                        paymentIds.put(result.getOrderId(), result.getPaymentId());
+                    } else {
+                        failures.put(result.getOrderId(), "Failed to process payment: " + result.getMessage());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Bulk payment authorization failed for {} orders", orders.size(), e);
+            for (Order order : orders) {
+                failures.put(order.getId(), "Payment service is currently unavailable");
+            }
+        }
+        
+        log.info("Bulk payment authorization: {} of {} orders paid", paymentIds.size(), orders.size());
+        return paymentIds;
+    }
+    
     @CircuitBreaker(name = "inventory-service", fallbackMethod = "reserveInventoryFallback")
     @Retry(name = "inventory-service")
     private UUID reserveInventory(Order order) {
         log.info("Reserving inventory for order: {}", order.getId());
         
-        List<InventoryReservationRequest.ReservationItem> items = order.getItems().stream()
-                .map(item -> InventoryReservationRequest.ReservationItem.builder()
-                        .productId(item.getProductId())
-                        .quantity(item.getQuantity())
-                        .build())
-                .collect(Collectors.toList());
-        
-        InventoryReservationRequest request = InventoryReservationRequest.builder()
-                .orderId(order.getId())
-                .items(items)
-                .build();
+        InventoryReservationRequest request = buildReservationRequest(order);
         
         InventoryReservationResponse response = inventoryServiceClient.reserveInventory(request);
         
@@ -96,12 +246,7 @@ public class OrderSagaOrchestrator {
     private UUID processPayment(Order order) {
         log.info("Processing payment for order: {}", order.getId());
         
-        PaymentRequest request = PaymentRequest.builder()
-                .orderId(order.getId())
-                .customerId(order.getCustomerId())
-                .amount(order.getTotalAmount())
-                .currency("USD")
-                .build();
+        PaymentRequest request = buildPaymentRequest(order);
         
         PaymentResponse response = paymentServiceClient.processPayment(request);
         
@@ -157,15 +302,78 @@ public class OrderSagaOrchestrator {
                 .map(this::mapToResponse);
     }
     
+    /**
+     * Returns one page of a customer's orders, newest first. The page is resolved in two queries:
+     * the keyset query reads only ids from the (customer_id, created_at) index, then the orders
+     * and their items are loaded for exactly those ids.
+     */
     @Transactional(readOnly = true)
-    public List<OrderResponse> getCustomerOrders(UUID customerId) {
-        return orderRepository.findByCustomerId(customerId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public OrderPageResponse getCustomerOrders(UUID customerId, String cursor, int size, Order.OrderStatus status) {
+        String statusFilter = status != null ? status.name() : null;
+        List<UUID> ids;
+        if (cursor == null || cursor.isBlank()) {
+            ids = orderRepository.findHistoryIds(customerId, statusFilter, size + 1);
+        } else {
+            OrderHistoryCursor position = OrderHistoryCursor.decode(cursor);
+            ids = orderRepository.findHistoryIdsAfter(
+                    customerId, statusFilter, position.createdAt(), position.id(), size + 1);
+        }
+        
+        boolean hasMore = ids.size() > size;
+        if (hasMore) {
+            ids = ids.subList(0, size);
+        }
+        if (ids.isEmpty()) {
+            return OrderPageResponse.builder()
+                    .orders(List.of())
+                    .hasMore(false)
+                    .build();
+        }
+        
+        Map<UUID, Order> ordersById = new HashMap<>(ids.size() * 2);
+        for (Order order : orderRepository.findAllByIdWithItems(ids)) {
+            ordersById.put(order.getId(), order);
+        }
+        
+        List<OrderResponse> orders = new ArrayList<>(ids.size());
+        Order last = null;
+        for (UUID id : ids) {
+            Order order = ordersById.get(id);
+            if (order != null) {
+                orders.add(mapToResponse(order));
+                last = order;
+            }
+        }
+        
+        String nextCursor = hasMore && last != null
+                ? new OrderHistoryCursor(last.getCreatedAt(), last.getId()).encode()
+                : null;
+        return OrderPageResponse.builder()
+                .orders(orders)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+    
+    /**
+     * All of a customer's orders, newest first, for the unpaged history endpoint. Walks the
+     * history in keyset pages so that no single query loads an unbounded result.
+     */
+    @Transactional(readOnly = true)
+    public List<OrderResponse> getAllCustomerOrders(UUID customerId) {
+        List<OrderResponse> orders = new ArrayList<>();
+        String cursor = null;
+        do {
+            OrderPageResponse page = getCustomerOrders(customerId, cursor, FULL_HISTORY_PAGE_SIZE, null);
+            orders.addAll(page.getOrders());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return orders;
     }
     
     private Order buildOrder(CreateOrderRequest request) {
         Order order = Order.builder()
+                .id(UuidV7.next())
                 .customerId(request.getCustomerId())
                 .status(Order.OrderStatus.PENDING)
                 .sagaStatus(Order.SagaStatus.STARTED)
@@ -174,6 +382,7 @@ public class OrderSagaOrchestrator {
         
         for (OrderItemRequest itemRequest : request.getItems()) {
             OrderItem item = OrderItem.builder()
+                    .id(UuidV7.next())
                     .productId(itemRequest.getProductId())
                     .quantity(itemRequest.getQuantity())
                     .unitPrice(itemRequest.getUnitPrice())
@@ -186,6 +395,29 @@ public class OrderSagaOrchestrator {
         return order;
     }
     
+    private InventoryReservationRequest buildReservationRequest(Order order) {
+        List<InventoryReservationRequest.ReservationItem> items = order.getItems().stream()
+                .map(item -> InventoryReservationRequest.ReservationItem.builder()
+                        .productId(item.getProductId())
+                        .quantity(item.getQuantity())
+                        .build())
+                .collect(Collectors.toList());
+        
+        return InventoryReservationRequest.builder()
+                .orderId(order.getId())
+                .items(items)
+                .build();
+    }
+    
+    private PaymentRequest buildPaymentRequest(Order order) {
+        return PaymentRequest.builder()
+                .orderId(order.getId())
+                .customerId(order.getCustomerId())
+                .amount(order.getTotalAmount())
+                .currency("USD")
+                .build();
+    }
+    
     private OrderResponse mapToResponse(Order order) {
         List<OrderItemResponse> items = order.getItems().stream()
                 .map(item -> OrderItemResponse.builder()
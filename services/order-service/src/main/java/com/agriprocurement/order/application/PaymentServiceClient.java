@@ -1,5 +1,7 @@
 package com.agriprocurement.order.application;
 
+import com.agriprocurement.order.application.dto.BulkPaymentRequest;
+import com.agriprocurement.order.application.dto.BulkPaymentResponse;
 import com.agriprocurement.order.application.dto.PaymentRequest;
 import com.agriprocurement.order.application.dto.PaymentResponse;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -16,6 +18,9 @@ public interface PaymentServiceClient {
     @PostMapping
     PaymentResponse processPayment(@RequestBody PaymentRequest request);
     
+    @PostMapping("/batch")
+    BulkPaymentResponse processPayments(@RequestBody BulkPaymentRequest request);
+    
     @DeleteMapping("/{paymentId}/refund")
     void refundPayment(@PathVariable("paymentId") UUID paymentId);
 }
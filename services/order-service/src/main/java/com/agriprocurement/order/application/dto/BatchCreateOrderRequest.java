@@ -0,0 +1,25 @@
+package com.agriprocurement.order.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCreateOrderRequest {
+    
+    public static final int MAX_BATCH_SIZE = 500;
+    
+    @NotEmpty(message = "Batch must contain at least one order")
+    @Size(max = MAX_BATCH_SIZE, message = "Batch must not contain more than " + MAX_BATCH_SIZE + " orders")
+    @Valid
+    private List<CreateOrderRequest> orders;
+}
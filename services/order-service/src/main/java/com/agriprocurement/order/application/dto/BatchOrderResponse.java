@@ -0,0 +1,31 @@
+package com.agriprocurement.order.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderResponse {
+    
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<OrderOutcome> results;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderOutcome {
+        private int index;
+        private boolean success;
+        private OrderResponse order;
+        private String failureReason;
+    }
+}
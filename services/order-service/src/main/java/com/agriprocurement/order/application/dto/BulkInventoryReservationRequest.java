@@ -0,0 +1,17 @@
+package com.agriprocurement.order.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkInventoryReservationRequest {
+    
+    private List<InventoryReservationRequest> reservations;
+}
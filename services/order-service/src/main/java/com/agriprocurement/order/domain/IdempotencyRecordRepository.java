@@ -0,0 +1,66 @@
+package com.agriprocurement.order.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, IdempotencyRecord.Key> {
+    
+    /**
+     * Claims a user's key for processing. Relies on the unique (principal_id, idempotency_key)
+     * index: returns 1 when the key was free (or its previous claim expired) and 0 when another
+     * request of that user holds it.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO order_idempotency_keys (principal_id, idempotency_key, request_hash, status, created_at, expires_at) " +
+            "VALUES (:principalId, :key, :requestHash, 'IN_PROGRESS', :now, :expiresAt) " +
+            "ON CONFLICT (principal_id, idempotency_key) DO UPDATE SET request_hash = EXCLUDED.request_hash, " +
+            "status = 'IN_PROGRESS', order_id = NULL, response_body = NULL, " +
+            "created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at " +
+            "WHERE order_idempotency_keys.expires_at < EXCLUDED.created_at",
+            nativeQuery = true)
+    int claim(@Param("principalId") String principalId,
+              @Param("key") String key,
+              @Param("requestHash") String requestHash,
+              @Param("now") LocalDateTime now,
+              @Param("expiresAt") LocalDateTime expiresAt);
+    
+    /**
+     * Completes the claim made at {@code claimedAt}. Returns 0 when that claim no longer holds the
+     * key because its lease expired and another request claimed it.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE IdempotencyRecord r SET r.status = com.agriprocurement.order.domain.IdempotencyRecord.Status.COMPLETED, " +
+            "r.orderId = :orderId, r.responseBody = :responseBody, r.expiresAt = :expiresAt " +
+            "WHERE r.principalId = :principalId AND r.idempotencyKey = :key AND r.createdAt = :claimedAt " +
+            "AND r.status = com.agriprocurement.order.domain.IdempotencyRecord.Status.IN_PROGRESS")
+    int complete(@Param("principalId") String principalId,
+                 @Param("key") String key,
+                 @Param("claimedAt") LocalDateTime claimedAt,
+                 @Param("orderId") UUID orderId,
+                 @Param("responseBody") String responseBody,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.principalId = :principalId AND r.idempotencyKey = :key " +
+            "AND r.createdAt = :claimedAt " +
+            "AND r.status = com.agriprocurement.order.domain.IdempotencyRecord.Status.IN_PROGRESS")
+    int release(@Param("principalId") String principalId,
+                @Param("key") String key,
+                @Param("claimedAt") LocalDateTime claimedAt);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
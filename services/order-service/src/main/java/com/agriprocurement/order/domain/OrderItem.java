@@ -1,5 +1,6 @@
 package com.agriprocurement.order.domain;
 
+import com.agriprocurement.common.domain.id.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,7 +19,7 @@ import java.util.UUID;
 public class OrderItem {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -5,6 +5,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +23,34 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
     @Query("SELECT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id = :id")
     Optional<Order> findByIdWithItems(@Param("id") UUID id);
     
+    /**
+     * First page of a customer's order ids, newest first. Pass {@code null} status for all orders.
+     */
+    @Query(value = "SELECT o.id FROM orders o WHERE o.customer_id = :customerId " +
+            "AND (CAST(:status AS VARCHAR) IS NULL OR o.status = :status) " +
+            "ORDER BY o.created_at DESC, o.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<UUID> findHistoryIds(@Param("customerId") UUID customerId,
+                              @Param("status") String status,
+                              @Param("limit") int limit);
+    
+    /**
+     * Next page of a customer's order ids strictly after the given (created_at, id) keyset position.
+     */
+    @Query(value = "SELECT o.id FROM orders o WHERE o.customer_id = :customerId " +
+            "AND (CAST(:status AS VARCHAR) IS NULL OR o.status = :status) " +
+            "AND (o.created_at, o.id) < (:createdAt, :id) " +
+            "ORDER BY o.created_at DESC, o.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<UUID> findHistoryIdsAfter(@Param("customerId") UUID customerId,
+                                   @Param("status") String status,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") UUID id,
+                                   @Param("limit") int limit);
+    
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id IN :ids")
+    List<Order> findAllByIdWithItems(@Param("ids") Collection<UUID> ids);
+    
     @Query("SELECT o FROM Order o WHERE o.customerId = :customerId AND o.status = :status")
     List<Order> findByCustomerIdAndStatus(@Param("customerId") UUID customerId, 
                                           @Param("status") Order.OrderStatus status);
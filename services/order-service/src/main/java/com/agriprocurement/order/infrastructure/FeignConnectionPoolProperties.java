@@ -0,0 +1,40 @@
+package com.agriprocurement.order.infrastructure;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Connection pool settings for the Apache HttpClient 5 backend used by the Feign clients.
+ */
+@Data
+@ConfigurationProperties(prefix = "order.feign.pool")
+public class FeignConnectionPoolProperties {
+    
+    /** Upper bound on open connections across all downstream instances. */
+    private int maxConnections = 200;
+    
+    /** Default per-instance bound, used for instances without a service override. */
+    private int maxConnectionsPerRoute = 20;
+    
+    /** Per-service overrides of the per-instance bound, keyed by discovery service id. */
+    private Map<String, Integer> routes = new LinkedHashMap<>();
+    
+    /** Maximum lifetime of a pooled connection, after which it is closed on release. */
+    private Duration timeToLive = Duration.ofMinutes(15);
+    
+    /** How long an idle connection may be reused when the server sends no Keep-Alive hint. */
+    private Duration keepAlive = Duration.ofSeconds(30);
+    
+    /** Idle connections older than this are closed by the background evictor. */
+    private Duration idleEviction = Duration.ofSeconds(60);
+    
+    /** Connections idle longer than this are validated before being leased again. */
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+    
+    /** Interval at which per-service limits are applied to newly discovered instances. */
+    private Duration routeRefreshInterval = Duration.ofSeconds(30);
+}
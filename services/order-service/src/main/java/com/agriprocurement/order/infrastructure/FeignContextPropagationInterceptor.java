@@ -0,0 +1,48 @@
+package com.agriprocurement.order.infrastructure;
+
+import com.agriprocurement.common.observability.context.CorrelationId;
+import com.agriprocurement.common.security.context.UserContext;
+import com.agriprocurement.common.security.context.UserContextHolder;
+import com.agriprocurement.common.security.identity.InternalIdentityCodec;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Carries the caller's correlation id and identity on outgoing Feign calls.
+ * <p>
+ * The correlation id is copied from the MDC. When the internal identity secret is configured, the
+ * current {@link UserContext} is sent as a short-lived signed {@value InternalIdentityCodec#HEADER}
+ * header, so downstream services see the same user without a token exchange. The header is signed
+ * on every call: the user context is built per request, and one HMAC is cheaper than a cache
+ * lookup keyed on the user's claims.
+ */
+@Component
+public class FeignContextPropagationInterceptor implements RequestInterceptor {
+
+    private static final Duration IDENTITY_TTL = Duration.ofSeconds(60);
+
+    private final InternalIdentityCodec codec;
+
+    public FeignContextPropagationInterceptor(ObjectProvider<InternalIdentityCodec> codec) {
+        this.codec = codec.getIfAvailable();
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        String correlationId = CorrelationId.current();
+        if (correlationId != null) {
+            template.header(CorrelationId.HEADER, correlationId);
+        }
+        if (codec != null) {
+            UserContext user = UserContextHolder.getContext();
+            if (user != null) {
+                template.header(InternalIdentityCodec.HEADER, codec.encode(user, Instant.now().plus(IDENTITY_TTL)));
+            }
+        }
+    }
+}
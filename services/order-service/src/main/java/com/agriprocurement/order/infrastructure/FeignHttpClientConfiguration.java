@@ -0,0 +1,80 @@
+package com.agriprocurement.order.infrastructure;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Pooled Apache HttpClient 5 backend for the Feign clients.
+ * <p>
+ * Replaces the {@code HttpURLConnection} default so saga steps reuse kept-alive connections
+ * instead of paying TCP/TLS setup per call. Spring Cloud OpenFeign picks up the
+ * {@link CloseableHttpClient} bean declared here in place of its own. Disabled together with
+ * the HC5 backend, e.g. when the {@code feign-http2} profile switches to the JDK HTTP/2 client.
+ */
+@Configuration
+@EnableConfigurationProperties(FeignConnectionPoolProperties.class)
+@ConditionalOnProperty(value = "spring.cloud.openfeign.httpclient.hc5.enabled", matchIfMissing = true)
+public class FeignHttpClientConfiguration {
+    
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager feignConnectionManager(FeignConnectionPoolProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultSocketConfig(SocketConfig.custom()
+                        .setSoKeepAlive(true)
+                        .setTcpNoDelay(true)
+                        .build())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setTimeToLive(TimeValue.ofMilliseconds(properties.getTimeToLive().toMillis()))
+                        .setValidateAfterInactivity(
+                                TimeValue.ofMilliseconds(properties.getValidateAfterInactivity().toMillis()))
+                        .build())
+                .build();
+    }
+    
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient feignHttpClient(PoolingHttpClientConnectionManager feignConnectionManager,
+                                               FeignConnectionPoolProperties properties) {
+        TimeValue keepAlive = TimeValue.ofMilliseconds(properties.getKeepAlive().toMillis());
+        return HttpClients.custom()
+                .setConnectionManager(feignConnectionManager)
+                .disableCookieManagement()
+                .disableAutomaticRetries()
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(properties.getIdleEviction().toMillis()))
+                .build();
+    }
+    
+    @Bean
+    public FeignRoutePoolConfigurer feignRoutePoolConfigurer(PoolingHttpClientConnectionManager feignConnectionManager,
+                                                             DiscoveryClient discoveryClient,
+                                                             FeignConnectionPoolProperties properties) {
+        return new FeignRoutePoolConfigurer(feignConnectionManager, discoveryClient, properties);
+    }
+    
+    /**
+     * Exports {@code httpcomponents.httpclient.pool.*} gauges (leased, available, pending, max).
+     */
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(PoolingHttpClientConnectionManager feignConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(feignConnectionManager, "feign");
+    }
+}
@@ -0,0 +1,47 @@
+package com.agriprocurement.order.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+
+/**
+ * Applies per-service connection limits to the Feign connection pool.
+ * <p>
+ * HttpClient sizes pools per route (scheme, host, port), while Feign targets logical service ids
+ * resolved by the load balancer. The configured per-service limit is therefore re-applied to the
+ * routes of every instance currently registered for that service.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class FeignRoutePoolConfigurer {
+    
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final DiscoveryClient discoveryClient;
+    private final FeignConnectionPoolProperties properties;
+    
+    @Scheduled(initialDelay = 0, fixedDelayString = "${order.feign.pool.route-refresh-interval:PT30S}")
+    public void applyRouteLimits() {
+        for (Map.Entry<String, Integer> route : properties.getRoutes().entrySet()) {
+            try {
+                for (ServiceInstance instance : discoveryClient.getInstances(route.getKey())) {
+                    HttpHost host = new HttpHost(instance.getScheme(), instance.getHost(), instance.getPort());
+                    HttpRoute httpRoute = new HttpRoute(host, null, instance.isSecure());
+                    if (connectionManager.getMaxPerRoute(httpRoute) != route.getValue()) {
+                        connectionManager.setMaxPerRoute(httpRoute, route.getValue());
+                        log.info("Feign pool for {} at {} sized to {} connections",
+                                route.getKey(), host, route.getValue());
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("Unable to apply Feign pool limits for {}: {}", route.getKey(), e.getMessage());
+            }
+        }
+    }
+}
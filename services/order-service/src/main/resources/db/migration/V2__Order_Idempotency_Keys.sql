@@ -0,0 +1,23 @@
+-- Idempotency keys for POST /api/v1/orders.
+-- Keys are chosen by clients, so two users may pick the same value: a key only replays or
+-- conflicts with requests of the authenticated user that sent it. The primary key's unique index
+-- on (principal_id, idempotency_key) is what makes a key claim atomic across service instances.
+CREATE TABLE order_idempotency_keys (
+    principal_id VARCHAR(255) NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    order_id UUID,
+    response_body TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (principal_id, idempotency_key),
+    CONSTRAINT chk_idempotency_status CHECK (status IN ('IN_PROGRESS', 'COMPLETED'))
+);
+
+CREATE INDEX idx_order_idempotency_keys_expires_at ON order_idempotency_keys(expires_at);
+
+COMMENT ON TABLE order_idempotency_keys IS 'Client supplied Idempotency-Key values and the order response they produced';
+COMMENT ON COLUMN order_idempotency_keys.principal_id IS 'Authenticated user (token subject) that sent the key; keys are unique per user';
+COMMENT ON COLUMN order_idempotency_keys.request_hash IS 'SHA-256 of the request body, used to reject key reuse with a different payload';
+COMMENT ON COLUMN order_idempotency_keys.expires_at IS 'Lease end while IN_PROGRESS, retention end once COMPLETED';
@@ -0,0 +1,7 @@
+-- Keyset pagination of a customer's order history walks (created_at, id) newest first.
+-- The composite index serves both the customer filter and the sort, so pages are read
+-- straight from the index regardless of how many orders the customer has.
+CREATE INDEX idx_orders_customer_created_at ON orders(customer_id, created_at DESC, id DESC);
+
+-- Superseded by the composite index above (same leading column)
+DROP INDEX IF EXISTS idx_orders_customer_id;
@@ -0,0 +1,102 @@
+package com.agriprocurement.order;
+
+import com.agriprocurement.order.application.InventoryServiceClient;
+import com.agriprocurement.order.application.OrderSagaOrchestrator;
+import com.agriprocurement.order.application.PaymentServiceClient;
+import com.agriprocurement.order.application.dto.OrderPageResponse;
+import com.agriprocurement.order.application.dto.OrderResponse;
+import com.agriprocurement.order.domain.Order;
+import com.agriprocurement.order.domain.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Testcontainers
+class OrderHistoryPagingTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+        DockerImageName.parse("postgres:15-alpine"))
+        .withDatabaseName("testdb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("eureka.client.enabled", () -> "false");
+    }
+
+    @Autowired
+    private OrderSagaOrchestrator orderSagaOrchestrator;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private InventoryServiceClient inventoryServiceClient;
+
+    @MockBean
+    private PaymentServiceClient paymentServiceClient;
+
+    @Test
+    void shouldNeitherSkipNorRepeatOrdersWithTiedCreationTimes() {
+        // Given: seven orders, five of them created in the same instant
+        UUID customerId = UUID.randomUUID();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            orders.add(Order.builder()
+                .customerId(customerId)
+                .totalAmount(new BigDecimal("10.00"))
+                .status(Order.OrderStatus.CONFIRMED)
+                .sagaStatus(Order.SagaStatus.COMPLETED)
+                .build());
+        }
+        orderRepository.saveAllAndFlush(orders);
+        LocalDateTime tied = LocalDateTime.of(2026, 10, 1, 12, 0);
+        for (int i = 0; i < orders.size(); i++) {
+            LocalDateTime createdAt = i < 5 ? tied : tied.minusMinutes(i);
+            jdbcTemplate.update("UPDATE orders SET created_at = ? WHERE id = ?", createdAt, orders.get(i).getId());
+        }
+        List<UUID> expected = jdbcTemplate.queryForList(
+            "SELECT id FROM orders WHERE customer_id = ? ORDER BY created_at DESC, id DESC", UUID.class, customerId);
+
+        // When: pages of two, so page boundaries fall inside the tied group
+        List<UUID> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            OrderPageResponse page = orderSagaOrchestrator.getCustomerOrders(customerId, cursor, 2, null);
+            page.getOrders().forEach(order -> paged.add(order.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertThat(expected).hasSize(7);
+        assertThat(paged).doesNotHaveDuplicates().containsExactlyElementsOf(expected);
+        assertThat(orderSagaOrchestrator.getAllCustomerOrders(customerId))
+            .extracting(OrderResponse::getId)
+            .containsExactlyElementsOf(expected);
+    }
+}
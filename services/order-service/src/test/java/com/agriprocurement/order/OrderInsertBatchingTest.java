@@ -0,0 +1,236 @@
+package com.agriprocurement.order;
+
+import com.agriprocurement.order.application.InventoryServiceClient;
+import com.agriprocurement.order.application.OrderSagaOrchestrator;
+import com.agriprocurement.order.application.PaymentServiceClient;
+import com.agriprocurement.order.application.dto.BatchCreateOrderRequest;
+import com.agriprocurement.order.application.dto.BatchOrderResponse;
+import com.agriprocurement.order.application.dto.BulkInventoryReservationRequest;
+import com.agriprocurement.order.application.dto.BulkInventoryReservationResponse;
+import com.agriprocurement.order.application.dto.BulkPaymentRequest;
+import com.agriprocurement.order.application.dto.BulkPaymentResponse;
+import com.agriprocurement.order.application.dto.CreateOrderRequest;
+import com.agriprocurement.order.application.dto.InventoryReservationRequest;
+import com.agriprocurement.order.application.dto.InventoryReservationResponse;
+import com.agriprocurement.order.application.dto.OrderItemRequest;
+import com.agriprocurement.order.application.dto.OrderResponse;
+import com.agriprocurement.order.application.dto.PaymentResponse;
+import com.agriprocurement.order.domain.Order;
+import com.agriprocurement.order.domain.OrderRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.BaseSessionEventListener;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@Testcontainers
+class OrderInsertBatchingTest {
+
+    private static final int ITEMS = 100;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+        DockerImageName.parse("postgres:15-alpine"))
+        .withDatabaseName("testdb")
+        .withUsername("test")
+        .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("eureka.client.enabled", () -> "false");
+        registry.add("spring.jpa.properties.hibernate.session.events.auto", RoundTrips.class::getName);
+    }
+
+    @Autowired
+    private OrderSagaOrchestrator orderSagaOrchestrator;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @MockBean
+    private InventoryServiceClient inventoryServiceClient;
+
+    @MockBean
+    private PaymentServiceClient paymentServiceClient;
+
+    @Test
+    void shouldInsertOrderItemsInJdbcBatches() throws Exception {
+        // Given
+        when(inventoryServiceClient.reserveInventory(any())).thenReturn(
+            InventoryReservationResponse.builder().reservationId(UUID.randomUUID()).success(true).build());
+        when(paymentServiceClient.processPayment(any())).thenReturn(
+            PaymentResponse.builder().paymentId(UUID.randomUUID()).success(true).build());
+
+        List<OrderItemRequest> items = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(OrderItemRequest.builder()
+                .productId(UUID.randomUUID())
+                .quantity(1 + i % 10)
+                .unitPrice(new BigDecimal("12.50"))
+                .build());
+        }
+        CreateOrderRequest request = CreateOrderRequest.builder()
+            .customerId(UUID.randomUUID())
+            .items(items)
+            .build();
+
+        // When
+        int roundTrips = RoundTrips.during(() -> orderSagaOrchestrator.createOrder(request));
+
+        // Then: one batch for the order row, one per batch_size items, no update afterwards
+        assertThat(roundTrips).isEqualTo(1 + (ITEMS + batchSize - 1) / batchSize);
+        assertThat(dataSource.unwrap(HikariDataSource.class).getDataSourceProperties())
+            .containsEntry("reWriteBatchedInserts", "true");
+    }
+
+    @Test
+    void shouldPersistOrderUnderTheIdSentDownstream() {
+        // Given
+        ArgumentCaptor<InventoryReservationRequest> reservation =
+            ArgumentCaptor.forClass(InventoryReservationRequest.class);
+        when(inventoryServiceClient.reserveInventory(reservation.capture())).thenReturn(
+            InventoryReservationResponse.builder().reservationId(UUID.randomUUID()).success(true).build());
+        when(paymentServiceClient.processPayment(any())).thenReturn(
+            PaymentResponse.builder().paymentId(UUID.randomUUID()).success(true).build());
+        CreateOrderRequest request = CreateOrderRequest.builder()
+            .customerId(UUID.randomUUID())
+            .items(List.of(OrderItemRequest.builder()
+                .productId(UUID.randomUUID())
+                .quantity(5)
+                .unitPrice(new BigDecimal("42.50"))
+                .build()))
+            .build();
+
+        // When
+        OrderResponse response = orderSagaOrchestrator.createOrder(request);
+
+        // Then
+        Order order = orderRepository.findByIdWithItems(reservation.getValue().getOrderId()).orElseThrow();
+        assertThat(order.getId()).isEqualTo(response.getId());
+        assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.CONFIRMED);
+        assertThat(order.getItems()).hasSize(1);
+    }
+
+    @Test
+    void shouldPersistBatchOrdersOnceBulkCallsHaveAnswered() {
+        // Given
+        long before = orderRepository.count();
+        AtomicLong duringReservation = new AtomicLong(-1);
+        when(inventoryServiceClient.reserveInventoryBatch(any())).thenAnswer(invocation -> {
+            duringReservation.set(orderRepository.count());
+            BulkInventoryReservationRequest bulk = invocation.getArgument(0);
+            return BulkInventoryReservationResponse.builder()
+                .results(bulk.getReservations().stream()
+                    .map(reservation -> InventoryReservationResponse.builder()
+                        .orderId(reservation.getOrderId())
+                        .reservationId(UUID.randomUUID())
+                        .success(true)
+                        .build())
+                    .toList())
+                .build();
+        });
+        when(paymentServiceClient.processPayments(any())).thenAnswer(invocation -> {
+            BulkPaymentRequest bulk = invocation.getArgument(0);
+            return BulkPaymentResponse.builder()
+                .results(bulk.getPayments().stream()
+                    .map(payment -> PaymentResponse.builder()
+                        .orderId(payment.getOrderId())
+                        .paymentId(UUID.randomUUID())
+                        .success(true)
+                        .build())
+                    .toList())
+                .build();
+        });
+        List<CreateOrderRequest> orders = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            orders.add(CreateOrderRequest.builder()
+                .customerId(UUID.randomUUID())
+                .items(List.of(OrderItemRequest.builder()
+                    .productId(UUID.randomUUID())
+                    .quantity(2)
+                    .unitPrice(new BigDecimal("10.00"))
+                    .build()))
+                .build());
+        }
+
+        // When
+        BatchOrderResponse response = orderSagaOrchestrator.createOrders(
+            BatchCreateOrderRequest.builder().orders(orders).build());
+
+        // Then: nothing was written before the downstream services answered, as in createOrder
+        assertThat(duringReservation).hasValue(before);
+        assertThat(response.getSucceeded()).isEqualTo(3);
+        for (BatchOrderResponse.OrderOutcome outcome : response.getResults()) {
+            Order order = orderRepository.findByIdWithItems(outcome.getOrder().getId()).orElseThrow();
+            assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.CONFIRMED);
+        }
+    }
+
+    /**
+     * Counts statements and batches Hibernate sends to the database from the measuring thread,
+     * so that scheduled tasks running meanwhile are not counted.
+     */
+    public static class RoundTrips extends BaseSessionEventListener {
+
+        private static final AtomicInteger COUNT = new AtomicInteger();
+        private static volatile Thread measured;
+
+        static int during(Runnable action) {
+            COUNT.set(0);
+            measured = Thread.currentThread();
+            try {
+                action.run();
+            } finally {
+                measured = null;
+            }
+            return COUNT.get();
+        }
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            count();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            count();
+        }
+
+        private static void count() {
+            if (Thread.currentThread() == measured) {
+                COUNT.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.agriprocurement.order.application;
+
+import com.agriprocurement.common.security.context.UserContext;
+import com.agriprocurement.common.security.context.UserContextHolder;
+import com.agriprocurement.order.application.dto.CreateOrderRequest;
+import com.agriprocurement.order.application.dto.OrderItemRequest;
+import com.agriprocurement.order.application.dto.OrderResponse;
+import com.agriprocurement.order.domain.IdempotencyRecord;
+import com.agriprocurement.order.domain.IdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderIdempotencyServiceTest {
+
+    private static final String KEY = "order-import-42";
+
+    private final OrderSagaOrchestrator orchestrator = mock(OrderSagaOrchestrator.class);
+    private final IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private OrderIdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new OrderIdempotencyService(orchestrator, repository, new ObjectMapper().findAndRegisterModules(),
+                new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(service, "ttl", Duration.ofHours(24));
+        ReflectionTestUtils.setField(service, "inProgressLease", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(service, "cacheSize", 100);
+        service.initCache();
+        when(repository.claim(any(), anyString(), anyString(), any(), any())).thenReturn(1);
+        when(repository.complete(any(), anyString(), any(), any(), anyString(), any())).thenReturn(1);
+        when(orchestrator.createOrder(any())).thenAnswer(invocation -> OrderResponse.builder()
+                .id(UUID.randomUUID())
+                .customerId(invocation.<CreateOrderRequest>getArgument(0).getCustomerId())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        UserContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldTreatSameKeyOfDifferentUsersAsSeparateRequests() {
+        // Given: both users send the same body, naming the same customer
+        UUID customer = UUID.randomUUID();
+        OrderResponse first = as("user-a", () -> service.createOrder(KEY, request(customer)));
+
+        // When
+        OrderResponse second = as("user-b", () -> service.createOrder(KEY, request(customer)));
+
+        // Then: the second user neither sees nor replays the first user's order
+        assertThat(second.getId()).isNotEqualTo(first.getId());
+        verify(orchestrator, times(2)).createOrder(any());
+        verify(repository).claim(eq("user-a"), eq(KEY), anyString(), any(), any());
+        verify(repository).claim(eq("user-b"), eq(KEY), anyString(), any(), any());
+    }
+
+    @Test
+    void shouldReplaySameKeyOfSameUser() {
+        // Given
+        UUID customer = UUID.randomUUID();
+        OrderResponse first = as("user-a", () -> service.createOrder(KEY, request(customer)));
+
+        // When
+        OrderResponse replayed = as("user-a", () -> service.createOrder(KEY, request(customer)));
+
+        // Then
+        assertThat(replayed.getId()).isEqualTo(first.getId());
+        verify(orchestrator, times(1)).createOrder(any());
+        verify(repository).complete(eq("user-a"), eq(KEY), any(), eq(first.getId()), anyString(), any());
+    }
+
+    @Test
+    void shouldRejectKeyWithoutAuthenticatedUser() {
+        // When / Then
+        assertThatThrownBy(() -> service.createOrder(KEY, request(UUID.randomUUID())))
+                .isInstanceOf(AccessDeniedException.class);
+        verify(orchestrator, never()).createOrder(any());
+    }
+
+    @Test
+    void shouldRollBackOrderWhenKeyCannotBeCompleted() {
+        // Given
+        when(repository.complete(any(), anyString(), any(), any(), anyString(), any()))
+                .thenThrow(new QueryTimeoutException("statement timeout"));
+
+        // When
+        assertThatThrownBy(() -> as("user-a", () -> service.createOrder(KEY, request(UUID.randomUUID()))))
+                .isInstanceOf(QueryTimeoutException.class);
+
+        // Then: the order is not committed without its key, and the claim is released for the retry
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        LocalDateTime claimedAt = claimedAt();
+        verify(repository).release("user-a", KEY, claimedAt);
+    }
+
+    @Test
+    void shouldRollBackLateSagaWhenExpiredClaimWasTakenOver() {
+        // Given: by the time the saga ends, another request has claimed the key
+        when(repository.complete(any(), anyString(), any(), any(), anyString(), any())).thenReturn(0);
+
+        // When
+        assertThatThrownBy(() -> as("user-a", () -> service.createOrder(KEY, request(UUID.randomUUID()))))
+                .isInstanceOf(OrderIdempotencyService.IdempotencyKeyInProgressException.class);
+
+        // Then: only this claim is released, never the new holder's
+        verify(transactionManager).rollback(any());
+        LocalDateTime claimedAt = claimedAt();
+        verify(repository).complete(eq("user-a"), eq(KEY), eq(claimedAt), any(), anyString(), any());
+        verify(repository).release("user-a", KEY, claimedAt);
+    }
+
+    @Test
+    void shouldRunSagaAgainAfterRolledBackAttempt() {
+        // Given: the first attempt could not complete its key
+        when(repository.complete(any(), anyString(), any(), any(), anyString(), any()))
+                .thenThrow(new QueryTimeoutException("statement timeout"))
+                .thenReturn(1);
+        CreateOrderRequest request = request(UUID.randomUUID());
+        assertThatThrownBy(() -> as("user-a", () -> service.createOrder(KEY, request)))
+                .isInstanceOf(QueryTimeoutException.class);
+
+        // When: the retry claims the released key
+        OrderResponse response = as("user-a", () -> service.createOrder(KEY, request));
+
+        // Then
+        assertThat(response.getId()).isNotNull();
+        verify(orchestrator, times(2)).createOrder(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void shouldReplayKeyCompletedByOtherInstance() {
+        // Given: the key is held by a completed record this instance has not cached
+        when(repository.claim(any(), anyString(), anyString(), any(), any())).thenReturn(0);
+        OrderResponse stored = OrderResponse.builder().id(UUID.randomUUID()).build();
+        CreateOrderRequest request = request(UUID.randomUUID());
+        when(repository.findById(new IdempotencyRecord.Key("user-a", KEY))).thenReturn(Optional.of(
+                IdempotencyRecord.builder()
+                        .principalId("user-a")
+                        .idempotencyKey(KEY)
+                        .requestHash(fingerprint(request))
+                        .status(IdempotencyRecord.Status.COMPLETED)
+                        .orderId(stored.getId())
+                        .responseBody("{\"id\":\"" + stored.getId() + "\"}")
+                        .expiresAt(LocalDateTime.now().plusHours(1))
+                        .build()));
+
+        // When
+        OrderResponse replayed = as("user-a", () -> service.createOrder(KEY, request));
+
+        // Then
+        assertThat(replayed.getId()).isEqualTo(stored.getId());
+        verify(orchestrator, never()).createOrder(any());
+    }
+
+    @Test
+    void shouldRejectKeyWhoseClaimIsStillLeased() {
+        // Given: another instance holds an unexpired claim
+        when(repository.claim(any(), anyString(), anyString(), any(), any())).thenReturn(0);
+        CreateOrderRequest request = request(UUID.randomUUID());
+        when(repository.findById(new IdempotencyRecord.Key("user-a", KEY))).thenReturn(Optional.of(
+                IdempotencyRecord.builder()
+                        .requestHash(fingerprint(request))
+                        .status(IdempotencyRecord.Status.IN_PROGRESS)
+                        .expiresAt(LocalDateTime.now().plusMinutes(5))
+                        .build()));
+
+        // When / Then
+        assertThatThrownBy(() -> as("user-a", () -> service.createOrder(KEY, request)))
+                .isInstanceOf(OrderIdempotencyService.IdempotencyKeyInProgressException.class);
+        verify(orchestrator, never()).createOrder(any());
+    }
+
+    private LocalDateTime claimedAt() {
+        ArgumentCaptor<LocalDateTime> claimedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).claim(eq("user-a"), eq(KEY), anyString(), claimedAt.capture(), any());
+        return claimedAt.getValue();
+    }
+
+    private String fingerprint(CreateOrderRequest request) {
+        return ReflectionTestUtils.invokeMethod(service, "fingerprint", request);
+    }
+
+    private static OrderResponse as(String userId, Supplier<OrderResponse> action) {
+        UserContextHolder.setContext(new UserContext(userId, userId, null, Set.of("BUYER")));
+        try {
+            return action.get();
+        } finally {
+            UserContextHolder.clearContext();
+        }
+    }
+
+    private static CreateOrderRequest request(UUID customerId) {
+        return CreateOrderRequest.builder()
+                .customerId(customerId)
+                .items(List.of(OrderItemRequest.builder()
+                        .productId(UUID.fromString("00000000-0000-0000-0000-000000000001"))
+                        .quantity(2)
+                        .unitPrice(new BigDecimal("10.00"))
+                        .build()))
+                .build();
+    }
+}
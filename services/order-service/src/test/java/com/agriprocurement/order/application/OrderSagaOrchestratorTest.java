@@ -0,0 +1,243 @@
+package com.agriprocurement.order.application;
+
+import com.agriprocurement.order.application.dto.BatchCreateOrderRequest;
+import com.agriprocurement.order.application.dto.BatchOrderResponse;
+import com.agriprocurement.order.application.dto.BulkInventoryReservationRequest;
+import com.agriprocurement.order.application.dto.BulkInventoryReservationResponse;
+import com.agriprocurement.order.application.dto.BulkPaymentRequest;
+import com.agriprocurement.order.application.dto.BulkPaymentResponse;
+import com.agriprocurement.order.application.dto.BulkReservationReleaseRequest;
+import com.agriprocurement.order.application.dto.CreateOrderRequest;
+import com.agriprocurement.order.application.dto.InventoryReservationRequest;
+import com.agriprocurement.order.application.dto.InventoryReservationResponse;
+import com.agriprocurement.order.application.dto.OrderItemRequest;
+import com.agriprocurement.order.application.dto.PaymentRequest;
+import com.agriprocurement.order.application.dto.PaymentResponse;
+import com.agriprocurement.order.domain.Order;
+import com.agriprocurement.order.domain.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderSagaOrchestratorTest {
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final InventoryServiceClient inventoryServiceClient = mock(InventoryServiceClient.class);
+    private final PaymentServiceClient paymentServiceClient = mock(PaymentServiceClient.class);
+    private final OrderSagaOrchestrator orchestrator =
+            new OrderSagaOrchestrator(orderRepository, inventoryServiceClient, paymentServiceClient);
+
+    // Reservation ids handed out by the inventory stub, by order id
+    private final Map<UUID, UUID> reservations = new HashMap<>();
+
+    @Test
+    void shouldIsolateFailuresOfSingleOrdersInBatch() {
+        // Given: order 1 is out of stock, order 2 is declined by payment
+        stubInventory(1);
+        stubPayments(2);
+
+        // When
+        BatchOrderResponse response = orchestrator.createOrders(batch(4));
+
+        // Then: the other orders are confirmed
+        assertThat(response.getTotal()).isEqualTo(4);
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(BatchOrderResponse.OrderOutcome::isSuccess)
+                .containsExactly(true, false, false, true);
+        assertThat(response.getResults().get(0).getOrder().getStatus()).isEqualTo(Order.OrderStatus.CONFIRMED);
+        assertThat(response.getResults().get(3).getOrder().getStatus()).isEqualTo(Order.OrderStatus.CONFIRMED);
+
+        BatchOrderResponse.OrderOutcome outOfStock = response.getResults().get(1);
+        assertThat(outOfStock.getFailureReason()).isEqualTo("Failed to reserve inventory: rejected");
+        assertThat(outOfStock.getOrder().getStatus()).isEqualTo(Order.OrderStatus.FAILED);
+        assertThat(outOfStock.getOrder().getSagaStatus()).isEqualTo(Order.SagaStatus.COMPENSATED);
+
+        BatchOrderResponse.OrderOutcome declined = response.getResults().get(2);
+        assertThat(declined.getFailureReason()).isEqualTo("Failed to process payment: rejected");
+        assertThat(declined.getOrder().getStatus()).isEqualTo(Order.OrderStatus.FAILED);
+
+        // Only the declined order held a reservation to release; nothing was paid, so nothing refunded
+        assertThat(released()).containsExactly(reservations.get(declined.getOrder().getId()));
+        verify(paymentServiceClient, never()).refundPayment(any());
+        assertSavedOnce(4);
+    }
+
+    @Test
+    void shouldOnlySendReservedOrdersToPayment() {
+        // Given
+        stubInventory(0);
+        stubPayments();
+        ArgumentCaptor<BulkPaymentRequest> payments = ArgumentCaptor.forClass(BulkPaymentRequest.class);
+
+        // When
+        BatchOrderResponse response = orchestrator.createOrders(batch(3));
+
+        // Then
+        verify(paymentServiceClient).processPayments(payments.capture());
+        assertThat(payments.getValue().getPayments()).extracting(PaymentRequest::getOrderId)
+                .containsExactly(response.getResults().get(1).getOrder().getId(),
+                        response.getResults().get(2).getOrder().getId());
+        assertThat(response.getSucceeded()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCompensateReservedOrdersWhenPaymentServiceIsDown() {
+        // Given
+        stubInventory();
+        when(paymentServiceClient.processPayments(any())).thenThrow(new IllegalStateException("connection refused"));
+
+        // When
+        BatchOrderResponse response = orchestrator.createOrders(batch(3));
+
+        // Then: every order fails on its own and every reservation is released in one call
+        assertThat(response.getSucceeded()).isZero();
+        assertThat(response.getResults()).allSatisfy(outcome -> {
+            assertThat(outcome.isSuccess()).isFalse();
+            assertThat(outcome.getFailureReason()).isEqualTo("Payment service is currently unavailable");
+            assertThat(outcome.getOrder().getSagaStatus()).isEqualTo(Order.SagaStatus.COMPENSATED);
+        });
+        assertThat(released()).containsExactlyInAnyOrderElementsOf(reservations.values());
+        assertSavedOnce(3);
+    }
+
+    @Test
+    void shouldNotCallReleaseWhenNoFailedOrderHoldsReservation() {
+        // Given: the only failure is out of stock
+        stubInventory(0);
+        stubPayments();
+
+        // When
+        orchestrator.createOrders(batch(2));
+
+        // Then
+        verify(inventoryServiceClient, never()).releaseReservations(any());
+        assertSavedOnce(2);
+    }
+
+    @Test
+    void shouldFailOrdersMissingFromBulkResponse() {
+        // Given: the inventory service answers for all but the last order
+        when(inventoryServiceClient.reserveInventoryBatch(any())).thenAnswer(invocation -> {
+            List<InventoryReservationRequest> requests =
+                    invocation.<BulkInventoryReservationRequest>getArgument(0).getReservations();
+            return reserve(requests.subList(0, requests.size() - 1), -1);
+        });
+        stubPayments();
+
+        // When
+        BatchOrderResponse response = orchestrator.createOrders(batch(2));
+
+        // Then
+        assertThat(response.getResults()).extracting(BatchOrderResponse.OrderOutcome::isSuccess)
+                .containsExactly(true, false);
+        assertThat(response.getResults().get(1).getFailureReason()).isEqualTo("No result returned for order");
+    }
+
+    private void stubInventory(int... rejected) {
+        when(inventoryServiceClient.reserveInventoryBatch(any())).thenAnswer(invocation -> {
+            List<InventoryReservationRequest> requests =
+                    invocation.<BulkInventoryReservationRequest>getArgument(0).getReservations();
+            return reserve(requests, rejected);
+        });
+    }
+
+    private BulkInventoryReservationResponse reserve(List<InventoryReservationRequest> requests, int... rejected) {
+        List<InventoryReservationResponse> results = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            UUID orderId = requests.get(i).getOrderId();
+            if (contains(rejected, i)) {
+                results.add(InventoryReservationResponse.builder().orderId(orderId).success(false)
+                        .message("rejected").build());
+            } else {
+                UUID reservationId = UUID.randomUUID();
+                reservations.put(orderId, reservationId);
+                results.add(InventoryReservationResponse.builder().orderId(orderId).reservationId(reservationId)
+                        .success(true).build());
+            }
+        }
+        return BulkInventoryReservationResponse.builder().results(results).build();
+    }
+
+    /**
+     * Declines the payments of the given batch indexes; payment requests only carry reserved orders,
+     * so indexes are matched through the order ids of the batch.
+     */
+    private void stubPayments(int... declinedIndexes) {
+        when(paymentServiceClient.processPayments(any())).thenAnswer(invocation -> {
+            List<PaymentResponse> results = new ArrayList<>();
+            for (PaymentRequest payment : invocation.<BulkPaymentRequest>getArgument(0).getPayments()) {
+                boolean declined = false;
+                for (int index : declinedIndexes) {
+                    declined |= payment.getOrderId().equals(orderIdAt(index));
+                }
+                results.add(PaymentResponse.builder().orderId(payment.getOrderId()).success(!declined)
+                        .paymentId(declined ? null : UUID.randomUUID()).message(declined ? "rejected" : null).build());
+            }
+            return BulkPaymentResponse.builder().results(results).build();
+        });
+    }
+
+    private UUID orderIdAt(int index) {
+        ArgumentCaptor<BulkInventoryReservationRequest> captor =
+                ArgumentCaptor.forClass(BulkInventoryReservationRequest.class);
+        verify(inventoryServiceClient).reserveInventoryBatch(captor.capture());
+        return captor.getValue().getReservations().get(index).getOrderId();
+    }
+
+    private List<UUID> released() {
+        ArgumentCaptor<BulkReservationReleaseRequest> release =
+                ArgumentCaptor.forClass(BulkReservationReleaseRequest.class);
+        verify(inventoryServiceClient).releaseReservations(release.capture());
+        verify(inventoryServiceClient, never()).releaseReservation(any());
+        return release.getValue().getReservationIds();
+    }
+
+    /**
+     * All orders, failed ones included, are written by one saveAll and nothing else.
+     */
+    @SuppressWarnings("unchecked")
+    private void assertSavedOnce(int count) {
+        ArgumentCaptor<List<Order>> saved = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository).saveAll(saved.capture());
+        verify(orderRepository, never()).save(any());
+        assertThat(saved.getValue()).hasSize(count);
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int candidate : values) {
+            if (candidate == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static BatchCreateOrderRequest batch(int size) {
+        List<CreateOrderRequest> orders = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            orders.add(CreateOrderRequest.builder()
+                    .customerId(UUID.randomUUID())
+                    .items(List.of(OrderItemRequest.builder()
+                            .productId(UUID.randomUUID())
+                            .quantity(1 + i)
+                            .unitPrice(new BigDecimal("25.00"))
+                            .build()))
+                    .build());
+        }
+        return BatchCreateOrderRequest.builder().orders(orders).build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.agriprocurement.order.infrastructure;
+
+import com.agriprocurement.common.observability.context.CorrelationId;
+import com.agriprocurement.common.security.context.UserContext;
+import com.agriprocurement.common.security.context.UserContextHolder;
+import com.agriprocurement.common.security.identity.InternalIdentityCodec;
+import feign.RequestTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FeignContextPropagationInterceptorTest {
+
+    private static final UserContext USER = new UserContext("user-1", "alice", "alice@example.com", Set.of("BUYER"));
+
+    private final InternalIdentityCodec codec = new InternalIdentityCodec("0123456789abcdef0123456789abcdef");
+
+    @AfterEach
+    void tearDown() {
+        CorrelationId.clear();
+        UserContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldForwardCorrelationIdAndSignedIdentity() {
+        // Given
+        CorrelationId.set("request-1");
+        UserContextHolder.setContext(USER);
+        RequestTemplate template = new RequestTemplate();
+
+        // When
+        interceptor(codec).apply(template);
+
+        // Then
+        assertThat(template.headers().get(CorrelationId.HEADER)).containsExactly("request-1");
+        assertThat(template.headers().get(InternalIdentityCodec.HEADER)).singleElement()
+                .satisfies(header -> assertThat(codec.decode(header)).isEqualTo(USER));
+    }
+
+    @Test
+    void shouldOmitIdentityWithoutSecretOrUser() {
+        // Given
+        CorrelationId.set("request-1");
+        RequestTemplate withoutUser = new RequestTemplate();
+        RequestTemplate withoutSecret = new RequestTemplate();
+
+        // When
+        interceptor(codec).apply(withoutUser);
+        UserContextHolder.setContext(USER);
+        interceptor(null).apply(withoutSecret);
+
+        // Then
+        assertThat(withoutUser.headers()).containsOnlyKeys(CorrelationId.HEADER);
+        assertThat(withoutSecret.headers()).containsOnlyKeys(CorrelationId.HEADER);
+    }
+
+    @Test
+    void shouldNotSendEmptyCorrelationHeader() {
+        // Given
+        RequestTemplate template = new RequestTemplate();
+
+        // When
+        interceptor(codec).apply(template);
+
+        // Then
+        assertThat(template.headers()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FeignContextPropagationInterceptor interceptor(InternalIdentityCodec codec) {
+        ObjectProvider<InternalIdentityCodec> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(codec);
+        return new FeignContextPropagationInterceptor(provider);
+    }
+}
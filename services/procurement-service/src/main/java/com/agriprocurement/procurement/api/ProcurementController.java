@@ -12,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/procurements")
@@ -34,7 +35,7 @@ public class ProcurementController {
 
     @PostMapping("/{id}/bids")
     public ResponseEntity<ApiResponse<ProcurementResponse>> submitBid(
-            @PathVariable String id,
+            @PathVariable UUID id,
             @Valid @RequestBody SubmitBidRequest request) {
         log.info("REST request to submit bid for procurement: {}", id);
         
@@ -54,8 +55,8 @@ public class ProcurementController {
 
     @PutMapping("/{id}/award")
     public ResponseEntity<ApiResponse<ProcurementResponse>> awardProcurement(
-            @PathVariable String id,
-            @RequestParam String bidId) {
+            @PathVariable UUID id,
+            @RequestParam UUID bidId) {
         log.info("REST request to award procurement {} to bid {}", id, bidId);
         
         ProcurementResponse response = procurementService.awardProcurement(id, bidId);
@@ -64,7 +65,7 @@ public class ProcurementController {
     }
 
     @PutMapping("/{id}/publish")
-    public ResponseEntity<ApiResponse<Void>> publishProcurement(@PathVariable String id) {
+    public ResponseEntity<ApiResponse<Void>> publishProcurement(@PathVariable UUID id) {
         log.info("REST request to publish procurement: {}", id);
         
         procurementService.publishProcurement(id);
@@ -73,7 +74,7 @@ public class ProcurementController {
     }
 
     @PutMapping("/{id}/close-bidding")
-    public ResponseEntity<ApiResponse<Void>> closeBidding(@PathVariable String id) {
+    public ResponseEntity<ApiResponse<Void>> closeBidding(@PathVariable UUID id) {
         log.info("REST request to close bidding for procurement: {}", id);
         
         procurementService.closeBidding(id);
@@ -82,7 +83,7 @@ public class ProcurementController {
     }
 
     @PutMapping("/{id}/cancel")
-    public ResponseEntity<ApiResponse<Void>> cancelProcurement(@PathVariable String id) {
+    public ResponseEntity<ApiResponse<Void>> cancelProcurement(@PathVariable UUID id) {
         log.info("REST request to cancel procurement: {}", id);
         
         procurementService.cancelProcurement(id);
@@ -91,7 +92,7 @@ public class ProcurementController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<ProcurementResponse>> getProcurement(@PathVariable String id) {
+    public ResponseEntity<ApiResponse<ProcurementResponse>> getProcurement(@PathVariable UUID id) {
         log.debug("REST request to get procurement: {}", id);
         
         ProcurementResponse response = procurementService.getProcurement(id);
@@ -8,6 +8,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -20,19 +21,19 @@ public class ProcurementCacheService {
     private final RedisTemplate<String, Object> redisTemplate;
 
     @Cacheable(value = "procurements", key = "#procurementId")
-    public ProcurementResponse get(String procurementId) {
+    public ProcurementResponse get(UUID procurementId) {
         String key = CACHE_KEY_PREFIX + procurementId;
         return (ProcurementResponse) redisTemplate.opsForValue().get(key);
     }
 
-    public void put(String procurementId, ProcurementResponse response) {
+    public void put(UUID procurementId, ProcurementResponse response) {
         String key = CACHE_KEY_PREFIX + procurementId;
         redisTemplate.opsForValue().set(key, response, CACHE_TTL);
         log.debug("Cached procurement: {}", procurementId);
     }
 
     @CacheEvict(value = "procurements", key = "#procurementId")
-    public void evict(String procurementId) {
+    public void evict(UUID procurementId) {
         String key = CACHE_KEY_PREFIX + procurementId;
         redisTemplate.delete(key);
         log.debug("Evicted procurement from cache: {}", procurementId);
@@ -1,12 +1,16 @@
 package com.agriprocurement.procurement.application;
 
+import com.agriprocurement.common.domain.fx.ExchangeRates;
+import com.agriprocurement.common.domain.valueobject.Money;
 import com.agriprocurement.procurement.domain.Bid;
 import com.agriprocurement.procurement.domain.Procurement;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Currency;
 import java.util.List;
+import java.util.Objects;
 
 public record ProcurementResponse(
     String id,
@@ -27,7 +31,7 @@ public record ProcurementResponse(
 ) {
     public static ProcurementResponse from(Procurement procurement) {
         return new ProcurementResponse(
-            procurement.getId(),
+            procurement.getId().toString(),
             procurement.getTitle(),
             procurement.getDescription(),
             procurement.getQuantity().amount(),
@@ -38,7 +42,7 @@ public record ProcurementResponse(
             procurement.getStatus().name(),
             procurement.getBuyerId(),
             procurement.getBids().size(),
-            procurement.getAwardedBidId(),
+            Objects.toString(procurement.getAwardedBidId(), null),
             procurement.getCreatedAt(),
             procurement.getUpdatedAt(),
             null
@@ -46,8 +50,16 @@ public record ProcurementResponse(
     }
 
     public static ProcurementResponse fromWithBids(Procurement procurement) {
+        return fromWithBids(procurement, ExchangeRates.none());
+    }
+
+    /**
+     * Includes the bids, each also priced in the budget currency with {@code rates}.
+     */
+    public static ProcurementResponse fromWithBids(Procurement procurement, ExchangeRates rates) {
+        Currency budgetCurrency = procurement.getBudget().currency();
         return new ProcurementResponse(
-            procurement.getId(),
+            procurement.getId().toString(),
             procurement.getTitle(),
             procurement.getDescription(),
             procurement.getQuantity().amount(),
@@ -58,10 +70,10 @@ public record ProcurementResponse(
             procurement.getStatus().name(),
             procurement.getBuyerId(),
             procurement.getBids().size(),
-            procurement.getAwardedBidId(),
+            Objects.toString(procurement.getAwardedBidId(), null),
             procurement.getCreatedAt(),
             procurement.getUpdatedAt(),
-            procurement.getBids().stream().map(BidResponse::from).toList()
+            procurement.getBids().stream().map(bid -> BidResponse.from(bid, budgetCurrency, rates)).toList()
         );
     }
 
@@ -70,16 +82,24 @@ public record ProcurementResponse(
         String vendorId,
         BigDecimal amount,
         String currency,
+        BigDecimal budgetCurrencyAmount,
         LocalDateTime bidDate,
         String status,
         String notes
     ) {
-        public static BidResponse from(Bid bid) {
+        /**
+         * {@code budgetCurrencyAmount} is null when {@code rates} cannot convert the bid.
+         */
+        public static BidResponse from(Bid bid, Currency budgetCurrency, ExchangeRates rates) {
+            Money amount = bid.getAmount();
             return new BidResponse(
-                bid.getId(),
+                bid.getId().toString(),
                 bid.getVendorId(),
-                bid.getAmount().amount(),
-                bid.getAmount().currency().getCurrencyCode(),
+                amount.amount(),
+                amount.currency().getCurrencyCode(),
+                rates.canConvert(amount.currency(), budgetCurrency)
+                    ? rates.convert(amount, budgetCurrency).amount()
+                    : null,
                 bid.getBidDate(),
                 bid.getStatus().name(),
                 bid.getNotes()
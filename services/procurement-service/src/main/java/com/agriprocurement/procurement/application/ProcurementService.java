@@ -1,6 +1,7 @@
 package com.agriprocurement.procurement.application;
 
 import com.agriprocurement.common.domain.exception.EntityNotFoundException;
+import com.agriprocurement.common.domain.fx.ExchangeRateService;
 import com.agriprocurement.common.events.DomainEvent;
 import com.agriprocurement.common.events.procurement.BidSubmittedEvent;
 import com.agriprocurement.common.events.procurement.ProcurementCreatedEvent;
@@ -31,6 +32,7 @@ public class ProcurementService {
     private final ProcurementRepository procurementRepository;
     private final KafkaEventPublisher eventPublisher;
     private final ProcurementCacheService cacheService;
+    private final ExchangeRateService exchangeRateService;
 
     @Transactional
     @CircuitBreaker(name = "procurementService", fallbackMethod = "createProcurementFallback")
@@ -53,7 +55,7 @@ public class ProcurementService {
 
         // Publish domain event
         DomainEvent event = new ProcurementCreatedEvent(
-            procurement.getId(),
+            procurement.getId().toString(),
             procurement.getTitle(),
             procurement.getDescription(),
             procurement.getQuantity().amount(),
@@ -76,18 +78,19 @@ public class ProcurementService {
         Procurement procurement = procurementRepository.findByIdWithBids(request.procurementId())
             .orElseThrow(() -> new EntityNotFoundException("Procurement not found: " + request.procurementId()));
 
-        Bid bid = procurement.addBid(request.vendorId(), request.getBidAmount());
+        Bid bid = procurement.addBid(request.vendorId(), request.getBidAmount(), exchangeRateService.current());
         if (request.notes() != null && !request.notes().isEmpty()) {
             // Note: We'd need to add a setter or constructor parameter for notes in Bid
         }
 
-        procurement = procurementRepository.save(procurement);
+        // The bid is inserted through the cascade on flush; merging the managed procurement
+        // again would persist a copy of the new bid instead of this instance
         log.info("Bid submitted with ID: {}", bid.getId());
 
         // Publish domain event
         DomainEvent event = new BidSubmittedEvent(
-            procurement.getId(),
-            bid.getId(),
+            procurement.getId().toString(),
+            bid.getId().toString(),
             request.vendorId(),
             request.getBidAmount().amount(),
             bid.getBidDate()
@@ -101,7 +104,7 @@ public class ProcurementService {
     @CircuitBreaker(name = "procurementService")
     @Retry(name = "procurementService")
     @CacheEvict(value = "procurements", key = "#procurementId")
-    public ProcurementResponse awardProcurement(String procurementId, String bidId) {
+    public ProcurementResponse awardProcurement(UUID procurementId, UUID bidId) {
         log.info("Awarding procurement {} to bid {}", procurementId, bidId);
 
         Procurement procurement = procurementRepository.findByIdWithBids(procurementId)
@@ -112,12 +115,12 @@ public class ProcurementService {
 
         log.info("Procurement {} awarded to bid {}", procurementId, bidId);
 
-        return ProcurementResponse.fromWithBids(procurement);
+        return ProcurementResponse.fromWithBids(procurement, exchangeRateService.current());
     }
 
     @Transactional
     @CacheEvict(value = "procurements", key = "#procurementId")
-    public void publishProcurement(String procurementId) {
+    public void publishProcurement(UUID procurementId) {
         log.info("Publishing procurement: {}", procurementId);
 
         Procurement procurement = procurementRepository.findById(procurementId)
@@ -132,7 +135,7 @@ public class ProcurementService {
 
     @Transactional
     @CacheEvict(value = "procurements", key = "#procurementId")
-    public void closeBidding(String procurementId) {
+    public void closeBidding(UUID procurementId) {
         log.info("Closing bidding for procurement: {}", procurementId);
 
         Procurement procurement = procurementRepository.findById(procurementId)
@@ -146,7 +149,7 @@ public class ProcurementService {
 
     @Transactional
     @CacheEvict(value = "procurements", key = "#procurementId")
-    public void cancelProcurement(String procurementId) {
+    public void cancelProcurement(UUID procurementId) {
         log.info("Cancelling procurement: {}", procurementId);
 
         Procurement procurement = procurementRepository.findByIdWithBids(procurementId)
@@ -161,13 +164,13 @@ public class ProcurementService {
     @Transactional(readOnly = true)
     @Cacheable(value = "procurements", key = "#procurementId")
     @CircuitBreaker(name = "procurementService")
-    public ProcurementResponse getProcurement(String procurementId) {
+    public ProcurementResponse getProcurement(UUID procurementId) {
         log.debug("Fetching procurement: {}", procurementId);
 
         Procurement procurement = procurementRepository.findByIdWithBids(procurementId)
             .orElseThrow(() -> new EntityNotFoundException("Procurement not found: " + procurementId));
 
-        return ProcurementResponse.fromWithBids(procurement);
+        return ProcurementResponse.fromWithBids(procurement, exchangeRateService.current());
     }
 
     @Transactional(readOnly = true)
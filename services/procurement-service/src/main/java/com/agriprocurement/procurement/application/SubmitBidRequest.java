@@ -5,10 +5,11 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
+import java.util.UUID;
 
 public record SubmitBidRequest(
     @NotNull(message = "Procurement ID is required")
-    String procurementId,
+    UUID procurementId,
 
     @NotNull(message = "Vendor ID is required")
     String vendorId,
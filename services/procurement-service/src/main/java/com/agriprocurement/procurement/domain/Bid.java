@@ -2,10 +2,13 @@ package com.agriprocurement.procurement.domain;
 
 import com.agriprocurement.common.domain.BaseEntity;
 import com.agriprocurement.common.domain.exception.DomainException;
+import com.agriprocurement.common.domain.id.UuidV7;
+import com.agriprocurement.common.domain.persistence.MoneyType;
 import com.agriprocurement.common.domain.valueobject.Money;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CompositeType;
 
 import java.time.LocalDateTime;
 
@@ -23,8 +26,9 @@ public class Bid extends BaseEntity {
     private String vendorId;
 
     @Embedded
+    @CompositeType(MoneyType.class)
     @AttributeOverrides({
-        @AttributeOverride(name = "amount", column = @Column(name = "bid_amount", nullable = false)),
+        @AttributeOverride(name = "amount", column = @Column(name = "bid_amount", nullable = false, precision = 19, scale = 4)),
         @AttributeOverride(name = "currency", column = @Column(name = "bid_currency", nullable = false))
     })
     private Money amount;
@@ -46,6 +50,7 @@ public class Bid extends BaseEntity {
     }
 
     public Bid(Procurement procurement, String vendorId, Money amount) {
+        super(UuidV7.next());
         this.procurement = procurement;
         this.vendorId = vendorId;
         this.amount = amount;
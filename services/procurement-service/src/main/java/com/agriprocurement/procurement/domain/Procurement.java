@@ -3,15 +3,23 @@ package com.agriprocurement.procurement.domain;
 import com.agriprocurement.common.domain.AggregateRoot;
 import com.agriprocurement.common.domain.BaseEntity;
 import com.agriprocurement.common.domain.exception.DomainException;
+import com.agriprocurement.common.domain.fx.ExchangeRates;
+import com.agriprocurement.common.domain.id.UuidV7;
+import com.agriprocurement.common.domain.persistence.MoneyType;
+import com.agriprocurement.common.domain.persistence.QuantityType;
 import com.agriprocurement.common.domain.valueobject.Money;
 import com.agriprocurement.common.domain.valueobject.Quantity;
+import com.agriprocurement.common.domain.valueobject.QuantityBatch;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CompositeType;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 @Entity
 @Table(name = "procurements")
@@ -26,15 +34,25 @@ public class Procurement extends BaseEntity implements AggregateRoot {
     private String description;
 
     @Embedded
+    @CompositeType(QuantityType.class)
     @AttributeOverrides({
-        @AttributeOverride(name = "amount", column = @Column(name = "quantity_amount", nullable = false)),
+        @AttributeOverride(name = "amount", column = @Column(name = "quantity_amount", nullable = false, precision = 19, scale = 4)),
         @AttributeOverride(name = "unit", column = @Column(name = "quantity_unit", nullable = false))
     })
     private Quantity quantity;
 
+    // Derived from quantity, for SQL that compares or sums quantities across units
+    @Enumerated(EnumType.STRING)
+    @Column(name = "quantity_dimension", nullable = false, length = 20)
+    private Quantity.Dimension quantityDimension;
+
+    @Column(name = "quantity_base_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal quantityBaseAmount;
+
     @Embedded
+    @CompositeType(MoneyType.class)
     @AttributeOverrides({
-        @AttributeOverride(name = "amount", column = @Column(name = "budget_amount", nullable = false)),
+        @AttributeOverride(name = "amount", column = @Column(name = "budget_amount", nullable = false, precision = 19, scale = 4)),
         @AttributeOverride(name = "currency", column = @Column(name = "budget_currency", nullable = false))
     })
     private Money budget;
@@ -53,7 +71,7 @@ public class Procurement extends BaseEntity implements AggregateRoot {
     private List<Bid> bids = new ArrayList<>();
 
     @Column(name = "awarded_bid_id")
-    private String awardedBidId;
+    private UUID awardedBidId;
 
     public enum ProcurementStatus {
         DRAFT,
@@ -66,6 +84,7 @@ public class Procurement extends BaseEntity implements AggregateRoot {
 
     public Procurement(String title, String description, Quantity quantity, 
                       Money budget, LocalDateTime deadline, String buyerId) {
+        super(UuidV7.next());
         this.title = title;
         this.description = description;
         this.quantity = quantity;
@@ -74,6 +93,7 @@ public class Procurement extends BaseEntity implements AggregateRoot {
         this.buyerId = buyerId;
         this.status = ProcurementStatus.DRAFT;
         validate();
+        normalizeQuantity();
     }
 
     public void publish() {
@@ -101,13 +121,24 @@ public class Procurement extends BaseEntity implements AggregateRoot {
     }
 
     public Bid addBid(String vendorId, Money amount) {
+        return addBid(vendorId, amount, ExchangeRates.none());
+    }
+
+    /**
+     * Adds a bid, which may be in another currency than the budget; it is checked against the
+     * budget after conversion with {@code rates}.
+     */
+    public Bid addBid(String vendorId, Money amount, ExchangeRates rates) {
         if (status != ProcurementStatus.BIDDING_OPEN) {
             throw new DomainException("Bidding is not open for this procurement");
         }
         if (LocalDateTime.now().isAfter(deadline)) {
             throw new DomainException("Bidding deadline has passed");
         }
-        if (amount.isGreaterThan(budget)) {
+        if (!rates.canConvert(amount.currency(), budget.currency())) {
+            throw new DomainException("No exchange rate from " + amount.currency() + " to budget currency " + budget.currency());
+        }
+        if (rates.convert(amount, budget.currency()).isGreaterThan(budget)) {
             throw new DomainException("Bid amount cannot exceed budget");
         }
         
@@ -124,7 +155,7 @@ public class Procurement extends BaseEntity implements AggregateRoot {
         return bid;
     }
 
-    public void awardBid(String bidId) {
+    public void awardBid(UUID bidId) {
         if (status != ProcurementStatus.BIDDING_CLOSED) {
             throw new DomainException("Bidding must be closed before awarding");
         }
@@ -161,14 +192,27 @@ public class Procurement extends BaseEntity implements AggregateRoot {
     }
 
     public Bid getLowestBid() {
-        return bids.stream()
-            .filter(b -> b.getStatus() == Bid.BidStatus.SUBMITTED)
-            .min((b1, b2) -> {
-                if (b1.getAmount().isLessThan(b2.getAmount())) return -1;
-                if (b1.getAmount().isGreaterThan(b2.getAmount())) return 1;
-                return 0;
-            })
-            .orElse(null);
+        return getLowestBid(ExchangeRates.none());
+    }
+
+    /**
+     * Lowest submitted bid, comparing amounts in the budget currency. Each bid is converted once;
+     * of equal amounts the earliest bid wins.
+     */
+    public Bid getLowestBid(ExchangeRates rates) {
+        Bid lowest = null;
+        Money lowestAmount = null;
+        for (Bid bid : bids) {
+            if (bid.getStatus() != Bid.BidStatus.SUBMITTED) {
+                continue;
+            }
+            Money amount = rates.convert(bid.getAmount(), budget.currency());
+            if (lowestAmount == null || amount.isLessThan(lowestAmount)) {
+                lowest = bid;
+                lowestAmount = amount;
+            }
+        }
+        return lowest;
     }
 
     private void validate() {
@@ -192,6 +236,11 @@ public class Procurement extends BaseEntity implements AggregateRoot {
         }
     }
 
+    private void normalizeQuantity() {
+        this.quantityDimension = quantity.unit().getDimension();
+        this.quantityBaseAmount = QuantityBatch.baseAmount(quantity);
+    }
+
     public void updateDetails(String title, String description, Quantity quantity, Money budget, LocalDateTime deadline) {
         if (status != ProcurementStatus.DRAFT) {
             throw new DomainException("Only draft procurements can be updated");
@@ -202,5 +251,6 @@ public class Procurement extends BaseEntity implements AggregateRoot {
         this.budget = budget;
         this.deadline = deadline;
         validate();
+        normalizeQuantity();
     }
 }
@@ -1,16 +1,19 @@
 package com.agriprocurement.procurement.domain;
 
+import com.agriprocurement.common.domain.valueobject.Quantity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface ProcurementRepository extends JpaRepository<Procurement, String> {
+public interface ProcurementRepository extends JpaRepository<Procurement, UUID> {
 
     List<Procurement> findByBuyerId(String buyerId);
 
@@ -23,11 +26,18 @@ public interface ProcurementRepository extends JpaRepository<Procurement, String
     );
 
     @Query("SELECT p FROM Procurement p LEFT JOIN FETCH p.bids WHERE p.id = :id")
-    Optional<Procurement> findByIdWithBids(@Param("id") String id);
+    Optional<Procurement> findByIdWithBids(@Param("id") UUID id);
 
     @Query("SELECT COUNT(b) FROM Procurement p JOIN p.bids b WHERE p.id = :procurementId AND b.status = 'SUBMITTED'")
-    long countSubmittedBids(@Param("procurementId") String procurementId);
+    long countSubmittedBids(@Param("procurementId") UUID procurementId);
 
     @Query("SELECT p FROM Procurement p WHERE p.status IN ('PUBLISHED', 'BIDDING_OPEN') ORDER BY p.deadline ASC")
     List<Procurement> findActiveProcurements();
+
+    /**
+     * Total quantity, in the dimension's base unit, still sought by active procurements.
+     */
+    @Query("SELECT COALESCE(SUM(p.quantityBaseAmount), 0) FROM Procurement p " +
+           "WHERE p.quantityDimension = :dimension AND p.status IN ('PUBLISHED', 'BIDDING_OPEN')")
+    BigDecimal sumActiveBaseQuantity(@Param("dimension") Quantity.Dimension dimension);
 }
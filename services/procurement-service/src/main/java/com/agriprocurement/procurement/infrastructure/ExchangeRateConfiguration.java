@@ -0,0 +1,46 @@
+package com.agriprocurement.procurement.infrastructure;
+
+import com.agriprocurement.common.domain.fx.ExchangeRateService;
+import com.agriprocurement.common.domain.fx.ResourceExchangeRateProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ExchangeRateConfiguration {
+
+    @Value("${procurement.fx.rates-location}")
+    private String ratesLocation;
+
+    @Value("${procurement.fx.refresh-interval:15m}")
+    private Duration refreshInterval;
+
+    @Value("${procurement.fx.max-age:48h}")
+    private Duration maxAge;
+
+    /**
+     * Exchange rates for bids in another currency than the tender budget, reloaded from
+     * {@code procurement.fx.rates-location} ({@code file:} or {@code classpath:}). There is no
+     * default location: the service does not start until it points at the file maintained by
+     * finance, and rates older than {@code procurement.fx.max-age} are not used.
+     */
+    @Bean
+    public ExchangeRateService exchangeRateService() {
+        return new ExchangeRateService(new ResourceExchangeRateProvider(ratesLocation), refreshInterval, maxAge);
+    }
+
+    /**
+     * Exports {@code agri.fx.rates.age}, the seconds since the as-of time of the loaded rates.
+     */
+    @Bean
+    public MeterBinder exchangeRateMetrics(ExchangeRateService exchangeRateService) {
+        return registry -> Gauge.builder("agri.fx.rates.age", exchangeRateService, service -> service.age().toSeconds())
+            .description("Seconds since the as-of time of the exchange rates in use")
+            .baseUnit("seconds")
+            .register(registry);
+    }
+}
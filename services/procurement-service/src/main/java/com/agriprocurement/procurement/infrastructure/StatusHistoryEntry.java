@@ -0,0 +1,21 @@
+package com.agriprocurement.procurement.infrastructure;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One row of {@code procurement_status_history}.
+ *
+ * @param bidId      null for a transition of the procurement itself
+ * @param fromStatus null when the entity was created
+ */
+public record StatusHistoryEntry(
+    UUID procurementId,
+    UUID bidId,
+    String fromStatus,
+    String toStatus,
+    String actorId,
+    String correlationId,
+    Instant occurredAt
+) {
+}
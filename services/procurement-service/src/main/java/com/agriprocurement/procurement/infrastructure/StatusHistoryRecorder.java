@@ -0,0 +1,92 @@
+package com.agriprocurement.procurement.infrastructure;
+
+import com.agriprocurement.common.observability.context.CorrelationId;
+import com.agriprocurement.common.security.context.UserContextHolder;
+import com.agriprocurement.procurement.domain.Bid;
+import com.agriprocurement.procurement.domain.Procurement;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Turns committed status changes of procurements and bids into {@link StatusHistoryEntry}s.
+ * <p>
+ * Hooks into Hibernate's post-commit events, so rolled-back changes are never recorded and the
+ * previous status comes from the loaded state instead of being tracked in the entities. Runs on
+ * the committing thread, which still carries the user and correlation id of the request.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatusHistoryRecorder implements PostCommitInsertEventListener, PostCommitUpdateEventListener {
+
+    private static final String STATUS_PROPERTY = "status";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StatusHistoryWriter writer;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> entityClass = persister.getMappedClass();
+        return entityClass == Procurement.class || entityClass == Bid.class;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        record(event.getEntity(), null);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object[] oldState = event.getOldState();
+        int statusIndex = event.getPersister().getEntityMetamodel().getPropertyIndex(STATUS_PROPERTY);
+        Object previous = oldState != null ? oldState[statusIndex] : null;
+        if (!Objects.equals(previous, event.getState()[statusIndex])) {
+            record(event.getEntity(), previous);
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    private void record(Object entity, Object previousStatus) {
+        String from = previousStatus != null ? ((Enum<?>) previousStatus).name() : null;
+        if (entity instanceof Procurement procurement) {
+            writer.append(entry(procurement.getId(), null, from, procurement.getStatus().name()));
+        } else if (entity instanceof Bid bid) {
+            writer.append(entry(bid.getProcurement().getId(), bid.getId(), from, bid.getStatus().name()));
+        }
+    }
+
+    private static StatusHistoryEntry entry(UUID procurementId, UUID bidId, String from, String to) {
+        return new StatusHistoryEntry(procurementId, bidId, from, to,
+            MDC.get(UserContextHolder.MDC_KEY), CorrelationId.current(), Instant.now());
+    }
+}
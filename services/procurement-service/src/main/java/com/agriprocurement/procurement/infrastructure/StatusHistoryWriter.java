@@ -0,0 +1,167 @@
+package com.agriprocurement.procurement.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes status history off the request path: entries are queued in memory and inserted by a
+ * background thread with one JDBC batch per {@code batch-size} entries or {@code flush-interval},
+ * whichever comes first.
+ * <p>
+ * The queue is bounded. When the database falls behind and the queue is full, new entries are
+ * dropped and counted in {@code agri.audit.entries{type=dropped}} rather than slowing down
+ * bidding; remaining entries are flushed on shutdown.
+ */
+@Component
+@Slf4j
+public class StatusHistoryWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO procurement_status_history
+            (procurement_id, bid_id, from_status, to_status, actor_id, correlation_id, occurred_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<StatusHistoryEntry> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Counter written;
+    private final Counter dropped;
+
+    private volatile Thread worker;
+    private volatile boolean running;
+
+    public StatusHistoryWriter(JdbcTemplate jdbcTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${procurement.audit.queue-capacity:10000}") int queueCapacity,
+                               @Value("${procurement.audit.batch-size:500}") int batchSize,
+                               @Value("${procurement.audit.flush-interval:200ms}") Duration flushInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.written = Counter.builder("agri.audit.entries")
+            .description("Status history entries by outcome")
+            .tag("type", "written")
+            .register(meterRegistry);
+        this.dropped = Counter.builder("agri.audit.entries")
+            .description("Status history entries by outcome")
+            .tag("type", "dropped")
+            .register(meterRegistry);
+        Gauge.builder("agri.audit.queue.size", queue, BlockingQueue::size)
+            .description("Status history entries waiting to be written")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queues an entry without blocking.
+     */
+    public void append(StatusHistoryEntry entry) {
+        if (!queue.offer(entry)) {
+            dropped.increment();
+            log.warn("Status history queue full, dropped {} -> {} of procurement {}",
+                entry.fromStatus(), entry.toStatus(), entry.procurementId());
+        }
+    }
+
+    private void run() {
+        List<StatusHistoryEntry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                StatusHistoryEntry first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    StatusHistoryEntry next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(List<StatusHistoryEntry> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, entry) -> {
+                statement.setObject(1, entry.procurementId());
+                statement.setObject(2, entry.bidId(), Types.OTHER);
+                statement.setString(3, entry.fromStatus());
+                statement.setString(4, entry.toStatus());
+                statement.setString(5, entry.actorId());
+                statement.setString(6, entry.correlationId());
+                statement.setTimestamp(7, Timestamp.from(entry.occurredAt()));
+            });
+            written.increment(batch.size());
+        } catch (Exception e) {
+            dropped.increment(batch.size());
+            log.error("Failed to write {} status history entries", batch.size(), e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::run, "status-history-writer");
+        thread.setDaemon(true);
+        thread.start();
+        worker = thread;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = worker;
+        if (thread != null) {
+            try {
+                thread.join(flushInterval.toMillis() * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+        List<StatusHistoryEntry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            write(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    @Override
+    public int getPhase() {
+        // Below the embedded web server (DEFAULT_PHASE - 2048), so it stops after the last
+        // request has completed and that request's transitions are still written
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,14 @@
+-- QuantityType stores the unit by name (@Enumerated(STRING)). The earlier embedded Quantity had no
+-- @Enumerated, so Hibernate's default ORDINAL mapping may have written the enum position instead;
+-- rewrite any such rows to the names, in the declaration order of Quantity.Unit at the time.
+UPDATE procurements SET quantity_unit = CASE quantity_unit
+        WHEN '0' THEN 'KG'
+        WHEN '1' THEN 'TON'
+        WHEN '2' THEN 'LITER'
+        WHEN '3' THEN 'PIECE'
+    END
+WHERE quantity_unit IN ('0', '1', '2', '3');
+
+-- Fails the migration if any other value is left, and keeps unknown units out from now on
+ALTER TABLE procurements ADD CONSTRAINT chk_procurements_quantity_unit
+    CHECK (quantity_unit IN ('KG', 'TON', 'LITER', 'PIECE'));
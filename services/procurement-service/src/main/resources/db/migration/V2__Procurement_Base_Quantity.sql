@@ -0,0 +1,38 @@
+-- Quantity normalized to the base unit of its dimension (KG for mass), kept next to the
+-- quantity as entered so demand can be summed and matched across units in SQL.
+ALTER TABLE procurements ADD COLUMN quantity_dimension VARCHAR(20);
+ALTER TABLE procurements ADD COLUMN quantity_base_amount NUMERIC(19, 4);
+
+-- Refuse to guess the dimension of a unit this migration does not know
+DO $$
+DECLARE
+    unmapped TEXT;
+BEGIN
+    SELECT string_agg(DISTINCT quantity_unit, ', ') INTO unmapped
+    FROM procurements
+    WHERE quantity_unit NOT IN ('KG', 'TON', 'LITER', 'PIECE');
+    IF unmapped IS NOT NULL THEN
+        RAISE EXCEPTION 'No dimension mapping for quantity units: %', unmapped;
+    END IF;
+END $$;
+
+UPDATE procurements SET
+    quantity_dimension = CASE quantity_unit
+        WHEN 'KG' THEN 'MASS'
+        WHEN 'TON' THEN 'MASS'
+        WHEN 'LITER' THEN 'VOLUME'
+        WHEN 'PIECE' THEN 'COUNT'
+    END,
+    quantity_base_amount = CASE quantity_unit
+        WHEN 'TON' THEN quantity_amount * 1000
+        ELSE quantity_amount
+    END;
+
+ALTER TABLE procurements ALTER COLUMN quantity_dimension SET NOT NULL;
+ALTER TABLE procurements ALTER COLUMN quantity_base_amount SET NOT NULL;
+
+-- Range lookups ("tenders needing at least N kg") and per-dimension totals
+CREATE INDEX idx_procurements_dimension_base_amount ON procurements(quantity_dimension, quantity_base_amount);
+
+COMMENT ON COLUMN procurements.quantity_dimension IS 'Dimension of quantity_unit: MASS, VOLUME, COUNT';
+COMMENT ON COLUMN procurements.quantity_base_amount IS 'quantity_amount in the base unit of the dimension (KG, LITER, PIECE)';
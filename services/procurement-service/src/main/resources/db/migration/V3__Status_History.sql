@@ -0,0 +1,24 @@
+-- updated_at is maintained by JPA auditing (@LastModifiedDate on BaseEntity); the triggers set
+-- it a second time on every updated row.
+DROP TRIGGER IF EXISTS update_procurements_updated_at ON procurements;
+DROP TRIGGER IF EXISTS update_bids_updated_at ON bids;
+DROP FUNCTION IF EXISTS update_updated_at_column();
+
+-- Append-only history of procurement and bid status changes, written in batches after commit.
+-- No foreign keys: rows outlive the entities they describe and inserts stay check-free.
+CREATE TABLE procurement_status_history (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    procurement_id VARCHAR(36) NOT NULL,
+    bid_id VARCHAR(36),
+    from_status VARCHAR(50),
+    to_status VARCHAR(50) NOT NULL,
+    actor_id VARCHAR(255),
+    correlation_id VARCHAR(64),
+    occurred_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_procurement_status_history_procurement ON procurement_status_history(procurement_id, occurred_at);
+
+COMMENT ON TABLE procurement_status_history IS 'Status transitions of procurements and their bids';
+COMMENT ON COLUMN procurement_status_history.bid_id IS 'Set for bid transitions, null for the procurement itself';
+COMMENT ON COLUMN procurement_status_history.from_status IS 'Null when the entity was created';
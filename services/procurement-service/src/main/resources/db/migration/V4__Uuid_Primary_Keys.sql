@@ -0,0 +1,19 @@
+-- Store entity ids as native uuid (16 bytes) instead of VARCHAR(36). Ids are now time-ordered
+-- UUIDv7, so new rows append to the right of the primary key indexes. Existing v4 ids stay
+-- valid. buyer_id and vendor_id reference other services and are left as they are.
+ALTER TABLE bids DROP CONSTRAINT fk_bids_procurement;
+
+ALTER TABLE procurements
+    ALTER COLUMN id TYPE UUID USING id::uuid,
+    ALTER COLUMN awarded_bid_id TYPE UUID USING awarded_bid_id::uuid;
+
+ALTER TABLE bids
+    ALTER COLUMN id TYPE UUID USING id::uuid,
+    ALTER COLUMN procurement_id TYPE UUID USING procurement_id::uuid;
+
+ALTER TABLE bids
+    ADD CONSTRAINT fk_bids_procurement FOREIGN KEY (procurement_id) REFERENCES procurements(id) ON DELETE CASCADE;
+
+ALTER TABLE procurement_status_history
+    ALTER COLUMN procurement_id TYPE UUID USING procurement_id::uuid,
+    ALTER COLUMN bid_id TYPE UUID USING bid_id::uuid;
@@ -1,13 +1,18 @@
 package com.agriprocurement.procurement;
 
 import com.agriprocurement.common.domain.exception.DomainException;
+import com.agriprocurement.common.domain.fx.ExchangeRates;
 import com.agriprocurement.common.domain.valueobject.Money;
 import com.agriprocurement.common.domain.valueobject.Quantity;
 import com.agriprocurement.procurement.domain.Bid;
 import com.agriprocurement.procurement.domain.Procurement;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,7 +27,7 @@ class ProcurementDomainTest {
         Quantity quantity = Quantity.of(100, Quantity.Unit.PIECE);
         Money budget = Money.of(50000, "USD");
         LocalDateTime deadline = LocalDateTime.now().plusDays(30);
-        UUID buyerId = UUID.randomUUID();
+        String buyerId = UUID.randomUUID().toString();
 
         // When
         Procurement procurement = new Procurement(title, description, quantity, budget, deadline, buyerId);
@@ -89,7 +94,7 @@ class ProcurementDomainTest {
         Procurement procurement = createValidProcurement();
         procurement.publish();
         procurement.openBidding();
-        UUID vendorId = UUID.randomUUID();
+        String vendorId = UUID.randomUUID().toString();
         Money bidAmount = Money.of(45000, "USD");
 
         // When
@@ -107,7 +112,7 @@ class ProcurementDomainTest {
     void shouldNotAddBidWhenBiddingIsNotOpen() {
         // Given
         Procurement procurement = createValidProcurement();
-        UUID vendorId = UUID.randomUUID();
+        String vendorId = UUID.randomUUID().toString();
         Money bidAmount = Money.of(45000, "USD");
 
         // When & Then
@@ -120,20 +125,58 @@ class ProcurementDomainTest {
         Procurement procurement = createValidProcurement();
         procurement.publish();
         procurement.openBidding();
-        UUID vendorId = UUID.randomUUID();
+        String vendorId = UUID.randomUUID().toString();
         Money bidAmount = Money.of(60000, "USD");
 
         // When & Then
         assertThrows(DomainException.class, () -> procurement.addBid(vendorId, bidAmount));
     }
 
+    @Test
+    void shouldCheckForeignCurrencyBidAgainstBudgetAfterConversion() {
+        // Given
+        Procurement procurement = createValidProcurement();
+        procurement.publish();
+        procurement.openBidding();
+        ExchangeRates rates = ExchangeRates.of(Currency.getInstance("USD"),
+            Map.of(Currency.getInstance("EUR"), new BigDecimal("0.80")), Instant.now());
+
+        // When
+        Bid bid = procurement.addBid(UUID.randomUUID().toString(), Money.of(39000, "EUR"), rates);
+
+        // Then
+        assertEquals(Money.of(39000, "EUR"), bid.getAmount());
+        assertThrows(DomainException.class,
+            () -> procurement.addBid(UUID.randomUUID().toString(), Money.of(41000, "EUR"), rates));
+        assertThrows(DomainException.class,
+            () -> procurement.addBid(UUID.randomUUID().toString(), Money.of(1000, "GBP"), rates));
+    }
+
+    @Test
+    void shouldRankBidsInDifferentCurrenciesByBudgetCurrency() {
+        // Given
+        Procurement procurement = createValidProcurement();
+        procurement.publish();
+        procurement.openBidding();
+        ExchangeRates rates = ExchangeRates.of(Currency.getInstance("USD"),
+            Map.of(Currency.getInstance("EUR"), new BigDecimal("0.80")), Instant.now());
+        procurement.addBid(UUID.randomUUID().toString(), Money.of(44000, "USD"), rates);
+        Bid lowestBid = procurement.addBid(UUID.randomUUID().toString(), Money.of(35000, "EUR"), rates);
+
+        // When
+        Bid result = procurement.getLowestBid(rates);
+
+        // Then
+        assertSame(lowestBid, result);
+    }
+
     @Test
     void shouldNotAllowDuplicateBidsFromSameVendor() {
         // Given
         Procurement procurement = createValidProcurement();
         procurement.publish();
         procurement.openBidding();
-        UUID vendorId = UUID.randomUUID();
+        String vendorId = UUID.randomUUID().toString();
         Money bidAmount1 = Money.of(45000, "USD");
         Money bidAmount2 = Money.of(44000, "USD");
 
@@ -164,7 +207,7 @@ class ProcurementDomainTest {
         Procurement procurement = createValidProcurement();
         procurement.publish();
         procurement.openBidding();
-        UUID vendorId = UUID.randomUUID();
+        String vendorId = UUID.randomUUID().toString();
         Money bidAmount = Money.of(45000, "USD");
         Bid bid = procurement.addBid(vendorId, bidAmount);
         procurement.closeBidding();
@@ -184,7 +227,7 @@ class ProcurementDomainTest {
         Procurement procurement = createValidProcurement();
         procurement.publish();
         procurement.openBidding();
-        UUID vendorId = UUID.randomUUID();
+        String vendorId = UUID.randomUUID().toString();
         Money bidAmount = Money.of(45000, "USD");
         Bid bid = procurement.addBid(vendorId, bidAmount);
 
@@ -199,8 +242,8 @@ class ProcurementDomainTest {
         procurement.publish();
         procurement.openBidding();
         
-        UUID vendorId1 = UUID.randomUUID();
-        UUID vendorId2 = UUID.randomUUID();
+        String vendorId1 = UUID.randomUUID().toString();
+        String vendorId2 = UUID.randomUUID().toString();
         Money bidAmount1 = Money.of(45000, "USD");
         Money bidAmount2 = Money.of(46000, "USD");
         
@@ -236,7 +279,7 @@ class ProcurementDomainTest {
         Procurement procurement = createValidProcurement();
         procurement.publish();
         procurement.openBidding();
-        UUID vendorId = UUID.randomUUID();
+        String vendorId = UUID.randomUUID().toString();
         Money bidAmount = Money.of(45000, "USD");
         Bid bid = procurement.addBid(vendorId, bidAmount);
         procurement.closeBidding();
@@ -253,8 +296,8 @@ class ProcurementDomainTest {
         procurement.publish();
         procurement.openBidding();
         
-        UUID vendorId1 = UUID.randomUUID();
-        UUID vendorId2 = UUID.randomUUID();
+        String vendorId1 = UUID.randomUUID().toString();
+        String vendorId2 = UUID.randomUUID().toString();
         Money bidAmount1 = Money.of(45000, "USD");
         Money bidAmount2 = Money.of(46000, "USD");
         
@@ -276,9 +319,9 @@ class ProcurementDomainTest {
         procurement.publish();
         procurement.openBidding();
         
-        UUID vendorId1 = UUID.randomUUID();
-        UUID vendorId2 = UUID.randomUUID();
-        UUID vendorId3 = UUID.randomUUID();
+        String vendorId1 = UUID.randomUUID().toString();
+        String vendorId2 = UUID.randomUUID().toString();
+        String vendorId3 = UUID.randomUUID().toString();
         Money bidAmount1 = Money.of(45000, "USD");
         Money bidAmount2 = Money.of(42000, "USD");
         Money bidAmount3 = Money.of(48000, "USD");
@@ -303,7 +346,7 @@ class ProcurementDomainTest {
                 Quantity.of(100, Quantity.Unit.PIECE),
                 Money.of(50000, "USD"),
                 LocalDateTime.now().plusDays(30),
-                UUID.randomUUID())
+                UUID.randomUUID().toString())
         );
 
         assertThrows(DomainException.class, () -> 
@@ -311,7 +354,7 @@ class ProcurementDomainTest {
                 Quantity.of(100, Quantity.Unit.PIECE),
                 Money.of(50000, "USD"),
                 LocalDateTime.now().plusDays(30),
-                UUID.randomUUID())
+                UUID.randomUUID().toString())
         );
 
         assertThrows(DomainException.class, () -> 
@@ -319,7 +362,7 @@ class ProcurementDomainTest {
                 null,
                 Money.of(50000, "USD"),
                 LocalDateTime.now().plusDays(30),
-                UUID.randomUUID())
+                UUID.randomUUID().toString())
         );
 
         assertThrows(DomainException.class, () -> 
@@ -327,7 +370,7 @@ class ProcurementDomainTest {
                 Quantity.of(100, Quantity.Unit.PIECE),
                 null,
                 LocalDateTime.now().plusDays(30),
-                UUID.randomUUID())
+                UUID.randomUUID().toString())
         );
 
         assertThrows(DomainException.class, () -> 
@@ -335,7 +378,7 @@ class ProcurementDomainTest {
                 Quantity.of(100, Quantity.Unit.PIECE),
                 Money.of(50000, "USD"),
                 null,
-                UUID.randomUUID())
+                UUID.randomUUID().toString())
         );
 
         assertThrows(DomainException.class, () -> 
@@ -347,6 +390,32 @@ class ProcurementDomainTest {
         );
     }
 
+    @Test
+    void shouldNormalizeQuantityToBaseUnit() {
+        // When
+        Procurement procurement = new Procurement("Title", "Description",
+            Quantity.of(new BigDecimal("1.5"), Quantity.Unit.TON),
+            Money.of(50000, "USD"),
+            LocalDateTime.now().plusDays(30),
+            UUID.randomUUID().toString());
+
+        // Then
+        assertEquals(Quantity.Dimension.MASS, procurement.getQuantityDimension());
+        assertEquals(new BigDecimal("1500.0000"), procurement.getQuantityBaseAmount());
+    }
+
+    @Test
+    void shouldRejectQuantityRoundingToZeroInBaseUnit() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () ->
+            new Procurement("Title", "Description",
+                Quantity.of(new BigDecimal("0.00004"), Quantity.Unit.KG),
+                Money.of(50000, "USD"),
+                LocalDateTime.now().plusDays(30),
+                UUID.randomUUID().toString())
+        );
+    }
+
     private Procurement createValidProcurement() {
         return new Procurement(
             "Agricultural Equipment Procurement",
@@ -354,7 +423,7 @@ class ProcurementDomainTest {
             Quantity.of(100, Quantity.Unit.PIECE),
             Money.of(50000, "USD"),
             LocalDateTime.now().plusDays(30),
-            UUID.randomUUID()
+            UUID.randomUUID().toString()
         );
     }
 }
@@ -0,0 +1,161 @@
+package com.agriprocurement.procurement.infrastructure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatusHistoryWriterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // Copies of the batches as handed to JDBC; the writer reuses its batch list
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private StatusHistoryWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null && writer.isRunning()) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void shouldFlushQueuedEntriesInBatchesOnShutdown() {
+        // Given: entries queued while the worker is not draining
+        jdbcSucceeds();
+        writer = writer(100, 2, Duration.ofMillis(50));
+        for (int i = 0; i < 5; i++) {
+            writer.append(entry("S" + i));
+        }
+
+        // When
+        writer.stop();
+
+        // Then
+        assertThat(batches).containsExactly(List.of("S0", "S1"), List.of("S2", "S3"), List.of("S4"));
+        assertThat(count("written")).isEqualTo(5);
+        assertThat(count("dropped")).isZero();
+    }
+
+    @Test
+    void shouldWriteEntriesAppendedJustBeforeShutdown() {
+        // Given: a running worker still waiting for its batch to fill
+        jdbcSucceeds();
+        writer = writer(100, 500, Duration.ofMillis(300));
+        writer.start();
+
+        // When
+        writer.append(entry("PUBLISHED"));
+        writer.stop();
+
+        // Then
+        assertThat(writer.isRunning()).isFalse();
+        assertThat(batches).flatExtracting(batch -> batch).containsExactly("PUBLISHED");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDropFailedBatchAndKeepWriting() {
+        // Given: the first batch fails, later ones succeed
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+            .thenThrow(new DataAccessResourceFailureException("connection reset"))
+            .thenAnswer(invocation -> {
+                batches.add(statuses(invocation.getArgument(1)));
+                return new int[0][];
+            });
+        writer = writer(100, 2, Duration.ofMillis(50));
+        for (int i = 0; i < 3; i++) {
+            writer.append(entry("S" + i));
+        }
+
+        // When
+        writer.stop();
+
+        // Then: only the failed batch is lost and counted
+        assertThat(batches).containsExactly(List.of("S2"));
+        assertThat(count("dropped")).isEqualTo(2);
+        assertThat(count("written")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWriteInBackgroundWhileRunning() {
+        // Given
+        jdbcSucceeds();
+        writer = writer(100, 500, Duration.ofMillis(20));
+        writer.start();
+
+        // When
+        writer.append(entry("BIDDING_OPEN"));
+
+        // Then
+        verify(jdbcTemplate, timeout(2000))
+            .batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(batches).containsExactly(List.of("BIDDING_OPEN"));
+    }
+
+    @Test
+    void shouldDropEntriesWhenQueueIsFull() {
+        // Given
+        jdbcSucceeds();
+        writer = writer(2, 500, Duration.ofMillis(50));
+
+        // When
+        writer.append(entry("S0"));
+        writer.append(entry("S1"));
+        writer.append(entry("S2"));
+        writer.stop();
+
+        // Then
+        assertThat(batches).containsExactly(List.of("S0", "S1"));
+        assertThat(count("dropped")).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void jdbcSucceeds() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+            .thenAnswer(invocation -> {
+                batches.add(statuses(invocation.getArgument(1)));
+                return new int[0][];
+            });
+    }
+
+    private StatusHistoryWriter writer(int queueCapacity, int batchSize, Duration flushInterval) {
+        return new StatusHistoryWriter(jdbcTemplate, meterRegistry, queueCapacity, batchSize, flushInterval);
+    }
+
+    private double count(String type) {
+        return meterRegistry.get("agri.audit.entries").tag("type", type).counter().count();
+    }
+
+    private static List<String> statuses(Collection<StatusHistoryEntry> batch) {
+        List<String> statuses = new ArrayList<>();
+        batch.forEach(entry -> statuses.add(entry.toStatus()));
+        return statuses;
+    }
+
+    private static StatusHistoryEntry entry(String toStatus) {
+        return new StatusHistoryEntry(UUID.randomUUID(), null, null, toStatus, "user-1", "corr-1", Instant.now());
+    }
+}